@@ -1,5 +1,7 @@
-CREATE CONSTRAINT usersId IF NOT EXISTS FOR (u:SocialUser) REQUIRE u.id IS UNIQUE;
-CREATE CONSTRAINT usersEmail IF NOT EXISTS FOR (u:SocialUser) REQUIRE u.email IS UNIQUE;
-CREATE CONSTRAINT userName IF NOT EXISTS FOR (u:SocialUser) REQUIRE u.userName IS UNIQUE;
-CREATE CONSTRAINT postId IF NOT EXISTS FOR (p:Post) REQUIRE p.id IS UNIQUE;
-CREATE CONSTRAINT hashTagId IF NOT EXISTS FOR (t:HashTag) REQUIRE t.id IS UNIQUE;
+// Referencia del modelo. Los scripts versionados que aplica la aplicación al arrancar
+// están en src/main/resources/neo4j/schema (Neo4jSchemaBootstrapper).
+CREATE CONSTRAINT user_id IF NOT EXISTS FOR (u:User) REQUIRE u.id IS UNIQUE;
+CREATE CONSTRAINT user_email IF NOT EXISTS FOR (u:User) REQUIRE u.email IS UNIQUE;
+CREATE CONSTRAINT user_username IF NOT EXISTS FOR (u:User) REQUIRE u.username IS UNIQUE;
+CREATE CONSTRAINT post_id IF NOT EXISTS FOR (p:Post) REQUIRE p.id IS UNIQUE;
+CREATE CONSTRAINT hashtag_id IF NOT EXISTS FOR (t:HashTag) REQUIRE t.id IS UNIQUE;
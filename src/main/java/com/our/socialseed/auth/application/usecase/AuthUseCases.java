@@ -3,17 +3,31 @@ package com.our.socialseed.auth.application.usecase;
 import com.our.socialseed.auth.domain.service.AuthService;
 import com.our.socialseed.auth.entry.rest.dto.AuthResponseDTO;
 import com.our.socialseed.auth.entry.rest.dto.RegisterRequestDTO;
+import com.our.socialseed.shared.security.jwt.JwkSet;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+import java.util.UUID;
+
 //Orquestador de casos de uso (AuthUseCases)
 @Service
 public class AuthUseCases {
     private final AuthenticateUser authenticateUser;
     private final RegisterUser registerUser;
+    private final GetJwks getJwks;
+    private final RefreshSession refreshSession;
+    private final Logout logout;
+    private final UpdateUserRoles updateUserRoles;
+    private final RevokeUserTokens revokeUserTokens;
 
     public AuthUseCases(AuthService authService) {
         this.authenticateUser = new AuthenticateUser(authService);
         this.registerUser = new RegisterUser(authService);
+        this.getJwks = new GetJwks(authService);
+        this.refreshSession = new RefreshSession(authService);
+        this.logout = new Logout(authService);
+        this.updateUserRoles = new UpdateUserRoles(authService);
+        this.revokeUserTokens = new RevokeUserTokens(authService);
     }
 
     public AuthResponseDTO login(String email, String password) {
@@ -23,4 +37,24 @@ public class AuthUseCases {
     public AuthResponseDTO register(RegisterRequestDTO dto) {
         return registerUser.execute(dto);
     }
+
+    public AuthResponseDTO refresh(String refreshToken) {
+        return refreshSession.execute(refreshToken);
+    }
+
+    public void logout(String refreshToken, String accessToken) {
+        logout.execute(refreshToken, accessToken);
+    }
+
+    public void updateRoles(UUID userId, Set<String> roles) {
+        updateUserRoles.execute(userId, roles);
+    }
+
+    public void revokeTokens(UUID userId) {
+        revokeUserTokens.execute(userId);
+    }
+
+    public JwkSet jwks() {
+        return getJwks.execute();
+    }
 }
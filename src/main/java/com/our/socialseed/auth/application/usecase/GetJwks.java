@@ -0,0 +1,18 @@
+package com.our.socialseed.auth.application.usecase;
+
+import com.our.socialseed.auth.domain.service.AuthService;
+import com.our.socialseed.shared.security.jwt.JwkSet;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GetJwks {
+    private final AuthService authService;
+
+    public GetJwks(AuthService authService) {
+        this.authService = authService;
+    }
+
+    public JwkSet execute() {
+        return authService.jwks();
+    }
+}
@@ -0,0 +1,17 @@
+package com.our.socialseed.auth.application.usecase;
+
+import com.our.socialseed.auth.domain.service.AuthService;
+import org.springframework.stereotype.Service;
+
+@Service
+public class Logout {
+    private final AuthService authService;
+
+    public Logout(AuthService authService) {
+        this.authService = authService;
+    }
+
+    public void execute(String refreshToken, String accessToken) {
+        authService.logout(refreshToken, accessToken);
+    }
+}
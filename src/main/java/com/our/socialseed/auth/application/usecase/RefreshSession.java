@@ -0,0 +1,18 @@
+package com.our.socialseed.auth.application.usecase;
+
+import com.our.socialseed.auth.domain.service.AuthService;
+import com.our.socialseed.auth.entry.rest.dto.AuthResponseDTO;
+import org.springframework.stereotype.Service;
+
+@Service
+public class RefreshSession {
+    private final AuthService authService;
+
+    public RefreshSession(AuthService authService) {
+        this.authService = authService;
+    }
+
+    public AuthResponseDTO execute(String refreshToken) {
+        return authService.refresh(refreshToken);
+    }
+}
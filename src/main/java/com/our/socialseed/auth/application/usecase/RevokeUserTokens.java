@@ -0,0 +1,20 @@
+package com.our.socialseed.auth.application.usecase;
+
+import com.our.socialseed.auth.domain.service.AuthService;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+public class RevokeUserTokens {
+    private final AuthService authService;
+
+    public RevokeUserTokens(AuthService authService) {
+        this.authService = authService;
+    }
+
+    // Cierra todas las sesiones del usuario (access y refresh tokens)
+    public void execute(UUID userId) {
+        authService.revokeTokens(userId);
+    }
+}
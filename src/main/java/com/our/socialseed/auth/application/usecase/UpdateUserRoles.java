@@ -0,0 +1,21 @@
+package com.our.socialseed.auth.application.usecase;
+
+import com.our.socialseed.auth.domain.service.AuthService;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class UpdateUserRoles {
+    private final AuthService authService;
+
+    public UpdateUserRoles(AuthService authService) {
+        this.authService = authService;
+    }
+
+    // Cambia los roles y sube la versión de token: los access tokens con los roles anteriores dejan de valer
+    public void execute(UUID userId, Set<String> roles) {
+        authService.updateRoles(userId, roles);
+    }
+}
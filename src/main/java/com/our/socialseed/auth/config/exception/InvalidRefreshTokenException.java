@@ -0,0 +1,7 @@
+package com.our.socialseed.auth.config.exception;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException() {
+        super();
+    }
+}
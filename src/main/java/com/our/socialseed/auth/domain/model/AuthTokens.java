@@ -0,0 +1,11 @@
+package com.our.socialseed.auth.domain.model;
+
+/*
+📌 Par de tokens de una sesión: access token (JWT corto) y refresh token opaco para renovarlo sin credenciales.
+ */
+public record AuthTokens(
+        String accessToken,
+        long expiresInSeconds,
+        String refreshToken
+) {
+}
@@ -24,6 +24,9 @@ public class AuthUser {
 
     private Set<String> roles = new HashSet<>();
 
+    // Versión de los tokens emitidos: al subirla se invalidan todos los JWT anteriores del usuario
+    private int tokenVersion = 0;
+
     // Seguridad
     private boolean enabled = true;
     private boolean accountNonExpired = true;
@@ -122,6 +125,14 @@ public class AuthUser {
         this.roles = roles;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(int tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -0,0 +1,24 @@
+package com.our.socialseed.auth.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/*
+📌 Refresh token de una sesión. Solo se guarda el hash (SHA-256) del valor entregado al cliente.
+   Cada uso lo rota: se marca como sustituido y se emite otro de la misma familia (familyId = la sesión).
+   Presentar uno ya sustituido es un reuso (robo probable) y revoca la familia entera.
+ */
+public record RefreshToken(
+        UUID id,
+        UUID userId,
+        UUID familyId,
+        String tokenHash,
+        int tokenVersion,
+        Instant createdAt,
+        Instant expiresAt,
+        boolean active
+) {
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -2,6 +2,7 @@ package com.our.socialseed.auth.domain.repository;
 
 import com.our.socialseed.auth.domain.model.AuthUser;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,4 +11,7 @@ public interface AuthUserRepository {
 
     Optional<AuthUser> findById(UUID id);
     Optional<AuthUser> findByEmail(String email);
+
+    // Versión de tokens de los usuarios que la han subido alguna vez (el resto están en 0)
+    Map<UUID, Integer> findRevokedTokenVersions();
 }
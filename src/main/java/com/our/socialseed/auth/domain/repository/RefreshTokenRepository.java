@@ -0,0 +1,23 @@
+package com.our.socialseed.auth.domain.repository;
+
+import com.our.socialseed.auth.domain.model.RefreshToken;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenRepository {
+    RefreshToken save(RefreshToken refreshToken);
+
+    Optional<RefreshToken> findByHash(String tokenHash);
+
+    // Marca el token como sustituido solo si seguía activo; false si otra petición lo usó antes (reuso)
+    boolean rotate(UUID id, UUID replacedBy, Instant now);
+
+    void revokeFamily(UUID familyId, Instant now);
+
+    void revokeAllForUser(UUID userId, Instant now);
+
+    // Borra los tokens expirados antes de esa fecha; devuelve cuántos
+    int deleteExpired(Instant before);
+}
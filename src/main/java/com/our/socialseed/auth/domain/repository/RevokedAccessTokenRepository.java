@@ -0,0 +1,18 @@
+package com.our.socialseed.auth.domain.repository;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/*
+Access tokens revocados antes de expirar (logout). Solo se lee al arrancar: en cada petición
+se consulta la copia en memoria (TokenRevocationList).
+ */
+public interface RevokedAccessTokenRepository {
+    void save(UUID tokenId, Instant expiresAt);
+
+    // jti -> exp de los tokens revocados que aún no han expirado
+    Map<UUID, Instant> findActive(Instant now);
+
+    int deleteExpired(Instant before);
+}
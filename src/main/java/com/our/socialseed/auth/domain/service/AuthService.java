@@ -3,18 +3,35 @@ package com.our.socialseed.auth.domain.service;
 import com.our.socialseed.auth.domain.model.AuthUser;
 import com.our.socialseed.auth.entry.rest.dto.AuthResponseDTO;
 import com.our.socialseed.auth.entry.rest.dto.RegisterRequestDTO;
+import com.our.socialseed.shared.security.jwt.JwkSet;
 import com.our.socialseed.user.domain.model.User;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface AuthService {
     AuthResponseDTO login(String email, String password);
     AuthResponseDTO register(RegisterRequestDTO dto);
 
+    // Rota el refresh token y devuelve un access token nuevo; InvalidRefreshTokenException si no es válido
+    AuthResponseDTO refresh(String refreshToken);
+
+    // Revoca la sesión del refresh token y, si se pasa, el access token en curso
+    void logout(String refreshToken, String accessToken);
+
     AuthUser createUser(AuthUser authUser);
     Optional<AuthUser> getUserById(UUID id);
     Optional<AuthUser> getUserByEmail(String email);
     void changePassword(UUID userId, String currentPassword, String newPassword);
 
+    // Cambia los roles y sube la versión de tokens: los JWT y refresh tokens emitidos antes dejan de valer
+    void updateRoles(UUID userId, Set<String> roles);
+
+    // Invalida todos los JWT emitidos hasta ahora para el usuario
+    void revokeTokens(UUID userId);
+
+    // Claves públicas vigentes (JWKS) para que otros servicios verifiquen nuestros tokens sin llamarnos
+    JwkSet jwks();
+
 }
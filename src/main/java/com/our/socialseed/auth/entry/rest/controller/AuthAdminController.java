@@ -0,0 +1,58 @@
+package com.our.socialseed.auth.entry.rest.controller;
+
+import com.our.socialseed.auth.application.usecase.AuthUseCases;
+import com.our.socialseed.auth.entry.rest.dto.UpdateRolesRequestDTO;
+import com.our.socialseed.shared.response.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.context.MessageSource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/*
+📌 Gestión de roles y sesiones de una cuenta (protegido con ROLE_ADMIN en SecurityConfig).
+{id} es el id de la cuenta en Postgres (el uid del JWT), no el del nodo :User.
+ */
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/admin/users")
+public class AuthAdminController {
+
+    private final AuthUseCases authUseCases;
+    private final MessageSource messageSource;
+
+    public AuthAdminController(AuthUseCases authUseCases, MessageSource messageSource) {
+        this.authUseCases = authUseCases;
+        this.messageSource = messageSource;
+    }
+
+    @PutMapping("/{id}/roles")
+    public ResponseEntity<ApiResponse<?>> updateRoles(@PathVariable UUID id, @RequestBody UpdateRolesRequestDTO request,
+                                                      Locale locale) {
+        authUseCases.updateRoles(id, request.roles);
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        null,
+                        messageSource.getMessage("auth.admin.roles.updated", null, locale)
+                )
+        );
+    }
+
+    @PostMapping("/{id}/revoke-tokens")
+    public ResponseEntity<ApiResponse<?>> revokeTokens(@PathVariable UUID id, Locale locale) {
+        authUseCases.revokeTokens(id);
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        null,
+                        messageSource.getMessage("auth.admin.tokens.revoked", null, locale)
+                )
+        );
+    }
+}
@@ -3,12 +3,14 @@ package com.our.socialseed.auth.entry.rest.controller;
 import com.our.socialseed.auth.application.usecase.AuthUseCases;
 import com.our.socialseed.auth.entry.rest.dto.AuthResponseDTO;
 import com.our.socialseed.auth.entry.rest.dto.LoginRequestDTO;
+import com.our.socialseed.auth.entry.rest.dto.RefreshTokenRequestDTO;
 import com.our.socialseed.auth.entry.rest.dto.RegisterRequestDTO;
 import com.our.socialseed.shared.response.ApiResponse;
 import org.springframework.context.MessageSource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -47,4 +49,31 @@ public class AuthController {
                 )
         );
     }
-}
\ No newline at end of file
+
+    // Renueva el access token con el refresh token (lo rota: el anterior deja de valer)
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<?>> refresh(@RequestBody RefreshTokenRequestDTO request, Locale locale) {
+        AuthResponseDTO response = authUseCases.refresh(request.refreshToken);
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        response,
+                        messageSource.getMessage("auth.refresh.success", null, locale)
+                )
+        );
+    }
+
+    // Cierra la sesión: revoca el refresh token y, si viene en Authorization, el access token en curso
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<?>> logout(@RequestBody RefreshTokenRequestDTO request,
+                                                 @RequestHeader(value = "Authorization", required = false) String authorization,
+                                                 Locale locale) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        authUseCases.logout(request.refreshToken, accessToken);
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        null,
+                        messageSource.getMessage("auth.logout.success", null, locale)
+                )
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.our.socialseed.auth.entry.rest.controller;
+
+import com.our.socialseed.auth.application.usecase.AuthUseCases;
+import com.our.socialseed.shared.security.jwt.JwkSet;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/*
+📌 JWKS público (RFC 7517) con las claves para verificar nuestros JWT en local (sidecars, hub Flutter...).
+   Devuelve el array precalculado por JwtKeyRing tal cual; ETag + max-age permiten cachearlo,
+   y una clave nueva aparece aquí antes de que se firme ningún token con ella.
+ */
+@RestController
+public class JwksController {
+
+    private final AuthUseCases authUseCases;
+
+    public JwksController(AuthUseCases authUseCases) {
+        this.authUseCases = authUseCases;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<byte[]> jwks(WebRequest request) {
+        JwkSet jwks = authUseCases.jwks();
+        if (request.checkNotModified(jwks.etag())) {
+            return null; // 304: Spring ya completó la respuesta
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(jwks.etag())
+                .cacheControl(CacheControl.maxAge(jwks.maxAge()).cachePublic())
+                .body(jwks.json());
+    }
+}
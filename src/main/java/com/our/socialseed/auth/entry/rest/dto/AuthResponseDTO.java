@@ -6,9 +6,14 @@ import java.util.Set;
 public class AuthResponseDTO {
     public String token;
     public Set<String> roles;
+    // Segundos de vida del access token; antes de que caduque se renueva con refreshToken en /auth/refresh
+    public long expiresIn;
+    public String refreshToken;
 
-    public AuthResponseDTO(String token, Set<String> roles) {
+    public AuthResponseDTO(String token, Set<String> roles, long expiresIn, String refreshToken) {
         this.token = token;
         this.roles = roles;
+        this.expiresIn = expiresIn;
+        this.refreshToken = refreshToken;
     }
 }
@@ -0,0 +1,5 @@
+package com.our.socialseed.auth.entry.rest.dto;
+
+public class RefreshTokenRequestDTO {
+    public String refreshToken;
+}
@@ -0,0 +1,7 @@
+package com.our.socialseed.auth.entry.rest.dto;
+
+import java.util.Set;
+
+public class UpdateRolesRequestDTO {
+    public Set<String> roles;
+}
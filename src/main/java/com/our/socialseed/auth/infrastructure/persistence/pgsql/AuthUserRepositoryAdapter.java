@@ -9,7 +9,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -47,6 +49,16 @@ public class AuthUserRepositoryAdapter implements AuthUserRepository {
                 .map(AuthUserPgsqlMapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, Integer> findRevokedTokenVersions() {
+        Map<UUID, Integer> versions = new HashMap<>();
+        for (Object[] row : jpaRepository.findRevokedTokenVersions()) {
+            versions.put((UUID) row[0], (Integer) row[1]);
+        }
+        return versions;
+    }
+
     private void validateUser(AuthUser authUser) {
         if (authUser.getUsername() == null || authUser.getUsername().trim().isEmpty()) {
             throw new IllegalArgumentException("Username no puede ser nulo o vacío");
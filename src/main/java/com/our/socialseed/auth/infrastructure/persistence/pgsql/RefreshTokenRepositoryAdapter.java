@@ -0,0 +1,59 @@
+package com.our.socialseed.auth.infrastructure.persistence.pgsql;
+
+import com.our.socialseed.auth.domain.model.RefreshToken;
+import com.our.socialseed.auth.domain.repository.RefreshTokenRepository;
+import com.our.socialseed.auth.infrastructure.persistence.pgsql.mapper.RefreshTokenPgsqlMapper;
+import com.our.socialseed.auth.infrastructure.persistence.pgsql.repository.RefreshTokenPgsqlRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class RefreshTokenRepositoryAdapter implements RefreshTokenRepository {
+
+    private final RefreshTokenPgsqlRepository jpaRepository;
+
+    public RefreshTokenRepositoryAdapter(RefreshTokenPgsqlRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional
+    public RefreshToken save(RefreshToken refreshToken) {
+        return RefreshTokenPgsqlMapper.toDomain(jpaRepository.save(RefreshTokenPgsqlMapper.toEntity(refreshToken)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RefreshToken> findByHash(String tokenHash) {
+        return jpaRepository.findByTokenHash(tokenHash)
+                .map(RefreshTokenPgsqlMapper::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(UUID id, UUID replacedBy, Instant now) {
+        return jpaRepository.rotate(id, replacedBy, now) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void revokeFamily(UUID familyId, Instant now) {
+        jpaRepository.revokeFamily(familyId, now);
+    }
+
+    @Override
+    @Transactional
+    public void revokeAllForUser(UUID userId, Instant now) {
+        jpaRepository.revokeAllForUser(userId, now);
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(Instant before) {
+        return jpaRepository.deleteExpired(before);
+    }
+}
@@ -0,0 +1,43 @@
+package com.our.socialseed.auth.infrastructure.persistence.pgsql;
+
+import com.our.socialseed.auth.domain.repository.RevokedAccessTokenRepository;
+import com.our.socialseed.auth.infrastructure.persistence.pgsql.entity.RevokedAccessTokenPgsqlEntity;
+import com.our.socialseed.auth.infrastructure.persistence.pgsql.repository.RevokedAccessTokenPgsqlRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class RevokedAccessTokenRepositoryAdapter implements RevokedAccessTokenRepository {
+
+    private final RevokedAccessTokenPgsqlRepository jpaRepository;
+
+    public RevokedAccessTokenRepositoryAdapter(RevokedAccessTokenPgsqlRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional
+    public void save(UUID tokenId, Instant expiresAt) {
+        jpaRepository.save(new RevokedAccessTokenPgsqlEntity(tokenId, expiresAt));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, Instant> findActive(Instant now) {
+        Map<UUID, Instant> active = new HashMap<>();
+        jpaRepository.findByExpiresAtAfter(now)
+                .forEach(token -> active.put(token.getTokenId(), token.getExpiresAt()));
+        return active;
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(Instant before) {
+        return jpaRepository.deleteExpired(before);
+    }
+}
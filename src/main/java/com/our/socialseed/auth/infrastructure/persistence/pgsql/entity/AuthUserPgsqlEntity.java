@@ -46,6 +46,10 @@ public class AuthUserPgsqlEntity {
     @Column(name = "role")
     private Set<String> roles = new HashSet<>();
 
+    // Versión de los JWT emitidos (default para que ddl-auto=update pueda añadirla a una tabla con filas)
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int tokenVersion = 0;
+
     // Seguridad
     @Column(nullable = false)
     private boolean enabled = true;
@@ -137,6 +141,9 @@ public class AuthUserPgsqlEntity {
     public String getEmail() { return email; }
     public void setEmail(String email) { this.email = email; }
 
+    public int getTokenVersion() { return tokenVersion; }
+    public void setTokenVersion(int tokenVersion) { this.tokenVersion = tokenVersion; }
+
     public String getPassword() { return password; }
     public void setPassword(String password) { this.password = password; }
 
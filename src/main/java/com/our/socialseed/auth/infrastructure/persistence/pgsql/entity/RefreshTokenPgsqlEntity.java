@@ -0,0 +1,82 @@
+package com.our.socialseed.auth.infrastructure.persistence.pgsql.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/*
+📌 Entidad JPA de refresh tokens (hash SHA-256 en hex, nunca el valor en claro).
+   replacedBy apunta al token que lo sustituyó al rotar; revokedAt != null = ya no se puede usar.
+*/
+@Entity
+@Table(
+        name = "auth_refresh_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_auth_refresh_token_hash", columnNames = "tokenHash"),
+        indexes = {
+                @Index(name = "idx_auth_refresh_token_family", columnList = "familyId"),
+                @Index(name = "idx_auth_refresh_token_user", columnList = "userId"),
+                @Index(name = "idx_auth_refresh_token_expires", columnList = "expiresAt")
+        }
+)
+public class RefreshTokenPgsqlEntity {
+
+    @Id
+    @Column(columnDefinition = "uuid", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(columnDefinition = "uuid", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(columnDefinition = "uuid", nullable = false, updatable = false)
+    private UUID familyId;
+
+    @Column(nullable = false, updatable = false, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, updatable = false)
+    private int tokenVersion;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false, updatable = false)
+    private Instant expiresAt;
+
+    private Instant revokedAt;
+
+    @Column(columnDefinition = "uuid")
+    private UUID replacedBy;
+
+    public RefreshTokenPgsqlEntity() {}
+
+    // -------------------------
+    // Getters y Setters
+    // -------------------------
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
+
+    public UUID getFamilyId() { return familyId; }
+    public void setFamilyId(UUID familyId) { this.familyId = familyId; }
+
+    public String getTokenHash() { return tokenHash; }
+    public void setTokenHash(String tokenHash) { this.tokenHash = tokenHash; }
+
+    public int getTokenVersion() { return tokenVersion; }
+    public void setTokenVersion(int tokenVersion) { this.tokenVersion = tokenVersion; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(Instant expiresAt) { this.expiresAt = expiresAt; }
+
+    public Instant getRevokedAt() { return revokedAt; }
+    public void setRevokedAt(Instant revokedAt) { this.revokedAt = revokedAt; }
+
+    public UUID getReplacedBy() { return replacedBy; }
+    public void setReplacedBy(UUID replacedBy) { this.replacedBy = replacedBy; }
+}
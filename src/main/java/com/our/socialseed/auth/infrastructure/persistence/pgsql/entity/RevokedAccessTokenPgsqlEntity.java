@@ -0,0 +1,37 @@
+package com.our.socialseed.auth.infrastructure.persistence.pgsql.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/*
+📌 jti de un access token revocado antes de su exp; la fila se borra cuando el token habría expirado.
+*/
+@Entity
+@Table(
+        name = "auth_revoked_access_tokens",
+        indexes = @Index(name = "idx_auth_revoked_access_token_expires", columnList = "expiresAt")
+)
+public class RevokedAccessTokenPgsqlEntity {
+
+    @Id
+    @Column(columnDefinition = "uuid", nullable = false, updatable = false)
+    private UUID tokenId;
+
+    @Column(nullable = false, updatable = false)
+    private Instant expiresAt;
+
+    public RevokedAccessTokenPgsqlEntity() {}
+
+    public RevokedAccessTokenPgsqlEntity(UUID tokenId, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+
+    public UUID getTokenId() { return tokenId; }
+    public void setTokenId(UUID tokenId) { this.tokenId = tokenId; }
+
+    public Instant getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(Instant expiresAt) { this.expiresAt = expiresAt; }
+}
@@ -13,6 +13,7 @@ public class AuthUserPgsqlMapper {
         entity.setEmail(authUser.getEmail());
         entity.setPassword(authUser.getPassword());
         entity.setRoles(authUser.getRoles());
+        entity.setTokenVersion(authUser.getTokenVersion());
         entity.setEnabled(authUser.isEnabled());
         entity.setAccountNonExpired(authUser.isAccountNonExpired());
         entity.setAccountNonLocked(authUser.isAccountNonLocked());
@@ -42,6 +43,7 @@ public class AuthUserPgsqlMapper {
                 entity.getPassword()
         );
         authUser.setRoles(entity.getRoles());
+        authUser.setTokenVersion(entity.getTokenVersion());
         authUser.setEnabled(entity.isEnabled());
         authUser.setAccountNonExpired(entity.isAccountNonExpired());
         authUser.setAccountNonLocked(entity.isAccountNonLocked());
@@ -0,0 +1,33 @@
+package com.our.socialseed.auth.infrastructure.persistence.pgsql.mapper;
+
+import com.our.socialseed.auth.domain.model.RefreshToken;
+import com.our.socialseed.auth.infrastructure.persistence.pgsql.entity.RefreshTokenPgsqlEntity;
+
+public class RefreshTokenPgsqlMapper {
+    private RefreshTokenPgsqlMapper(){} // clase no instanciable, solo utilidad
+
+    public static RefreshTokenPgsqlEntity toEntity(RefreshToken refreshToken) {
+        RefreshTokenPgsqlEntity entity = new RefreshTokenPgsqlEntity();
+        entity.setId(refreshToken.id());
+        entity.setUserId(refreshToken.userId());
+        entity.setFamilyId(refreshToken.familyId());
+        entity.setTokenHash(refreshToken.tokenHash());
+        entity.setTokenVersion(refreshToken.tokenVersion());
+        entity.setCreatedAt(refreshToken.createdAt());
+        entity.setExpiresAt(refreshToken.expiresAt());
+        return entity;
+    }
+
+    public static RefreshToken toDomain(RefreshTokenPgsqlEntity entity) {
+        return new RefreshToken(
+                entity.getId(),
+                entity.getUserId(),
+                entity.getFamilyId(),
+                entity.getTokenHash(),
+                entity.getTokenVersion(),
+                entity.getCreatedAt(),
+                entity.getExpiresAt(),
+                entity.getRevokedAt() == null
+        );
+    }
+}
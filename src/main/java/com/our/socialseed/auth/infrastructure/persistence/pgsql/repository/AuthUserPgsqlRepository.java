@@ -2,8 +2,10 @@ package com.our.socialseed.auth.infrastructure.persistence.pgsql.repository;
 
 import com.our.socialseed.auth.infrastructure.persistence.pgsql.entity.AuthUserPgsqlEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,4 +24,8 @@ public interface AuthUserPgsqlRepository extends JpaRepository<AuthUserPgsqlEnti
     // Verificar existencia
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    // Usuarios con tokens revocados alguna vez: [id, tokenVersion]
+    @Query("select u.id, u.tokenVersion from AuthUserPgsqlEntity u where u.tokenVersion > 0")
+    List<Object[]> findRevokedTokenVersions();
 }
@@ -0,0 +1,39 @@
+package com.our.socialseed.auth.infrastructure.persistence.pgsql.repository;
+
+import com.our.socialseed.auth.infrastructure.persistence.pgsql.entity.RefreshTokenPgsqlEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+📌 Repositorio JPA de refresh tokens. Las actualizaciones son condicionales (revokedAt is null)
+   para que dos usos concurrentes del mismo token no puedan rotarlo los dos.
+ */
+@Repository
+public interface RefreshTokenPgsqlRepository extends JpaRepository<RefreshTokenPgsqlEntity, UUID> {
+
+    Optional<RefreshTokenPgsqlEntity> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("update RefreshTokenPgsqlEntity t set t.revokedAt = :now, t.replacedBy = :replacedBy "
+            + "where t.id = :id and t.revokedAt is null")
+    int rotate(@Param("id") UUID id, @Param("replacedBy") UUID replacedBy, @Param("now") Instant now);
+
+    @Modifying
+    @Query("update RefreshTokenPgsqlEntity t set t.revokedAt = :now where t.familyId = :familyId and t.revokedAt is null")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("update RefreshTokenPgsqlEntity t set t.revokedAt = :now where t.userId = :userId and t.revokedAt is null")
+    int revokeAllForUser(@Param("userId") UUID userId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from RefreshTokenPgsqlEntity t where t.expiresAt < :before")
+    int deleteExpired(@Param("before") Instant before);
+}
@@ -0,0 +1,22 @@
+package com.our.socialseed.auth.infrastructure.persistence.pgsql.repository;
+
+import com.our.socialseed.auth.infrastructure.persistence.pgsql.entity.RevokedAccessTokenPgsqlEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RevokedAccessTokenPgsqlRepository extends JpaRepository<RevokedAccessTokenPgsqlEntity, UUID> {
+
+    List<RevokedAccessTokenPgsqlEntity> findByExpiresAtAfter(Instant now);
+
+    @Modifying
+    @Query("delete from RevokedAccessTokenPgsqlEntity t where t.expiresAt < :before")
+    int deleteExpired(@Param("before") Instant before);
+}
@@ -0,0 +1,40 @@
+package com.our.socialseed.auth.infrastructure.scheduling;
+
+import com.our.socialseed.auth.domain.repository.RefreshTokenRepository;
+import com.our.socialseed.auth.domain.repository.RevokedAccessTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/*
+📌 Borra de Postgres los refresh tokens expirados y las revocaciones de access tokens que ya expiraron
+   (un token expirado se rechaza por sí mismo, no hace falta recordar que se revocó).
+ */
+@Component
+public class ExpiredTokenPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpiredTokenPurger.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    public ExpiredTokenPurger(RefreshTokenRepository refreshTokenRepository,
+                              RevokedAccessTokenRepository revokedAccessTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+    }
+
+    @Scheduled(initialDelayString = "${jwt.refresh.purge-interval:1h}", fixedDelayString = "${jwt.refresh.purge-interval:1h}")
+    public void purge() {
+        Instant now = Instant.now();
+        int refreshTokens = refreshTokenRepository.deleteExpired(now);
+        int revokedAccessTokens = revokedAccessTokenRepository.deleteExpired(now);
+        if (refreshTokens > 0 || revokedAccessTokens > 0) {
+            log.info("Purgados {} refresh tokens y {} revocaciones de access tokens expirados",
+                    refreshTokens, revokedAccessTokens);
+        }
+    }
+}
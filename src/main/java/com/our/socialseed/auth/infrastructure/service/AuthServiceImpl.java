@@ -1,18 +1,41 @@
 package com.our.socialseed.auth.infrastructure.service;
 
 import com.our.socialseed.auth.config.exception.EmailAlreadyExistsException;
+import com.our.socialseed.auth.config.exception.InvalidRefreshTokenException;
+import com.our.socialseed.auth.domain.model.AuthTokens;
 import com.our.socialseed.auth.domain.model.AuthUser;
+import com.our.socialseed.auth.domain.model.RefreshToken;
+import com.our.socialseed.auth.domain.repository.RefreshTokenRepository;
+import com.our.socialseed.auth.domain.repository.RevokedAccessTokenRepository;
 import com.our.socialseed.auth.domain.service.AuthService;
 import com.our.socialseed.auth.entry.rest.dto.AuthResponseDTO;
 import com.our.socialseed.auth.entry.rest.dto.RegisterRequestDTO;
 //import com.our.socialseed.auth.infrastructure.security.JWTProvider;
 import com.our.socialseed.shared.security.jwt.JWTProvider;
+import com.our.socialseed.shared.security.jwt.JwkSet;
+import com.our.socialseed.shared.security.jwt.JwtKeyRing;
+import com.our.socialseed.shared.security.jwt.JwtPrincipal;
+import com.our.socialseed.shared.security.jwt.TokenRevocationList;
+import com.our.socialseed.shared.security.jwt.TokenVersionRegistry;
 
 import com.our.socialseed.user.domain.model.User;
 import com.our.socialseed.auth.domain.repository.AuthUserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -23,11 +46,29 @@ public class AuthServiceImpl implements AuthService {
     private final AuthUserRepository authUserRepository;
     private final PasswordEncoder passwordEncoder;
     private final JWTProvider jwtProvider;
+    private final TokenVersionRegistry tokenVersions;
+    private final JwtKeyRing keyRing;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final TokenRevocationList revocations;
+    private final Duration refreshExpiration;
+    private final SecureRandom random = new SecureRandom();
 
-    public AuthServiceImpl(AuthUserRepository authUserRepository, PasswordEncoder passwordEncoder, JWTProvider jwtProvider) {
+    public AuthServiceImpl(AuthUserRepository authUserRepository, PasswordEncoder passwordEncoder, JWTProvider jwtProvider,
+                           TokenVersionRegistry tokenVersions, JwtKeyRing keyRing,
+                           RefreshTokenRepository refreshTokenRepository,
+                           RevokedAccessTokenRepository revokedAccessTokenRepository,
+                           TokenRevocationList revocations,
+                           @Value("${jwt.refresh.expiration:30d}") Duration refreshExpiration) {
         this.authUserRepository = authUserRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtProvider = jwtProvider;
+        this.tokenVersions = tokenVersions;
+        this.keyRing = keyRing;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.revocations = revocations;
+        this.refreshExpiration = refreshExpiration;
     }
 
     @Override
@@ -39,10 +80,16 @@ public class AuthServiceImpl implements AuthService {
             throw new RuntimeException("Invalid credentials");
         }
 
-        String token = jwtProvider.generateToken(authUser.getUsername());
+        // Si cambió password.bcrypt.strength, el hash se migra al nuevo coste en el primer login correcto
+        if (passwordEncoder.upgradeEncoding(authUser.getPassword())) {
+            authUser.setPassword(passwordEncoder.encode(password));
+            authUserRepository.save(authUser);
+        }
+
+        AuthTokens tokens = issueTokens(authUser, UUID.randomUUID(), UUID.randomUUID(), Instant.now());
         Set<String> roles = authUser.getRoles(); // asumiendo que tu entidad User tiene un campo roles
 
-        return new AuthResponseDTO(token, roles);
+        return toResponse(tokens, roles);
     }
 
     @Override
@@ -63,10 +110,10 @@ public class AuthServiceImpl implements AuthService {
         // si se registró de forma satisfactoria entonces se crea el nodo del SocialUser en Neo4j
         // esto luego pasaría a cuando se verifica el usuario y se activa la cuenta entonces se crearia el nodo en Neo4j
 
-        String token = jwtProvider.generateToken(newAuthUser.getUsername());
+        AuthTokens tokens = issueTokens(newAuthUser, UUID.randomUUID(), UUID.randomUUID(), Instant.now());
         Set<String> roles = newAuthUser.getRoles(); // asumiendo que tu entidad User tiene un campo roles
 
-        return new AuthResponseDTO(token, roles);
+        return toResponse(tokens, roles);
     }
 
     @Override
@@ -88,4 +135,131 @@ public class AuthServiceImpl implements AuthService {
     public void changePassword(UUID userId, String currentPassword, String newPassword) {
 
     }
+
+    // Renueva la sesión sin credenciales (sin BCrypt): rota el refresh token y emite un access token nuevo.
+    // noRollbackFor: la revocación de la familia al detectar un reuso debe persistir aunque se lance la excepción
+    @Override
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public AuthResponseDTO refresh(String refreshToken) {
+        Instant now = Instant.now();
+        RefreshToken current = findRefreshToken(refreshToken)
+                .orElseThrow(InvalidRefreshTokenException::new);
+
+        if (!current.active()) {
+            // reuso de un token ya rotado o revocado: puede estar robado, se cierra la sesión entera
+            refreshTokenRepository.revokeFamily(current.familyId(), now);
+            throw new InvalidRefreshTokenException();
+        }
+        if (current.isExpired(now)) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        AuthUser authUser = authUserRepository.findById(current.userId())
+                .filter(AuthUser::isEnabled)
+                .filter(user -> user.getTokenVersion() == current.tokenVersion())
+                .orElseThrow(InvalidRefreshTokenException::new);
+
+        UUID nextId = UUID.randomUUID();
+        if (!refreshTokenRepository.rotate(current.id(), nextId, now)) {
+            // otra petición lo rotó entre la lectura y la actualización: también es un reuso
+            refreshTokenRepository.revokeFamily(current.familyId(), now);
+            throw new InvalidRefreshTokenException();
+        }
+
+        return toResponse(issueTokens(authUser, current.familyId(), nextId, now), authUser.getRoles());
+    }
+
+    // Cierra la sesión del refresh token y revoca el access token en curso (si se presenta y es válido)
+    @Override
+    @Transactional
+    public void logout(String refreshToken, String accessToken) {
+        Instant now = Instant.now();
+        findRefreshToken(refreshToken)
+                .ifPresent(current -> refreshTokenRepository.revokeFamily(current.familyId(), now));
+
+        Optional<JwtPrincipal> principal = accessToken == null ? Optional.empty() : jwtProvider.verify(accessToken);
+        principal.ifPresent(verified -> {
+            revokedAccessTokenRepository.save(verified.tokenId(), verified.expiresAt());
+            revocations.revoke(verified.tokenId(), verified.expiresAt());
+        });
+    }
+
+    @Override
+    @Transactional
+    public void updateRoles(UUID userId, Set<String> roles) {
+        AuthUser authUser = findRequired(userId);
+        authUser.setRoles(new HashSet<>(roles));
+        bumpTokenVersion(authUser);
+    }
+
+    @Override
+    @Transactional
+    public void revokeTokens(UUID userId) {
+        bumpTokenVersion(findRequired(userId));
+    }
+
+    @Override
+    public JwkSet jwks() {
+        return keyRing.jwks();
+    }
+
+    // El access token lleva uid, roles y versión: el filtro autentica sin volver a consultar al usuario.
+    // El refresh token es opaco (256 bits aleatorios); en Postgres solo queda su hash
+    private AuthTokens issueTokens(AuthUser authUser, UUID familyId, UUID refreshTokenId, Instant now) {
+        String accessToken = jwtProvider.generateToken(authUser.getId(), authUser.getUsername(), authUser.getRoles(),
+                authUser.getTokenVersion());
+
+        byte[] secret = new byte[32];
+        random.nextBytes(secret);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+        refreshTokenRepository.save(new RefreshToken(refreshTokenId, authUser.getId(), familyId, hash(refreshToken),
+                authUser.getTokenVersion(), now, now.plus(refreshExpiration), true));
+
+        return new AuthTokens(accessToken, jwtProvider.expirationSeconds(), refreshToken);
+    }
+
+    private static AuthResponseDTO toResponse(AuthTokens tokens, Set<String> roles) {
+        return new AuthResponseDTO(tokens.accessToken(), roles, tokens.expiresInSeconds(), tokens.refreshToken());
+    }
+
+    private Optional<RefreshToken> findRefreshToken(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return Optional.empty();
+        }
+        return refreshTokenRepository.findByHash(hash(refreshToken));
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private AuthUser findRequired(UUID userId) {
+        return authUserRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Usuario no encontrado: " + userId));
+    }
+
+    private void bumpTokenVersion(AuthUser authUser) {
+        authUser.setTokenVersion(authUser.getTokenVersion() + 1);
+        authUserRepository.save(authUser);
+        refreshTokenRepository.revokeAllForUser(authUser.getId(), Instant.now());
+
+        // El registro en memoria solo avanza si la versión quedó guardada: un rollback no debe invalidar tokens
+        UUID userId = authUser.getId();
+        int version = authUser.getTokenVersion();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tokenVersions.advance(userId, version);
+                }
+            });
+        } else {
+            tokenVersions.advance(userId, version);
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package com.our.socialseed.auth.infrastructure.service;
+
+import com.our.socialseed.auth.domain.repository.AuthUserRepository;
+import com.our.socialseed.auth.domain.repository.RevokedAccessTokenRepository;
+import com.our.socialseed.shared.security.jwt.TokenRevocationList;
+import com.our.socialseed.shared.security.jwt.TokenVersionRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/*
+📌 Carga en memoria el estado de revocación guardado en Postgres:
+   - versiones de token por usuario (TokenVersionRegistry),
+   - access tokens revocados que aún no han expirado (TokenRevocationList).
+   Se ejecuta al terminar de crear los singletons, antes de que arranque el servidor web,
+   para que tras un reinicio ningún token revocado vuelva a ser válido.
+ */
+@Component
+public class JwtRevocationStateLoader implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtRevocationStateLoader.class);
+
+    private final AuthUserRepository authUserRepository;
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final TokenVersionRegistry tokenVersions;
+    private final TokenRevocationList revocations;
+
+    public JwtRevocationStateLoader(AuthUserRepository authUserRepository,
+                                    RevokedAccessTokenRepository revokedAccessTokenRepository,
+                                    TokenVersionRegistry tokenVersions,
+                                    TokenRevocationList revocations) {
+        this.authUserRepository = authUserRepository;
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.tokenVersions = tokenVersions;
+        this.revocations = revocations;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Map<UUID, Integer> versions = authUserRepository.findRevokedTokenVersions();
+        tokenVersions.advanceAll(versions);
+
+        Map<UUID, Instant> revoked = revokedAccessTokenRepository.findActive(Instant.now());
+        revocations.revokeAll(revoked);
+
+        log.info("Estado de revocación JWT cargado: {} usuarios con versión de token, {} access tokens revocados",
+                versions.size(), revoked.size());
+    }
+}
@@ -0,0 +1,48 @@
+package com.our.socialseed.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.neo4j.driver.Driver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.neo4j.core.DatabaseSelectionProvider;
+import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
+import org.springframework.data.neo4j.repository.config.EnableNeo4jRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/*
+📌 Un gestor de transacciones por almacén.
+   Spring Boot solo crea un "transactionManager" (JPA o Neo4j, el primero que se registra), así que se
+   declaran los dos explícitamente:
+   - transactionManager (JPA, @Primary): auth en PostgreSQL y cualquier @Transactional sin calificar.
+   - neo4jTransactionManager: repositorios de Neo4j y adaptadores del grafo. Con readOnly = true abre la
+     sesión en modo READ y un driver de enrutamiento (neo4j://) la envía a followers/read replicas;
+     el resto va al líder. Los bookmarks que gestiona mantienen read-your-writes entre ambos.
+ */
+@Configuration
+@EnableNeo4jRepositories(basePackages = "com.our.socialseed", transactionManagerRef = TransactionManagersConfig.NEO4J)
+public class TransactionManagersConfig {
+
+    public static final String NEO4J = "neo4jTransactionManager";
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                         ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean(NEO4J)
+    public Neo4jTransactionManager neo4jTransactionManager(Driver driver,
+                                                           DatabaseSelectionProvider databaseSelectionProvider,
+                                                           ObjectProvider<TransactionManagerCustomizers> customizers) {
+        Neo4jTransactionManager transactionManager = new Neo4jTransactionManager(driver, databaseSelectionProvider);
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,43 @@
+package com.our.socialseed.feed.application.usecase;
+
+import com.our.socialseed.feed.domain.model.FanOutResult;
+import com.our.socialseed.feed.domain.model.FeedEntry;
+import com.our.socialseed.feed.domain.repository.FeedStore;
+import com.our.socialseed.feed.domain.repository.FollowerSource;
+import com.our.socialseed.feed.domain.repository.RecentPostsStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+public class FanOutPost {
+    private final FollowerSource followerSource;
+    private final FeedStore feedStore;
+    private final RecentPostsStore recentPostsStore;
+    private final long celebrityThreshold;
+
+    public FanOutPost(FollowerSource followerSource,
+                      FeedStore feedStore,
+                      RecentPostsStore recentPostsStore,
+                      @Value("${feed.celebrity.follower-threshold:10000}") long celebrityThreshold) {
+        this.followerSource = followerSource;
+        this.feedStore = feedStore;
+        this.recentPostsStore = recentPostsStore;
+        this.celebrityThreshold = celebrityThreshold;
+    }
+
+    // Push a cada seguidor salvo que el autor sea una celebridad: entonces sus seguidores lo leen en modo pull
+    public FanOutResult execute(UUID postId, UUID authorId, long createdAt) {
+        FeedEntry entry = new FeedEntry(postId, createdAt);
+        feedStore.push(authorId, entry);
+        recentPostsStore.append(authorId, entry);
+
+        long followers = followerSource.countFollowers(authorId);
+        if (followers >= celebrityThreshold) {
+            return new FanOutResult(true, followers, 1);
+        }
+        long pushed = followerSource.forEachFollower(authorId, followerId -> feedStore.push(followerId, entry));
+        return new FanOutResult(false, followers, 1 + pushed);
+    }
+}
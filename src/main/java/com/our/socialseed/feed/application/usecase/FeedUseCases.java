@@ -0,0 +1,36 @@
+package com.our.socialseed.feed.application.usecase;
+
+import com.our.socialseed.feed.domain.repository.FeedStore;
+import com.our.socialseed.feed.domain.repository.FollowerSource;
+import com.our.socialseed.feed.domain.repository.RecentPostsStore;
+import com.our.socialseed.post.domain.repository.PostRepository;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class FeedUseCases {
+    private final FanOutPost fanOutPost;
+    private final GetFeed getFeed;
+
+    public FeedUseCases(FeedStore feedStore,
+                        RecentPostsStore recentPostsStore,
+                        FollowerSource followerSource,
+                        PostRepository postRepository,
+                        UserRepository userRepository,
+                        @Value("${feed.celebrity.follower-threshold:10000}") long celebrityThreshold,
+                        @Value("${feed.pagination.default-size:20}") int defaultPageSize,
+                        @Value("${feed.pagination.max-size:100}") int maxPageSize) {
+        this.fanOutPost = new FanOutPost(followerSource, feedStore, recentPostsStore, celebrityThreshold);
+        this.getFeed = new GetFeed(feedStore, recentPostsStore, followerSource, postRepository, userRepository,
+                celebrityThreshold, defaultPageSize, maxPageSize);
+    }
+
+    public FanOutPost fanOutPost() {
+        return fanOutPost;
+    }
+
+    public GetFeed getFeed() {
+        return getFeed;
+    }
+}
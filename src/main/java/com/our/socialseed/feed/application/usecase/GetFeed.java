@@ -0,0 +1,97 @@
+package com.our.socialseed.feed.application.usecase;
+
+import com.our.socialseed.feed.domain.model.FeedCursor;
+import com.our.socialseed.feed.domain.model.FeedEntry;
+import com.our.socialseed.feed.domain.model.FeedMerge;
+import com.our.socialseed.feed.domain.repository.FeedStore;
+import com.our.socialseed.feed.domain.repository.FollowerSource;
+import com.our.socialseed.feed.domain.repository.RecentPostsStore;
+import com.our.socialseed.post.domain.model.Post;
+import com.our.socialseed.post.domain.repository.PostRepository;
+import com.our.socialseed.shared.pagination.CursorPage;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class GetFeed {
+    private final FeedStore feedStore;
+    private final RecentPostsStore recentPostsStore;
+    private final FollowerSource followerSource;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final long celebrityThreshold;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public GetFeed(FeedStore feedStore,
+                   RecentPostsStore recentPostsStore,
+                   FollowerSource followerSource,
+                   PostRepository postRepository,
+                   UserRepository userRepository,
+                   @Value("${feed.celebrity.follower-threshold:10000}") long celebrityThreshold,
+                   @Value("${feed.pagination.default-size:20}") int defaultPageSize,
+                   @Value("${feed.pagination.max-size:100}") int maxPageSize) {
+        this.feedStore = feedStore;
+        this.recentPostsStore = recentPostsStore;
+        this.followerSource = followerSource;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.celebrityThreshold = celebrityThreshold;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    // Optional.empty() si el usuario autenticado no tiene nodo en el grafo
+    public Optional<CursorPage<Post>> execute(String username, String cursor, Integer size) {
+        int limit = resolvePageSize(size);
+        FeedEntry before = cursor == null || cursor.isBlank() ? null : FeedCursor.decode(cursor);
+
+        return userRepository.findIdByUsername(username).map(userId -> {
+            // timeline materializado (push) + posts recientes de las celebridades seguidas (pull), +1 para saber si hay
+            // página siguiente; el cursor (createdAt, postId) vale para todas las fuentes
+            List<List<FeedEntry>> sources = new ArrayList<>();
+            sources.add(feedStore.read(userId, before, limit + 1));
+            for (UUID authorId : followerSource.findFollowedAuthors(userId, celebrityThreshold)) {
+                sources.add(recentPostsStore.read(authorId, before, limit + 1));
+            }
+            List<FeedEntry> entries = FeedMerge.newestFirst(sources, limit + 1);
+            CursorPage<FeedEntry> page = CursorPage.fromLookahead(entries, limit, FeedCursor::encode);
+            return new CursorPage<>(hydrate(page.items()), page.next());
+        });
+    }
+
+    private List<Post> hydrate(List<FeedEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Post> posts = postRepository.findByIds(entries.stream().map(FeedEntry::postId).toList())
+                .stream()
+                .collect(Collectors.toMap(Post::id, Function.identity()));
+
+        // se respeta el orden del timeline; los posts borrados desde el fan-out se omiten
+        List<Post> ordered = new ArrayList<>(entries.size());
+        for (FeedEntry entry : entries) {
+            Post post = posts.get(entry.postId());
+            if (post != null) {
+                ordered.add(post);
+            }
+        }
+        return ordered;
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        return Math.min(size, maxPageSize);
+    }
+}
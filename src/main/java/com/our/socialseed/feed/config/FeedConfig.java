@@ -0,0 +1,34 @@
+package com.our.socialseed.feed.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class FeedConfig {
+
+    // Pool acotado para el fan-out de posts: la petición que publica no espera a que se repartan los timelines.
+    // Con la cola llena el hilo que publica hace el fan-out (CallerRunsPolicy): back-pressure en vez de perder posts.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService feedFanOutExecutor(@Value("${feed.fanout.threads:4}") int threads,
+                                              @Value("${feed.fanout.queue-capacity:10000}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "feed-fanout-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+}
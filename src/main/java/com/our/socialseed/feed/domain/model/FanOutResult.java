@@ -0,0 +1,9 @@
+package com.our.socialseed.feed.domain.model;
+
+/*
+📌 Resultado del reparto de un post.
+   celebrity = true: el autor supera el umbral de seguidores y su post no se copió a los seguidores
+   (se mezcla al leer desde la caché de posts recientes). timelines cuenta también el del propio autor.
+ */
+public record FanOutResult(boolean celebrity, long followers, long timelines) {
+}
@@ -0,0 +1,30 @@
+package com.our.socialseed.feed.domain.model;
+
+import com.our.socialseed.shared.pagination.CursorCodec;
+import com.our.socialseed.shared.pagination.InvalidCursorException;
+
+import java.util.UUID;
+
+/*
+📌 Cursor del timeline: (createdAt, postId) de la última entrada devuelta.
+   La página siguiente son las entradas estrictamente anteriores, así que el cursor sigue siendo válido
+   aunque entren posts nuevos mientras el cliente pagina.
+ */
+public final class FeedCursor {
+    private FeedCursor() {}
+
+    public static String encode(FeedEntry entry) {
+        return CursorCodec.encode(entry.createdAt() + ":" + entry.postId());
+    }
+
+    public static FeedEntry decode(String cursor) {
+        String value = CursorCodec.decode(cursor);
+        int separator = value.indexOf(':');
+        try {
+            return new FeedEntry(UUID.fromString(value.substring(separator + 1)),
+                    Long.parseLong(value.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
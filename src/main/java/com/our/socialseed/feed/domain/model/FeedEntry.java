@@ -0,0 +1,21 @@
+package com.our.socialseed.feed.domain.model;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+/*
+📌 Entrada de un timeline: solo el id del post y su fecha (epoch millis), que es la clave de orden.
+   El contenido del post se hidrata al leer, con un único round trip para toda la página.
+ */
+public record FeedEntry(UUID postId, long createdAt) implements Comparable<FeedEntry> {
+
+    // Orden cronológico; a igual fecha desempata el id para que el cursor sea estable
+    public static final Comparator<FeedEntry> CHRONOLOGICAL = Comparator
+            .comparingLong(FeedEntry::createdAt)
+            .thenComparing(FeedEntry::postId);
+
+    @Override
+    public int compareTo(FeedEntry other) {
+        return CHRONOLOGICAL.compare(this, other);
+    }
+}
@@ -0,0 +1,54 @@
+package com.our.socialseed.feed.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/*
+📌 Mezcla k-way de fuentes ya ordenadas (más recientes primero) con un heap de k cabezas: O(limit · log k).
+   Un mismo post puede llegar por dos fuentes (p. ej. un autor que cruzó el umbral de celebridad
+   con posts ya repartidos); al compartir clave salen consecutivos y se emite una sola vez.
+ */
+public final class FeedMerge {
+    private FeedMerge() {}
+
+    public static List<FeedEntry> newestFirst(List<List<FeedEntry>> sources, int limit) {
+        if (sources.size() == 1) {
+            List<FeedEntry> only = sources.get(0);
+            return only.size() <= limit ? only : only.subList(0, limit);
+        }
+
+        PriorityQueue<Head> heads = new PriorityQueue<>();
+        for (List<FeedEntry> source : sources) {
+            if (!source.isEmpty()) {
+                heads.add(new Head(source, 0));
+            }
+        }
+
+        List<FeedEntry> merged = new ArrayList<>(limit);
+        FeedEntry last = null;
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Head head = heads.poll();
+            FeedEntry entry = head.entry();
+            if (!entry.equals(last)) {
+                merged.add(entry);
+                last = entry;
+            }
+            if (head.index() + 1 < head.source().size()) {
+                heads.add(new Head(head.source(), head.index() + 1));
+            }
+        }
+        return merged;
+    }
+
+    private record Head(List<FeedEntry> source, int index) implements Comparable<Head> {
+        FeedEntry entry() {
+            return source.get(index);
+        }
+
+        @Override
+        public int compareTo(Head other) {
+            return other.entry().compareTo(entry()); // orden inverso: el más reciente sale primero
+        }
+    }
+}
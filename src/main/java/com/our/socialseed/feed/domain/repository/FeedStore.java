@@ -0,0 +1,18 @@
+package com.our.socialseed.feed.domain.repository;
+
+import com.our.socialseed.feed.domain.model.FeedEntry;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+📌 Almacén de timelines materializados (uno por usuario), acotado a las N entradas más recientes.
+   La implementación por defecto vive en memoria (InMemoryFeedStore); otra (p. ej. Redis) solo tiene
+   que implementar este puerto y activarse con feed.store.
+ */
+public interface FeedStore {
+    void push(UUID userId, FeedEntry entry);
+
+    // Entradas más recientes primero, estrictamente anteriores a "before" (null = desde la más reciente)
+    List<FeedEntry> read(UUID userId, FeedEntry before, int limit);
+}
@@ -0,0 +1,16 @@
+package com.our.socialseed.feed.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface FollowerSource {
+    // Recorre los seguidores del autor sin materializarlos; devuelve cuántos se emitieron
+    long forEachFollower(UUID authorId, Consumer<UUID> consumer);
+
+    // Lee el contador followersCount del nodo (sin recorrer las relaciones)
+    long countFollowers(UUID authorId);
+
+    // Autores seguidos por el usuario con al menos minFollowers seguidores (los que no hacen fan-out)
+    List<UUID> findFollowedAuthors(UUID userId, long minFollowers);
+}
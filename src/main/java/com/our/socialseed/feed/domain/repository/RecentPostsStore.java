@@ -0,0 +1,17 @@
+package com.our.socialseed.feed.domain.repository;
+
+import com.our.socialseed.feed.domain.model.FeedEntry;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+📌 Posts recientes por autor para la parte "pull" del feed: los posts de autores por encima del umbral
+   de celebridad no se copian a los seguidores y se mezclan al leer desde aquí.
+ */
+public interface RecentPostsStore {
+    void append(UUID authorId, FeedEntry entry);
+
+    // Entradas más recientes primero, estrictamente anteriores a "before" (null = desde la más reciente)
+    List<FeedEntry> read(UUID authorId, FeedEntry before, int limit);
+}
@@ -0,0 +1,37 @@
+package com.our.socialseed.feed.entry.rest.controller;
+
+import com.our.socialseed.feed.application.usecase.FeedUseCases;
+import com.our.socialseed.post.entry.rest.dto.PostResponseDTO;
+import com.our.socialseed.post.entry.rest.mapper.PostRestMapper;
+import com.our.socialseed.shared.pagination.CursorPage;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/feed")
+public class FeedController {
+    private final FeedUseCases feedUseCases;
+
+    public FeedController(FeedUseCases feedUseCases) {
+        this.feedUseCases = feedUseCases;
+    }
+
+    // HOME TIMELINE del usuario autenticado (más recientes primero, paginado por cursor)
+    @GetMapping
+    public ResponseEntity<CursorPage<PostResponseDTO>> getFeed(Principal principal,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer size) {
+        return feedUseCases.getFeed().execute(principal.getName(), cursor, size)
+                .map(page -> page.isEmpty()
+                        ? ResponseEntity.noContent().<CursorPage<PostResponseDTO>>build()
+                        : ResponseEntity.ok(page.map(PostRestMapper::toResponse)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,52 @@
+package com.our.socialseed.feed.infrastructure.event;
+
+import com.our.socialseed.feed.application.usecase.FeedUseCases;
+import com.our.socialseed.feed.domain.model.FanOutResult;
+import com.our.socialseed.feed.infrastructure.metrics.FeedFanOutMetrics;
+import com.our.socialseed.post.domain.event.PostCreatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+
+/*
+📌 Fan-out on write: cada post nuevo se copia (solo postId + createdAt) al timeline de cada seguidor
+   en el pool feedFanOutExecutor, fuera del hilo de la petición que lo creó.
+   Los autores por encima de feed.celebrity.follower-threshold no se reparten (modo pull, ver GetFeed).
+ */
+@Component
+public class PostCreatedFanOutListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PostCreatedFanOutListener.class);
+
+    private final FeedUseCases feedUseCases;
+    private final ExecutorService executor;
+    private final FeedFanOutMetrics metrics;
+
+    public PostCreatedFanOutListener(FeedUseCases feedUseCases,
+                                     @Qualifier("feedFanOutExecutor") ExecutorService executor,
+                                     FeedFanOutMetrics metrics) {
+        this.feedUseCases = feedUseCases;
+        this.executor = executor;
+        this.metrics = metrics;
+    }
+
+    @EventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        executor.execute(() -> {
+            try {
+                long start = System.nanoTime();
+                FanOutResult result = feedUseCases.fanOutPost()
+                        .execute(event.postId(), event.authorId(), event.createdAt().toEpochMilli());
+                metrics.record(result, System.nanoTime() - start);
+                log.debug("Post {} repartido en {} timelines (celebridad: {})",
+                        event.postId(), result.timelines(), result.celebrity());
+            } catch (Exception e) {
+                log.error("No se pudo repartir el post {} del autor {}", event.postId(), event.authorId(), e);
+            }
+        });
+    }
+}
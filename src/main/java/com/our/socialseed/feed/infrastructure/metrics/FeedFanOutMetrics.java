@@ -0,0 +1,81 @@
+package com.our.socialseed.feed.infrastructure.metrics;
+
+import com.our.socialseed.feed.domain.model.FanOutResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+📌 Métricas del fan-out (feed.fanout.*) para ajustar el umbral de celebridad contra la distribución real:
+   - feed.fanout.posts{mode=push|pull}: posts repartidos a los seguidores vs. servidos en modo pull
+   - feed.fanout.author.followers: seguidores del autor de cada post (percentiles frente al umbral)
+   - feed.fanout.timelines: timelines escritos por post; feed.fanout.duration: tiempo de cada reparto
+   - feed.fanout.queue.depth / remaining / active: estado del pool feedFanOutExecutor
+   - feed.celebrity.threshold: umbral configurado
+ */
+@Component
+public class FeedFanOutMetrics {
+
+    private final Counter pushPosts;
+    private final Counter pullPosts;
+    private final DistributionSummary authorFollowers;
+    private final DistributionSummary timelines;
+    private final Timer duration;
+
+    public FeedFanOutMetrics(MeterRegistry registry,
+                             @Qualifier("feedFanOutExecutor") ExecutorService executor,
+                             @Value("${feed.celebrity.follower-threshold:10000}") long celebrityThreshold) {
+        this.pushPosts = posts(registry, "push");
+        this.pullPosts = posts(registry, "pull");
+        this.authorFollowers = DistributionSummary.builder("feed.fanout.author.followers")
+                .description("Seguidores del autor de cada post publicado")
+                .publishPercentiles(0.5, 0.9, 0.99, 0.999)
+                .register(registry);
+        this.timelines = DistributionSummary.builder("feed.fanout.timelines")
+                .description("Timelines escritos por cada post")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.duration = Timer.builder("feed.fanout.duration")
+                .description("Tiempo de reparto de un post")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+
+        if (executor instanceof ThreadPoolExecutor pool) {
+            Gauge.builder("feed.fanout.queue.depth", pool, p -> p.getQueue().size())
+                    .description("Repartos pendientes en cola")
+                    .register(registry);
+            Gauge.builder("feed.fanout.queue.remaining", pool, p -> p.getQueue().remainingCapacity())
+                    .description("Hueco libre en la cola; a 0 el hilo que publica hace el reparto")
+                    .register(registry);
+            Gauge.builder("feed.fanout.active", pool, ThreadPoolExecutor::getActiveCount)
+                    .description("Hilos repartiendo posts")
+                    .register(registry);
+        }
+        Gauge.builder("feed.celebrity.threshold", () -> celebrityThreshold)
+                .description("Seguidores a partir de los cuales un autor no hace fan-out")
+                .register(registry);
+    }
+
+    public void record(FanOutResult result, long elapsedNanos) {
+        (result.celebrity() ? pullPosts : pushPosts).increment();
+        authorFollowers.record(result.followers());
+        timelines.record(result.timelines());
+        duration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Counter posts(MeterRegistry registry, String mode) {
+        return Counter.builder("feed.fanout.posts")
+                .description("Posts publicados según el modo de reparto")
+                .tag("mode", mode)
+                .register(registry);
+    }
+}
@@ -0,0 +1,98 @@
+package com.our.socialseed.feed.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.our.socialseed.feed.domain.repository.FollowerSource;
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/*
+📌 Seguidores de un autor en streaming (sesión READ con fetch size): un autor con millones de seguidores
+   no se materializa en memoria; el driver trae los ids por lotes a medida que el fan-out los consume.
+   Las celebridades seguidas por cada usuario se cachean un rato (feed.celebrity.following-cache-ttl):
+   cambian poco y se consultan en cada lectura del feed.
+ */
+@Component
+public class Neo4jFollowerSource implements FollowerSource {
+
+    private static final String FOLLOWERS_QUERY = """
+            MATCH (:User {id: $authorId})-[:FOLLOWED_BY]->(follower:User)
+            RETURN follower.id AS id
+            """;
+
+    private static final String COUNT_FOLLOWERS_QUERY = """
+            MATCH (u:User {id: $authorId})
+            RETURN coalesce(u.followersCount, 0) AS followers
+            """;
+
+    private static final String FOLLOWED_AUTHORS_QUERY = """
+            MATCH (author:User)-[:FOLLOWED_BY]->(:User {id: $userId})
+            WHERE author.followersCount >= $minFollowers
+            RETURN author.id AS id
+            """;
+
+    private final Driver driver;
+    private final long fetchSize;
+    private final Cache<UUID, List<UUID>> followedAuthors;
+
+    public Neo4jFollowerSource(Driver driver,
+                               @Value("${feed.fanout.fetch-size:2000}") long fetchSize,
+                               @Value("${feed.celebrity.following-cache-ttl:1m}") Duration followingCacheTtl,
+                               @Value("${feed.store.memory.max-feeds:200000}") long maxUsers) {
+        this.driver = driver;
+        this.fetchSize = fetchSize;
+        this.followedAuthors = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(followingCacheTtl)
+                .build();
+    }
+
+    @Override
+    public long forEachFollower(UUID authorId, Consumer<UUID> consumer) {
+        try (Session session = driver.session(readSession())) {
+            Result result = session.run(FOLLOWERS_QUERY, Map.of("authorId", authorId.toString()));
+            long count = 0;
+            while (result.hasNext()) {
+                consumer.accept(UUID.fromString(result.next().get("id").asString()));
+                count++;
+            }
+            return count;
+        }
+    }
+
+    @Override
+    public long countFollowers(UUID authorId) {
+        try (Session session = driver.session(readSession())) {
+            Result result = session.run(COUNT_FOLLOWERS_QUERY, Map.of("authorId", authorId.toString()));
+            return result.hasNext() ? result.next().get("followers").asLong() : 0;
+        }
+    }
+
+    @Override
+    public List<UUID> findFollowedAuthors(UUID userId, long minFollowers) {
+        return followedAuthors.get(userId, id -> {
+            try (Session session = driver.session(readSession())) {
+                return session.run(FOLLOWED_AUTHORS_QUERY, Map.of("userId", id.toString(), "minFollowers", minFollowers))
+                        .list(record -> UUID.fromString(record.get("id").asString()));
+            }
+        });
+    }
+
+    private SessionConfig readSession() {
+        return SessionConfig.builder()
+                .withDefaultAccessMode(AccessMode.READ)
+                .withFetchSize(fetchSize)
+                .build();
+    }
+}
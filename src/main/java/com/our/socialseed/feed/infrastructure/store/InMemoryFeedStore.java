@@ -0,0 +1,48 @@
+package com.our.socialseed.feed.infrastructure.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.our.socialseed.feed.domain.model.FeedEntry;
+import com.our.socialseed.feed.domain.repository.FeedStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/*
+📌 Timelines en memoria del proceso: un RingFeed por usuario.
+   Memoria acotada en dos ejes: feed.capacity entradas por timeline y feed.store.memory.max-feeds timelines
+   (se descartan los de usuarios inactivos). Es una caché de lectura: se pierde al reiniciar y cada instancia
+   tiene la suya; para varias instancias hay que enchufar un backend compartido implementando FeedStore.
+ */
+@Component
+@ConditionalOnProperty(prefix = "feed", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryFeedStore implements FeedStore {
+
+    private final Cache<UUID, RingFeed> feeds;
+    private final int capacity;
+
+    public InMemoryFeedStore(@Value("${feed.capacity:800}") int capacity,
+                             @Value("${feed.store.memory.max-feeds:200000}") long maxFeeds,
+                             @Value("${feed.store.memory.expire-after-access:7d}") Duration expireAfterAccess) {
+        this.capacity = capacity;
+        this.feeds = Caffeine.newBuilder()
+                .maximumSize(maxFeeds)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    @Override
+    public void push(UUID userId, FeedEntry entry) {
+        feeds.get(userId, id -> new RingFeed(capacity)).push(entry);
+    }
+
+    @Override
+    public List<FeedEntry> read(UUID userId, FeedEntry before, int limit) {
+        RingFeed feed = feeds.getIfPresent(userId);
+        return feed == null ? List.of() : feed.read(before, limit);
+    }
+}
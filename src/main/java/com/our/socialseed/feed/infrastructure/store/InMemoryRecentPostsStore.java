@@ -0,0 +1,65 @@
+package com.our.socialseed.feed.infrastructure.store;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.our.socialseed.feed.domain.model.FeedEntry;
+import com.our.socialseed.feed.domain.repository.RecentPostsStore;
+import com.our.socialseed.post.domain.model.Post;
+import com.our.socialseed.post.domain.repository.PostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/*
+📌 Caché caliente de posts recientes por autor (un RingFeed por autor).
+   En un miss se carga de Neo4j con una sola consulta; después cada post nuevo del autor se añade en memoria.
+   Si el autor no está cargado, append no hace nada: la próxima carga ya incluirá el post.
+   Estadísticas en Micrometer como cache.* con tag cache=feed.recent-posts.
+ */
+@Component
+public class InMemoryRecentPostsStore implements RecentPostsStore {
+
+    public static final String CACHE_NAME = "feed.recent-posts";
+
+    private final LoadingCache<UUID, RingFeed> recentPosts;
+
+    public InMemoryRecentPostsStore(PostRepository postRepository,
+                                    @Value("${feed.celebrity.recent-posts:200}") int capacity,
+                                    @Value("${feed.celebrity.max-authors:10000}") long maxAuthors,
+                                    @Value("${feed.celebrity.recent-posts-ttl:1h}") Duration ttl,
+                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        this.recentPosts = Caffeine.newBuilder()
+                .maximumSize(maxAuthors)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build(authorId -> load(postRepository, authorId, capacity));
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, recentPosts, CACHE_NAME));
+    }
+
+    @Override
+    public void append(UUID authorId, FeedEntry entry) {
+        RingFeed feed = recentPosts.getIfPresent(authorId);
+        if (feed != null) {
+            feed.push(entry);
+        }
+    }
+
+    @Override
+    public List<FeedEntry> read(UUID authorId, FeedEntry before, int limit) {
+        return recentPosts.get(authorId).read(before, limit);
+    }
+
+    private static RingFeed load(PostRepository postRepository, UUID authorId, int capacity) {
+        RingFeed feed = new RingFeed(capacity);
+        for (Post post : postRepository.findRecentByAuthor(authorId, capacity)) {
+            feed.push(new FeedEntry(post.id(), post.createdAt().toEpochMilli()));
+        }
+        return feed;
+    }
+}
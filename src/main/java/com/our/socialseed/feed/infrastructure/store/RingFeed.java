@@ -0,0 +1,117 @@
+package com.our.socialseed.feed.infrastructure.store;
+
+import com.our.socialseed.feed.domain.model.FeedEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/*
+📌 Buffer circular de capacidad fija ordenado cronológicamente (la entrada más antigua en "head").
+   - push: con el buffer lleno se descarta la más antigua. El fan-out entrega casi siempre en orden,
+     así que la inserción ordenada solo desplaza las pocas entradas más recientes.
+   - read: búsqueda binaria del cursor y lectura hacia atrás de "limit" entradas.
+   Los datos van en arrays primitivos (sin un objeto por entrada) y el acceso se serializa por feed.
+ */
+class RingFeed {
+    private final long[] createdAt;
+    private final long[] mostSigBits;
+    private final long[] leastSigBits;
+    private int head;
+    private int size;
+
+    RingFeed(int capacity) {
+        this.createdAt = new long[capacity];
+        this.mostSigBits = new long[capacity];
+        this.leastSigBits = new long[capacity];
+    }
+
+    synchronized void push(FeedEntry entry) {
+        int capacity = createdAt.length;
+        if (size == capacity) {
+            if (compare(0, entry) >= 0) {
+                return; // más antigua que todo lo que cabe en el timeline
+            }
+            head = (head + 1) % capacity;
+            size--;
+        }
+
+        int position = size;
+        while (position > 0) {
+            int cmp = compare(position - 1, entry);
+            if (cmp == 0) {
+                return; // ya estaba (reintento del fan-out)
+            }
+            if (cmp < 0) {
+                break;
+            }
+            copy(position - 1, position);
+            position--;
+        }
+        set(position, entry);
+        size++;
+    }
+
+    synchronized List<FeedEntry> read(FeedEntry before, int limit) {
+        int end = before == null ? size : lowerBound(before); // índices lógicos [0, end) son anteriores al cursor
+        List<FeedEntry> page = new ArrayList<>(Math.min(limit, end));
+        for (int i = end - 1; i >= 0 && page.size() < limit; i--) {
+            page.add(get(i));
+        }
+        return page;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    // Primer índice lógico cuya entrada es >= entry
+    private int lowerBound(FeedEntry entry) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, entry) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compare(int logical, FeedEntry entry) {
+        int slot = slot(logical);
+        int cmp = Long.compare(createdAt[slot], entry.createdAt());
+        if (cmp != 0) {
+            return cmp;
+        }
+        // mismo desempate que UUID.compareTo
+        cmp = Long.compare(mostSigBits[slot], entry.postId().getMostSignificantBits());
+        return cmp != 0 ? cmp : Long.compare(leastSigBits[slot], entry.postId().getLeastSignificantBits());
+    }
+
+    private FeedEntry get(int logical) {
+        int slot = slot(logical);
+        return new FeedEntry(new UUID(mostSigBits[slot], leastSigBits[slot]), createdAt[slot]);
+    }
+
+    private void set(int logical, FeedEntry entry) {
+        int slot = slot(logical);
+        createdAt[slot] = entry.createdAt();
+        mostSigBits[slot] = entry.postId().getMostSignificantBits();
+        leastSigBits[slot] = entry.postId().getLeastSignificantBits();
+    }
+
+    private void copy(int fromLogical, int toLogical) {
+        int from = slot(fromLogical);
+        int to = slot(toLogical);
+        createdAt[to] = createdAt[from];
+        mostSigBits[to] = mostSigBits[from];
+        leastSigBits[to] = leastSigBits[from];
+    }
+
+    private int slot(int logical) {
+        return (head + logical) % createdAt.length;
+    }
+}
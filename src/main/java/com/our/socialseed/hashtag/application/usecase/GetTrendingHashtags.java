@@ -0,0 +1,37 @@
+package com.our.socialseed.hashtag.application.usecase;
+
+import com.our.socialseed.hashtag.config.exception.InvalidTrendingWindowException;
+import com.our.socialseed.hashtag.domain.model.TrendingHashtags;
+import com.our.socialseed.hashtag.domain.repository.TrendingCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Service
+public class GetTrendingHashtags {
+    private final TrendingCounter trendingCounter;
+    private final int defaultLimit;
+
+    public GetTrendingHashtags(TrendingCounter trendingCounter,
+                               @Value("${hashtag.trending.default-limit:10}") int defaultLimit) {
+        this.trendingCounter = trendingCounter;
+        this.defaultLimit = defaultLimit;
+    }
+
+    // window admite "15m", "1h", "24h" o ISO-8601 ("PT1H")
+    public TrendingHashtags execute(String window, Integer limit) {
+        Duration maxWindow = trendingCounter.maxWindow();
+        Duration parsed;
+        try {
+            parsed = DurationStyle.detectAndParse(window);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTrendingWindowException(window, maxWindow);
+        }
+        if (parsed.isNegative() || parsed.isZero() || parsed.compareTo(maxWindow) > 0) {
+            throw new InvalidTrendingWindowException(window, maxWindow);
+        }
+        return trendingCounter.top(parsed, limit == null || limit < 1 ? defaultLimit : limit);
+    }
+}
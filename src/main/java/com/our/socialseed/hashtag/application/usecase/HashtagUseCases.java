@@ -0,0 +1,25 @@
+package com.our.socialseed.hashtag.application.usecase;
+
+import com.our.socialseed.hashtag.domain.repository.TrendingCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class HashtagUseCases {
+    private final RecordHashtags recordHashtags;
+    private final GetTrendingHashtags getTrendingHashtags;
+
+    public HashtagUseCases(TrendingCounter trendingCounter,
+                           @Value("${hashtag.trending.default-limit:10}") int defaultLimit) {
+        this.recordHashtags = new RecordHashtags(trendingCounter);
+        this.getTrendingHashtags = new GetTrendingHashtags(trendingCounter, defaultLimit);
+    }
+
+    public RecordHashtags recordHashtags() {
+        return recordHashtags;
+    }
+
+    public GetTrendingHashtags getTrendingHashtags() {
+        return getTrendingHashtags;
+    }
+}
@@ -0,0 +1,23 @@
+package com.our.socialseed.hashtag.application.usecase;
+
+import com.our.socialseed.hashtag.domain.repository.TrendingCounter;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+public class RecordHashtags {
+    private final TrendingCounter trendingCounter;
+
+    public RecordHashtags(TrendingCounter trendingCounter) {
+        this.trendingCounter = trendingCounter;
+    }
+
+    public void execute(List<String> hashtags, Instant at) {
+        long timestamp = at.toEpochMilli();
+        for (String tag : hashtags) {
+            trendingCounter.record(tag, timestamp);
+        }
+    }
+}
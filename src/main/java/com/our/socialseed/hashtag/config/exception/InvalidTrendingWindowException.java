@@ -0,0 +1,17 @@
+package com.our.socialseed.hashtag.config.exception;
+
+import java.time.Duration;
+
+// Ventana de tendencias mal formada, no positiva o mayor que la que cubre el motor
+public class InvalidTrendingWindowException extends RuntimeException {
+    private final Duration maxWindow;
+
+    public InvalidTrendingWindowException(String window, Duration maxWindow) {
+        super("Invalid trending window: " + window);
+        this.maxWindow = maxWindow;
+    }
+
+    public Duration getMaxWindow() {
+        return maxWindow;
+    }
+}
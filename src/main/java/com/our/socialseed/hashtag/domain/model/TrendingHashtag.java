@@ -0,0 +1,8 @@
+package com.our.socialseed.hashtag.domain.model;
+
+// Hashtag con su cuenta estimada en la ventana (nunca por debajo de la real)
+public record TrendingHashtag(
+        String tag,
+        long count
+) {
+}
@@ -0,0 +1,17 @@
+package com.our.socialseed.hashtag.domain.model;
+
+import java.time.Duration;
+import java.util.List;
+
+/*
+📌 Ranking de hashtags en una ventana.
+   Las cuentas son aproximadas: cada una puede sobreestimar la real como mucho en maxOverestimate
+   (con la probabilidad documentada en WindowedTrendingCounter); totalEvents es exacto.
+ */
+public record TrendingHashtags(
+        Duration window,
+        long totalEvents,
+        long maxOverestimate,
+        List<TrendingHashtag> hashtags
+) {
+}
@@ -0,0 +1,18 @@
+package com.our.socialseed.hashtag.domain.repository;
+
+import com.our.socialseed.hashtag.domain.model.TrendingHashtags;
+
+import java.time.Duration;
+
+/*
+📌 Contador de hashtags en ventanas deslizantes, alimentado por los posts publicados.
+   Vive en memoria (WindowedTrendingCounter): cada instancia cuenta los posts que publica.
+ */
+public interface TrendingCounter {
+    void record(String tag, long timestampMillis);
+
+    // Los "limit" hashtags más usados en la última "window" (como mucho maxWindow())
+    TrendingHashtags top(Duration window, int limit);
+
+    Duration maxWindow();
+}
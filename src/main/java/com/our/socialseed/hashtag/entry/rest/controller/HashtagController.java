@@ -0,0 +1,30 @@
+package com.our.socialseed.hashtag.entry.rest.controller;
+
+import com.our.socialseed.hashtag.application.usecase.HashtagUseCases;
+import com.our.socialseed.hashtag.entry.rest.dto.TrendingHashtagsResponseDTO;
+import com.our.socialseed.hashtag.entry.rest.mapper.HashtagRestMapper;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/hashtags")
+public class HashtagController {
+    private final HashtagUseCases hashtagUseCases;
+
+    public HashtagController(HashtagUseCases hashtagUseCases) {
+        this.hashtagUseCases = hashtagUseCases;
+    }
+
+    // TRENDING (en memoria, cuentas aproximadas con cota de error)
+    @GetMapping("/trending")
+    public ResponseEntity<TrendingHashtagsResponseDTO> getTrending(@RequestParam(defaultValue = "1h") String window,
+                                                                   @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(HashtagRestMapper.toResponse(
+                hashtagUseCases.getTrendingHashtags().execute(window, limit)));
+    }
+}
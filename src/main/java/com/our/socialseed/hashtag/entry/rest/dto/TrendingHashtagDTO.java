@@ -0,0 +1,7 @@
+package com.our.socialseed.hashtag.entry.rest.dto;
+
+public record TrendingHashtagDTO(
+        String tag,
+        long count
+) {
+}
@@ -0,0 +1,12 @@
+package com.our.socialseed.hashtag.entry.rest.dto;
+
+import java.util.List;
+
+// window en ISO-8601; cada count puede sobreestimar el real como mucho en maxOverestimate
+public record TrendingHashtagsResponseDTO(
+        String window,
+        long totalEvents,
+        long maxOverestimate,
+        List<TrendingHashtagDTO> hashtags
+) {
+}
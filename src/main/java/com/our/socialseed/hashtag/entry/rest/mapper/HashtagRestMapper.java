@@ -0,0 +1,22 @@
+package com.our.socialseed.hashtag.entry.rest.mapper;
+
+import com.our.socialseed.hashtag.domain.model.TrendingHashtags;
+import com.our.socialseed.hashtag.entry.rest.dto.TrendingHashtagDTO;
+import com.our.socialseed.hashtag.entry.rest.dto.TrendingHashtagsResponseDTO;
+
+public class HashtagRestMapper {
+    private HashtagRestMapper() {
+        // Clase de utilidad, no instanciable
+    }
+
+    public static TrendingHashtagsResponseDTO toResponse(TrendingHashtags trending) {
+        return new TrendingHashtagsResponseDTO(
+                trending.window().toString(),
+                trending.totalEvents(),
+                trending.maxOverestimate(),
+                trending.hashtags().stream()
+                        .map(hashtag -> new TrendingHashtagDTO(hashtag.tag(), hashtag.count()))
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.our.socialseed.hashtag.infrastructure.event;
+
+import com.our.socialseed.hashtag.application.usecase.HashtagUseCases;
+import com.our.socialseed.post.domain.event.PostCreatedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/*
+📌 Cuenta los hashtags de cada post publicado. Es síncrono en el hilo de la petición: cada hashtag
+   son unas pocas operaciones atómicas en memoria, sin I/O.
+ */
+@Component
+public class PostCreatedHashtagListener {
+
+    private final HashtagUseCases hashtagUseCases;
+
+    public PostCreatedHashtagListener(HashtagUseCases hashtagUseCases) {
+        this.hashtagUseCases = hashtagUseCases;
+    }
+
+    @EventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        if (!event.hashtags().isEmpty()) {
+            hashtagUseCases.recordHashtags().execute(event.hashtags(), event.createdAt());
+        }
+    }
+}
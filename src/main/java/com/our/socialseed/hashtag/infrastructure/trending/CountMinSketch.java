@@ -0,0 +1,70 @@
+package com.our.socialseed.hashtag.infrastructure.trending;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+📌 Count-Min Sketch sobre un AtomicLongArray (depth filas x width columnas, width potencia de 2).
+   add es lock-free (un getAndAdd por fila) y estimate devuelve el mínimo de las filas.
+   Garantía: estimate(x) >= real(x) y, con probabilidad >= 1 - e^-depth,
+   estimate(x) <= real(x) + (e / width) · N, siendo N el total de eventos añadidos.
+   Los índices de cada fila salen de un único hash de 64 bits (doble hashing de Kirsch-Mitzenmacher).
+ */
+final class CountMinSketch {
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    CountMinSketch(int depth, int width) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width debe ser potencia de 2: " + width);
+        }
+        this.depth = depth;
+        this.width = width;
+        this.mask = width - 1;
+        this.counters = new AtomicLongArray(depth * width);
+    }
+
+    void add(long hash, long count) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int row = 0; row < depth; row++) {
+            counters.getAndAdd(row * width + ((h1 + row * h2) & mask), count);
+        }
+    }
+
+    long estimate(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(row * width + ((h1 + row * h2) & mask)));
+        }
+        return min;
+    }
+
+    // ε de la cota de error: sobreestimación máxima = ε · N
+    static double epsilon(int width) {
+        return Math.E / width;
+    }
+
+    // δ: probabilidad de superar la cota
+    static double delta(int depth) {
+        return Math.exp(-depth);
+    }
+
+    // Hash de 64 bits del hashtag (FNV-1a + finalizador de MurmurHash3 para repartir bien ambas mitades)
+    static long hash(String tag) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < tag.length(); i++) {
+            h ^= tag.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
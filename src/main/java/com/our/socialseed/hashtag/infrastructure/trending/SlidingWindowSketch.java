@@ -0,0 +1,142 @@
+package com.our.socialseed.hashtag.infrastructure.trending;
+
+import com.our.socialseed.hashtag.domain.model.TrendingHashtag;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+📌 Ventana deslizante de buckets de tiempo (anillo de "buckets" huecos de "bucketMillis" cada uno).
+   Cada bucket tiene su Count-Min Sketch, su resumen Space-Saving y el total exacto de eventos.
+   Rotación lock-free: el bucket de una época se crea y se instala con un CAS en su hueco del anillo;
+   el hilo que pierde el CAS usa el que ganó. Un evento rezagado que llega después de reciclar
+   su hueco se descarta (nunca se suma a una época que no es la suya).
+   La consulta suma los buckets de la ventana: candidatos = unión de los Space-Saving y cuenta = suma
+   de las estimaciones del sketch en cada bucket.
+ */
+final class SlidingWindowSketch {
+    private final long bucketMillis;
+    private final int buckets;
+    private final int depth;
+    private final int width;
+    private final int heavyHitters;
+    private final AtomicReferenceArray<Bucket> ring;
+
+    SlidingWindowSketch(long bucketMillis, int buckets, int depth, int width, int heavyHitters) {
+        this.bucketMillis = bucketMillis;
+        this.buckets = buckets;
+        this.depth = depth;
+        this.width = width;
+        this.heavyHitters = heavyHitters;
+        this.ring = new AtomicReferenceArray<>(buckets);
+    }
+
+    long spanMillis() {
+        return bucketMillis * buckets;
+    }
+
+    long bucketMillis() {
+        return bucketMillis;
+    }
+
+    void record(String tag, long hash, long timestampMillis, long nowMillis) {
+        long epoch = Math.floorDiv(timestampMillis, bucketMillis);
+        if (epoch <= Math.floorDiv(nowMillis, bucketMillis) - buckets) {
+            return; // fuera de la ventana más larga
+        }
+        Bucket bucket = bucketFor(epoch);
+        if (bucket != null) {
+            bucket.sketch.add(hash, 1);
+            bucket.heavyHitters.offer(tag);
+            bucket.total.increment();
+        }
+    }
+
+    // Buckets que cubren la ventana (redondeada hacia arriba): dos ventanas con el mismo valor dan el mismo ranking
+    int bucketsFor(long windowMillis) {
+        return (int) Math.min(buckets, Math.max(1, (windowMillis + bucketMillis - 1) / bucketMillis));
+    }
+
+    Result top(long windowMillis, long nowMillis, int limit) {
+        long nowEpoch = Math.floorDiv(nowMillis, bucketMillis);
+        int count = bucketsFor(windowMillis);
+
+        List<Bucket> window = new ArrayList<>(count);
+        for (long epoch = nowEpoch - count + 1; epoch <= nowEpoch; epoch++) {
+            Bucket bucket = ring.get(slot(epoch));
+            if (bucket != null && bucket.epoch == epoch) {
+                window.add(bucket);
+            }
+        }
+
+        long total = 0;
+        Set<String> candidates = new HashSet<>();
+        for (Bucket bucket : window) {
+            total += bucket.total.sum();
+            candidates.addAll(bucket.heavyHitters.tags());
+        }
+
+        Map<String, Long> estimates = new HashMap<>(candidates.size() * 2);
+        for (String tag : candidates) {
+            long hash = CountMinSketch.hash(tag);
+            long estimate = 0;
+            for (Bucket bucket : window) {
+                estimate += bucket.sketch.estimate(hash);
+            }
+            estimates.put(tag, estimate);
+        }
+
+        List<TrendingHashtag> ranking = estimates.entrySet().stream()
+                .map(e -> new TrendingHashtag(e.getKey(), e.getValue()))
+                .sorted(Comparator.comparingLong(TrendingHashtag::count).reversed()
+                        .thenComparing(TrendingHashtag::tag))
+                .limit(limit)
+                .toList();
+        long maxOverestimate = (long) Math.ceil(CountMinSketch.epsilon(width) * total);
+        return new Result(total, maxOverestimate, ranking);
+    }
+
+    private Bucket bucketFor(long epoch) {
+        int slot = slot(epoch);
+        while (true) {
+            Bucket current = ring.get(slot);
+            if (current != null && current.epoch == epoch) {
+                return current;
+            }
+            if (current != null && current.epoch > epoch) {
+                return null; // el hueco ya es de una época posterior
+            }
+            Bucket fresh = new Bucket(epoch, depth, width, heavyHitters);
+            if (ring.compareAndSet(slot, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) buckets);
+    }
+
+    record Result(long total, long maxOverestimate, List<TrendingHashtag> ranking) {
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final CountMinSketch sketch;
+        private final SpaceSaving heavyHitters;
+        private final LongAdder total = new LongAdder();
+
+        private Bucket(long epoch, int depth, int width, int heavyHitters) {
+            this.epoch = epoch;
+            this.sketch = new CountMinSketch(depth, width);
+            this.heavyHitters = new SpaceSaving(heavyHitters);
+        }
+    }
+}
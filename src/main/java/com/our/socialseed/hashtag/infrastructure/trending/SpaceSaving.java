@@ -0,0 +1,96 @@
+package com.our.socialseed.hashtag.infrastructure.trending;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+📌 Heavy hitters con el algoritmo Space-Saving (Metwally et al.) en capacidad fija.
+   Con el resumen lleno, un hashtag nuevo reemplaza al de menor cuenta y hereda esa cuenta como error.
+   Garantía: todo hashtag con frecuencia real > N / capacity está entre los monitorizados.
+   Min-heap indexado sobre arrays (O(log capacity) por evento); el acceso se serializa con el monitor
+   del objeto: la sección crítica son unas pocas comparaciones.
+ */
+final class SpaceSaving {
+    private final String[] tags;
+    private final long[] counts;
+    private final Map<String, Integer> positions;
+    private int size;
+
+    SpaceSaving(int capacity) {
+        this.tags = new String[capacity];
+        this.counts = new long[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    synchronized void offer(String tag) {
+        Integer position = positions.get(tag);
+        if (position != null) {
+            counts[position]++;
+            siftDown(position);
+            return;
+        }
+        if (size < tags.length) {
+            tags[size] = tag;
+            counts[size] = 1;
+            positions.put(tag, size);
+            siftUp(size++);
+            return;
+        }
+        // reemplaza al mínimo (raíz del heap)
+        positions.remove(tags[0]);
+        tags[0] = tag;
+        counts[0]++;
+        positions.put(tag, 0);
+        siftDown(0);
+    }
+
+    synchronized List<String> tags() {
+        return new ArrayList<>(Arrays.asList(tags).subList(0, size));
+    }
+
+    synchronized long count(String tag) {
+        Integer position = positions.get(tag);
+        return position == null ? 0 : counts[position];
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (counts[parent] <= counts[i]) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int smallest = right < size && counts[right] < counts[left] ? right : left;
+            if (counts[i] <= counts[smallest]) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        String tag = tags[a];
+        tags[a] = tags[b];
+        tags[b] = tag;
+        long count = counts[a];
+        counts[a] = counts[b];
+        counts[b] = count;
+        positions.put(tags[a], a);
+        positions.put(tags[b], b);
+    }
+}
@@ -0,0 +1,119 @@
+package com.our.socialseed.hashtag.infrastructure.trending;
+
+import com.our.socialseed.hashtag.domain.model.TrendingHashtags;
+import com.our.socialseed.hashtag.domain.repository.TrendingCounter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+📌 Motor de hashtags en tendencia en memoria, en dos niveles de ventana deslizante:
+   - fino: buckets de hashtag.trending.fine.bucket (1m) x fine.buckets (60) -> ventanas hasta 1h
+   - grueso: buckets de coarse.bucket (1h) x coarse.buckets (24)            -> ventanas hasta 24h
+   Cada evento se suma en los dos; una consulta usa el nivel más fino que cubre la ventana, redondeada
+   hacia arriba a su tamaño de bucket (el bucket en curso está incompleto).
+
+   Error (con sketch.depth = d y sketch.width = w):
+   - cuenta >= real siempre, y cuenta <= real + (e / w) · N con probabilidad >= 1 - e^-d por hashtag,
+     donde N es el total de eventos de la ventana (se devuelve como maxOverestimate).
+     Por defecto d = 5, w = 4096: sobreestimación <= 0,07 % de N con probabilidad >= 99,3 %.
+   - Space-Saving con capacidad k por bucket: no se escapa ningún hashtag con más de N_bucket / k usos
+     en algún bucket de la ventana.
+   Memoria: d · w · 8 bytes por bucket (160 KB por defecto, ~13 MB para los 84 buckets).
+   El ranking de cada ventana se memoriza hashtag.trending.result-ttl (1s) para que las lecturas
+   concurrentes no repitan la suma de buckets. La clave es (nivel, nº de buckets), no la ventana pedida:
+   como mucho 84 entradas por muchas ventanas distintas que envíen los clientes.
+ */
+@Component
+public class WindowedTrendingCounter implements TrendingCounter {
+
+    private final List<SlidingWindowSketch> levels;
+    private final int maxLimit;
+    private final long resultTtlMillis;
+    private final Clock clock;
+    private final Map<RankingKey, CachedRanking> rankings = new ConcurrentHashMap<>();
+
+    @Autowired
+    public WindowedTrendingCounter(@Value("${hashtag.trending.fine.bucket:1m}") Duration fineBucket,
+                                   @Value("${hashtag.trending.fine.buckets:60}") int fineBuckets,
+                                   @Value("${hashtag.trending.coarse.bucket:1h}") Duration coarseBucket,
+                                   @Value("${hashtag.trending.coarse.buckets:24}") int coarseBuckets,
+                                   @Value("${hashtag.trending.sketch.depth:5}") int depth,
+                                   @Value("${hashtag.trending.sketch.width:4096}") int width,
+                                   @Value("${hashtag.trending.heavy-hitters:200}") int heavyHitters,
+                                   @Value("${hashtag.trending.max-limit:50}") int maxLimit,
+                                   @Value("${hashtag.trending.result-ttl:1s}") Duration resultTtl) {
+        this(List.of(
+                        new SlidingWindowSketch(fineBucket.toMillis(), fineBuckets, depth, width, heavyHitters),
+                        new SlidingWindowSketch(coarseBucket.toMillis(), coarseBuckets, depth, width, heavyHitters)),
+                maxLimit, resultTtl, Clock.systemUTC());
+    }
+
+    WindowedTrendingCounter(List<SlidingWindowSketch> levels, int maxLimit, Duration resultTtl, Clock clock) {
+        this.levels = levels;
+        this.maxLimit = maxLimit;
+        this.resultTtlMillis = resultTtl.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    public void record(String tag, long timestampMillis) {
+        long hash = CountMinSketch.hash(tag);
+        long now = clock.millis();
+        for (SlidingWindowSketch level : levels) {
+            level.record(tag, hash, timestampMillis, now);
+        }
+    }
+
+    @Override
+    public TrendingHashtags top(Duration window, int limit) {
+        long windowMillis = window.toMillis();
+        if (windowMillis <= 0 || windowMillis > maxWindow().toMillis()) {
+            throw new IllegalArgumentException("Ventana fuera de rango: " + window);
+        }
+        long now = clock.millis();
+
+        int levelIndex = levelFor(windowMillis);
+        SlidingWindowSketch level = levels.get(levelIndex);
+        RankingKey key = new RankingKey(levelIndex, level.bucketsFor(windowMillis));
+        CachedRanking cached = rankings.get(key);
+        if (cached == null || now - cached.computedAt() >= resultTtlMillis) {
+            cached = new CachedRanking(now, level.top(windowMillis, now, maxLimit));
+            rankings.put(key, cached);
+        }
+
+        SlidingWindowSketch.Result result = cached.result();
+        return new TrendingHashtags(window, result.total(), result.maxOverestimate(),
+                result.ranking().subList(0, Math.min(Math.min(limit, maxLimit), result.ranking().size())));
+    }
+
+    @Override
+    public Duration maxWindow() {
+        return Duration.ofMillis(levels.get(levels.size() - 1).spanMillis());
+    }
+
+    int memoizedRankings() {
+        return rankings.size();
+    }
+
+    private int levelFor(long windowMillis) {
+        for (int i = 0; i < levels.size(); i++) {
+            if (windowMillis <= levels.get(i).spanMillis()) {
+                return i;
+            }
+        }
+        return levels.size() - 1;
+    }
+
+    private record RankingKey(int level, int buckets) {
+    }
+
+    private record CachedRanking(long computedAt, SlidingWindowSketch.Result result) {
+    }
+}
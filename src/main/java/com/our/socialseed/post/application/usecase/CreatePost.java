@@ -0,0 +1,38 @@
+package com.our.socialseed.post.application.usecase;
+
+import com.our.socialseed.post.domain.event.PostCreatedEvent;
+import com.our.socialseed.post.domain.model.Post;
+import com.our.socialseed.post.domain.repository.PostRepository;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class CreatePost {
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CreatePost(PostRepository postRepository, UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // Optional.empty() si el usuario autenticado no tiene nodo en el grafo
+    public Optional<Post> execute(String username, String content, String imageUrl) {
+        return userRepository.findIdByUsername(username)
+                .flatMap(authorId -> postRepository.create(
+                        new Post(UUID.randomUUID(), authorId, content, imageUrl, Instant.now())))
+                .map(post -> {
+                    // el post ya está confirmado en Neo4j: el reparto a los timelines es asíncrono
+                    eventPublisher.publishEvent(new PostCreatedEvent(
+                            post.id(), post.authorId(), post.createdAt(), post.hashtags()));
+                    return post;
+                });
+    }
+}
@@ -0,0 +1,21 @@
+package com.our.socialseed.post.application.usecase;
+
+import com.our.socialseed.post.domain.model.Post;
+import com.our.socialseed.post.domain.repository.PostRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class GetPostById {
+    private final PostRepository postRepository;
+
+    public GetPostById(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    public Optional<Post> execute(UUID id) {
+        return postRepository.findById(id);
+    }
+}
@@ -0,0 +1,24 @@
+package com.our.socialseed.post.application.usecase;
+
+import com.our.socialseed.post.domain.model.PostLikes;
+import com.our.socialseed.post.domain.repository.LikeCounter;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class GetPostLikes {
+    private final LikeCounter likeCounter;
+
+    public GetPostLikes(LikeCounter likeCounter) {
+        this.likeCounter = likeCounter;
+    }
+
+    // Contador persistido + deltas aún sin volcar; Optional.empty() si el post no existe
+    public Optional<PostLikes> execute(UUID postId) {
+        return Optional.ofNullable(likeCounter.counts(List.of(postId)).get(postId))
+                .map(count -> new PostLikes(postId, false, count));
+    }
+}
@@ -0,0 +1,35 @@
+package com.our.socialseed.post.application.usecase;
+
+import com.our.socialseed.post.domain.model.PostLikes;
+import com.our.socialseed.post.domain.repository.LikeCounter;
+import com.our.socialseed.post.domain.repository.PostLikeRepository;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class LikePost {
+    private final PostLikeRepository postLikeRepository;
+    private final UserRepository userRepository;
+    private final LikeCounter likeCounter;
+
+    public LikePost(PostLikeRepository postLikeRepository, UserRepository userRepository, LikeCounter likeCounter) {
+        this.postLikeRepository = postLikeRepository;
+        this.userRepository = userRepository;
+        this.likeCounter = likeCounter;
+    }
+
+    // Optional.empty() si el post o el usuario autenticado no existen; repetir el like no cuenta dos veces
+    public Optional<PostLikes> execute(UUID postId, String username) {
+        return userRepository.findIdByUsername(username)
+                .flatMap(userId -> postLikeRepository.like(postId, userId))
+                .map(created -> {
+                    if (created) {
+                        likeCounter.add(postId, 1);
+                    }
+                    return new PostLikes(postId, created, likeCounter.count(postId));
+                });
+    }
+}
@@ -0,0 +1,49 @@
+package com.our.socialseed.post.application.usecase;
+
+import com.our.socialseed.post.domain.repository.LikeCounter;
+import com.our.socialseed.post.domain.repository.PostLikeRepository;
+import com.our.socialseed.post.domain.repository.PostRepository;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PostUseCases {
+    private final CreatePost createPost;
+    private final GetPostById getPostById;
+    private final LikePost likePost;
+    private final UnlikePost unlikePost;
+    private final GetPostLikes getPostLikes;
+
+    public PostUseCases(PostRepository postRepository,
+                        PostLikeRepository postLikeRepository,
+                        UserRepository userRepository,
+                        LikeCounter likeCounter,
+                        ApplicationEventPublisher eventPublisher) {
+        this.createPost = new CreatePost(postRepository, userRepository, eventPublisher);
+        this.getPostById = new GetPostById(postRepository);
+        this.likePost = new LikePost(postLikeRepository, userRepository, likeCounter);
+        this.unlikePost = new UnlikePost(postLikeRepository, userRepository, likeCounter);
+        this.getPostLikes = new GetPostLikes(likeCounter);
+    }
+
+    public CreatePost createPost() {
+        return createPost;
+    }
+
+    public GetPostById getPostById() {
+        return getPostById;
+    }
+
+    public LikePost likePost() {
+        return likePost;
+    }
+
+    public UnlikePost unlikePost() {
+        return unlikePost;
+    }
+
+    public GetPostLikes getPostLikes() {
+        return getPostLikes;
+    }
+}
@@ -0,0 +1,35 @@
+package com.our.socialseed.post.application.usecase;
+
+import com.our.socialseed.post.domain.model.PostLikes;
+import com.our.socialseed.post.domain.repository.LikeCounter;
+import com.our.socialseed.post.domain.repository.PostLikeRepository;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class UnlikePost {
+    private final PostLikeRepository postLikeRepository;
+    private final UserRepository userRepository;
+    private final LikeCounter likeCounter;
+
+    public UnlikePost(PostLikeRepository postLikeRepository, UserRepository userRepository, LikeCounter likeCounter) {
+        this.postLikeRepository = postLikeRepository;
+        this.userRepository = userRepository;
+        this.likeCounter = likeCounter;
+    }
+
+    // Optional.empty() si el post o el usuario autenticado no existen; quitar un like inexistente no descuenta
+    public Optional<PostLikes> execute(UUID postId, String username) {
+        return userRepository.findIdByUsername(username)
+                .flatMap(userId -> postLikeRepository.unlike(postId, userId))
+                .map(deleted -> {
+                    if (deleted) {
+                        likeCounter.add(postId, -1);
+                    }
+                    return new PostLikes(postId, deleted, likeCounter.count(postId));
+                });
+    }
+}
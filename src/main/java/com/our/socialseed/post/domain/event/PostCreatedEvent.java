@@ -0,0 +1,18 @@
+package com.our.socialseed.post.domain.event;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/*
+📌 Se publica cuando un post queda guardado en el grafo.
+   Lo consumen el módulo feed, para repartir el post en los timelines de los seguidores (fan-out on write),
+   y el módulo hashtag, para contar los hashtags en tendencia.
+ */
+public record PostCreatedEvent(
+        UUID postId,
+        UUID authorId,
+        Instant createdAt,
+        List<String> hashtags
+) {
+}
@@ -0,0 +1,34 @@
+package com.our.socialseed.post.domain.model;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public record Post(
+        UUID id,
+        UUID authorId,
+        String content,
+        String imageUrl,
+        Instant createdAt
+) {
+    private static final Pattern HASHTAG = Pattern.compile("(?<![\\p{L}\\p{N}_#])#([\\p{L}\\p{N}_]{1,100})");
+    private static final int MAX_HASHTAGS = 30;
+
+    // Hashtags del contenido en minúsculas, sin repetir y en orden de aparición (#Java y #java son el mismo)
+    public List<String> hashtags() {
+        if (content == null || content.indexOf('#') < 0) {
+            return List.of();
+        }
+        Set<String> tags = new LinkedHashSet<>();
+        Matcher matcher = HASHTAG.matcher(content);
+        while (matcher.find() && tags.size() < MAX_HASHTAGS) {
+            tags.add(matcher.group(1).toLowerCase(Locale.ROOT));
+        }
+        return List.copyOf(tags);
+    }
+}
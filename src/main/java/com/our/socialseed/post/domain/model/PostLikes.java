@@ -0,0 +1,11 @@
+package com.our.socialseed.post.domain.model;
+
+import java.util.UUID;
+
+// Resultado de dar o quitar un like: changed = false si ya estaba en ese estado (operación idempotente)
+public record PostLikes(
+        UUID postId,
+        boolean changed,
+        long likeCount
+) {
+}
@@ -0,0 +1,17 @@
+package com.our.socialseed.post.domain.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/*
+📌 Contador de likes por post: acumula los deltas en memoria y los vuelca a Neo4j en segundo plano.
+   count/counts devuelven persistido + pendiente, así que un like se ve en cuanto se confirma la relación.
+ */
+public interface LikeCounter {
+    void add(UUID postId, long delta);
+
+    long count(UUID postId);
+
+    Map<UUID, Long> counts(Collection<UUID> postIds);
+}
@@ -0,0 +1,24 @@
+package com.our.socialseed.post.domain.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+📌 Relación (u:User)-[:LIKE]->(p:Post) y contador persistido p.likeCount.
+   like/unlike solo tocan la relación; el contador lo actualiza LikeCounter por lotes (applyLikeDeltas).
+ */
+public interface PostLikeRepository {
+    // true si se creó la relación, false si ya existía; vacío si el post o el usuario no existen
+    Optional<Boolean> like(UUID postId, UUID userId);
+
+    // true si se borró la relación, false si no existía; vacío si el post o el usuario no existen
+    Optional<Boolean> unlike(UUID postId, UUID userId);
+
+    // Suma los deltas a p.likeCount en un único UNWIND
+    void applyLikeDeltas(Map<UUID, Long> deltas);
+
+    // likeCount persistido de cada post existente (los inexistentes no aparecen)
+    Map<UUID, Long> findLikeCounts(Collection<UUID> postIds);
+}
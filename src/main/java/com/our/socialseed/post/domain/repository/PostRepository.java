@@ -0,0 +1,20 @@
+package com.our.socialseed.post.domain.repository;
+
+import com.our.socialseed.post.domain.model.Post;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PostRepository {
+    // Optional.empty() si el autor no existe
+    Optional<Post> create(Post post);
+
+    Optional<Post> findById(UUID id);
+
+    // Un solo round trip; los ids inexistentes se omiten y el orden del resultado no está garantizado
+    List<Post> findByIds(List<UUID> ids);
+
+    // Los "limit" posts más recientes del autor, más recientes primero
+    List<Post> findRecentByAuthor(UUID authorId, int limit);
+}
@@ -0,0 +1,65 @@
+package com.our.socialseed.post.entry.rest.controller;
+
+import com.our.socialseed.post.application.usecase.PostUseCases;
+import com.our.socialseed.post.entry.rest.dto.PostCreateRequestDTO;
+import com.our.socialseed.post.entry.rest.dto.PostLikesResponseDTO;
+import com.our.socialseed.post.entry.rest.dto.PostResponseDTO;
+import com.our.socialseed.post.entry.rest.mapper.PostRestMapper;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.UUID;
+
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/posts")
+public class PostController {
+    private final PostUseCases postUseCases;
+
+    public PostController(PostUseCases postUseCases) {
+        this.postUseCases = postUseCases;
+    }
+
+    // CREATE (el autor es el usuario autenticado)
+    @PostMapping
+    public ResponseEntity<PostResponseDTO> createPost(Principal principal, @Valid @RequestBody PostCreateRequestDTO dto) {
+        return postUseCases.createPost().execute(principal.getName(), dto.content(), dto.imageUrl())
+                .map(post -> ResponseEntity.ok(PostRestMapper.toResponse(post)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // GET BY ID
+    @GetMapping("/{id}")
+    public ResponseEntity<PostResponseDTO> getPostById(@PathVariable UUID id) {
+        return postUseCases.getPostById().execute(id)
+                .map(post -> ResponseEntity.ok(PostRestMapper.toResponse(post)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // LIKE (idempotente: changed = false si ya le había dado like)
+    @PutMapping("/{id}/like")
+    public ResponseEntity<PostLikesResponseDTO> likePost(Principal principal, @PathVariable UUID id) {
+        return postUseCases.likePost().execute(id, principal.getName())
+                .map(likes -> ResponseEntity.ok(PostRestMapper.toResponse(likes)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // UNLIKE
+    @DeleteMapping("/{id}/like")
+    public ResponseEntity<PostLikesResponseDTO> unlikePost(Principal principal, @PathVariable UUID id) {
+        return postUseCases.unlikePost().execute(id, principal.getName())
+                .map(likes -> ResponseEntity.ok(PostRestMapper.toResponse(likes)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // LIKES COUNT
+    @GetMapping("/{id}/likes")
+    public ResponseEntity<PostLikesResponseDTO> getPostLikes(@PathVariable UUID id) {
+        return postUseCases.getPostLikes().execute(id)
+                .map(likes -> ResponseEntity.ok(PostRestMapper.toResponse(likes)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,14 @@
+package com.our.socialseed.post.entry.rest.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record PostCreateRequestDTO(
+        @NotBlank(message = "{post.content.required}")
+        @Size(max = 5000)
+        String content,
+
+        @Size(max = 2048)
+        String imageUrl
+) {
+}
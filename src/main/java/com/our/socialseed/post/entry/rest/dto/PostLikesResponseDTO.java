@@ -0,0 +1,10 @@
+package com.our.socialseed.post.entry.rest.dto;
+
+import java.util.UUID;
+
+public record PostLikesResponseDTO(
+        UUID postId,
+        boolean changed,
+        long likeCount
+) {
+}
@@ -0,0 +1,13 @@
+package com.our.socialseed.post.entry.rest.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record PostResponseDTO(
+        UUID id,
+        UUID authorId,
+        String content,
+        String imageUrl,
+        Instant createdAt
+) {
+}
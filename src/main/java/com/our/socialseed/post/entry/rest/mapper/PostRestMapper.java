@@ -0,0 +1,26 @@
+package com.our.socialseed.post.entry.rest.mapper;
+
+import com.our.socialseed.post.domain.model.Post;
+import com.our.socialseed.post.domain.model.PostLikes;
+import com.our.socialseed.post.entry.rest.dto.PostLikesResponseDTO;
+import com.our.socialseed.post.entry.rest.dto.PostResponseDTO;
+
+public class PostRestMapper {
+    private PostRestMapper() {
+        // Clase de utilidad, no instanciable
+    }
+
+    public static PostResponseDTO toResponse(Post post) {
+        return new PostResponseDTO(
+                post.id(),
+                post.authorId(),
+                post.content(),
+                post.imageUrl(),
+                post.createdAt()
+        );
+    }
+
+    public static PostLikesResponseDTO toResponse(PostLikes likes) {
+        return new PostLikesResponseDTO(likes.postId(), likes.changed(), likes.likeCount());
+    }
+}
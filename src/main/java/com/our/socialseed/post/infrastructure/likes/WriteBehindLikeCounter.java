@@ -0,0 +1,203 @@
+package com.our.socialseed.post.infrastructure.likes;
+
+import com.our.socialseed.post.domain.repository.LikeCounter;
+import com.our.socialseed.post.domain.repository.PostLikeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+📌 Contador de likes write-behind: en lugar de hacer SET p.likeCount = p.likeCount + 1 en cada petición
+   (todas las escrituras de un post viral se serializan en el lock de su nodo), los deltas se acumulan
+   en LongAdder por post y se vuelcan cada post.likes.flush-interval en un único UNWIND.
+
+   Dos generaciones de mapas: los escritores suman en la activa y el volcado cambia de generación,
+   espera a que no quede ningún escritor en la anterior (contador de escritores en vuelo por generación)
+   y la lee ya quieta, así que ningún delta se pierde ni se cuenta dos veces. Si el volcado falla,
+   la generación no se vacía y vuelve a ser la activa: sus deltas salen en el siguiente volcado.
+
+   Lecturas: persistido + pendiente de las dos generaciones. flushSeq es impar mientras un volcado está
+   en curso (entre el commit en Neo4j y vaciar la generación); si cambia durante la lectura se repite,
+   de modo que nunca se ve un delta dos veces ni ninguna vez y el contador no retrocede por el volcado.
+   Los deltas pendientes viven en esta instancia: con varias instancias cada una vuelca los suyos.
+   Métricas: post.likes.pending (posts con deltas), post.likes.flushed y post.likes.flush.
+ */
+@Component
+public class WriteBehindLikeCounter implements LikeCounter, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindLikeCounter.class);
+
+    private static final int MAX_READ_ATTEMPTS = 50;
+
+    private final PostLikeRepository postLikeRepository;
+    private final int batchSize;
+    private final AtomicReferenceArray<ConcurrentHashMap<UUID, LongAdder>> generations = new AtomicReferenceArray<>(2);
+    private final LongAdder[] writers = {new LongAdder(), new LongAdder()};
+    private final AtomicLong flushSeq = new AtomicLong();
+    private volatile int active;
+
+    private Counter flushedDeltas;
+    private Timer flushTimer;
+
+    public WriteBehindLikeCounter(PostLikeRepository postLikeRepository,
+                                  @Value("${post.likes.flush-batch-size:5000}") int batchSize) {
+        this.postLikeRepository = postLikeRepository;
+        this.batchSize = Math.max(1, batchSize);
+        generations.set(0, new ConcurrentHashMap<>());
+        generations.set(1, new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public void add(UUID postId, long delta) {
+        while (true) {
+            int generation = active;
+            writers[generation].increment();
+            try {
+                // si la generación cambió entre leerla y registrarse, el volcado ya no espera por este escritor
+                if (active == generation) {
+                    generations.get(generation).computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+                    return;
+                }
+            } finally {
+                writers[generation].decrement();
+            }
+        }
+    }
+
+    @Override
+    public long count(UUID postId) {
+        return counts(List.of(postId)).getOrDefault(postId, 0L);
+    }
+
+    @Override
+    public Map<UUID, Long> counts(Collection<UUID> postIds) {
+        Map<UUID, Long> result = null;
+        for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+            long seq = flushSeq.get();
+            if ((seq & 1) == 1) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200)); // volcado en curso
+                continue;
+            }
+            Map<UUID, Long> pending = pending(postIds);
+            result = merge(postLikeRepository.findLikeCounts(postIds), pending);
+            if (flushSeq.get() == seq) {
+                return result;
+            }
+        }
+        // volcados continuos (no debería ocurrir con intervalos de cientos de ms): mejor aproximación disponible
+        return result != null ? result : merge(postLikeRepository.findLikeCounts(postIds), pending(postIds));
+    }
+
+    @Scheduled(fixedDelayString = "${post.likes.flush-interval:250ms}")
+    public synchronized void flush() {
+        int drained = active;
+        active = 1 - drained;
+        while (writers[drained].sum() != 0) {
+            Thread.onSpinWait();
+        }
+
+        ConcurrentHashMap<UUID, LongAdder> generation = generations.get(drained);
+        Map<UUID, Long> deltas = new HashMap<>();
+        generation.forEach((postId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                deltas.put(postId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            generations.set(drained, new ConcurrentHashMap<>());
+            return;
+        }
+
+        long start = System.nanoTime();
+        flushSeq.incrementAndGet();
+        try {
+            List<UUID> ids = new ArrayList<>(deltas.keySet());
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                Map<UUID, Long> batch = new HashMap<>();
+                for (UUID postId : ids.subList(from, Math.min(ids.size(), from + batchSize))) {
+                    batch.put(postId, deltas.get(postId));
+                }
+                postLikeRepository.applyLikeDeltas(batch);
+                // lote confirmado: se descuenta de la generación para no volcarlo otra vez si falla uno posterior
+                batch.forEach((postId, delta) -> generation.get(postId).add(-delta));
+            }
+            generations.set(drained, new ConcurrentHashMap<>());
+            if (flushedDeltas != null) {
+                flushedDeltas.increment(deltas.size());
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        } catch (Exception e) {
+            log.warn("No se pudieron volcar los likes de {} posts; se reintenta en el siguiente ciclo", deltas.size(), e);
+        } finally {
+            flushSeq.incrementAndGet();
+        }
+    }
+
+    // Vuelca lo pendiente al parar (dos veces: la segunda recoge lo que quedara en la otra generación)
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        flush();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("post.likes.pending", this,
+                        counter -> counter.generations.get(0).size() + counter.generations.get(1).size())
+                .description("Posts con deltas de likes pendientes de volcar")
+                .register(registry);
+        flushedDeltas = Counter.builder("post.likes.flushed")
+                .description("Deltas por post volcados a Neo4j")
+                .register(registry);
+        flushTimer = Timer.builder("post.likes.flush")
+                .description("Duración de cada volcado de likes")
+                .register(registry);
+    }
+
+    private Map<UUID, Long> pending(Collection<UUID> postIds) {
+        Map<UUID, Long> pending = new HashMap<>();
+        for (UUID postId : postIds) {
+            long delta = 0;
+            for (int g = 0; g < 2; g++) {
+                LongAdder adder = generations.get(g).get(postId);
+                if (adder != null) {
+                    delta += adder.sum();
+                }
+            }
+            pending.put(postId, delta);
+        }
+        return pending;
+    }
+
+    private static Map<UUID, Long> merge(Map<UUID, Long> persisted, Map<UUID, Long> pending) {
+        Map<UUID, Long> counts = new HashMap<>(persisted);
+        pending.forEach((postId, delta) -> {
+            if (delta != 0 || counts.containsKey(postId)) {
+                counts.merge(postId, delta, Long::sum);
+            }
+        });
+        return counts;
+    }
+}
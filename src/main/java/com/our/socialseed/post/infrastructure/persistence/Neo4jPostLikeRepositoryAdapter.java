@@ -0,0 +1,111 @@
+package com.our.socialseed.post.infrastructure.persistence;
+
+import com.our.socialseed.post.domain.repository.PostLikeRepository;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+📌 Likes en Neo4j: (u:User)-[:LIKE {createdAt}]->(p:Post) y el contador agregado p.likeCount.
+   like/unlike no tocan p.likeCount (evita el lock del nodo del post en cada petición):
+   el contador se actualiza por lotes desde WriteBehindLikeCounter con applyLikeDeltas.
+ */
+@Component
+public class Neo4jPostLikeRepositoryAdapter implements PostLikeRepository {
+
+    // l.created solo lo fija la rama ON CREATE: distingue "creada ahora" de "ya existía" dentro del mismo MERGE
+    private static final String LIKE_QUERY = """
+            MATCH (p:Post {id: $postId})
+            MATCH (u:User {id: $userId})
+            MERGE (u)-[l:LIKE]->(p)
+            ON CREATE SET l.createdAt = datetime(), l.created = true
+            WITH l, coalesce(l.created, false) AS created
+            REMOVE l.created
+            RETURN created
+            """;
+
+    private static final String UNLIKE_QUERY = """
+            MATCH (p:Post {id: $postId})
+            MATCH (u:User {id: $userId})
+            OPTIONAL MATCH (u)-[l:LIKE]->(p)
+            WITH l, l IS NOT NULL AS deleted
+            DELETE l
+            RETURN deleted
+            """;
+
+    private static final String APPLY_DELTAS_QUERY = """
+            UNWIND $deltas AS d
+            MATCH (p:Post {id: d.postId})
+            SET p.likeCount = coalesce(p.likeCount, 0) + d.delta
+            """;
+
+    private static final String FIND_COUNTS_QUERY = """
+            UNWIND $ids AS postId
+            MATCH (p:Post {id: postId})
+            RETURN p.id AS id, coalesce(p.likeCount, 0) AS likeCount
+            """;
+
+    private final Neo4jClient neo4jClient;
+
+    public Neo4jPostLikeRepositoryAdapter(Neo4jClient neo4jClient) {
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public Optional<Boolean> like(UUID postId, UUID userId) {
+        return neo4jClient.query(LIKE_QUERY)
+                .bind(postId.toString()).to("postId")
+                .bind(userId.toString()).to("userId")
+                .fetchAs(Boolean.class)
+                .mappedBy((typeSystem, record) -> record.get("created").asBoolean())
+                .one();
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public Optional<Boolean> unlike(UUID postId, UUID userId) {
+        return neo4jClient.query(UNLIKE_QUERY)
+                .bind(postId.toString()).to("postId")
+                .bind(userId.toString()).to("userId")
+                .fetchAs(Boolean.class)
+                .mappedBy((typeSystem, record) -> record.get("deleted").asBoolean())
+                .one();
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public void applyLikeDeltas(Map<UUID, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> rows = deltas.entrySet().stream()
+                .map(entry -> Map.<String, Object>of("postId", entry.getKey().toString(), "delta", entry.getValue()))
+                .toList();
+        neo4jClient.query(APPLY_DELTAS_QUERY)
+                .bind(rows).to("deltas")
+                .run();
+    }
+
+    @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
+    public Map<UUID, Long> findLikeCounts(Collection<UUID> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Long> counts = new HashMap<>();
+        neo4jClient.query(FIND_COUNTS_QUERY)
+                .bind(postIds.stream().map(UUID::toString).toList()).to("ids")
+                .fetch()
+                .all()
+                .forEach(row -> counts.put(UUID.fromString((String) row.get("id")), ((Number) row.get("likeCount")).longValue()));
+        return counts;
+    }
+}
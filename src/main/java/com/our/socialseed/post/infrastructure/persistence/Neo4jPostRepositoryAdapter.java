@@ -0,0 +1,117 @@
+package com.our.socialseed.post.infrastructure.persistence;
+
+import com.our.socialseed.post.domain.model.Post;
+import com.our.socialseed.post.domain.repository.PostRepository;
+import org.neo4j.driver.Record;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+📌 Posts en Neo4j: (p:Post)-[:POSTED_BY]->(u:User).
+   createdAt se guarda como datetime y se lee en epoch millis, que es la clave de orden de los timelines.
+ */
+@Component
+public class Neo4jPostRepositoryAdapter implements PostRepository {
+
+    private static final String RETURN_POST = """
+            RETURN p.id AS id, u.id AS authorId, p.content AS content, p.imageUrl AS imageUrl,
+                   p.createdAt.epochMillis AS createdAt
+            """;
+
+    private static final String CREATE_QUERY = """
+            MATCH (u:User {id: $authorId})
+            CREATE (p:Post {id: $id, content: $content, imageUrl: $imageUrl,
+                            createdAt: datetime({epochMillis: $createdAt}), isActive: true})
+                   -[:POSTED_BY {postDate: datetime({epochMillis: $createdAt})}]->(u)
+            """ + RETURN_POST;
+
+    private static final String FIND_BY_ID_QUERY = """
+            MATCH (p:Post {id: $id})-[:POSTED_BY]->(u:User)
+            """ + RETURN_POST;
+
+    private static final String FIND_BY_IDS_QUERY = """
+            UNWIND $ids AS postId
+            MATCH (p:Post {id: postId})-[:POSTED_BY]->(u:User)
+            """ + RETURN_POST;
+
+    private static final String FIND_RECENT_BY_AUTHOR_QUERY = """
+            MATCH (u:User {id: $authorId})<-[:POSTED_BY]-(p:Post)
+            """ + RETURN_POST + """
+            ORDER BY createdAt DESC, id DESC
+            LIMIT $limit
+            """;
+
+    private final Neo4jClient neo4jClient;
+
+    public Neo4jPostRepositoryAdapter(Neo4jClient neo4jClient) {
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public Optional<Post> create(Post post) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", post.id().toString());
+        params.put("authorId", post.authorId().toString());
+        params.put("content", post.content());
+        params.put("imageUrl", post.imageUrl());
+        params.put("createdAt", post.createdAt().toEpochMilli());
+        return neo4jClient.query(CREATE_QUERY)
+                .bindAll(params)
+                .fetchAs(Post.class)
+                .mappedBy((typeSystem, record) -> toDomain(record))
+                .one();
+    }
+
+    @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
+    public Optional<Post> findById(UUID id) {
+        return neo4jClient.query(FIND_BY_ID_QUERY)
+                .bind(id.toString()).to("id")
+                .fetchAs(Post.class)
+                .mappedBy((typeSystem, record) -> toDomain(record))
+                .one();
+    }
+
+    @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
+    public List<Post> findByIds(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return List.copyOf(neo4jClient.query(FIND_BY_IDS_QUERY)
+                .bind(ids.stream().map(UUID::toString).toList()).to("ids")
+                .fetchAs(Post.class)
+                .mappedBy((typeSystem, record) -> toDomain(record))
+                .all());
+    }
+
+    @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
+    public List<Post> findRecentByAuthor(UUID authorId, int limit) {
+        return List.copyOf(neo4jClient.query(FIND_RECENT_BY_AUTHOR_QUERY)
+                .bind(authorId.toString()).to("authorId")
+                .bind(limit).to("limit")
+                .fetchAs(Post.class)
+                .mappedBy((typeSystem, record) -> toDomain(record))
+                .all());
+    }
+
+    private static Post toDomain(Record record) {
+        return new Post(
+                UUID.fromString(record.get("id").asString()),
+                UUID.fromString(record.get("authorId").asString()),
+                record.get("content").asString(null),
+                record.get("imageUrl").asString(null),
+                Instant.ofEpochMilli(record.get("createdAt").asLong())
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.our.socialseed.relationship.application.usecase;
+
+import com.our.socialseed.relationship.domain.event.FriendshipChangedEvent;
+import com.our.socialseed.relationship.domain.model.RelationshipUpdate;
+import com.our.socialseed.relationship.domain.repository.RelationshipRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class AcceptFriendRequest {
+    private final RelationshipRepository relationshipRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public AcceptFriendRequest(RelationshipRepository relationshipRepository, ApplicationEventPublisher eventPublisher) {
+        this.relationshipRepository = relationshipRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public Optional<RelationshipUpdate> execute(UUID userId, UUID requesterId) {
+        Optional<RelationshipUpdate> update = relationshipRepository.acceptFriendRequest(userId, requesterId);
+        update.filter(RelationshipUpdate::changed)
+                .ifPresent(changed -> eventPublisher.publishEvent(new FriendshipChangedEvent(userId, requesterId, true)));
+        return update;
+    }
+}
@@ -0,0 +1,47 @@
+package com.our.socialseed.relationship.application.usecase;
+
+import com.our.socialseed.relationship.config.exception.SelfRelationshipException;
+import com.our.socialseed.relationship.domain.model.MutualFriends;
+import com.our.socialseed.relationship.domain.repository.MutualFriendsIndex;
+import com.our.socialseed.relationship.domain.repository.RelationshipRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class GetMutualFriends {
+    private final MutualFriendsIndex mutualFriendsIndex;
+    private final RelationshipRepository relationshipRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public GetMutualFriends(MutualFriendsIndex mutualFriendsIndex,
+                            RelationshipRepository relationshipRepository,
+                            @Value("${relationship.mutual-friends.default-size:20}") int defaultPageSize,
+                            @Value("${relationship.mutual-friends.max-size:100}") int maxPageSize) {
+        this.mutualFriendsIndex = mutualFriendsIndex;
+        this.relationshipRepository = relationshipRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    // Índice en memoria si puede responder; si no (arranque, usuario sin indexar) la intersección se hace en Neo4j.
+    // Optional.empty() si alguno de los usuarios no existe
+    public Optional<MutualFriends> execute(UUID userId, UUID otherId, Integer size) {
+        if (userId.equals(otherId)) {
+            throw new SelfRelationshipException();
+        }
+        int limit = resolvePageSize(size);
+        return mutualFriendsIndex.find(userId, otherId, limit)
+                .or(() -> relationshipRepository.findMutualFriends(userId, otherId, limit));
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        return Math.min(size, maxPageSize);
+    }
+}
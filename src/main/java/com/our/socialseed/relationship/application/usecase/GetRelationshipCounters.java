@@ -0,0 +1,21 @@
+package com.our.socialseed.relationship.application.usecase;
+
+import com.our.socialseed.relationship.domain.model.RelationshipCounters;
+import com.our.socialseed.relationship.domain.repository.RelationshipRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class GetRelationshipCounters {
+    private final RelationshipRepository relationshipRepository;
+
+    public GetRelationshipCounters(RelationshipRepository relationshipRepository) {
+        this.relationshipRepository = relationshipRepository;
+    }
+
+    public Optional<RelationshipCounters> execute(UUID userId) {
+        return relationshipRepository.findCounters(userId);
+    }
+}
@@ -0,0 +1,32 @@
+package com.our.socialseed.relationship.application.usecase;
+
+import com.our.socialseed.relationship.domain.model.Separation;
+import com.our.socialseed.relationship.domain.repository.SeparationFinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Service
+public class GetSeparation {
+    private final SeparationFinder separationFinder;
+    private final int maxDepth;
+    private final Duration timeBudget;
+
+    public GetSeparation(SeparationFinder separationFinder,
+                         @Value("${relationship.separation.max-depth:3}") int maxDepth,
+                         @Value("${relationship.separation.time-budget:20ms}") Duration timeBudget) {
+        this.separationFinder = separationFinder;
+        this.maxDepth = maxDepth;
+        this.timeBudget = timeBudget;
+    }
+
+    // Badge "1º/2º/3º grado" del perfil: nunca tarda más que el presupuesto (UNKNOWN si no le da tiempo)
+    public Separation execute(UUID userId, UUID otherId) {
+        if (userId.equals(otherId)) {
+            return Separation.connected(userId, otherId, 0);
+        }
+        return separationFinder.find(userId, otherId, maxDepth, timeBudget);
+    }
+}
@@ -0,0 +1,19 @@
+package com.our.socialseed.relationship.application.usecase;
+
+import com.our.socialseed.relationship.domain.repository.RelationshipRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+public class RejectFriendRequest {
+    private final RelationshipRepository relationshipRepository;
+
+    public RejectFriendRequest(RelationshipRepository relationshipRepository) {
+        this.relationshipRepository = relationshipRepository;
+    }
+
+    public boolean execute(UUID userId, UUID requesterId) {
+        return relationshipRepository.rejectFriendRequest(userId, requesterId);
+    }
+}
@@ -0,0 +1,86 @@
+package com.our.socialseed.relationship.application.usecase;
+
+import com.our.socialseed.relationship.domain.repository.MutualFriendsIndex;
+import com.our.socialseed.relationship.domain.repository.RelationshipRepository;
+import com.our.socialseed.relationship.domain.repository.SeparationFinder;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Service
+public class RelationshipUseCases {
+    private final FollowUser followUser;
+    private final UnfollowUser unfollowUser;
+    private final SendFriendRequest sendFriendRequest;
+    private final AcceptFriendRequest acceptFriendRequest;
+    private final RejectFriendRequest rejectFriendRequest;
+    private final Unfriend unfriend;
+    private final GetRelationshipCounters getRelationshipCounters;
+    private final GetMutualFriends getMutualFriends;
+    private final GetSeparation getSeparation;
+    private final ResolveActingUser resolveActingUser;
+
+    public RelationshipUseCases(RelationshipRepository relationshipRepository,
+                                MutualFriendsIndex mutualFriendsIndex,
+                                SeparationFinder separationFinder,
+                                UserRepository userRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${relationship.mutual-friends.default-size:20}") int defaultPageSize,
+                                @Value("${relationship.mutual-friends.max-size:100}") int maxPageSize,
+                                @Value("${relationship.separation.max-depth:3}") int separationMaxDepth,
+                                @Value("${relationship.separation.time-budget:20ms}") Duration separationTimeBudget) {
+        this.followUser = new FollowUser(relationshipRepository);
+        this.unfollowUser = new UnfollowUser(relationshipRepository);
+        this.sendFriendRequest = new SendFriendRequest(relationshipRepository);
+        this.acceptFriendRequest = new AcceptFriendRequest(relationshipRepository, eventPublisher);
+        this.rejectFriendRequest = new RejectFriendRequest(relationshipRepository);
+        this.unfriend = new Unfriend(relationshipRepository, eventPublisher);
+        this.getRelationshipCounters = new GetRelationshipCounters(relationshipRepository);
+        this.getMutualFriends = new GetMutualFriends(mutualFriendsIndex, relationshipRepository, defaultPageSize, maxPageSize);
+        this.getSeparation = new GetSeparation(separationFinder, separationMaxDepth, separationTimeBudget);
+        this.resolveActingUser = new ResolveActingUser(userRepository);
+    }
+
+    public FollowUser followUser() {
+        return followUser;
+    }
+
+    public UnfollowUser unfollowUser() {
+        return unfollowUser;
+    }
+
+    public SendFriendRequest sendFriendRequest() {
+        return sendFriendRequest;
+    }
+
+    public AcceptFriendRequest acceptFriendRequest() {
+        return acceptFriendRequest;
+    }
+
+    public RejectFriendRequest rejectFriendRequest() {
+        return rejectFriendRequest;
+    }
+
+    public Unfriend unfriend() {
+        return unfriend;
+    }
+
+    public GetRelationshipCounters getRelationshipCounters() {
+        return getRelationshipCounters;
+    }
+
+    public GetMutualFriends getMutualFriends() {
+        return getMutualFriends;
+    }
+
+    public GetSeparation getSeparation() {
+        return getSeparation;
+    }
+
+    public ResolveActingUser resolveActingUser() {
+        return resolveActingUser;
+    }
+}
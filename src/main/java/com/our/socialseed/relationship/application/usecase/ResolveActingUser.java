@@ -0,0 +1,21 @@
+package com.our.socialseed.relationship.application.usecase;
+
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class ResolveActingUser {
+    private final UserRepository userRepository;
+
+    public ResolveActingUser(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    // Id del nodo :User del usuario autenticado: el JWT lleva el id de AuthUser (Postgres), que no es el del grafo
+    public Optional<UUID> execute(String username) {
+        return userRepository.findIdByUsername(username);
+    }
+}
@@ -0,0 +1,25 @@
+package com.our.socialseed.relationship.application.usecase;
+
+import com.our.socialseed.relationship.config.exception.SelfRelationshipException;
+import com.our.socialseed.relationship.domain.model.FriendRequestResult;
+import com.our.socialseed.relationship.domain.repository.RelationshipRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class SendFriendRequest {
+    private final RelationshipRepository relationshipRepository;
+
+    public SendFriendRequest(RelationshipRepository relationshipRepository) {
+        this.relationshipRepository = relationshipRepository;
+    }
+
+    public Optional<FriendRequestResult> execute(UUID userId, UUID targetId) {
+        if (userId.equals(targetId)) {
+            throw new SelfRelationshipException();
+        }
+        return relationshipRepository.sendFriendRequest(userId, targetId);
+    }
+}
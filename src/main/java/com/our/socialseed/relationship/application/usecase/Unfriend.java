@@ -0,0 +1,28 @@
+package com.our.socialseed.relationship.application.usecase;
+
+import com.our.socialseed.relationship.domain.event.FriendshipChangedEvent;
+import com.our.socialseed.relationship.domain.model.RelationshipUpdate;
+import com.our.socialseed.relationship.domain.repository.RelationshipRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class Unfriend {
+    private final RelationshipRepository relationshipRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Unfriend(RelationshipRepository relationshipRepository, ApplicationEventPublisher eventPublisher) {
+        this.relationshipRepository = relationshipRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public Optional<RelationshipUpdate> execute(UUID userId, UUID friendId) {
+        Optional<RelationshipUpdate> update = relationshipRepository.unfriend(userId, friendId);
+        update.filter(RelationshipUpdate::changed)
+                .ifPresent(changed -> eventPublisher.publishEvent(new FriendshipChangedEvent(userId, friendId, false)));
+        return update;
+    }
+}
@@ -0,0 +1,8 @@
+package com.our.socialseed.relationship.config.exception;
+
+// El usuario autenticado solo puede gestionar sus propias relaciones ({id} debe ser él)
+public class ForeignActorException extends RuntimeException {
+    public ForeignActorException() {
+        super("Relationships can only be managed by their own user");
+    }
+}
@@ -0,0 +1,8 @@
+package com.our.socialseed.relationship.config.exception;
+
+// Un usuario no puede seguirse ni enviarse una solicitud de amistad a sí mismo
+public class SelfRelationshipException extends RuntimeException {
+    public SelfRelationshipException() {
+        super("A user cannot relate to themselves");
+    }
+}
@@ -0,0 +1,15 @@
+package com.our.socialseed.relationship.domain.event;
+
+import java.util.UUID;
+
+/*
+📌 Se publica cuando una amistad se crea (aceptar solicitud) o se rompe (unfriend) en el grafo.
+   friends = true si ahora son amigos. Solo se publica si la operación cambió algo, ya confirmada en Neo4j.
+   Lo consume el índice de amigos en común para actualizarse sin esperar al siguiente snapshot.
+ */
+public record FriendshipChangedEvent(
+        UUID userId,
+        UUID friendId,
+        boolean friends
+) {
+}
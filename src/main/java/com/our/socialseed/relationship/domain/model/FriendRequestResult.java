@@ -0,0 +1,7 @@
+package com.our.socialseed.relationship.domain.model;
+
+public enum FriendRequestResult {
+    REQUESTED,
+    ALREADY_REQUESTED,
+    ALREADY_FRIENDS
+}
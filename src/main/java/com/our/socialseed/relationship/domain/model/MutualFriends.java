@@ -0,0 +1,15 @@
+package com.our.socialseed.relationship.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+📌 Amigos en común entre dos usuarios: count es el total y friendIds la primera página (como mucho "limit" ids).
+ */
+public record MutualFriends(
+        UUID userId,
+        UUID otherId,
+        long count,
+        List<UUID> friendIds
+) {
+}
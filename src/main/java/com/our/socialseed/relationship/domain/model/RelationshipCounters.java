@@ -0,0 +1,15 @@
+package com.our.socialseed.relationship.domain.model;
+
+import java.util.UUID;
+
+/*
+📌 Contadores de grado de un usuario, mantenidos en el propio nodo (:User) por cada operación
+   que crea o borra una relación. Leerlos es O(1), sin recorrer las relaciones del nodo.
+ */
+public record RelationshipCounters(
+        UUID userId,
+        long friendCount,
+        long followersCount,
+        long followingCount
+) {
+}
@@ -0,0 +1,13 @@
+package com.our.socialseed.relationship.domain.model;
+
+/*
+📌 Resultado de una operación sobre una relación entre dos usuarios.
+   changed = false cuando la operación no tenía nada que hacer (ya seguía, ya no eran amigos...):
+   las operaciones son idempotentes y los contadores no se tocan en ese caso.
+ */
+public record RelationshipUpdate(
+        boolean changed,
+        RelationshipCounters user,
+        RelationshipCounters target
+) {
+}
@@ -0,0 +1,33 @@
+package com.our.socialseed.relationship.domain.model;
+
+import java.util.UUID;
+
+/*
+📌 Grado de separación entre dos usuarios por FRIEND_OF (1 = amigos, 2 = amigo de un amigo...).
+   degree solo viene con status = CONNECTED; NOT_WITHIN_DEPTH significa más lejos que la profundidad máxima
+   (o sin camino) y UNKNOWN que no se pudo decidir a tiempo o sin el snapshot del grafo.
+ */
+public record Separation(
+        UUID userId,
+        UUID otherId,
+        Status status,
+        Integer degree
+) {
+    public enum Status {
+        CONNECTED,
+        NOT_WITHIN_DEPTH,
+        UNKNOWN
+    }
+
+    public static Separation connected(UUID userId, UUID otherId, int degree) {
+        return new Separation(userId, otherId, Status.CONNECTED, degree);
+    }
+
+    public static Separation notWithinDepth(UUID userId, UUID otherId) {
+        return new Separation(userId, otherId, Status.NOT_WITHIN_DEPTH, null);
+    }
+
+    public static Separation unknown(UUID userId, UUID otherId) {
+        return new Separation(userId, otherId, Status.UNKNOWN, null);
+    }
+}
@@ -0,0 +1,15 @@
+package com.our.socialseed.relationship.domain.repository;
+
+import com.our.socialseed.relationship.domain.model.MutualFriends;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+📌 Índice en memoria de amistades para calcular amigos en común sin ir a Neo4j.
+   Optional.empty() cuando el índice no puede responder (aún sin cargar o algún usuario no está indexado):
+   en ese caso se consulta el grafo con RelationshipRepository.findMutualFriends.
+ */
+public interface MutualFriendsIndex {
+    Optional<MutualFriends> find(UUID userId, UUID otherId, int limit);
+}
@@ -0,0 +1,33 @@
+package com.our.socialseed.relationship.domain.repository;
+
+import com.our.socialseed.relationship.domain.model.FriendRequestResult;
+import com.our.socialseed.relationship.domain.model.MutualFriends;
+import com.our.socialseed.relationship.domain.model.RelationshipCounters;
+import com.our.socialseed.relationship.domain.model.RelationshipUpdate;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+📌 Puerto de relaciones entre usuarios.
+   Cada operación crea/borra la relación y actualiza los contadores de ambos usuarios en la misma sentencia.
+   Optional.empty() indica que alguno de los usuarios (o la solicitud de amistad) no existe.
+ */
+public interface RelationshipRepository {
+    Optional<RelationshipUpdate> follow(UUID followerId, UUID followeeId);
+
+    Optional<RelationshipUpdate> unfollow(UUID followerId, UUID followeeId);
+
+    Optional<FriendRequestResult> sendFriendRequest(UUID requesterId, UUID targetId);
+
+    Optional<RelationshipUpdate> acceptFriendRequest(UUID userId, UUID requesterId);
+
+    boolean rejectFriendRequest(UUID userId, UUID requesterId);
+
+    Optional<RelationshipUpdate> unfriend(UUID userId, UUID friendId);
+
+    Optional<RelationshipCounters> findCounters(UUID userId);
+
+    // Intersección de FRIEND_OF en Cypher (respaldo del índice en memoria); ids ordenados, como mucho "limit"
+    Optional<MutualFriends> findMutualFriends(UUID userId, UUID otherId, int limit);
+}
@@ -0,0 +1,14 @@
+package com.our.socialseed.relationship.domain.repository;
+
+import com.our.socialseed.relationship.domain.model.Separation;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/*
+📌 Distancia entre dos usuarios por FRIEND_OF hasta maxDepth saltos.
+   Nunca supera el presupuesto de tiempo: si no le da tiempo (o no puede responder) devuelve Status.UNKNOWN.
+ */
+public interface SeparationFinder {
+    Separation find(UUID userId, UUID otherId, int maxDepth, Duration budget);
+}
@@ -0,0 +1,121 @@
+package com.our.socialseed.relationship.entry.rest.controller;
+
+import com.our.socialseed.relationship.application.usecase.RelationshipUseCases;
+import com.our.socialseed.relationship.config.exception.ForeignActorException;
+import com.our.socialseed.relationship.entry.rest.dto.FriendRequestResponseDTO;
+import com.our.socialseed.relationship.entry.rest.dto.MutualFriendsResponseDTO;
+import com.our.socialseed.relationship.entry.rest.dto.RelationshipCountersResponseDTO;
+import com.our.socialseed.relationship.entry.rest.dto.RelationshipUpdateResponseDTO;
+import com.our.socialseed.relationship.entry.rest.dto.SeparationResponseDTO;
+import com.our.socialseed.relationship.entry.rest.mapper.RelationshipRestMapper;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/*
+📌 Seguir / amistad entre usuarios. {id} es el usuario que actúa: en las escrituras debe ser el nodo :User
+   del autenticado (resuelto por username), si no 403. Las lecturas (contadores, en común, separación) son libres.
+   Las operaciones son idempotentes: repetirlas devuelve 200 con changed = false.
+   404 si alguno de los usuarios (o la solicitud a aceptar) no existe.
+ */
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/users/{id}")
+public class RelationshipController {
+    private final RelationshipUseCases relationshipUseCases;
+
+    public RelationshipController(RelationshipUseCases relationshipUseCases) {
+        this.relationshipUseCases = relationshipUseCases;
+    }
+
+    // CONTADORES (O(1), leídos del nodo)
+    @GetMapping("/relationships")
+    public ResponseEntity<RelationshipCountersResponseDTO> getCounters(@PathVariable UUID id) {
+        return relationshipUseCases.getRelationshipCounters().execute(id)
+                .map(counters -> ResponseEntity.ok(RelationshipRestMapper.toResponse(counters)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // FOLLOW
+    @PutMapping("/following/{targetId}")
+    public ResponseEntity<RelationshipUpdateResponseDTO> follow(Principal principal, @PathVariable UUID id, @PathVariable UUID targetId) {
+        requireActor(principal, id);
+        return relationshipUseCases.followUser().execute(id, targetId)
+                .map(update -> ResponseEntity.ok(RelationshipRestMapper.toResponse(update)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // UNFOLLOW
+    @DeleteMapping("/following/{targetId}")
+    public ResponseEntity<RelationshipUpdateResponseDTO> unfollow(Principal principal, @PathVariable UUID id, @PathVariable UUID targetId) {
+        requireActor(principal, id);
+        return relationshipUseCases.unfollowUser().execute(id, targetId)
+                .map(update -> ResponseEntity.ok(RelationshipRestMapper.toResponse(update)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // SEND FRIEND REQUEST
+    @PostMapping("/friend-requests/{targetId}")
+    public ResponseEntity<FriendRequestResponseDTO> sendFriendRequest(Principal principal, @PathVariable UUID id, @PathVariable UUID targetId) {
+        requireActor(principal, id);
+        return relationshipUseCases.sendFriendRequest().execute(id, targetId)
+                .map(result -> ResponseEntity.ok(new FriendRequestResponseDTO(result)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // ACCEPT FRIEND REQUEST (id acepta la solicitud que le envió requesterId)
+    @PostMapping("/friend-requests/{requesterId}/accept")
+    public ResponseEntity<RelationshipUpdateResponseDTO> acceptFriendRequest(Principal principal, @PathVariable UUID id, @PathVariable UUID requesterId) {
+        requireActor(principal, id);
+        return relationshipUseCases.acceptFriendRequest().execute(id, requesterId)
+                .map(update -> ResponseEntity.ok(RelationshipRestMapper.toResponse(update)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // REJECT FRIEND REQUEST
+    @PostMapping("/friend-requests/{requesterId}/reject")
+    public ResponseEntity<Void> rejectFriendRequest(Principal principal, @PathVariable UUID id, @PathVariable UUID requesterId) {
+        requireActor(principal, id);
+        return relationshipUseCases.rejectFriendRequest().execute(id, requesterId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    // UNFRIEND
+    @DeleteMapping("/friends/{friendId}")
+    public ResponseEntity<RelationshipUpdateResponseDTO> unfriend(Principal principal, @PathVariable UUID id, @PathVariable UUID friendId) {
+        requireActor(principal, id);
+        return relationshipUseCases.unfriend().execute(id, friendId)
+                .map(update -> ResponseEntity.ok(RelationshipRestMapper.toResponse(update)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // AMIGOS EN COMÚN (total + primera página de ids; intersección de bitmaps en memoria)
+    @GetMapping("/mutual-friends/{otherId}")
+    public ResponseEntity<MutualFriendsResponseDTO> getMutualFriends(@PathVariable UUID id, @PathVariable UUID otherId,
+                                                                     @RequestParam(required = false) Integer size) {
+        return relationshipUseCases.getMutualFriends().execute(id, otherId, size)
+                .map(mutualFriends -> ResponseEntity.ok(RelationshipRestMapper.toResponse(mutualFriends)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // GRADOS DE SEPARACIÓN (badge 1º/2º/3º; status UNKNOWN si no se decide dentro del presupuesto de tiempo)
+    @GetMapping("/separation/{otherId}")
+    public ResponseEntity<SeparationResponseDTO> getSeparation(@PathVariable UUID id, @PathVariable UUID otherId) {
+        return ResponseEntity.ok(RelationshipRestMapper.toResponse(
+                relationshipUseCases.getSeparation().execute(id, otherId)));
+    }
+
+    // {id} es un id del grafo: se compara con el nodo :User del usuario autenticado, no con el uid del JWT
+    private void requireActor(Principal principal, UUID id) {
+        boolean self = relationshipUseCases.resolveActingUser().execute(principal.getName())
+                .map(id::equals)
+                .orElse(false);
+        if (!self) {
+            throw new ForeignActorException();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.our.socialseed.relationship.entry.rest.dto;
+
+import com.our.socialseed.relationship.domain.model.FriendRequestResult;
+
+public record FriendRequestResponseDTO(
+        FriendRequestResult result
+) {
+}
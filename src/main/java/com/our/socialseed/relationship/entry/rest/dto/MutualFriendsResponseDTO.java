@@ -0,0 +1,12 @@
+package com.our.socialseed.relationship.entry.rest.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record MutualFriendsResponseDTO(
+        UUID userId,
+        UUID otherId,
+        long count,
+        List<UUID> friendIds
+) {
+}
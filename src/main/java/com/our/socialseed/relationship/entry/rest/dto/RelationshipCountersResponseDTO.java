@@ -0,0 +1,11 @@
+package com.our.socialseed.relationship.entry.rest.dto;
+
+import java.util.UUID;
+
+public record RelationshipCountersResponseDTO(
+        UUID userId,
+        long friendCount,
+        long followersCount,
+        long followingCount
+) {
+}
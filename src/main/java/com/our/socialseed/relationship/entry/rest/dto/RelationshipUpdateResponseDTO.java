@@ -0,0 +1,8 @@
+package com.our.socialseed.relationship.entry.rest.dto;
+
+public record RelationshipUpdateResponseDTO(
+        boolean changed,
+        RelationshipCountersResponseDTO user,
+        RelationshipCountersResponseDTO target
+) {
+}
@@ -0,0 +1,11 @@
+package com.our.socialseed.relationship.entry.rest.dto;
+
+import java.util.UUID;
+
+public record SeparationResponseDTO(
+        UUID userId,
+        UUID otherId,
+        String status,
+        Integer degree
+) {
+}
@@ -0,0 +1,51 @@
+package com.our.socialseed.relationship.entry.rest.mapper;
+
+import com.our.socialseed.relationship.domain.model.MutualFriends;
+import com.our.socialseed.relationship.domain.model.RelationshipCounters;
+import com.our.socialseed.relationship.domain.model.RelationshipUpdate;
+import com.our.socialseed.relationship.domain.model.Separation;
+import com.our.socialseed.relationship.entry.rest.dto.MutualFriendsResponseDTO;
+import com.our.socialseed.relationship.entry.rest.dto.RelationshipCountersResponseDTO;
+import com.our.socialseed.relationship.entry.rest.dto.RelationshipUpdateResponseDTO;
+import com.our.socialseed.relationship.entry.rest.dto.SeparationResponseDTO;
+
+public class RelationshipRestMapper {
+    private RelationshipRestMapper() {
+        // Clase de utilidad, no instanciable
+    }
+
+    public static RelationshipCountersResponseDTO toResponse(RelationshipCounters counters) {
+        return new RelationshipCountersResponseDTO(
+                counters.userId(),
+                counters.friendCount(),
+                counters.followersCount(),
+                counters.followingCount()
+        );
+    }
+
+    public static RelationshipUpdateResponseDTO toResponse(RelationshipUpdate update) {
+        return new RelationshipUpdateResponseDTO(
+                update.changed(),
+                toResponse(update.user()),
+                toResponse(update.target())
+        );
+    }
+
+    public static MutualFriendsResponseDTO toResponse(MutualFriends mutualFriends) {
+        return new MutualFriendsResponseDTO(
+                mutualFriends.userId(),
+                mutualFriends.otherId(),
+                mutualFriends.count(),
+                mutualFriends.friendIds()
+        );
+    }
+
+    public static SeparationResponseDTO toResponse(Separation separation) {
+        return new SeparationResponseDTO(
+                separation.userId(),
+                separation.otherId(),
+                separation.status().name(),
+                separation.degree()
+        );
+    }
+}
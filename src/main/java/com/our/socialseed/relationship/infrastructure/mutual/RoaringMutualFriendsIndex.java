@@ -0,0 +1,255 @@
+package com.our.socialseed.relationship.infrastructure.mutual;
+
+import com.our.socialseed.relationship.domain.event.FriendshipChangedEvent;
+import com.our.socialseed.relationship.domain.model.MutualFriends;
+import com.our.socialseed.relationship.domain.repository.MutualFriendsIndex;
+import com.our.socialseed.shared.graph.snapshot.CsrGraph;
+import com.our.socialseed.shared.graph.snapshot.GraphSnapshot;
+import com.our.socialseed.shared.graph.snapshot.GraphSnapshotRefreshedEvent;
+import com.our.socialseed.user.domain.event.UserDeletedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+📌 Amigos de cada usuario como bitmap comprimido (RoaringBitmap) de ids densos del snapshot del grafo.
+   "Amigos en común" es un AND de dos bitmaps: andCardinality no reserva memoria y recorre contenedores de 2^16 ids,
+   así que usuarios con decenas de miles de amigos se cruzan en microsegundos (frente a O(deg(a)·deg(b)) en Cypher).
+   - Se reconstruye entero con cada GraphSnapshotRefreshedEvent.
+   - Entre snapshots se actualiza con FriendshipChangedEvent y UserDeletedEvent (copy-on-write por usuario:
+     las lecturas no bloquean).
+     Los cambios se guardan en un diario y se reaplican sobre la foto nueva si son posteriores al inicio de su carga.
+   - Usuarios creados después del snapshot reciben un id denso nuevo al hacer su primera amistad.
+   Los eventos de amistad son locales: en otra instancia el cambio se ve cuando se reconstruye su snapshot.
+ */
+@Component
+public class RoaringMutualFriendsIndex implements MutualFriendsIndex, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(RoaringMutualFriendsIndex.class);
+
+    // Cambios retenidos como mucho (si el snapshot está desactivado el diario nunca se vacía)
+    private static final int MAX_JOURNAL = 100_000;
+
+    private final Object writeLock = new Object();
+    private final ArrayDeque<Change> journal = new ArrayDeque<>();
+    private volatile State state;
+
+    @Override
+    public Optional<MutualFriends> find(UUID userId, UUID otherId, int limit) {
+        State current = state;
+        if (current == null) {
+            return Optional.empty();
+        }
+        int a = current.indexOf(userId);
+        int b = current.indexOf(otherId);
+        if (a < 0 || b < 0) {
+            return Optional.empty();
+        }
+        RoaringBitmap friendsOfA = current.bitmap(a);
+        RoaringBitmap friendsOfB = current.bitmap(b);
+        if (friendsOfA == null || friendsOfB == null) {
+            return Optional.of(new MutualFriends(userId, otherId, 0, List.of()));
+        }
+
+        long count = RoaringBitmap.andCardinality(friendsOfA, friendsOfB);
+        List<UUID> page = new ArrayList<>((int) Math.min(count, limit));
+        if (count > 0 && limit > 0) {
+            IntIterator mutual = RoaringBitmap.and(friendsOfA, friendsOfB).getIntIterator();
+            while (mutual.hasNext() && page.size() < limit) {
+                page.add(current.idOf(mutual.next()));
+            }
+        }
+        return Optional.of(new MutualFriends(userId, otherId, count, page));
+    }
+
+    @EventListener
+    public void onSnapshotRefreshed(GraphSnapshotRefreshedEvent event) {
+        GraphSnapshot snapshot = event.snapshot();
+        CsrGraph friends = snapshot.friends();
+        int nodes = snapshot.nodeCount();
+
+        // la construcción (la parte cara) va fuera del lock: las altas/bajas siguen aplicándose a la foto anterior
+        AtomicReferenceArray<RoaringBitmap> bitmaps = new AtomicReferenceArray<>(nodes + (nodes >> 6) + 16);
+        int users = 0;
+        long bytes = 0;
+        for (int node = 0; node < nodes; node++) {
+            int degree = friends.degree(node);
+            if (degree > 0) {
+                RoaringBitmap bitmap = new RoaringBitmap();
+                bitmap.addN(friends.targets(), friends.start(node), degree);
+                bitmap.runOptimize();
+                bitmaps.set(node, bitmap);
+                users++;
+                bytes += bitmap.getLongSizeInBytes();
+            }
+        }
+        State next = new State(snapshot, bitmaps, users, bytes);
+
+        int replayed;
+        synchronized (writeLock) {
+            journal.removeIf(change -> change.at().isBefore(event.loadStartedAt()));
+            journal.forEach(next::apply);
+            replayed = journal.size();
+            state = next;
+        }
+        log.info("Índice de amigos en común reconstruido: {} usuarios con amigos, ~{} KB ({} cambios reaplicados)",
+                users, bytes >> 10, replayed);
+    }
+
+    @EventListener
+    public void onFriendshipChanged(FriendshipChangedEvent event) {
+        journalAndApply(new Change(event.userId(), event.friendId(), event.friends(), Instant.now()));
+    }
+
+    // DETACH DELETE no publica una baja por amistad: se borra el bitmap del usuario y su id de los de sus amigos
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        journalAndApply(new Change(event.userId(), null, false, Instant.now()));
+    }
+
+    private void journalAndApply(Change change) {
+        synchronized (writeLock) {
+            journal.addLast(change);
+            if (journal.size() > MAX_JOURNAL) {
+                journal.removeFirst();
+            }
+            State current = state;
+            if (current != null) {
+                current.apply(change);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("relationship.mutual-friends.index.users", this,
+                        index -> index.state == null ? 0 : index.state.usersWithFriends)
+                .description("Usuarios con amigos en el índice (en la última reconstrucción)")
+                .register(registry);
+        Gauge.builder("relationship.mutual-friends.index.bytes", this,
+                        index -> index.state == null ? 0 : index.state.sizeInBytes)
+                .description("Memoria de los bitmaps de amigos (en la última reconstrucción)")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    // friendId null: el usuario se borró del grafo
+    private record Change(UUID userId, UUID friendId, boolean friends, Instant at) {
+    }
+
+    /*
+     Foto del índice: ids densos del snapshot + los asignados después (addedIds), y un bitmap por id.
+     Los bitmaps publicados nunca se modifican; cada cambio publica una copia (las escrituras van bajo writeLock).
+     */
+    private static final class State {
+        private final GraphSnapshot snapshot;
+        private final Map<UUID, Integer> addedIds = new ConcurrentHashMap<>();
+        private final Map<Integer, UUID> addedUuids = new ConcurrentHashMap<>();
+        private final int usersWithFriends;
+        private final long sizeInBytes;
+        private volatile AtomicReferenceArray<RoaringBitmap> bitmaps;
+        private int nextId;
+
+        private State(GraphSnapshot snapshot, AtomicReferenceArray<RoaringBitmap> bitmaps, int usersWithFriends, long sizeInBytes) {
+            this.snapshot = snapshot;
+            this.bitmaps = bitmaps;
+            this.usersWithFriends = usersWithFriends;
+            this.sizeInBytes = sizeInBytes;
+            this.nextId = snapshot.nodeCount();
+        }
+
+        int indexOf(UUID userId) {
+            int node = snapshot.indexOf(userId);
+            if (node >= 0) {
+                return node;
+            }
+            Integer added = addedIds.get(userId);
+            return added == null ? -1 : added;
+        }
+
+        UUID idOf(int node) {
+            return node < snapshot.nodeCount() ? snapshot.idOf(node) : addedUuids.get(node);
+        }
+
+        RoaringBitmap bitmap(int node) {
+            AtomicReferenceArray<RoaringBitmap> current = bitmaps;
+            return node < current.length() ? current.get(node) : null;
+        }
+
+        void apply(Change change) {
+            if (change.friendId() == null) {
+                remove(change.userId());
+            } else if (change.friends()) {
+                int a = indexOrAdd(change.userId());
+                int b = indexOrAdd(change.friendId());
+                update(a, b, true);
+                update(b, a, true);
+            } else {
+                int a = indexOf(change.userId());
+                int b = indexOf(change.friendId());
+                if (a >= 0 && b >= 0) {
+                    update(a, b, false);
+                    update(b, a, false);
+                }
+            }
+        }
+
+        private void remove(UUID userId) {
+            int node = indexOf(userId);
+            RoaringBitmap friends = node < 0 ? null : bitmaps.get(node);
+            if (friends == null) {
+                return;
+            }
+            friends.forEach((int friend) -> update(friend, node, false));
+            bitmaps.set(node, null);
+        }
+
+        private int indexOrAdd(UUID userId) {
+            int node = indexOf(userId);
+            if (node >= 0) {
+                return node;
+            }
+            node = nextId++;
+            addedUuids.put(node, userId);
+            addedIds.put(userId, node);
+            if (node >= bitmaps.length()) {
+                AtomicReferenceArray<RoaringBitmap> grown = new AtomicReferenceArray<>(bitmaps.length() + (bitmaps.length() >> 1) + 16);
+                for (int i = 0; i < bitmaps.length(); i++) {
+                    grown.set(i, bitmaps.get(i));
+                }
+                bitmaps = grown;
+            }
+            return node;
+        }
+
+        private void update(int node, int friend, boolean add) {
+            RoaringBitmap current = bitmaps.get(node);
+            if (current == null && !add) {
+                return;
+            }
+            RoaringBitmap copy = current == null ? new RoaringBitmap() : current.clone();
+            if (add) {
+                copy.add(friend);
+            } else {
+                copy.remove(friend);
+            }
+            bitmaps.set(node, copy.isEmpty() ? null : copy);
+        }
+    }
+}
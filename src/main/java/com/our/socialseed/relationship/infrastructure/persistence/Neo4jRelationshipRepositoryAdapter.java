@@ -0,0 +1,234 @@
+package com.our.socialseed.relationship.infrastructure.persistence;
+
+import com.our.socialseed.relationship.domain.model.FriendRequestResult;
+import com.our.socialseed.relationship.domain.model.MutualFriends;
+import com.our.socialseed.relationship.domain.model.RelationshipCounters;
+import com.our.socialseed.relationship.domain.model.RelationshipUpdate;
+import com.our.socialseed.relationship.domain.repository.RelationshipRepository;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+📌 Relaciones del grafo (FOLLOWED_BY, FRIEND_OF, REQUEST_FRIEND) con contadores en el nodo :User.
+   Todas las escrituras siguen el mismo patrón en una única sentencia Cypher:
+   1. LOCK_PAIR: bloquea los dos nodos (escribiendo los contadores) en orden de id, para que dos operaciones
+      concurrentes sobre el mismo par se serialicen y A→B / B→A no se bloqueen mutuamente.
+   2. Con los nodos bloqueados, se comprueba si la relación existe; solo si cambia se crea/borra
+      y se suman/restan los contadores. Repetir una operación no altera nada (idempotente).
+   Modelo: (followee)-[:FOLLOWED_BY]->(follower), (a)-[:FRIEND_OF]-(b), (requester)-[:REQUEST_FRIEND]->(target).
+ */
+@Component
+public class Neo4jRelationshipRepositoryAdapter implements RelationshipRepository {
+
+    private static final String LOCK_PAIR = """
+            MATCH (u:User {id: $userId}), (t:User {id: $targetId})
+            FOREACH (n IN CASE WHEN u.id < t.id THEN [u, t] ELSE [t, u] END |
+              SET n.friendCount = coalesce(n.friendCount, 0),
+                  n.followersCount = coalesce(n.followersCount, 0),
+                  n.followingCount = coalesce(n.followingCount, 0))
+            WITH u, t
+            """;
+
+    private static final String RETURN_COUNTERS = """
+            RETURN changed,
+                   u.id AS userId, u.friendCount AS userFriends, u.followersCount AS userFollowers, u.followingCount AS userFollowing,
+                   t.id AS targetId, t.friendCount AS targetFriends, t.followersCount AS targetFollowers, t.followingCount AS targetFollowing
+            """;
+
+    // u sigue a t
+    private static final String FOLLOW_QUERY = LOCK_PAIR + """
+            OPTIONAL MATCH (t)-[existing:FOLLOWED_BY]->(u)
+            WITH u, t, count(existing) = 0 AS changed
+            FOREACH (_ IN CASE WHEN changed THEN [1] ELSE [] END |
+              CREATE (t)-[:FOLLOWED_BY {followDate: datetime()}]->(u)
+              SET t.followersCount = t.followersCount + 1,
+                  u.followingCount = u.followingCount + 1)
+            """ + RETURN_COUNTERS;
+
+    // u deja de seguir a t
+    private static final String UNFOLLOW_QUERY = LOCK_PAIR + """
+            OPTIONAL MATCH (t)-[existing:FOLLOWED_BY]->(u)
+            WITH u, t, collect(existing) AS existing
+            WITH u, t, existing, size(existing) > 0 AS changed
+            FOREACH (r IN existing | DELETE r)
+            FOREACH (_ IN CASE WHEN changed THEN [1] ELSE [] END |
+              SET t.followersCount = t.followersCount - 1,
+                  u.followingCount = u.followingCount - 1)
+            """ + RETURN_COUNTERS;
+
+    // u solicita amistad a t (no afecta a contadores)
+    private static final String FRIEND_REQUEST_QUERY = LOCK_PAIR + """
+            OPTIONAL MATCH (u)-[friendship:FRIEND_OF]-(t)
+            WITH u, t, count(friendship) > 0 AS friends
+            OPTIONAL MATCH (u)-[pending:REQUEST_FRIEND]->(t)
+            WITH u, t, friends, count(pending) > 0 AS pending
+            FOREACH (_ IN CASE WHEN friends OR pending THEN [] ELSE [1] END |
+              CREATE (u)-[:REQUEST_FRIEND {friendshipRequestDate: datetime()}]->(t))
+            RETURN CASE WHEN friends THEN 'ALREADY_FRIENDS' WHEN pending THEN 'ALREADY_REQUESTED' ELSE 'REQUESTED' END AS result
+            """;
+
+    // u acepta la solicitud que le envió t: se borran las solicitudes en ambos sentidos y se crea FRIEND_OF
+    private static final String ACCEPT_QUERY = LOCK_PAIR + """
+            OPTIONAL MATCH (t)-[received:REQUEST_FRIEND]->(u)
+            WITH u, t, collect(received) AS received
+            WHERE size(received) > 0
+            OPTIONAL MATCH (u)-[sent:REQUEST_FRIEND]->(t)
+            WITH u, t, received, collect(sent) AS sent
+            WITH u, t, received + sent AS requests
+            OPTIONAL MATCH (u)-[friendship:FRIEND_OF]-(t)
+            WITH u, t, requests, count(friendship) = 0 AS changed
+            FOREACH (r IN requests | DELETE r)
+            FOREACH (_ IN CASE WHEN changed THEN [1] ELSE [] END |
+              CREATE (u)-[:FRIEND_OF {friendshipDate: datetime()}]->(t)
+              SET u.friendCount = u.friendCount + 1,
+                  t.friendCount = t.friendCount + 1)
+            """ + RETURN_COUNTERS;
+
+    // u rechaza la solicitud que le envió t
+    private static final String REJECT_QUERY = LOCK_PAIR + """
+            OPTIONAL MATCH (t)-[received:REQUEST_FRIEND]->(u)
+            WITH collect(received) AS received
+            FOREACH (r IN received | DELETE r)
+            RETURN size(received) > 0 AS changed
+            """;
+
+    private static final String UNFRIEND_QUERY = LOCK_PAIR + """
+            OPTIONAL MATCH (u)-[friendship:FRIEND_OF]-(t)
+            WITH u, t, collect(friendship) AS friendships
+            WITH u, t, friendships, size(friendships) > 0 AS changed
+            FOREACH (r IN friendships | DELETE r)
+            FOREACH (_ IN CASE WHEN changed THEN [1] ELSE [] END |
+              SET u.friendCount = u.friendCount - 1,
+                  t.friendCount = t.friendCount - 1)
+            """ + RETURN_COUNTERS;
+
+    private static final String COUNTERS_QUERY = """
+            MATCH (u:User {id: $userId})
+            RETURN u.id AS userId,
+                   coalesce(u.friendCount, 0) AS friendCount,
+                   coalesce(u.followersCount, 0) AS followersCount,
+                   coalesce(u.followingCount, 0) AS followingCount
+            """;
+
+    private static final String MUTUAL_FRIENDS_QUERY = """
+            MATCH (u:User {id: $userId}), (t:User {id: $targetId})
+            OPTIONAL MATCH (u)-[:FRIEND_OF]-(m:User)-[:FRIEND_OF]-(t)
+            WITH u, t, m.id AS mutualId
+            ORDER BY mutualId
+            WITH u, t, collect(DISTINCT mutualId) AS mutualIds
+            RETURN u.id AS userId, t.id AS targetId, size(mutualIds) AS count, mutualIds[0..$limit] AS mutualIds
+            """;
+
+    private final Neo4jClient neo4jClient;
+
+    public Neo4jRelationshipRepositoryAdapter(Neo4jClient neo4jClient) {
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public Optional<RelationshipUpdate> follow(UUID followerId, UUID followeeId) {
+        return update(FOLLOW_QUERY, followerId, followeeId);
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public Optional<RelationshipUpdate> unfollow(UUID followerId, UUID followeeId) {
+        return update(UNFOLLOW_QUERY, followerId, followeeId);
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public Optional<FriendRequestResult> sendFriendRequest(UUID requesterId, UUID targetId) {
+        return neo4jClient.query(FRIEND_REQUEST_QUERY)
+                .bind(requesterId.toString()).to("userId")
+                .bind(targetId.toString()).to("targetId")
+                .fetchAs(FriendRequestResult.class)
+                .mappedBy((typeSystem, record) -> FriendRequestResult.valueOf(record.get("result").asString()))
+                .one();
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public Optional<RelationshipUpdate> acceptFriendRequest(UUID userId, UUID requesterId) {
+        return update(ACCEPT_QUERY, userId, requesterId);
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public boolean rejectFriendRequest(UUID userId, UUID requesterId) {
+        return neo4jClient.query(REJECT_QUERY)
+                .bind(userId.toString()).to("userId")
+                .bind(requesterId.toString()).to("targetId")
+                .fetchAs(Boolean.class)
+                .mappedBy((typeSystem, record) -> record.get("changed").asBoolean())
+                .one()
+                .orElse(false);
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public Optional<RelationshipUpdate> unfriend(UUID userId, UUID friendId) {
+        return update(UNFRIEND_QUERY, userId, friendId);
+    }
+
+    @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
+    public Optional<RelationshipCounters> findCounters(UUID userId) {
+        return neo4jClient.query(COUNTERS_QUERY)
+                .bind(userId.toString()).to("userId")
+                .fetchAs(RelationshipCounters.class)
+                .mappedBy((typeSystem, record) -> new RelationshipCounters(
+                        UUID.fromString(record.get("userId").asString()),
+                        record.get("friendCount").asLong(),
+                        record.get("followersCount").asLong(),
+                        record.get("followingCount").asLong()))
+                .one();
+    }
+
+    @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
+    public Optional<MutualFriends> findMutualFriends(UUID userId, UUID otherId, int limit) {
+        return neo4jClient.query(MUTUAL_FRIENDS_QUERY)
+                .bind(userId.toString()).to("userId")
+                .bind(otherId.toString()).to("targetId")
+                .bind(limit).to("limit")
+                .fetchAs(MutualFriends.class)
+                .mappedBy((typeSystem, record) -> new MutualFriends(
+                        UUID.fromString(record.get("userId").asString()),
+                        UUID.fromString(record.get("targetId").asString()),
+                        record.get("count").asLong(),
+                        record.get("mutualIds").asList(Value::asString).stream().map(UUID::fromString).toList()))
+                .one();
+    }
+
+    private Optional<RelationshipUpdate> update(String query, UUID userId, UUID targetId) {
+        return neo4jClient.query(query)
+                .bind(userId.toString()).to("userId")
+                .bind(targetId.toString()).to("targetId")
+                .fetchAs(RelationshipUpdate.class)
+                .mappedBy((typeSystem, record) -> toUpdate(record))
+                .one();
+    }
+
+    private static RelationshipUpdate toUpdate(Record record) {
+        return new RelationshipUpdate(
+                record.get("changed").asBoolean(),
+                new RelationshipCounters(
+                        UUID.fromString(record.get("userId").asString()),
+                        record.get("userFriends").asLong(),
+                        record.get("userFollowers").asLong(),
+                        record.get("userFollowing").asLong()),
+                new RelationshipCounters(
+                        UUID.fromString(record.get("targetId").asString()),
+                        record.get("targetFriends").asLong(),
+                        record.get("targetFollowers").asLong(),
+                        record.get("targetFollowing").asLong()));
+    }
+}
@@ -0,0 +1,90 @@
+package com.our.socialseed.relationship.infrastructure.separation;
+
+import com.our.socialseed.relationship.domain.model.Separation;
+import com.our.socialseed.relationship.domain.repository.SeparationFinder;
+import com.our.socialseed.shared.graph.snapshot.GraphSnapshot;
+import com.our.socialseed.shared.graph.snapshot.GraphSnapshotProvider;
+import com.our.socialseed.shared.graph.traversal.BidirectionalBfs;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+📌 Grados de separación con BFS bidireccional sobre la amistad del snapshot del grafo (CSR), sin ir a Neo4j.
+   Refleja el grafo de la última reconstrucción (graph.snapshot.refresh-interval): las amistades posteriores
+   aún no cuentan. Sin snapshot (arranque o graph.snapshot.enabled=false) o con usuarios que no están en la foto
+   la respuesta es UNKNOWN: shortestPath en Cypher sobre hubs es justo lo que se quiere evitar.
+   Métricas: relationship.separation{status} (resultados) y relationship.separation.search (duración).
+ */
+@Component
+public class SnapshotSeparationFinder implements SeparationFinder, MeterBinder {
+
+    private final ObjectProvider<GraphSnapshotProvider> snapshotProvider;
+    private final BidirectionalBfs bfs;
+    private final Map<Separation.Status, Counter> results = new EnumMap<>(Separation.Status.class);
+    private Timer searchTimer;
+
+    public SnapshotSeparationFinder(ObjectProvider<GraphSnapshotProvider> snapshotProvider,
+                                    @Value("${relationship.separation.max-concurrent:8}") int maxConcurrent) {
+        this.snapshotProvider = snapshotProvider;
+        this.bfs = new BidirectionalBfs(maxConcurrent);
+    }
+
+    @Override
+    public Separation find(UUID userId, UUID otherId, int maxDepth, Duration budget) {
+        long start = System.nanoTime();
+        Separation separation = search(userId, otherId, maxDepth, start + budget.toNanos());
+        if (searchTimer != null) {
+            searchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            results.get(separation.status()).increment();
+        }
+        return separation;
+    }
+
+    private Separation search(UUID userId, UUID otherId, int maxDepth, long deadlineNanos) {
+        Optional<GraphSnapshot> current = Optional.ofNullable(snapshotProvider.getIfAvailable())
+                .flatMap(GraphSnapshotProvider::current);
+        if (current.isEmpty()) {
+            return Separation.unknown(userId, otherId);
+        }
+        GraphSnapshot snapshot = current.get();
+        int source = snapshot.indexOf(userId);
+        int target = snapshot.indexOf(otherId);
+        if (source < 0 || target < 0) {
+            return Separation.unknown(userId, otherId);
+        }
+
+        int distance = bfs.distance(snapshot.friends(), source, target, maxDepth, deadlineNanos);
+        if (distance == BidirectionalBfs.BUDGET_EXCEEDED) {
+            return Separation.unknown(userId, otherId);
+        }
+        if (distance == BidirectionalBfs.NOT_WITHIN_DEPTH) {
+            return Separation.notWithinDepth(userId, otherId);
+        }
+        return Separation.connected(userId, otherId, distance);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Separation.Status status : Separation.Status.values()) {
+            results.put(status, Counter.builder("relationship.separation")
+                    .description("Consultas de grados de separación por resultado")
+                    .tag("status", status.name().toLowerCase())
+                    .register(registry));
+        }
+        searchTimer = Timer.builder("relationship.separation.search")
+                .description("Duración de la búsqueda de grados de separación")
+                .register(registry);
+    }
+}
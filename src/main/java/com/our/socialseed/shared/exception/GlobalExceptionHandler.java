@@ -1,10 +1,17 @@
 package com.our.socialseed.shared.exception;
 
 import com.our.socialseed.auth.config.exception.EmailAlreadyExistsException;
+import com.our.socialseed.auth.config.exception.InvalidRefreshTokenException;
+import com.our.socialseed.hashtag.config.exception.InvalidTrendingWindowException;
+import com.our.socialseed.relationship.config.exception.ForeignActorException;
+import com.our.socialseed.relationship.config.exception.SelfRelationshipException;
+import com.our.socialseed.shared.pagination.InvalidCursorException;
 import com.our.socialseed.shared.response.ApiResponse;
+import com.our.socialseed.shared.security.password.PasswordHashingSaturatedException;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -81,6 +88,30 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.conflict(message));
     }
 
+    // --------------------------------------------
+    // Refresh token desconocido, expirado, revocado o reutilizado
+    // --------------------------------------------
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ApiResponse<?>> handleInvalidRefreshToken(InvalidRefreshTokenException ex) {
+        Locale locale = LocaleContextHolder.getLocale();
+        String message = messageSource.getMessage("auth.refresh.invalid", null, locale);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error(HttpStatus.UNAUTHORIZED.value(), message));
+    }
+
+    // --------------------------------------------
+    // Pool de hashing de contraseñas saturado: el cliente reintenta pasado Retry-After
+    // --------------------------------------------
+    @ExceptionHandler(PasswordHashingSaturatedException.class)
+    public ResponseEntity<ApiResponse<?>> handlePasswordHashingSaturated(PasswordHashingSaturatedException ex) {
+        Locale locale = LocaleContextHolder.getLocale();
+        String message = messageSource.getMessage("error.service.busy", null, locale);
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiResponse.error(HttpStatus.SERVICE_UNAVAILABLE.value(), message));
+    }
+
     // --------------------------------------------
     // Error de tipo de argumento (ej: UUID inválido)
     // --------------------------------------------
@@ -92,6 +123,51 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), message));
     }
 
+    // --------------------------------------------
+    // Cursor de paginación inválido o manipulado
+    // --------------------------------------------
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiResponse<?>> handleInvalidCursor(InvalidCursorException ex) {
+        Locale locale = LocaleContextHolder.getLocale();
+        String message = messageSource.getMessage("error.invalid.cursor", null, locale);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), message));
+    }
+
+    // --------------------------------------------
+    // Relación de un usuario consigo mismo (seguirse, solicitarse amistad)
+    // --------------------------------------------
+    @ExceptionHandler(SelfRelationshipException.class)
+    public ResponseEntity<ApiResponse<?>> handleSelfRelationship(SelfRelationshipException ex) {
+        Locale locale = LocaleContextHolder.getLocale();
+        String message = messageSource.getMessage("relationship.self", null, locale);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), message));
+    }
+
+    // --------------------------------------------
+    // Operación sobre las relaciones de otro usuario ({id} distinto del autenticado)
+    // --------------------------------------------
+    @ExceptionHandler(ForeignActorException.class)
+    public ResponseEntity<ApiResponse<?>> handleForeignActor(ForeignActorException ex) {
+        Locale locale = LocaleContextHolder.getLocale();
+        String message = messageSource.getMessage("relationship.forbidden", null, locale);
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error(HttpStatus.FORBIDDEN.value(), message));
+    }
+
+    // --------------------------------------------
+    // Ventana de hashtags en tendencia inválida o mayor que la soportada
+    // --------------------------------------------
+    @ExceptionHandler(InvalidTrendingWindowException.class)
+    public ResponseEntity<ApiResponse<?>> handleInvalidTrendingWindow(InvalidTrendingWindowException ex) {
+        Locale locale = LocaleContextHolder.getLocale();
+        String message = messageSource.getMessage("hashtag.trending.window.invalid",
+                new Object[]{ex.getMaxWindow().toString()}, locale);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), message));
+    }
+
     // --------------------------------------------
     // Excepciones generales en tiempo de ejecución
     // --------------------------------------------
@@ -0,0 +1,102 @@
+package com.our.socialseed.shared.graph.snapshot;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/*
+📌 Adyacencia en formato CSR (compressed sparse row): los vecinos del nodo n son
+   targets[offsets[n] .. offsets[n + 1]), ordenados y sin duplicados.
+   Un int por arista y uno por nodo, sin objetos: 10M aristas ≈ 40 MB, y recorrer los vecinos es
+   leer un tramo contiguo de un array.
+ */
+public final class CsrGraph {
+    private final int[] offsets;
+    private final int[] targets;
+
+    private CsrGraph(int[] offsets, int[] targets) {
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    /*
+     * Construye el CSR a partir de una lista de aristas (sources[i] -> targets[i], i < edgeCount)
+     * con una ordenación por conteo: O(nodos + aristas) más ordenar cada fila.
+     */
+    public static CsrGraph fromEdges(int nodeCount, int[] sources, int[] destinations, int edgeCount) {
+        int[] offsets = new int[nodeCount + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            offsets[sources[i] + 1]++;
+        }
+        for (int n = 0; n < nodeCount; n++) {
+            offsets[n + 1] += offsets[n];
+        }
+
+        int[] targets = new int[edgeCount];
+        int[] cursor = Arrays.copyOf(offsets, nodeCount);
+        for (int i = 0; i < edgeCount; i++) {
+            targets[cursor[sources[i]]++] = destinations[i];
+        }
+
+        // ordena cada fila y compacta duplicados (p. ej. FRIEND_OF creado en los dos sentidos)
+        int write = 0;
+        int rowStart = 0;
+        for (int n = 0; n < nodeCount; n++) {
+            int rowEnd = offsets[n + 1];
+            Arrays.sort(targets, rowStart, rowEnd);
+            offsets[n] = write;
+            for (int i = rowStart; i < rowEnd; i++) {
+                if (i == rowStart || targets[i] != targets[i - 1]) {
+                    targets[write++] = targets[i];
+                }
+            }
+            rowStart = rowEnd;
+        }
+        offsets[nodeCount] = write;
+
+        return new CsrGraph(offsets, write == targets.length ? targets : Arrays.copyOf(targets, write));
+    }
+
+    public int nodeCount() {
+        return offsets.length - 1;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    public int degree(int node) {
+        return offsets[node + 1] - offsets[node];
+    }
+
+    // Acceso directo para recorridos en bucles calientes: vecinos en targets()[start(n) .. end(n))
+    public int start(int node) {
+        return offsets[node];
+    }
+
+    public int end(int node) {
+        return offsets[node + 1];
+    }
+
+    public int[] targets() {
+        return targets;
+    }
+
+    public void forEachNeighbor(int node, IntConsumer consumer) {
+        for (int i = offsets[node], end = offsets[node + 1]; i < end; i++) {
+            consumer.accept(targets[i]);
+        }
+    }
+
+    public int[] neighbors(int node) {
+        return Arrays.copyOfRange(targets, offsets[node], offsets[node + 1]);
+    }
+
+    // Búsqueda binaria en la fila ordenada
+    public boolean hasEdge(int from, int to) {
+        return Arrays.binarySearch(targets, offsets[from], offsets[from + 1], to) >= 0;
+    }
+
+    long estimatedBytes() {
+        return 4L * offsets.length + 4L * targets.length;
+    }
+}
@@ -0,0 +1,159 @@
+package com.our.socialseed.shared.graph.snapshot;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/*
+📌 Foto inmutable del grafo social en memoria para recorridos (amigos en común, grados de separación,
+   recomendaciones) sin ir a Neo4j en cada petición.
+   - Los usuarios se identifican por un id denso (int) resuelto con UuidIndex.
+   - friends: FRIEND_OF en ambos sentidos.
+   - following: seguidor -> seguidos; followers: seguido -> seguidores (FOLLOWED_BY).
+   Se construye con GraphSnapshot.builder() y nunca se modifica: GraphSnapshotProvider publica
+   una nueva foto completa en cada reconstrucción.
+ */
+public final class GraphSnapshot {
+    private final UuidIndex index;
+    private final CsrGraph friends;
+    private final CsrGraph following;
+    private final CsrGraph followers;
+    private final Instant builtAt;
+
+    private GraphSnapshot(UuidIndex index, CsrGraph friends, CsrGraph following, CsrGraph followers, Instant builtAt) {
+        this.index = index;
+        this.friends = friends;
+        this.following = following;
+        this.followers = followers;
+        this.builtAt = builtAt;
+    }
+
+    public static Builder builder(int expectedUsers) {
+        return new Builder(expectedUsers);
+    }
+
+    // -1 si el usuario no estaba en el grafo cuando se construyó la foto
+    public int indexOf(UUID userId) {
+        return index.indexOf(userId);
+    }
+
+    public UUID idOf(int node) {
+        return index.idOf(node);
+    }
+
+    public int nodeCount() {
+        return index.size();
+    }
+
+    public CsrGraph friends() {
+        return friends;
+    }
+
+    public CsrGraph following() {
+        return following;
+    }
+
+    public CsrGraph followers() {
+        return followers;
+    }
+
+    public Instant builtAt() {
+        return builtAt;
+    }
+
+    // Aristas dirigidas almacenadas (cada amistad cuenta dos veces)
+    public long edgeCount() {
+        return (long) friends.edgeCount() + following.edgeCount() + followers.edgeCount();
+    }
+
+    public long estimatedBytes() {
+        return index.estimatedBytes() + friends.estimatedBytes() + following.estimatedBytes() + followers.estimatedBytes();
+    }
+
+    public static final class Builder {
+        private final UuidIndex index;
+        private final EdgeBuffer friendships = new EdgeBuffer();
+        private final EdgeBuffer follows = new EdgeBuffer();
+        private long skippedEdges;
+
+        private Builder(int expectedUsers) {
+            this.index = new UuidIndex(expectedUsers);
+        }
+
+        public Builder addUser(UUID userId) {
+            index.add(userId);
+            return this;
+        }
+
+        // Las aristas con usuarios que no se añadieron antes se ignoran (creados durante la carga)
+        public Builder addFriendship(UUID a, UUID b) {
+            int from = index.indexOf(a);
+            int to = index.indexOf(b);
+            if (from < 0 || to < 0 || from == to) {
+                skippedEdges++;
+            } else {
+                friendships.add(from, to);
+            }
+            return this;
+        }
+
+        public Builder addFollow(UUID follower, UUID followee) {
+            int from = index.indexOf(follower);
+            int to = index.indexOf(followee);
+            if (from < 0 || to < 0 || from == to) {
+                skippedEdges++;
+            } else {
+                follows.add(from, to);
+            }
+            return this;
+        }
+
+        public long skippedEdges() {
+            return skippedEdges;
+        }
+
+        public GraphSnapshot build() {
+            index.trim();
+            int nodes = index.size();
+
+            // amistad no dirigida: se guarda en los dos sentidos en el mismo CSR
+            int friendEdges = friendships.size;
+            int[] friendSources = Arrays.copyOf(friendships.sources, friendEdges * 2);
+            int[] friendTargets = Arrays.copyOf(friendships.targets, friendEdges * 2);
+            System.arraycopy(friendships.targets, 0, friendSources, friendEdges, friendEdges);
+            System.arraycopy(friendships.sources, 0, friendTargets, friendEdges, friendEdges);
+            friendships.clear();
+            CsrGraph friends = CsrGraph.fromEdges(nodes, friendSources, friendTargets, friendEdges * 2);
+
+            CsrGraph following = CsrGraph.fromEdges(nodes, follows.sources, follows.targets, follows.size);
+            CsrGraph followers = CsrGraph.fromEdges(nodes, follows.targets, follows.sources, follows.size);
+            follows.clear();
+
+            return new GraphSnapshot(index, friends, following, followers, Instant.now());
+        }
+    }
+
+    // Lista de aristas creciente en dos int[] (solo vive mientras se construye la foto)
+    private static final class EdgeBuffer {
+        private int[] sources = new int[1024];
+        private int[] targets = new int[1024];
+        private int size;
+
+        void add(int source, int target) {
+            if (size == sources.length) {
+                int grown = sources.length + (sources.length >> 1);
+                sources = Arrays.copyOf(sources, grown);
+                targets = Arrays.copyOf(targets, grown);
+            }
+            sources[size] = source;
+            targets[size] = target;
+            size++;
+        }
+
+        void clear() {
+            sources = new int[0];
+            targets = new int[0];
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.our.socialseed.shared.graph.snapshot;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+📌 Publica la foto actual del grafo detrás de una referencia volatile.
+   La reconstrucción corre en segundo plano (al arrancar y cada graph.snapshot.refresh-interval) y se
+   intercambia de golpe: los lectores siempre ven una foto completa y consistente, nunca una a medias.
+   Mientras no haya ninguna (arranque) current() devuelve vacío y los consumidores deben ir a Neo4j.
+   Cada foto nueva se anuncia con GraphSnapshotRefreshedEvent para que se reconstruyan los índices derivados.
+   Métricas: graph.snapshot.nodes, edges, bytes (estimados), age (segundos) y graph.snapshot.build.
+ */
+@Component
+@ConditionalOnProperty(prefix = "graph.snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class GraphSnapshotProvider implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(GraphSnapshotProvider.class);
+
+    private final Neo4jGraphSnapshotLoader loader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile GraphSnapshot current;
+    private Timer buildTimer;
+
+    public GraphSnapshotProvider(Neo4jGraphSnapshotLoader loader, ApplicationEventPublisher eventPublisher) {
+        this.loader = loader;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public Optional<GraphSnapshot> current() {
+        return Optional.ofNullable(current);
+    }
+
+    @Scheduled(initialDelayString = "${graph.snapshot.initial-delay:0s}",
+            fixedDelayString = "${graph.snapshot.refresh-interval:15m}")
+    public void refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        long start = System.nanoTime();
+        Instant loadStartedAt = Instant.now();
+        try {
+            GraphSnapshot snapshot = loader.load();
+            current = snapshot;
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            if (buildTimer != null) {
+                buildTimer.record(elapsed);
+            }
+            log.info("Snapshot del grafo reconstruido: {} usuarios, {} aristas, ~{} MB en {} ms",
+                    snapshot.nodeCount(), snapshot.edgeCount(), snapshot.estimatedBytes() >> 20, elapsed.toMillis());
+            eventPublisher.publishEvent(new GraphSnapshotRefreshedEvent(snapshot, loadStartedAt));
+        } catch (Exception e) {
+            // se mantiene la foto anterior; se reintenta en el siguiente ciclo
+            log.error("No se pudo reconstruir el snapshot del grafo", e);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("graph.snapshot.nodes", this, p -> p.current().map(GraphSnapshot::nodeCount).orElse(0))
+                .description("Usuarios en el snapshot del grafo")
+                .register(registry);
+        Gauge.builder("graph.snapshot.edges", this, p -> p.current().map(GraphSnapshot::edgeCount).orElse(0L))
+                .description("Aristas dirigidas almacenadas en el snapshot")
+                .register(registry);
+        Gauge.builder("graph.snapshot.bytes", this, p -> p.current().map(GraphSnapshot::estimatedBytes).orElse(0L))
+                .description("Memoria estimada de los arrays del snapshot")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("graph.snapshot.age", this, p -> p.current()
+                        .map(s -> Duration.between(s.builtAt(), Instant.now()).toSeconds())
+                        .orElse(-1L))
+                .description("Segundos desde la última reconstrucción (-1 si aún no hay snapshot)")
+                .baseUnit("seconds")
+                .register(registry);
+        buildTimer = Timer.builder("graph.snapshot.build")
+                .description("Duración de la reconstrucción del snapshot")
+                .register(registry);
+    }
+}
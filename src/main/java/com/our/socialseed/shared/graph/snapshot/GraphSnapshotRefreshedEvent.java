@@ -0,0 +1,14 @@
+package com.our.socialseed.shared.graph.snapshot;
+
+import java.time.Instant;
+
+/*
+📌 Se publica cada vez que GraphSnapshotProvider publica una foto nueva.
+   loadStartedAt es el instante en que empezó la lectura de Neo4j: los cambios posteriores pueden no estar
+   en la foto, así que los índices derivados reaplican los que recibieron desde entonces.
+ */
+public record GraphSnapshotRefreshedEvent(
+        GraphSnapshot snapshot,
+        Instant loadStartedAt
+) {
+}
@@ -0,0 +1,75 @@
+package com.our.socialseed.shared.graph.snapshot;
+
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/*
+📌 Carga la foto del grafo desde Neo4j en una única transacción de lectura (vista consistente),
+   recorriendo usuarios, FRIEND_OF y FOLLOWED_BY en streaming con fetch size: nunca se materializa
+   el resultado de Bolt, solo los arrays del snapshot.
+ */
+@Component
+public class Neo4jGraphSnapshotLoader {
+
+    private static final String COUNT_USERS_QUERY = "MATCH (u:User) RETURN count(u) AS users";
+
+    private static final String USERS_QUERY = "MATCH (u:User) RETURN u.id AS id";
+
+    // Dirigido para leer cada amistad una sola vez; el CSR la guarda en los dos sentidos
+    private static final String FRIENDSHIPS_QUERY = "MATCH (a:User)-[:FRIEND_OF]->(b:User) RETURN a.id AS a, b.id AS b";
+
+    private static final String FOLLOWS_QUERY = """
+            MATCH (followee:User)-[:FOLLOWED_BY]->(follower:User)
+            RETURN follower.id AS follower, followee.id AS followee
+            """;
+
+    private final Driver driver;
+    private final long fetchSize;
+
+    public Neo4jGraphSnapshotLoader(Driver driver, @Value("${graph.snapshot.fetch-size:10000}") long fetchSize) {
+        this.driver = driver;
+        this.fetchSize = fetchSize;
+    }
+
+    public GraphSnapshot load() {
+        SessionConfig config = SessionConfig.builder()
+                .withDefaultAccessMode(AccessMode.READ)
+                .withFetchSize(fetchSize)
+                .build();
+
+        try (Session session = driver.session(config)) {
+            return session.executeRead(tx -> {
+                int expectedUsers = (int) tx.run(COUNT_USERS_QUERY).single().get("users").asLong();
+                GraphSnapshot.Builder builder = GraphSnapshot.builder(expectedUsers);
+
+                Result users = tx.run(USERS_QUERY);
+                while (users.hasNext()) {
+                    builder.addUser(UUID.fromString(users.next().get("id").asString()));
+                }
+
+                Result friendships = tx.run(FRIENDSHIPS_QUERY);
+                while (friendships.hasNext()) {
+                    var record = friendships.next();
+                    builder.addFriendship(UUID.fromString(record.get("a").asString()),
+                            UUID.fromString(record.get("b").asString()));
+                }
+
+                Result follows = tx.run(FOLLOWS_QUERY);
+                while (follows.hasNext()) {
+                    var record = follows.next();
+                    builder.addFollow(UUID.fromString(record.get("follower").asString()),
+                            UUID.fromString(record.get("followee").asString()));
+                }
+
+                return builder.build();
+            });
+        }
+    }
+}
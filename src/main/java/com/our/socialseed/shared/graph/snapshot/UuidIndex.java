@@ -0,0 +1,120 @@
+package com.our.socialseed.shared.graph.snapshot;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/*
+📌 Mapa UUID -> id denso (0..size-1) sin objetos por entrada.
+   - Los UUID se guardan como dos long[] indexados por id denso (también sirven para la traducción inversa).
+   - La tabla hash es un int[] con direccionamiento abierto (sondeo lineal, carga <= 0.5) que guarda id + 1.
+   Memoria: ~16 bytes por usuario + 4 bytes por hueco de la tabla. Solo se modifica mientras se construye
+   el snapshot; una vez publicado es de solo lectura.
+ */
+public final class UuidIndex {
+    private long[] mostSigBits;
+    private long[] leastSigBits;
+    private int[] table;
+    private int size;
+
+    public UuidIndex(int expectedSize) {
+        int capacity = Math.max(16, expectedSize);
+        this.mostSigBits = new long[capacity];
+        this.leastSigBits = new long[capacity];
+        this.table = new int[tableSizeFor(capacity)];
+    }
+
+    // Devuelve el id denso del UUID, asignando el siguiente si no existía
+    public int add(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int mask = table.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (table[slot] != 0) {
+            int dense = table[slot] - 1;
+            if (mostSigBits[dense] == msb && leastSigBits[dense] == lsb) {
+                return dense;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == mostSigBits.length) {
+            int grown = mostSigBits.length + (mostSigBits.length >> 1);
+            mostSigBits = Arrays.copyOf(mostSigBits, grown);
+            leastSigBits = Arrays.copyOf(leastSigBits, grown);
+        }
+        int dense = size++;
+        mostSigBits[dense] = msb;
+        leastSigBits[dense] = lsb;
+        table[slot] = dense + 1;
+        if (size * 2L > table.length) {
+            rehash(table.length * 2);
+        }
+        return dense;
+    }
+
+    // -1 si el UUID no está en el snapshot
+    public int indexOf(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int mask = table.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (table[slot] != 0) {
+            int dense = table[slot] - 1;
+            if (mostSigBits[dense] == msb && leastSigBits[dense] == lsb) {
+                return dense;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    public UUID idOf(int dense) {
+        if (dense < 0 || dense >= size) {
+            throw new IndexOutOfBoundsException(dense);
+        }
+        return new UUID(mostSigBits[dense], leastSigBits[dense]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Recorta los arrays al tamaño final (se llama una vez antes de publicar el snapshot)
+    void trim() {
+        mostSigBits = Arrays.copyOf(mostSigBits, size);
+        leastSigBits = Arrays.copyOf(leastSigBits, size);
+    }
+
+    long estimatedBytes() {
+        return 16L * mostSigBits.length + 4L * table.length;
+    }
+
+    private void rehash(int newLength) {
+        int[] rehashed = new int[newLength];
+        int mask = newLength - 1;
+        for (int dense = 0; dense < size; dense++) {
+            int slot = hash(mostSigBits[dense], leastSigBits[dense]) & mask;
+            while (rehashed[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            rehashed[slot] = dense + 1;
+        }
+        table = rehashed;
+    }
+
+    private static int hash(long msb, long lsb) {
+        // finalizador de MurmurHash3: los UUID v4 ya son aleatorios, pero así también vale para ids secuenciales
+        long h = msb ^ Long.rotateLeft(lsb, 32);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int n = Integer.highestOneBit(Math.max(1, expectedSize * 2 - 1)) << 1;
+        return Math.max(32, n);
+    }
+}
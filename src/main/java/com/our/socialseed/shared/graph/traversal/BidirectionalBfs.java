@@ -0,0 +1,172 @@
+package com.our.socialseed.shared.graph.traversal;
+
+import com.our.socialseed.shared.graph.snapshot.CsrGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/*
+📌 Distancia (en saltos) entre dos nodos de un CsrGraph no dirigido con BFS bidireccional acotada.
+   - Se expande siempre la frontera más pequeña, nivel completo a nivel completo; al tocar un nodo visitado
+     por el otro lado la distancia es la mínima del nivel.
+   - Sin reservas por llamada: cada búsqueda toma un Workspace del pool (marcas int[] por nodo y fronteras).
+     Las marcas llevan una época, así que no hay que limpiarlas entre búsquedas.
+     El pool está acotado (maxConcurrent): la memoria es maxConcurrent × 4 bytes × nodos, no uno por hilo de Tomcat.
+   - Presupuesto duro de tiempo (deadline en System.nanoTime): se comprueba cada CHECK_INTERVAL aristas
+     y al esperar un Workspace; si se agota devuelve BUDGET_EXCEEDED en lugar de seguir.
+ */
+public final class BidirectionalBfs {
+
+    // La distancia es mayor que maxDepth (o no hay camino)
+    public static final int NOT_WITHIN_DEPTH = -1;
+    // Se agotó el presupuesto de tiempo antes de decidir
+    public static final int BUDGET_EXCEEDED = -2;
+
+    public static final int MAX_DEPTH = 7;
+
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final BlockingQueue<Workspace> workspaces;
+
+    public BidirectionalBfs(int maxConcurrent) {
+        int size = Math.max(1, maxConcurrent);
+        this.workspaces = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            workspaces.add(new Workspace());
+        }
+    }
+
+    public int distance(CsrGraph graph, int source, int target, int maxDepth, long deadlineNanos) {
+        if (source == target) {
+            return 0;
+        }
+        Workspace workspace;
+        try {
+            workspace = workspaces.poll(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BUDGET_EXCEEDED;
+        }
+        if (workspace == null) {
+            return BUDGET_EXCEEDED;
+        }
+        try {
+            return workspace.search(graph, source, target, Math.min(maxDepth, MAX_DEPTH), deadlineNanos);
+        } finally {
+            workspaces.add(workspace);
+        }
+    }
+
+    /*
+     marks[n] = época << 4 | lado << 3 | profundidad: vale para esta búsqueda solo si la época coincide.
+     */
+    private static final class Workspace {
+        private static final int MAX_EPOCH = (Integer.MAX_VALUE >>> 4) - 1;
+
+        private int[] marks = new int[0];
+        private int epoch;
+        private final Frontier[] frontiers = {new Frontier(), new Frontier()};
+        private final Frontier next = new Frontier();
+
+        int search(CsrGraph graph, int source, int target, int maxDepth, long deadlineNanos) {
+            prepare(graph.nodeCount());
+            int depthA = 0;
+            int depthB = 0;
+            mark(source, 0, 0);
+            mark(target, 1, 0);
+            frontiers[0].reset(source);
+            frontiers[1].reset(target);
+
+            int[] targets = graph.targets();
+            int edgesSinceCheck = 0;
+            while (depthA + depthB < maxDepth) {
+                if (frontiers[0].size == 0 || frontiers[1].size == 0) {
+                    return NOT_WITHIN_DEPTH;
+                }
+                int side = frontiers[0].size <= frontiers[1].size ? 0 : 1;
+                int sideDepth = side == 0 ? depthA : depthB;
+                Frontier frontier = frontiers[side];
+                next.size = 0;
+                int best = Integer.MAX_VALUE;
+
+                for (int i = 0; i < frontier.size; i++) {
+                    int node = frontier.nodes[i];
+                    for (int e = graph.start(node), end = graph.end(node); e < end; e++) {
+                        if (++edgesSinceCheck == CHECK_INTERVAL) {
+                            edgesSinceCheck = 0;
+                            if (System.nanoTime() - deadlineNanos > 0) {
+                                return BUDGET_EXCEEDED;
+                            }
+                        }
+                        int neighbor = targets[e];
+                        int mark = marks[neighbor];
+                        if (mark >>> 4 == epoch) {
+                            if (((mark >>> 3) & 1) != side) {
+                                best = Math.min(best, sideDepth + 1 + (mark & 7));
+                            }
+                            continue;
+                        }
+                        mark(neighbor, side, sideDepth + 1);
+                        next.add(neighbor);
+                    }
+                }
+                if (best != Integer.MAX_VALUE) {
+                    return best;
+                }
+                frontier.swap(next);
+                if (side == 0) {
+                    depthA++;
+                } else {
+                    depthB++;
+                }
+                if (System.nanoTime() - deadlineNanos > 0) {
+                    return BUDGET_EXCEEDED;
+                }
+            }
+            return NOT_WITHIN_DEPTH;
+        }
+
+        private void prepare(int nodes) {
+            if (marks.length < nodes) {
+                marks = new int[nodes + (nodes >> 4)];
+                epoch = 0;
+            }
+            if (++epoch > MAX_EPOCH) {
+                Arrays.fill(marks, 0);
+                epoch = 1;
+            }
+        }
+
+        private void mark(int node, int side, int depth) {
+            marks[node] = epoch << 4 | side << 3 | depth;
+        }
+    }
+
+    private static final class Frontier {
+        private int[] nodes = new int[64];
+        private int size;
+
+        void reset(int node) {
+            nodes[0] = node;
+            size = 1;
+        }
+
+        void add(int node) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size + (size >> 1));
+            }
+            nodes[size++] = node;
+        }
+
+        // Intercambia los arrays con "other" (la siguiente frontera pasa a ser esta sin copiar)
+        void swap(Frontier other) {
+            int[] nodes = this.nodes;
+            this.nodes = other.nodes;
+            other.nodes = nodes;
+            this.size = other.size;
+            other.size = 0;
+        }
+    }
+}
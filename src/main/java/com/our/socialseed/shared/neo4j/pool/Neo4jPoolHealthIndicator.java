@@ -0,0 +1,59 @@
+package com.our.socialseed.shared.neo4j.pool;
+
+import org.neo4j.driver.Driver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+📌 Indicador "neo4jPool": DEGRADED cuando, desde la comprobación anterior, la espera media por una
+   conexión supera neo4j.pool.health.acquisition-wait-threshold o hubo timeouts de adquisición.
+   Es una señal de saturación del pool (no de caída de Neo4j, que ya cubre el indicador "neo4j").
+ */
+@Component
+public class Neo4jPoolHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "El pool de conexiones Bolt está saturado");
+
+    private final Driver driver;
+    private final long thresholdMs;
+
+    private Neo4jPoolStats previous = Neo4jPoolStats.EMPTY;
+
+    public Neo4jPoolHealthIndicator(Driver driver,
+                                    @Value("${neo4j.pool.health.acquisition-wait-threshold:100ms}") Duration threshold) {
+        this.driver = driver;
+        this.thresholdMs = threshold.toMillis();
+    }
+
+    @Override
+    public Health health() {
+        if (!driver.isMetricsEnabled()) {
+            return Health.unknown().withDetail("reason", "spring.neo4j.pool.metrics-enabled=false").build();
+        }
+        return evaluate(Neo4jPoolStats.of(driver));
+    }
+
+    synchronized Health evaluate(Neo4jPoolStats current) {
+        long acquired = current.acquired() - previous.acquired();
+        long waitedMs = current.totalAcquisitionTimeMs() - previous.totalAcquisitionTimeMs();
+        long timeouts = current.timedOutToAcquire() - previous.timedOutToAcquire();
+        previous = current;
+
+        double averageWaitMs = acquired > 0 ? (double) waitedMs / acquired : 0;
+        boolean degraded = averageWaitMs > thresholdMs || timeouts > 0;
+
+        return Health.status(degraded ? DEGRADED : Status.UP)
+                .withDetail("inUse", current.inUse())
+                .withDetail("idle", current.idle())
+                .withDetail("acquiring", current.acquiring())
+                .withDetail("averageAcquisitionWaitMs", averageWaitMs)
+                .withDetail("acquisitionTimeouts", timeouts)
+                .withDetail("thresholdMs", thresholdMs)
+                .build();
+    }
+}
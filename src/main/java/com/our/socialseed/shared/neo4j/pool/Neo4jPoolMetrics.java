@@ -0,0 +1,81 @@
+package com.our.socialseed.shared.neo4j.pool;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.neo4j.driver.Driver;
+import org.springframework.boot.autoconfigure.neo4j.Neo4jProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/*
+📌 Publica en Micrometer el estado del pool Bolt (neo4j.driver.connections.*):
+   - gauges: in-use, idle, creating, acquiring (peticiones esperando conexión) y max (tamaño configurado)
+   - contadores: created, closed, failed, timeouts de adquisición
+   - timers: acquisition (espera por una conexión), creation (handshake) y usage (tiempo en uso por préstamo)
+   Requiere spring.neo4j.pool.metrics-enabled=true; si no, todo se publica a 0.
+ */
+@Component
+public class Neo4jPoolMetrics implements MeterBinder {
+
+    private static final String PREFIX = "neo4j.driver.connections";
+
+    private final Driver driver;
+    private final Neo4jProperties properties;
+
+    public Neo4jPoolMetrics(Driver driver, Neo4jProperties properties) {
+        this.driver = driver;
+        this.properties = properties;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        gauge(registry, "in-use", "Conexiones prestadas", Neo4jPoolStats::inUse);
+        gauge(registry, "idle", "Conexiones libres en el pool", Neo4jPoolStats::idle);
+        gauge(registry, "creating", "Conexiones en proceso de apertura", Neo4jPoolStats::creating);
+        gauge(registry, "acquiring", "Peticiones esperando una conexión", Neo4jPoolStats::acquiring);
+        Gauge.builder(PREFIX + ".max", properties, p -> p.getPool().getMaxConnectionPoolSize())
+                .description("Tamaño máximo configurado del pool")
+                .register(registry);
+
+        counter(registry, "created", "Conexiones abiertas", Neo4jPoolStats::created);
+        counter(registry, "closed", "Conexiones cerradas", Neo4jPoolStats::closed);
+        counter(registry, "failed", "Conexiones que no se pudieron abrir", Neo4jPoolStats::failedToCreate);
+        counter(registry, "acquisition.timeouts", "Adquisiciones que superaron connection-acquisition-timeout",
+                Neo4jPoolStats::timedOutToAcquire);
+
+        timer(registry, "acquisition", "Espera para obtener una conexión del pool",
+                Neo4jPoolStats::acquired, Neo4jPoolStats::totalAcquisitionTimeMs);
+        timer(registry, "creation", "Tiempo de apertura de conexiones",
+                Neo4jPoolStats::created, Neo4jPoolStats::totalConnectionTimeMs);
+        timer(registry, "usage", "Tiempo que una conexión permanece prestada",
+                Neo4jPoolStats::totalInUseCount, Neo4jPoolStats::totalInUseTimeMs);
+    }
+
+    private void gauge(MeterRegistry registry, String name, String description, ToDoubleFunction<Neo4jPoolStats> value) {
+        Gauge.builder(PREFIX + "." + name, driver, d -> value.applyAsDouble(Neo4jPoolStats.of(d)))
+                .description(description)
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String name, String description, ToDoubleFunction<Neo4jPoolStats> value) {
+        FunctionCounter.builder(PREFIX + "." + name, driver, d -> value.applyAsDouble(Neo4jPoolStats.of(d)))
+                .description(description)
+                .register(registry);
+    }
+
+    private void timer(MeterRegistry registry, String name, String description,
+                       ToLongFunction<Neo4jPoolStats> count, ToDoubleFunction<Neo4jPoolStats> totalMs) {
+        FunctionTimer.builder(PREFIX + "." + name, driver,
+                        d -> count.applyAsLong(Neo4jPoolStats.of(d)),
+                        d -> totalMs.applyAsDouble(Neo4jPoolStats.of(d)),
+                        TimeUnit.MILLISECONDS)
+                .description(description)
+                .register(registry);
+    }
+}
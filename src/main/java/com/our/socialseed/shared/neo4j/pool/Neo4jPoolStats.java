@@ -0,0 +1,52 @@
+package com.our.socialseed.shared.neo4j.pool;
+
+import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.Driver;
+
+/*
+📌 Foto agregada de los pools de conexiones Bolt del driver (uno por servidor del clúster).
+   Los contadores son acumulados desde el arranque; los tiempos totales vienen en milisegundos.
+ */
+public record Neo4jPoolStats(int inUse,
+                             int idle,
+                             int creating,
+                             int acquiring,
+                             long created,
+                             long failedToCreate,
+                             long closed,
+                             long acquired,
+                             long timedOutToAcquire,
+                             long totalAcquisitionTimeMs,
+                             long totalConnectionTimeMs,
+                             long totalInUseTimeMs,
+                             long totalInUseCount) {
+
+    public static final Neo4jPoolStats EMPTY = new Neo4jPoolStats(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    // Sin métricas habilitadas (spring.neo4j.pool.metrics-enabled=false) driver.metrics() lanza excepción
+    public static Neo4jPoolStats of(Driver driver) {
+        if (!driver.isMetricsEnabled()) {
+            return EMPTY;
+        }
+        int inUse = 0, idle = 0, creating = 0, acquiring = 0;
+        long created = 0, failedToCreate = 0, closed = 0, acquired = 0, timedOut = 0;
+        long acquisitionTime = 0, connectionTime = 0, inUseTime = 0, inUseCount = 0;
+        for (ConnectionPoolMetrics pool : driver.metrics().connectionPoolMetrics()) {
+            inUse += pool.inUse();
+            idle += pool.idle();
+            creating += pool.creating();
+            acquiring += pool.acquiring();
+            created += pool.created();
+            failedToCreate += pool.failedToCreate();
+            closed += pool.closed();
+            acquired += pool.acquired();
+            timedOut += pool.timedOutToAcquire();
+            acquisitionTime += pool.totalAcquisitionTime();
+            connectionTime += pool.totalConnectionTime();
+            inUseTime += pool.totalInUseTime();
+            inUseCount += pool.totalInUseCount();
+        }
+        return new Neo4jPoolStats(inUse, idle, creating, acquiring, created, failedToCreate, closed, acquired,
+                timedOut, acquisitionTime, connectionTime, inUseTime, inUseCount);
+    }
+}
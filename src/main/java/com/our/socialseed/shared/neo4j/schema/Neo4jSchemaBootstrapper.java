@@ -0,0 +1,199 @@
+package com.our.socialseed.shared.neo4j.schema;
+
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.summary.Plan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+📌 Aplica y verifica el esquema de Neo4j al arrancar (antes de aceptar tráfico).
+   1. Lee los scripts classpath:neo4j/schema/V*.cypher ordenados por versión.
+   2. Ejecuta los que no estén registrados en un nodo (:SchemaMigration {version}) o cuyo checksum cambió.
+      Las sentencias son IF NOT EXISTS, por lo que re-ejecutar un script es seguro.
+   3. Espera a que los índices estén ONLINE y comprueba:
+      - que cada entidad mapeada (@Node) tiene índice sobre su @Id con el mismo label,
+      - con EXPLAIN, que ninguna búsqueda declarada en los scripts cae en NodeByLabelScan/AllNodesScan.
+   El resultado queda en lastReport() y lo publica Neo4jSchemaHealthIndicator (grupo readiness).
+ */
+@Component
+@ConditionalOnProperty(prefix = "neo4j.schema", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class Neo4jSchemaBootstrapper implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(Neo4jSchemaBootstrapper.class);
+
+    private static final String SCRIPTS_LOCATION = "classpath:neo4j/schema/V*.cypher";
+
+    private static final Set<String> SCAN_OPERATORS = Set.of("NodeByLabelScan", "AllNodesScan");
+
+    private static final String APPLIED_QUERY =
+            "MATCH (m:SchemaMigration) RETURN m.version AS version, m.checksum AS checksum";
+
+    private static final String RECORD_QUERY = """
+            MERGE (m:SchemaMigration {version: $version})
+            SET m.description = $description, m.checksum = $checksum, m.appliedAt = datetime()
+            """;
+
+    private final Driver driver;
+    private final Neo4jMappingContext mappingContext;
+    private final Duration awaitIndexes;
+
+    private volatile SchemaReport lastReport;
+
+    public Neo4jSchemaBootstrapper(Driver driver,
+                                   Neo4jMappingContext mappingContext,
+                                   @Value("${neo4j.schema.await-indexes:60s}") Duration awaitIndexes) {
+        this.driver = driver;
+        this.mappingContext = mappingContext;
+        this.awaitIndexes = awaitIndexes;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            lastReport = bootstrap(loadScripts());
+        } catch (Exception e) {
+            lastReport = SchemaReport.failed("No se pudo aplicar el esquema de Neo4j: " + e.getMessage());
+        }
+
+        if (lastReport.healthy()) {
+            log.info("Esquema Neo4j en versión {} (aplicadas ahora: {}), búsquedas verificadas: {}",
+                    lastReport.currentVersion(), lastReport.appliedNow(), lastReport.verifiedLookups());
+        } else {
+            log.error("⚠️ Esquema Neo4j inconsistente: {}", lastReport.problems());
+        }
+        lastReport.warnings().forEach(warning -> log.warn("Esquema Neo4j: {}", warning));
+    }
+
+    public SchemaReport lastReport() {
+        return lastReport;
+    }
+
+    List<SchemaScript> loadScripts() throws IOException {
+        List<SchemaScript> scripts = new ArrayList<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(SCRIPTS_LOCATION)) {
+            String content = resource.getContentAsString(StandardCharsets.UTF_8);
+            scripts.add(SchemaScript.parse(resource.getFilename(), content));
+        }
+        scripts.sort(Comparator.comparingInt(SchemaScript::version));
+        return scripts;
+    }
+
+    private SchemaReport bootstrap(List<SchemaScript> scripts) {
+        List<Integer> appliedNow = new ArrayList<>();
+        List<String> problems = new ArrayList<>();
+        List<String> warnings = new ArrayList<>();
+
+        try (Session session = driver.session(SessionConfig.builder().withDefaultAccessMode(AccessMode.WRITE).build())) {
+            Map<Integer, Long> applied = new HashMap<>();
+            session.run(APPLIED_QUERY).forEachRemaining(record -> applied.put(
+                    record.get("version").asInt(), record.get("checksum").asLong()));
+
+            for (SchemaScript script : scripts) {
+                Long checksum = applied.get(script.version());
+                if (checksum != null && checksum == script.checksum()) {
+                    continue;
+                }
+                if (checksum != null) {
+                    warnings.add("El script V" + script.version() + " cambió desde que se aplicó; se re-ejecuta");
+                }
+                // Las sentencias de esquema no pueden compartir transacción con escrituras: una auto-commit por sentencia
+                script.statements().forEach(statement -> session.run(statement).consume());
+                session.run(RECORD_QUERY, Map.of(
+                        "version", script.version(),
+                        "description", script.description(),
+                        "checksum", script.checksum())).consume();
+                appliedNow.add(script.version());
+            }
+
+            session.run("CALL db.awaitIndexes($timeout)", Map.of("timeout", awaitIndexes.toSeconds())).consume();
+
+            Set<SchemaScript.Lookup> lookups = new LinkedHashSet<>();
+            scripts.forEach(script -> lookups.addAll(script.lookups()));
+            checkMappedLabels(lookups, problems, warnings);
+
+            List<String> verified = new ArrayList<>();
+            for (SchemaScript.Lookup lookup : lookups) {
+                String scan = findScan(session, lookup);
+                if (scan == null) {
+                    verified.add(lookup.toString());
+                } else {
+                    problems.add("La búsqueda por " + lookup + " usa " + scan + " en lugar de un índice");
+                }
+            }
+
+            int currentVersion = scripts.isEmpty() ? 0 : scripts.get(scripts.size() - 1).version();
+            return new SchemaReport(currentVersion, appliedNow, verified, problems, warnings);
+        }
+    }
+
+    private void checkMappedLabels(Set<SchemaScript.Lookup> lookups, List<String> problems, List<String> warnings) {
+        Set<String> mappedLabels = new LinkedHashSet<>();
+        for (Neo4jPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.hasIdProperty() || entity.isRelationshipPropertiesEntity()) {
+                continue;
+            }
+            String label = entity.getPrimaryLabel();
+            String idProperty = entity.getRequiredIdProperty().getPropertyName();
+            mappedLabels.add(label);
+            if (!lookups.contains(new SchemaScript.Lookup(label, idProperty))) {
+                problems.add("La entidad " + entity.getType().getSimpleName() + " (:" + label + ") no tiene índice sobre "
+                        + idProperty + "; findById hará un scan del label");
+            }
+        }
+
+        lookups.stream()
+                .map(SchemaScript.Lookup::label)
+                .filter(label -> !mappedLabels.contains(label) && !"SchemaMigration".equals(label))
+                .distinct()
+                .forEach(label -> warnings.add("El label :" + label + " de los scripts no corresponde a ninguna entidad mapeada"));
+    }
+
+    private String findScan(Session session, SchemaScript.Lookup lookup) {
+        String query = "EXPLAIN MATCH (n:`" + lookup.label() + "`) WHERE n.`" + lookup.property() + "` = $value RETURN n";
+        Plan plan = session.run(query, Map.of("value", "")).consume().plan();
+        return findScan(plan);
+    }
+
+    static String findScan(Plan plan) {
+        if (plan == null) {
+            return null;
+        }
+        // En Neo4j 5 el operador viene con sufijo de runtime, p. ej. "NodeByLabelScan@neo4j"
+        String operator = plan.operatorType();
+        int at = operator.indexOf('@');
+        String name = at < 0 ? operator : operator.substring(0, at);
+        if (SCAN_OPERATORS.contains(name)) {
+            return name;
+        }
+        for (Plan child : plan.children()) {
+            String scan = findScan(child);
+            if (scan != null) {
+                return scan;
+            }
+        }
+        return null;
+    }
+}
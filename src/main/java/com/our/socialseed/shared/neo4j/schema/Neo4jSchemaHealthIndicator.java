@@ -0,0 +1,46 @@
+package com.our.socialseed.shared.neo4j.schema;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/*
+📌 Publica el resultado de Neo4jSchemaBootstrapper como indicador "neo4jSchema".
+   Está incluido en el grupo readiness (/actuator/health/readiness):
+   - neo4j.schema.on-mismatch=fail (por defecto): un esquema inconsistente deja la instancia fuera de servicio.
+   - neo4j.schema.on-mismatch=warn: se informa UP con los problemas en los detalles (y ERROR en el log).
+ */
+@Component
+@ConditionalOnProperty(prefix = "neo4j.schema", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class Neo4jSchemaHealthIndicator implements HealthIndicator {
+
+    private final Neo4jSchemaBootstrapper bootstrapper;
+    private final boolean failOnMismatch;
+
+    public Neo4jSchemaHealthIndicator(Neo4jSchemaBootstrapper bootstrapper,
+                                      @Value("${neo4j.schema.on-mismatch:fail}") String onMismatch) {
+        this.bootstrapper = bootstrapper;
+        this.failOnMismatch = !"warn".equalsIgnoreCase(onMismatch);
+    }
+
+    @Override
+    public Health health() {
+        SchemaReport report = bootstrapper.lastReport();
+        if (report == null) {
+            return Health.outOfService().withDetail("schema", "pendiente de aplicar").build();
+        }
+
+        Health.Builder builder = report.healthy() || !failOnMismatch ? Health.up() : Health.down();
+        builder.withDetail("version", report.currentVersion())
+                .withDetail("verifiedLookups", report.verifiedLookups());
+        if (!report.problems().isEmpty()) {
+            builder.withDetail("problems", report.problems());
+        }
+        if (!report.warnings().isEmpty()) {
+            builder.withDetail("warnings", report.warnings());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.our.socialseed.shared.neo4j.schema;
+
+import java.util.List;
+
+/*
+📌 Resultado del arranque del esquema: versiones aplicadas en esta ejecución, búsquedas verificadas
+   y problemas detectados (label sin índice, búsqueda que cae en scan, error aplicando un script...).
+ */
+public record SchemaReport(int currentVersion,
+                           List<Integer> appliedNow,
+                           List<String> verifiedLookups,
+                           List<String> problems,
+                           List<String> warnings) {
+
+    public boolean healthy() {
+        return problems.isEmpty();
+    }
+
+    public static SchemaReport failed(String problem) {
+        return new SchemaReport(0, List.of(), List.of(), List.of(problem), List.of());
+    }
+}
@@ -0,0 +1,80 @@
+package com.our.socialseed.shared.neo4j.schema;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/*
+📌 Script de esquema versionado (classpath:neo4j/schema/V<version>__<descripcion>.cypher).
+   - Las sentencias se separan por ';' y las líneas que empiezan por // son comentarios.
+   - Cada sentencia debe ser idempotente (IF NOT EXISTS): el script puede re-ejecutarse sin efectos.
+   - lookups() devuelve los pares (label, propiedad) respaldados por índice que declara el script,
+     para verificar después que las búsquedas no caen en un NodeByLabelScan.
+ */
+public record SchemaScript(int version, String description, long checksum, List<String> statements) {
+
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(.+)\\.cypher");
+
+    // FOR (u:User) REQUIRE u.id IS UNIQUE  |  FOR (u:User) ON (u.email)
+    private static final Pattern LOOKUP = Pattern.compile(
+            "FOR\\s*\\(\\s*(\\w+)\\s*:\\s*`?(\\w+)`?\\s*\\)\\s*(?:REQUIRE|ON)\\s*\\(?\\s*\\1\\.`?(\\w+)`?",
+            Pattern.CASE_INSENSITIVE);
+
+    public record Lookup(String label, String property) {
+        @Override
+        public String toString() {
+            return label + "." + property;
+        }
+    }
+
+    public static SchemaScript parse(String fileName, String content) {
+        Matcher name = FILE_NAME.matcher(fileName);
+        if (!name.matches()) {
+            throw new IllegalArgumentException("Nombre de script de esquema inválido: " + fileName);
+        }
+
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : content.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("//")) {
+                continue;
+            }
+            current.append(trimmed).append(' ');
+            if (trimmed.endsWith(";")) {
+                addStatement(statements, current);
+            }
+        }
+        addStatement(statements, current);
+
+        CRC32 crc = new CRC32();
+        crc.update(content.getBytes(StandardCharsets.UTF_8));
+        return new SchemaScript(Integer.parseInt(name.group(1)), name.group(2).replace('_', ' '),
+                crc.getValue(), List.copyOf(statements));
+    }
+
+    public List<Lookup> lookups() {
+        List<Lookup> lookups = new ArrayList<>();
+        for (String statement : statements) {
+            Matcher matcher = LOOKUP.matcher(statement);
+            if (matcher.find()) {
+                lookups.add(new Lookup(matcher.group(2), matcher.group(3)));
+            }
+        }
+        return lookups;
+    }
+
+    private static void addStatement(List<String> statements, StringBuilder current) {
+        String statement = current.toString().trim();
+        if (statement.endsWith(";")) {
+            statement = statement.substring(0, statement.length() - 1).trim();
+        }
+        if (!statement.isEmpty()) {
+            statements.add(statement);
+        }
+        current.setLength(0);
+    }
+}
@@ -0,0 +1,33 @@
+package com.our.socialseed.shared.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados con paginación por cursor (keyset).
+ * {@code next} es opaco para el cliente y es null cuando no hay más páginas.
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String next
+) {
+    /**
+     * Construye la página a partir de {@code limit + 1} filas: la fila sobrante solo indica
+     * que existe una página siguiente, cuyo cursor es el de la última fila devuelta.
+     */
+    public static <T> CursorPage<T> fromLookahead(List<T> rows, int limit, Function<T, String> cursorOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), next);
+    }
+
+    public boolean isEmpty() {
+        return items == null || items.isEmpty();
+    }
+}
@@ -0,0 +1,7 @@
+package com.our.socialseed.shared.pagination;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid cursor: " + cursor);
+    }
+}
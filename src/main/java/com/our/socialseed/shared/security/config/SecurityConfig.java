@@ -1,7 +1,10 @@
 package com.our.socialseed.shared.security.config;
 
 import com.our.socialseed.shared.security.jwt.JwtAuthFilter;
+import jakarta.servlet.DispatcherType;
 import com.our.socialseed.shared.security.jwt.JWTProvider;
+import com.our.socialseed.shared.security.jwt.TokenRevocationList;
+import com.our.socialseed.shared.security.jwt.TokenVersionRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -12,9 +15,13 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JWTProvider jwtProvider;
+    private final TokenVersionRegistry tokenVersions;
+    private final TokenRevocationList revocations;
 
-    public SecurityConfig(JWTProvider jwtProvider) {
+    public SecurityConfig(JWTProvider jwtProvider, TokenVersionRegistry tokenVersions, TokenRevocationList revocations) {
         this.jwtProvider = jwtProvider;
+        this.tokenVersions = tokenVersions;
+        this.revocations = revocations;
     }
 
     @Bean
@@ -22,18 +29,25 @@ public class SecurityConfig {
         http
                 .csrf(csrf -> csrf.disable()) // desactiva CSRF si usas API REST
                 .authorizeHttpRequests(auth -> auth
+                        // el re-dispatch de una respuesta asíncrona (Mono, perfil "reactive") ya se autorizó en la petición original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/about",    // informacion sobre la red social
                                 "/auth/**",              // login, register
+                                "/.well-known/jwks.json", // claves públicas para verificar los JWT
+                                "/actuator/health",       // sondas de k8s (liveness / readiness) sin token
+                                "/actuator/health/**",
+                                "/actuator/info",
                                 "/public/**",            // recursos estáticos, imágenes públicas
                                 "/assets/**",            // estáticos (si aplica)
                                 "/swagger-ui/**",        // Swagger UI assets
                                 "/v3/api-docs/**",       // documentación OpenAPI
                                 "/swagger-ui.html"       // antigua URL
                         ).permitAll() // ✅ acceso público
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN") // 🛡️ solo administradores
                         .anyRequest().authenticated() // 🔒 resto protegido
                 )
-                .addFilterBefore(new JwtAuthFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthFilter(jwtProvider, tokenVersions, revocations), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
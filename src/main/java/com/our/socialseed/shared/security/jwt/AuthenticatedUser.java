@@ -0,0 +1,24 @@
+package com.our.socialseed.shared.security.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/*
+📌 Principal que JwtAuthFilter deja en el contexto de seguridad: el User de Spring (getName() = username,
+   como hasta ahora) más el uid del token, para que los controladores sepan quién actúa sin ir a BD.
+ */
+public class AuthenticatedUser extends User {
+    private final UUID id;
+
+    public AuthenticatedUser(UUID id, String username, Collection<? extends GrantedAuthority> authorities) {
+        super(username, "", authorities);
+        this.id = id;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
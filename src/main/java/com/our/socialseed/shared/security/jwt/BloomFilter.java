@@ -0,0 +1,61 @@
+package com.our.socialseed.shared.security.jwt;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+📌 Filtro de Bloom de ids de token sobre un AtomicLongArray (bits potencia de 2).
+   mightContain == false es definitivo; true puede ser un falso positivo (probabilidad ~ falsePositiveRate
+   mientras no se superen expectedInsertions). put es lock-free (un getAndUpdate por bit).
+   Los índices salen de dos hashes de 64 bits del UUID (doble hashing de Kirsch-Mitzenmacher).
+ */
+final class BloomFilter {
+    private final int hashes;
+    private final long mask;
+    private final AtomicLongArray words;
+
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double optimalBits = -n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long bits = Long.highestOneBit(Math.max(64, (long) Math.ceil(optimalBits)) - 1) << 1;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        this.mask = bits - 1;
+        this.words = new AtomicLongArray((int) (bits >>> 6));
+    }
+
+    void put(UUID id) {
+        long h1 = mix(id.getMostSignificantBits());
+        long h2 = mix(id.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = (h1 + i * h2) & mask;
+            long flag = 1L << bit;
+            words.getAndUpdate((int) (bit >>> 6), word -> word | flag);
+        }
+    }
+
+    boolean mightContain(UUID id) {
+        long h1 = mix(id.getMostSignificantBits());
+        long h2 = mix(id.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = (h1 + i * h2) & mask;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitSize() {
+        return mask + 1;
+    }
+
+    // fmix64 de MurmurHash3: los bits de versión/variante del UUID no sesgan los índices
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,55 +1,192 @@
 package com.our.socialseed.shared.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+/*
+📌 Emisión y verificación de JWT firmados con el anillo de claves asimétricas (JwtKeyRing, RS256/ES256).
+   - Cada token lleva en la cabecera el kid de su clave; cualquier servicio puede verificarlo en local
+     con el JWKS publicado en /.well-known/jwks.json, sin compartir secretos ni llamar a este backend.
+   - Claims: jti (id del token, para revocarlo en TokenRevocationList), sub (username), uid (id del usuario),
+     roles y ver (versión de token, ver TokenVersionRegistry).
+     Con ellas el filtro arma las authorities sin consultar Postgres ni Neo4j.
+   - Un único JwtParser inmutable construido al arrancar (es thread-safe): verificar no reconstruye nada.
+   - verify() parsea y comprueba la firma una sola vez por petición y devuelve el JwtPrincipal.
+   - Caché opcional (jwt.cache.enabled) de tokens ya verificados, acotada (jwt.cache.max-size) y con la clave
+     = SHA-256 del token (los tokens no quedan en memoria). Cada entrada caduca en el exp de su token,
+     así que un token expirado nunca se acepta desde la caché. Métricas: cache.* con tag cache=jwt.principals.
+ */
 @Component
-public class JWTProvider {
+public class JWTProvider implements MeterBinder {
 
-    private final Key secretKey;
+    public static final String CACHE_NAME = "jwt.principals";
+
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLES_CLAIM = "roles";
+    static final String VERSION_CLAIM = "ver";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final JwtKeyRing keyRing;
     private final long expirationMillis;
+    private final JwtParser parser;
+    private final Cache<TokenHash, JwtPrincipal> principals;
 
-    public JWTProvider(@Value("${jwt.secret}") String secret,
-                       @Value("${jwt.expiration}") long expirationMillis) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+    public JWTProvider(JwtKeyRing keyRing,
+                       @Value("${jwt.expiration}") long expirationMillis,
+                       @Value("${jwt.cache.enabled:true}") boolean cacheEnabled,
+                       @Value("${jwt.cache.max-size:100000}") long cacheMaxSize) {
+        this.keyRing = keyRing;
         this.expirationMillis = expirationMillis;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyRingResolver(keyRing))
+                .build();
+        this.principals = cacheEnabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheMaxSize)
+                        .expireAfter(new UntilTokenExpires())
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    public long expirationSeconds() {
+        return expirationMillis / 1000;
     }
 
-    public String generateToken(String username) {
+    public String generateToken(UUID userId, String username, Collection<String> roles, int tokenVersion) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expirationMillis);
+        JwtSigningKey signingKey = keyRing.signingKey();
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
+                .claim(USER_ID_CLAIM, userId.toString())
+                .claim(ROLES_CLAIM, List.copyOf(roles))
+                .claim(VERSION_CLAIM, tokenVersion)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .signWith(signingKey.privateKey(), signingKey.algorithm())
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    // Optional.empty() si el token está mal formado, la firma no cuadra, ha expirado o le faltan claims
+    public Optional<JwtPrincipal> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        if (principals == null) {
+            return parse(token);
+        }
+        TokenHash key = TokenHash.of(token);
+        JwtPrincipal cached = principals.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<JwtPrincipal> principal = parse(token);
+        principal.ifPresent(verified -> principals.put(key, verified));
+        return principal;
+    }
+
+    private Optional<JwtPrincipal> parse(String token) {
         try {
-            getClaims(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            String userId = claims.get(USER_ID_CLAIM, String.class);
+            Integer tokenVersion = claims.get(VERSION_CLAIM, Integer.class);
+            if (claims.getId() == null || claims.getSubject() == null || claims.getExpiration() == null
+                    || userId == null || tokenVersion == null || !(claims.get(ROLES_CLAIM) instanceof List<?> roles)) {
+                return Optional.empty();
+            }
+            return Optional.of(new JwtPrincipal(
+                    UUID.fromString(claims.getId()),
+                    UUID.fromString(userId),
+                    claims.getSubject(),
+                    roles.stream().map(String::valueOf).toList(),
+                    tokenVersion,
+                    claims.getExpiration().toInstant()));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
-    public String getUsernameFromToken(String token) {
-        return getClaims(token).getSubject();
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (principals != null) {
+            CaffeineCacheMetrics.monitor(registry, principals, CACHE_NAME);
+        }
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // Elige la clave pública por kid y exige que el alg de la cabecera sea el de esa clave
+    private static final class KeyRingResolver extends SigningKeyResolverAdapter {
+        private final JwtKeyRing keyRing;
+
+        KeyRingResolver(JwtKeyRing keyRing) {
+            this.keyRing = keyRing;
+        }
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            JwtSigningKey key = keyRing.verificationKey(header.getKeyId())
+                    .orElseThrow(() -> new UnsupportedJwtException("kid desconocido: " + header.getKeyId()));
+            if (!key.algorithm().getValue().equals(header.getAlgorithm())) {
+                throw new UnsupportedJwtException("alg " + header.getAlgorithm() + " no corresponde al kid " + key.kid());
+            }
+            return key.publicKey();
+        }
+    }
+
+    // 128 bits del SHA-256 del token: clave compacta y sin guardar el token en claro
+    private record TokenHash(long high, long low) {
+        static TokenHash of(String token) {
+            byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new TokenHash(buffer.getLong(), buffer.getLong());
+        }
+    }
+
+    private static final class UntilTokenExpires implements Expiry<TokenHash, JwtPrincipal> {
+        @Override
+        public long expireAfterCreate(TokenHash key, JwtPrincipal principal, long currentTime) {
+            long millis = principal.expiresAt().toEpochMilli() - Instant.now().toEpochMilli();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenHash key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenHash key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
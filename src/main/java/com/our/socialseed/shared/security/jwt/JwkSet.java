@@ -0,0 +1,14 @@
+package com.our.socialseed.shared.security.jwt;
+
+import java.time.Duration;
+
+/*
+📌 JWKS (RFC 7517) ya serializado: se recalcula solo cuando cambia el anillo de claves,
+   así servir /.well-known/jwks.json es devolver este array (no modificarlo).
+ */
+public record JwkSet(
+        byte[] json,
+        String etag,
+        Duration maxAge
+) {
+}
@@ -5,23 +5,29 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JWTProvider jwtProvider;
+    private final TokenVersionRegistry tokenVersions;
+    private final TokenRevocationList revocations;
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     private final List<String> excludedPaths = List.of(
             "/about",
+            "/.well-known/**",
+            "/actuator/health",
+            "/actuator/health/**",
+            "/actuator/info",
             "/public/**",
             "/assets/**",
             "/swagger-ui/**",
@@ -29,8 +35,10 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             "/swagger-ui.html"
     );
 
-    public JwtAuthFilter(JWTProvider jwtProvider) {
+    public JwtAuthFilter(JWTProvider jwtProvider, TokenVersionRegistry tokenVersions, TokenRevocationList revocations) {
         this.jwtProvider = jwtProvider;
+        this.tokenVersions = tokenVersions;
+        this.revocations = revocations;
     }
 
     @Override
@@ -50,13 +58,21 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
 
-            if (jwtProvider.validateToken(token)) {
-                String username = jwtProvider.getUsernameFromToken(token);
+            // un único parseo y verificación de firma por petición (o ninguno si el token está en caché);
+            // roles y revocación salen del propio token y de los registros en memoria, sin ir a BD
+            Optional<JwtPrincipal> verified = jwtProvider.verify(token)
+                    .filter(principal -> tokenVersions.isCurrent(principal.userId(), principal.tokenVersion()))
+                    .filter(principal -> !revocations.isRevoked(principal.tokenId()));
+
+            if (verified.isPresent()) {
+                JwtPrincipal principal = verified.get();
+                List<SimpleGrantedAuthority> authorities = principal.roles().stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .toList();
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                new User(username, "", Collections.emptyList()), null,
-                                Collections.emptyList());
+                                new AuthenticatedUser(principal.userId(), principal.username(), authorities), null, authorities);
 
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -0,0 +1,352 @@
+package com.our.socialseed.shared.security.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+📌 Anillo de claves asimétricas para firmar los JWT (RS256 o ES256) con rotación.
+   - Firma siempre la clave activa más reciente; su kid va en la cabecera del token.
+   - Cada jwt.keys.rotation-interval se genera una clave nueva que se publica en el JWKS jwt.keys.publish-ahead
+     antes de empezar a firmar con ella: un verificador que cachee el JWKS la mitad de ese tiempo (max-age)
+     nunca ve un kid desconocido.
+   - Una clave sustituida se conserva (y se publica) mientras puedan quedar tokens suyos vivos: jwt.expiration
+     más un minuto de margen de reloj. Después se descarta.
+   - jwt.keys.directory (opcional): las claves se guardan ahí, una por fichero, para sobrevivir a reinicios y
+     compartirlas entre réplicas. Cada rotación relee el directorio, y un kid desconocido fuerza una relectura
+     (como mucho una cada 5 s). Sin directorio las claves viven solo en memoria: vale para desarrollo, pero
+     un reinicio invalida todos los tokens y cada réplica firmaría con claves que las otras no conocen.
+     Con jwt.keys.require-directory=true (perfil prod) arrancar sin directorio es un error.
+   El JWKS se serializa una vez por cambio del anillo (JwkSet), no por petición.
+ */
+@Component
+public class JwtKeyRing implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+    private static final long RELOAD_THROTTLE_MILLIS = 5_000;
+    private static final String KEY_FILE_SUFFIX = ".key";
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final SignatureAlgorithm algorithm;
+    private final Duration rotationInterval;
+    private final Duration publishAhead;
+    private final Duration tokenLifetime;
+    private final Path directory;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile State state = new State(List.of(), Map.of(), null);
+    private volatile long lastReloadMillis;
+
+    @Autowired
+    public JwtKeyRing(@Value("${jwt.keys.algorithm:RS256}") String algorithm,
+                      @Value("${jwt.keys.rotation-interval:7d}") Duration rotationInterval,
+                      @Value("${jwt.keys.publish-ahead:10m}") Duration publishAhead,
+                      @Value("${jwt.expiration}") long expirationMillis,
+                      @Value("${jwt.keys.directory:}") String directory,
+                      @Value("${jwt.keys.require-directory:false}") boolean requireDirectory) {
+        this(SignatureAlgorithm.forName(algorithm), rotationInterval, publishAhead, Duration.ofMillis(expirationMillis),
+                keyDirectory(directory, requireDirectory), Clock.systemUTC());
+    }
+
+    private static Path keyDirectory(String directory, boolean required) {
+        if (directory.isBlank()) {
+            if (required) {
+                throw new IllegalStateException("jwt.keys.directory es obligatorio (jwt.keys.require-directory=true): "
+                        + "sin un directorio compartido las claves no sobreviven a reinicios ni se comparten entre réplicas");
+            }
+            return null;
+        }
+        return Path.of(directory);
+    }
+
+    JwtKeyRing(SignatureAlgorithm algorithm, Duration rotationInterval, Duration publishAhead, Duration tokenLifetime,
+               Path directory, Clock clock) {
+        if (algorithm != SignatureAlgorithm.RS256 && algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalArgumentException("jwt.keys.algorithm debe ser RS256 o ES256: " + algorithm);
+        }
+        if (publishAhead.compareTo(rotationInterval) >= 0) {
+            throw new IllegalArgumentException("jwt.keys.publish-ahead debe ser menor que jwt.keys.rotation-interval");
+        }
+        this.algorithm = algorithm;
+        this.rotationInterval = rotationInterval;
+        this.publishAhead = publishAhead;
+        this.tokenLifetime = tokenLifetime;
+        this.directory = directory;
+        this.clock = clock;
+        if (directory != null) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo crear jwt.keys.directory " + directory, e);
+            }
+        }
+        rotate();
+    }
+
+    // Clave con la que se firman los tokens nuevos
+    public JwtSigningKey signingKey() {
+        Instant now = clock.instant();
+        List<JwtSigningKey> keys = state.keys();
+        for (int i = keys.size() - 1; i > 0; i--) {
+            if (!keys.get(i).activatesAt().isAfter(now)) {
+                return keys.get(i);
+            }
+        }
+        return keys.get(0);
+    }
+
+    // Clave pública para verificar un token con ese kid (incluidas las pendientes y las sustituidas aún vigentes)
+    public Optional<JwtSigningKey> verificationKey(String kid) {
+        if (kid == null) {
+            return Optional.empty();
+        }
+        JwtSigningKey key = state.byKid().get(kid);
+        if (key == null && directory != null && clock.millis() - lastReloadMillis >= RELOAD_THROTTLE_MILLIS) {
+            // puede haberla generado otra réplica que comparte el directorio
+            refresh(false);
+            key = state.byKid().get(kid);
+        }
+        return Optional.ofNullable(key);
+    }
+
+    public JwkSet jwks() {
+        return state.jwks();
+    }
+
+    @Scheduled(initialDelayString = "${jwt.keys.check-interval:1m}", fixedDelayString = "${jwt.keys.check-interval:1m}")
+    public void rotate() {
+        refresh(true);
+    }
+
+    private synchronized void refresh(boolean allowRotation) {
+        Instant now = clock.instant();
+        lastReloadMillis = clock.millis();
+        List<JwtSigningKey> keys = new ArrayList<>(directory == null ? state.keys() : load());
+
+        if (allowRotation) {
+            JwtSigningKey newest = keys.isEmpty() ? null : keys.get(keys.size() - 1);
+            if (newest == null) {
+                // primera clave: no hay verificadores que avisar, se usa ya
+                keys.add(store(generate(now)));
+            } else if (newest.algorithm() != algorithm
+                    || !newest.activatesAt().plus(rotationInterval).minus(publishAhead).isAfter(now)) {
+                JwtSigningKey next = store(generate(now.plus(publishAhead)));
+                keys.add(next);
+                log.info("Nueva clave JWT {} ({}), firma a partir de {}", next.kid(), algorithm, next.activatesAt());
+            }
+        }
+
+        List<JwtSigningKey> retained = prune(keys, now);
+        if (!retained.equals(state.keys())) {
+            state = new State(List.copyOf(retained),
+                    retained.stream().collect(Collectors.toUnmodifiableMap(JwtSigningKey::kid, Function.identity())),
+                    toJwkSet(retained));
+        }
+    }
+
+    private List<JwtSigningKey> prune(List<JwtSigningKey> keys, Instant now) {
+        keys.sort(Comparator.comparing(JwtSigningKey::activatesAt).thenComparing(JwtSigningKey::kid));
+        List<JwtSigningKey> retained = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            JwtSigningKey key = keys.get(i);
+            Instant supersededAt = i + 1 < keys.size() ? keys.get(i + 1).activatesAt() : null;
+            // los tokens firmados con una clave sustituida siguen vivos hasta tokenLifetime después
+            if (supersededAt != null && supersededAt.plus(tokenLifetime).plus(CLOCK_SKEW).isBefore(now)) {
+                delete(key);
+                log.info("Clave JWT {} retirada", key.kid());
+            } else {
+                retained.add(key);
+            }
+        }
+        return retained;
+    }
+
+    private JwtSigningKey generate(Instant activatesAt) {
+        KeyPair pair = Keys.keyPairFor(algorithm);
+        return new JwtSigningKey(kid(pair.getPublic()), algorithm, pair.getPrivate(), pair.getPublic(), activatesAt);
+    }
+
+    // kid = primeros 16 bytes del SHA-256 de la clave pública (X.509), en base64url
+    private static String kid(PublicKey publicKey) {
+        return BASE64_URL.encodeToString(Arrays.copyOf(sha256(publicKey.getEncoded()), 16));
+    }
+
+    // -------------------------
+    // JWKS
+    // -------------------------
+    private JwkSet toJwkSet(List<JwtSigningKey> keys) {
+        List<Map<String, Object>> jwks = keys.stream().map(JwtKeyRing::toJwk).toList();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(Map.of("keys", jwks));
+            String etag = "\"" + HexFormat.of().formatHex(sha256(json), 0, 16) + "\"";
+            return new JwkSet(json, etag, publishAhead.dividedBy(2));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el JWKS", e);
+        }
+    }
+
+    private static Map<String, Object> toJwk(JwtSigningKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (key.publicKey() instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(rsa.getModulus(), 0));
+            jwk.put("e", base64Url(rsa.getPublicExponent(), 0));
+        } else if (key.publicKey() instanceof ECPublicKey ec) {
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(ec.getW().getAffineX(), 32));
+            jwk.put("y", base64Url(ec.getW().getAffineY(), 32));
+        }
+        jwk.put("use", "sig");
+        jwk.put("alg", key.algorithm().getValue());
+        jwk.put("kid", key.kid());
+        return jwk;
+    }
+
+    // Entero sin signo big-endian; con length > 0 se rellena con ceros a la izquierda (coordenadas EC)
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (length > bytes.length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return BASE64_URL.encodeToString(bytes);
+    }
+
+    // -------------------------
+    // Persistencia en jwt.keys.directory
+    // -------------------------
+    private JwtSigningKey store(JwtSigningKey key) {
+        if (directory == null) {
+            return key;
+        }
+        Properties properties = new Properties();
+        properties.setProperty("algorithm", key.algorithm().getValue());
+        properties.setProperty("activatesAt", key.activatesAt().toString());
+        properties.setProperty("private", Base64.getEncoder().encodeToString(key.privateKey().getEncoded()));
+        properties.setProperty("public", Base64.getEncoder().encodeToString(key.publicKey().getEncoded()));
+        try {
+            // createTempFile deja permisos solo para el propietario; el move atómico evita que otra réplica lea medio fichero
+            Path tmp = Files.createTempFile(directory, key.kid(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, null);
+            }
+            Files.move(tmp, directory.resolve(key.kid() + KEY_FILE_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar la clave JWT " + key.kid(), e);
+        }
+        return key;
+    }
+
+    private List<JwtSigningKey> load() {
+        List<JwtSigningKey> keys = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + KEY_FILE_SUFFIX)) {
+            for (Path file : files) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    Properties properties = new Properties();
+                    properties.load(in);
+                    keys.add(parse(properties));
+                } catch (IOException | GeneralSecurityException | RuntimeException e) {
+                    log.warn("Se ignora la clave JWT {}: {}", file.getFileName(), e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer jwt.keys.directory " + directory, e);
+        }
+        return keys;
+    }
+
+    private static JwtSigningKey parse(Properties properties) throws GeneralSecurityException {
+        SignatureAlgorithm keyAlgorithm = SignatureAlgorithm.forName(properties.getProperty("algorithm"));
+        KeyFactory factory = KeyFactory.getInstance(keyAlgorithm.getFamilyName().startsWith("RSA") ? "RSA" : "EC");
+        PublicKey publicKey = factory.generatePublic(
+                new X509EncodedKeySpec(Base64.getDecoder().decode(properties.getProperty("public"))));
+        return new JwtSigningKey(
+                kid(publicKey),
+                keyAlgorithm,
+                factory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(properties.getProperty("private")))),
+                publicKey,
+                Instant.parse(properties.getProperty("activatesAt")));
+    }
+
+    private void delete(JwtSigningKey key) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(directory.resolve(key.kid() + KEY_FILE_SUFFIX));
+        } catch (IOException e) {
+            log.warn("No se pudo borrar la clave JWT retirada {}: {}", key.kid(), e.getMessage());
+        }
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("security.jwt.keys", this, ring -> ring.state.keys().size())
+                .description("Claves de firma JWT publicadas (activa, pendiente y sustituidas aún vigentes)")
+                .register(registry);
+    }
+
+    private record State(List<JwtSigningKey> keys, Map<String, JwtSigningKey> byKid, JwkSet jwks) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.our.socialseed.shared.security.jwt;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/*
+📌 Resultado de verificar un JWT: firma y expiración ya comprobadas.
+   Lleva todo lo que el filtro necesita (jti, uid, roles y versión de token) para autenticar sin ir a BD;
+   se cachea por token hasta expiresAt.
+ */
+public record JwtPrincipal(
+        UUID tokenId,
+        UUID userId,
+        String username,
+        List<String> roles,
+        int tokenVersion,
+        Instant expiresAt
+) {
+}
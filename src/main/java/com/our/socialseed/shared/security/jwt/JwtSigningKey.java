@@ -0,0 +1,20 @@
+package com.our.socialseed.shared.security.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Instant;
+
+/*
+📌 Una clave del anillo de firma: se identifica por kid (cabecera del JWT) y firma a partir de activatesAt.
+   Antes de esa fecha ya se publica en el JWKS para que los verificadores la conozcan cuando empiece a usarse.
+ */
+public record JwtSigningKey(
+        String kid,
+        SignatureAlgorithm algorithm,
+        PrivateKey privateKey,
+        PublicKey publicKey,
+        Instant activatesAt
+) {
+}
@@ -0,0 +1,97 @@
+package com.our.socialseed.shared.security.jwt;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+📌 Access tokens revocados (logout) por su jti, consultados en cada petición sin ir a BD.
+   - Un filtro de Bloom delante de un conjunto exacto: la respuesta habitual ("no revocado") es un
+     mightContain que falla en unos nanosegundos; solo los positivos (revocados o falsos positivos) miran el mapa.
+   - Cada jti se guarda hasta el exp de su token: después el propio JWT ya no vale.
+   - El Bloom no admite borrados, así que cada jwt.revocation.rebuild-interval se purgan los expirados y se
+     reconstruye (dimensionado para max(expected-revocations, 2 · revocados)).
+   - El módulo auth persiste las revocaciones y las carga al arrancar; es local a cada instancia.
+ */
+@Component
+public class TokenRevocationList implements MeterBinder {
+
+    private final Map<UUID, Instant> revoked = new ConcurrentHashMap<>();
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+    private final Clock clock;
+    private final LongAdder falsePositives = new LongAdder();
+
+    private volatile BloomFilter filter;
+
+    @Autowired
+    public TokenRevocationList(@Value("${jwt.revocation.expected-revocations:100000}") int expectedRevocations,
+                               @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this(expectedRevocations, falsePositiveRate, Clock.systemUTC());
+    }
+
+    TokenRevocationList(int expectedRevocations, double falsePositiveRate, Clock clock) {
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.clock = clock;
+        this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    public boolean isRevoked(UUID tokenId) {
+        if (!filter.mightContain(tokenId)) {
+            return false;
+        }
+        if (revoked.containsKey(tokenId)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    // Sincronizado con rebuild para que una revocación no se pierda al sustituir el filtro
+    public synchronized void revoke(UUID tokenId, Instant expiresAt) {
+        if (!expiresAt.isAfter(clock.instant())) {
+            return;
+        }
+        revoked.put(tokenId, expiresAt);
+        filter.put(tokenId);
+    }
+
+    public void revokeAll(Map<UUID, Instant> tokens) {
+        tokens.forEach(this::revoke);
+    }
+
+    @Scheduled(initialDelayString = "${jwt.revocation.rebuild-interval:1m}",
+            fixedDelayString = "${jwt.revocation.rebuild-interval:1m}")
+    public synchronized void rebuild() {
+        Instant now = clock.instant();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        BloomFilter fresh = new BloomFilter(Math.max(expectedRevocations, 2 * revoked.size()), falsePositiveRate);
+        revoked.keySet().forEach(fresh::put);
+        filter = fresh;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("security.jwt.revoked", revoked, Map::size)
+                .description("Access tokens revocados aún sin expirar")
+                .register(registry);
+        Gauge.builder("security.jwt.revocation.bloom.bits", this, list -> list.filter.bitSize())
+                .register(registry);
+        FunctionCounter.builder("security.jwt.revocation.bloom.false-positives", falsePositives, LongAdder::sum)
+                .description("Consultas en las que el filtro de Bloom dio positivo y el token no estaba revocado")
+                .register(registry);
+    }
+}
@@ -0,0 +1,45 @@
+package com.our.socialseed.shared.security.jwt;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+📌 Versión mínima de token aceptada por usuario, en memoria.
+   - Un JWT lleva la claim "ver"; si es menor que la registrada para su uid, el token está revocado
+     (cambio de roles, logout global...). Comprobarlo es un get en un ConcurrentHashMap, sin ir a BD.
+   - Solo se guardan los usuarios que han revocado alguna vez (el resto aceptan cualquier versión >= 0).
+   - El módulo auth la rellena al arrancar desde Postgres y la avanza cada vez que sube la versión de un usuario.
+   Es local a cada instancia: con varias réplicas el avance debe propagarse a todas (o acortar jwt.expiration).
+ */
+@Component
+public class TokenVersionRegistry implements MeterBinder {
+
+    private final Map<UUID, Integer> minimumVersions = new ConcurrentHashMap<>();
+
+    public boolean isCurrent(UUID userId, int tokenVersion) {
+        Integer minimum = minimumVersions.get(userId);
+        return minimum == null || tokenVersion >= minimum;
+    }
+
+    // Nunca retrocede: dos avances concurrentes dejan la versión mayor
+    public void advance(UUID userId, int tokenVersion) {
+        minimumVersions.merge(userId, tokenVersion, Math::max);
+    }
+
+    public void advanceAll(Map<UUID, Integer> versions) {
+        versions.forEach(this::advance);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("security.jwt.token-versions", minimumVersions, Map::size)
+                .description("Usuarios con tokens revocados registrados en memoria")
+                .register(registry);
+    }
+}
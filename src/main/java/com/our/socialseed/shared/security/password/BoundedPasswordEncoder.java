@@ -0,0 +1,152 @@
+package com.our.socialseed.shared.security.password;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+📌 PasswordEncoder que ejecuta encode/matches (BCrypt) en un pool propio y acotado, no en el hilo de la petición.
+   - Como mucho `threads` hashes a la vez: una avalancha de logins no se come toda la CPU y las lecturas
+     baratas siguen respondiendo. El hilo de Tomcat solo espera (bloqueado, sin consumir CPU).
+   - Cola acotada sin CallerRunsPolicy: con la cola llena, o si la espera supera maxWait, se lanza
+     PasswordHashingSaturatedException (503 + Retry-After) en lugar de acumular peticiones.
+   - Métricas: password.hashing{operation} (duración del hash), password.hashing.wait (tiempo en cola),
+     password.hashing.queue, password.hashing.active y password.hashing.rejected.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitNanos;
+    private final Duration retryAfter;
+    private final LongAdder rejected = new LongAdder();
+
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+    private Timer waitTimer;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration maxWait,
+                                  Duration retryAfter) {
+        this.delegate = delegate;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryAfter = retryAfter;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    // Hilos del pool: el resto de procesos que hashean (importación masiva) se dimensionan con lo que queda
+    public int threads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    // Solo lee el coste del hash guardado: no hace falta pasar por el pool
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> hashing, Timer timer) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                if (waitTimer != null) {
+                    waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                }
+                try {
+                    return hashing.call();
+                } finally {
+                    if (timer != null) {
+                        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingSaturatedException(retryAfter);
+        }
+
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // si aún está en cola no llega a ejecutarse; si ya empezó, BCrypt no es interrumpible y termina solo
+            future.cancel(false);
+            rejected.increment();
+            throw new PasswordHashingSaturatedException(retryAfter);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new IllegalStateException("Interrumpido esperando el hash de la contraseña", e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encodeTimer = Timer.builder("password.hashing")
+                .description("Duración de un hash BCrypt en el pool")
+                .tag("operation", "encode")
+                .register(registry);
+        matchesTimer = Timer.builder("password.hashing")
+                .description("Duración de un hash BCrypt en el pool")
+                .tag("operation", "matches")
+                .register(registry);
+        waitTimer = Timer.builder("password.hashing.wait")
+                .description("Tiempo en cola antes de empezar el hash")
+                .register(registry);
+        Gauge.builder("password.hashing.queue", executor, pool -> pool.getQueue().size())
+                .description("Hashes de contraseña esperando en cola")
+                .register(registry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashes de contraseña en ejecución")
+                .register(registry);
+        FunctionCounter.builder("password.hashing.rejected", rejected, LongAdder::sum)
+                .description("Peticiones rechazadas con 503 por saturación del pool de hashing")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,20 @@
+package com.our.socialseed.shared.security.password;
+
+import java.time.Duration;
+
+/*
+📌 El pool de hashing de contraseñas está saturado (cola llena o espera máxima agotada).
+   Se responde 503 con Retry-After en vez de encolar más trabajo de CPU.
+ */
+public class PasswordHashingSaturatedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public PasswordHashingSaturatedException(Duration retryAfter) {
+        super("Password hashing pool saturated");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,123 @@
+package com.our.socialseed.suggestion.application.usecase;
+
+import com.our.socialseed.suggestion.domain.model.SuggestionBatchReport;
+import com.our.socialseed.suggestion.domain.model.SuggestionRun;
+import com.our.socialseed.suggestion.domain.model.UserPartition;
+import com.our.socialseed.suggestion.domain.repository.SuggestionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+📌 Batch de "personas que quizá conozcas" (amigos de amigos ordenados por amigos en común).
+   - Los usuarios se reparten en particiones por rango de id que se calculan en paralelo en suggestionBatchPool.
+   - Cada partición se recorre por lotes (keyset) y cada lote se calcula y escribe en una sola sentencia.
+   - Una partición terminada queda registrada: si el proceso cae, la siguiente ejecución reanuda la misma
+     ejecución y solo repite las particiones pendientes (recalcular un usuario es idempotente).
+ */
+@Service
+public class ComputeSuggestions {
+    private static final Logger log = LoggerFactory.getLogger(ComputeSuggestions.class);
+
+    private final SuggestionRepository suggestionRepository;
+    private final ForkJoinPool pool;
+    private final int partitions;
+    private final int topK;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ComputeSuggestions(SuggestionRepository suggestionRepository,
+                              @Qualifier("suggestionBatchPool") ForkJoinPool pool,
+                              @Value("${suggestion.batch.partitions:64}") int partitions,
+                              @Value("${suggestion.top-k:20}") int topK,
+                              @Value("${suggestion.batch.batch-size:500}") int batchSize) {
+        this.suggestionRepository = suggestionRepository;
+        this.pool = pool;
+        this.partitions = partitions;
+        this.topK = topK;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    // Optional.empty() si ya hay una ejecución en curso en esta instancia
+    public Optional<SuggestionBatchReport> execute() {
+        if (!running.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(run());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private SuggestionBatchReport run() {
+        long start = System.currentTimeMillis();
+
+        Optional<SuggestionRun> unfinished = suggestionRepository.findUnfinishedRun()
+                .filter(previous -> previous.partitions() == partitions);
+        String runId;
+        Set<Integer> completed;
+        if (unfinished.isPresent()) {
+            runId = unfinished.get().id();
+            completed = unfinished.get().completedPartitions();
+            log.info("Reanudando el batch de sugerencias {} ({} de {} particiones hechas)", runId, completed.size(), partitions);
+        } else {
+            runId = Instant.now().toString();
+            completed = Set.of();
+            suggestionRepository.startRun(runId, partitions);
+        }
+
+        List<UserPartition> pending = UserPartition.split(partitions).stream()
+                .filter(partition -> !completed.contains(partition.index()))
+                .toList();
+        List<ForkJoinTask<Long>> tasks = pending.stream()
+                .map(partition -> pool.submit(() -> computePartition(runId, partition)))
+                .toList();
+
+        long users = 0;
+        List<Integer> failed = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            try {
+                users += tasks.get(i).join();
+            } catch (RuntimeException e) {
+                failed.add(pending.get(i).index());
+                log.error("Falló la partición {} del batch de sugerencias {}", pending.get(i).index(), runId, e);
+            }
+        }
+
+        if (failed.isEmpty()) {
+            suggestionRepository.completeRun(runId);
+        }
+        return new SuggestionBatchReport(runId, unfinished.isPresent(), partitions,
+                pending.size() - failed.size(), completed.size(), failed, users,
+                System.currentTimeMillis() - start);
+    }
+
+    private long computePartition(String runId, UserPartition partition) {
+        long users = 0;
+        UUID afterId = null;
+        List<UUID> batch;
+        do {
+            batch = suggestionRepository.findUserIds(partition, afterId, batchSize);
+            if (!batch.isEmpty()) {
+                users += suggestionRepository.computeSuggestions(runId, batch, topK);
+                afterId = batch.get(batch.size() - 1);
+            }
+        } while (batch.size() == batchSize);
+
+        suggestionRepository.markPartitionCompleted(runId, partition.index(), users);
+        return users;
+    }
+}
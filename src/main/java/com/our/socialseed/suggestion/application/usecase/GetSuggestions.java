@@ -0,0 +1,26 @@
+package com.our.socialseed.suggestion.application.usecase;
+
+import com.our.socialseed.suggestion.domain.model.Suggestion;
+import com.our.socialseed.suggestion.domain.repository.SuggestionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class GetSuggestions {
+    private final SuggestionRepository suggestionRepository;
+    private final int topK;
+
+    public GetSuggestions(SuggestionRepository suggestionRepository, @Value("${suggestion.top-k:20}") int topK) {
+        this.suggestionRepository = suggestionRepository;
+        this.topK = topK;
+    }
+
+    // Solo lee lo precalculado por el batch; nunca expande el grafo en la petición
+    public List<Suggestion> execute(UUID userId, Integer limit) {
+        int size = limit == null || limit < 1 ? topK : Math.min(limit, topK);
+        return suggestionRepository.findSuggestions(userId, size);
+    }
+}
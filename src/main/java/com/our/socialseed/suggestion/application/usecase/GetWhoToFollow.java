@@ -0,0 +1,29 @@
+package com.our.socialseed.suggestion.application.usecase;
+
+import com.our.socialseed.suggestion.domain.model.FollowRecommendation;
+import com.our.socialseed.suggestion.domain.repository.FollowRecommender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class GetWhoToFollow {
+    private final FollowRecommender followRecommender;
+    private final int defaultSize;
+    private final int maxResults;
+
+    public GetWhoToFollow(FollowRecommender followRecommender,
+                          @Value("${suggestion.who-to-follow.default-size:20}") int defaultSize,
+                          @Value("${suggestion.who-to-follow.max-results:50}") int maxResults) {
+        this.followRecommender = followRecommender;
+        this.defaultSize = defaultSize;
+        this.maxResults = maxResults;
+    }
+
+    public List<FollowRecommendation> execute(UUID userId, Integer limit) {
+        int size = limit == null || limit < 1 ? Math.min(defaultSize, maxResults) : Math.min(limit, maxResults);
+        return followRecommender.recommend(userId, size);
+    }
+}
@@ -0,0 +1,41 @@
+package com.our.socialseed.suggestion.application.usecase;
+
+import com.our.socialseed.suggestion.domain.repository.FollowRecommender;
+import com.our.socialseed.suggestion.domain.repository.SuggestionRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+public class SuggestionUseCases {
+    private final ComputeSuggestions computeSuggestions;
+    private final GetSuggestions getSuggestions;
+    private final GetWhoToFollow getWhoToFollow;
+
+    public SuggestionUseCases(SuggestionRepository suggestionRepository,
+                              FollowRecommender followRecommender,
+                              @Qualifier("suggestionBatchPool") ForkJoinPool pool,
+                              @Value("${suggestion.batch.partitions:64}") int partitions,
+                              @Value("${suggestion.top-k:20}") int topK,
+                              @Value("${suggestion.batch.batch-size:500}") int batchSize,
+                              @Value("${suggestion.who-to-follow.default-size:20}") int whoToFollowDefaultSize,
+                              @Value("${suggestion.who-to-follow.max-results:50}") int whoToFollowMaxResults) {
+        this.computeSuggestions = new ComputeSuggestions(suggestionRepository, pool, partitions, topK, batchSize);
+        this.getSuggestions = new GetSuggestions(suggestionRepository, topK);
+        this.getWhoToFollow = new GetWhoToFollow(followRecommender, whoToFollowDefaultSize, whoToFollowMaxResults);
+    }
+
+    public ComputeSuggestions computeSuggestions() {
+        return computeSuggestions;
+    }
+
+    public GetSuggestions getSuggestions() {
+        return getSuggestions;
+    }
+
+    public GetWhoToFollow getWhoToFollow() {
+        return getWhoToFollow;
+    }
+}
@@ -0,0 +1,35 @@
+package com.our.socialseed.suggestion.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class SuggestionConfig {
+
+    // Pool propio para las particiones del batch: no compite con el commonPool ni con los hilos de peticiones.
+    // El paralelismo efectivo también lo limita el pool de conexiones Bolt (una sesión por partición en curso).
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool suggestionBatchPool(@Value("${suggestion.batch.parallelism:4}") int parallelism) {
+        return new ForkJoinPool(parallelism, pool -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("suggestion-batch-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    // Paseos aleatorios de "a quién seguir" (en la petición): paralelismo 0 = un hilo por núcleo
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool whoToFollowPool(@Value("${suggestion.who-to-follow.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(threads, pool -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("who-to-follow-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+}
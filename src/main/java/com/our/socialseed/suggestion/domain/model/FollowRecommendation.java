@@ -0,0 +1,10 @@
+package com.our.socialseed.suggestion.domain.model;
+
+import java.util.UUID;
+
+// Cuenta recomendada en "a quién seguir" con su puntuación de PageRank personalizado (fracción de visitas)
+public record FollowRecommendation(
+        UUID userId,
+        double score
+) {
+}
@@ -0,0 +1,12 @@
+package com.our.socialseed.suggestion.domain.model;
+
+import java.util.UUID;
+
+// Candidato de "personas que quizá conozcas" con su número de amigos en común
+public record Suggestion(
+        UUID userId,
+        String username,
+        String fullName,
+        long mutualFriends
+) {
+}
@@ -0,0 +1,23 @@
+package com.our.socialseed.suggestion.domain.model;
+
+import java.util.List;
+
+/*
+📌 Resumen de una ejecución del batch.
+   resumed = true si se continuó una ejecución anterior; skippedPartitions son las que ya estaban hechas.
+   Si failedPartitions no está vacío la ejecución queda abierta y la próxima solo repite esas particiones.
+ */
+public record SuggestionBatchReport(
+        String runId,
+        boolean resumed,
+        int partitions,
+        int computedPartitions,
+        int skippedPartitions,
+        List<Integer> failedPartitions,
+        long users,
+        long elapsedMillis
+) {
+    public boolean completed() {
+        return failedPartitions.isEmpty();
+    }
+}
@@ -0,0 +1,11 @@
+package com.our.socialseed.suggestion.domain.model;
+
+import java.util.Set;
+
+// Ejecución del batch de sugerencias; completedPartitions permite reanudarla sin repetir trabajo
+public record SuggestionRun(
+        String id,
+        int partitions,
+        Set<Integer> completedPartitions
+) {
+}
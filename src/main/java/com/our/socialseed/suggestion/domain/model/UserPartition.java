@@ -0,0 +1,33 @@
+package com.our.socialseed.suggestion.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+📌 Rango de ids de usuario [fromInclusive, toExclusive) según los dos primeros dígitos hex del UUID.
+   Los ids son UUID aleatorios, así que los rangos salen equilibrados y cada uno se recorre con
+   un index seek por rango sobre :User(id). toExclusive == null significa "hasta el final".
+ */
+public record UserPartition(int index, String fromInclusive, String toExclusive) {
+
+    public static final int MAX_PARTITIONS = 256;
+
+    public static List<UserPartition> split(int count) {
+        if (count < 1 || count > MAX_PARTITIONS) {
+            throw new IllegalArgumentException("El número de particiones debe estar entre 1 y " + MAX_PARTITIONS);
+        }
+        List<UserPartition> partitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int from = i * MAX_PARTITIONS / count;
+            int to = (i + 1) * MAX_PARTITIONS / count;
+            partitions.add(new UserPartition(i,
+                    from == 0 ? "" : prefix(from),
+                    to == MAX_PARTITIONS ? null : prefix(to)));
+        }
+        return partitions;
+    }
+
+    private static String prefix(int value) {
+        return String.format("%02x", value);
+    }
+}
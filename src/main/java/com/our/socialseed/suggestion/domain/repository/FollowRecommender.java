@@ -0,0 +1,14 @@
+package com.our.socialseed.suggestion.domain.repository;
+
+import com.our.socialseed.suggestion.domain.model.FollowRecommendation;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+📌 Recomendaciones de cuentas a seguir para un usuario, de mayor a menor puntuación,
+   sin el propio usuario ni las cuentas que ya sigue. Lista vacía si no hay datos para calcularlas.
+ */
+public interface FollowRecommender {
+    List<FollowRecommendation> recommend(UUID userId, int limit);
+}
@@ -0,0 +1,30 @@
+package com.our.socialseed.suggestion.domain.repository;
+
+import com.our.socialseed.suggestion.domain.model.Suggestion;
+import com.our.socialseed.suggestion.domain.model.SuggestionRun;
+import com.our.socialseed.suggestion.domain.model.UserPartition;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SuggestionRepository {
+    // Última ejecución sin terminar (con las particiones ya completadas), si existe
+    Optional<SuggestionRun> findUnfinishedRun();
+
+    // Registra una ejecución nueva; las que quedaran abiertas se dan por abandonadas
+    void startRun(String runId, int partitions);
+
+    void markPartitionCompleted(String runId, int partition, long users);
+
+    void completeRun(String runId);
+
+    // Keyset dentro de la partición ordenado por id: afterId == null devuelve el primer lote
+    List<UUID> findUserIds(UserPartition partition, UUID afterId, int limit);
+
+    // Recalcula el top-K de amigos de amigos de cada usuario y reemplaza sus SUGGESTED; devuelve cuántos procesó
+    int computeSuggestions(String runId, List<UUID> userIds, int topK);
+
+    // Solo lee lo precalculado (ordenado por amigos en común), descartando quien ya sea amigo
+    List<Suggestion> findSuggestions(UUID userId, int limit);
+}
@@ -0,0 +1,51 @@
+package com.our.socialseed.suggestion.entry.rest.controller;
+
+import com.our.socialseed.suggestion.application.usecase.SuggestionUseCases;
+import com.our.socialseed.suggestion.domain.model.FollowRecommendation;
+import com.our.socialseed.suggestion.domain.model.Suggestion;
+import com.our.socialseed.suggestion.entry.rest.dto.FollowRecommendationResponseDTO;
+import com.our.socialseed.suggestion.entry.rest.dto.SuggestionResponseDTO;
+import com.our.socialseed.suggestion.entry.rest.mapper.SuggestionRestMapper;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/users/{id}")
+public class SuggestionController {
+    private final SuggestionUseCases suggestionUseCases;
+
+    public SuggestionController(SuggestionUseCases suggestionUseCases) {
+        this.suggestionUseCases = suggestionUseCases;
+    }
+
+    // PERSONAS QUE QUIZÁ CONOZCAS (precalculadas por el batch nocturno)
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<SuggestionResponseDTO>> getSuggestions(@PathVariable UUID id,
+                                                                      @RequestParam(required = false) Integer limit) {
+        List<Suggestion> suggestions = suggestionUseCases.getSuggestions().execute(id, limit);
+        if (suggestions.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(suggestions.stream().map(SuggestionRestMapper::toResponse).toList());
+    }
+
+    // A QUIÉN SEGUIR (PageRank personalizado sobre FOLLOWED_BY, cacheado por usuario)
+    @GetMapping("/who-to-follow")
+    public ResponseEntity<List<FollowRecommendationResponseDTO>> getWhoToFollow(@PathVariable UUID id,
+                                                                                @RequestParam(required = false) Integer limit) {
+        List<FollowRecommendation> recommendations = suggestionUseCases.getWhoToFollow().execute(id, limit);
+        if (recommendations.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(recommendations.stream().map(SuggestionRestMapper::toResponse).toList());
+    }
+}
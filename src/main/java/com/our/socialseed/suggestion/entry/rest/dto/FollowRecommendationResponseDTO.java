@@ -0,0 +1,9 @@
+package com.our.socialseed.suggestion.entry.rest.dto;
+
+import java.util.UUID;
+
+public record FollowRecommendationResponseDTO(
+        UUID id,
+        double score
+) {
+}
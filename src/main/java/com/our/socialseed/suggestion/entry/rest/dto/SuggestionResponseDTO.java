@@ -0,0 +1,11 @@
+package com.our.socialseed.suggestion.entry.rest.dto;
+
+import java.util.UUID;
+
+public record SuggestionResponseDTO(
+        UUID id,
+        String username,
+        String fullName,
+        long mutualFriends
+) {
+}
@@ -0,0 +1,28 @@
+package com.our.socialseed.suggestion.entry.rest.mapper;
+
+import com.our.socialseed.suggestion.domain.model.FollowRecommendation;
+import com.our.socialseed.suggestion.domain.model.Suggestion;
+import com.our.socialseed.suggestion.entry.rest.dto.FollowRecommendationResponseDTO;
+import com.our.socialseed.suggestion.entry.rest.dto.SuggestionResponseDTO;
+
+public class SuggestionRestMapper {
+    private SuggestionRestMapper() {
+        // Clase de utilidad, no instanciable
+    }
+
+    public static SuggestionResponseDTO toResponse(Suggestion suggestion) {
+        return new SuggestionResponseDTO(
+                suggestion.userId(),
+                suggestion.username(),
+                suggestion.fullName(),
+                suggestion.mutualFriends()
+        );
+    }
+
+    public static FollowRecommendationResponseDTO toResponse(FollowRecommendation recommendation) {
+        return new FollowRecommendationResponseDTO(
+                recommendation.userId(),
+                recommendation.score()
+        );
+    }
+}
@@ -0,0 +1,190 @@
+package com.our.socialseed.suggestion.infrastructure.pagerank;
+
+import com.our.socialseed.shared.graph.snapshot.CsrGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/*
+📌 PageRank personalizado por Monte Carlo (paseos aleatorios con reinicio) desde un nodo del grafo "sigue a".
+   Cada paseo sale del origen y en cada paso termina con probabilidad restartProbability (o si el nodo no sigue
+   a nadie); si no, salta a una cuenta seguida al azar. La puntuación de un nodo es la fracción de visitas,
+   que converge al PPR. El presupuesto de paseos es fijo y se reparte en "tasks" tareas del pool,
+   cada una con su SplittableRandom y su contador, que se suman al final.
+ */
+public final class PersonalizedPageRank {
+
+    // Corta paseos patológicamente largos (con reinicio 0.15 la longitud media es ~6.7)
+    private static final int MAX_WALK_LENGTH = 64;
+
+    private PersonalizedPageRank() {
+        // Clase de utilidad, no instanciable
+    }
+
+    public record Scored(int node, double score) {
+    }
+
+    /*
+     * Los k nodos con más visitas excluyendo el origen y los que ya sigue; score = visitas / visitas totales.
+     */
+    public static List<Scored> topK(CsrGraph following, int source, int walks, double restartProbability,
+                                    int k, ForkJoinPool pool, int tasks, long seed) {
+        int parts = Math.max(1, Math.min(tasks, walks));
+        List<Callable<VisitCounter>> jobs = new ArrayList<>(parts);
+        SplittableRandom seeds = new SplittableRandom(seed);
+        for (int part = 0; part < parts; part++) {
+            int budget = walks / parts + (part < walks % parts ? 1 : 0);
+            SplittableRandom random = seeds.split();
+            jobs.add(() -> walk(following, source, budget, restartProbability, random));
+        }
+
+        VisitCounter total = null;
+        try {
+            for (Future<VisitCounter> result : pool.invokeAll(jobs)) {
+                VisitCounter visits = result.get();
+                if (total == null) {
+                    total = visits;
+                } else {
+                    total.addAll(visits);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Fallo en los paseos aleatorios", e.getCause());
+        }
+        return top(following, source, total, k);
+    }
+
+    static VisitCounter walk(CsrGraph following, int source, int walks, double restartProbability, SplittableRandom random) {
+        int[] targets = following.targets();
+        VisitCounter visits = new VisitCounter(Math.min(1 << 14, walks * 2));
+        for (int w = 0; w < walks; w++) {
+            int node = source;
+            for (int step = 0; step < MAX_WALK_LENGTH; step++) {
+                int degree = following.degree(node);
+                if (degree == 0 || random.nextDouble() < restartProbability) {
+                    break;
+                }
+                node = targets[following.start(node) + random.nextInt(degree)];
+                visits.increment(node);
+            }
+        }
+        return visits;
+    }
+
+    private static List<Scored> top(CsrGraph following, int source, VisitCounter visits, int k) {
+        if (visits == null || k <= 0) {
+            return List.of();
+        }
+        // min-heap de tamaño k por (visitas, -nodo): desempata de forma determinista
+        PriorityQueue<long[]> heap = new PriorityQueue<>(k + 1, (a, b) ->
+                a[1] != b[1] ? Long.compare(a[1], b[1]) : Long.compare(b[0], a[0]));
+        long totalVisits = visits.forEach((node, count) -> {
+            if (node == source || following.hasEdge(source, node)) {
+                return;
+            }
+            if (heap.size() < k) {
+                heap.add(new long[]{node, count});
+            } else if (count > heap.peek()[1] || (count == heap.peek()[1] && node < heap.peek()[0])) {
+                heap.poll();
+                heap.add(new long[]{node, count});
+            }
+        });
+
+        Scored[] result = new Scored[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            long[] entry = heap.poll();
+            result[i] = new Scored((int) entry[0], (double) entry[1] / totalVisits);
+        }
+        return Arrays.asList(result);
+    }
+
+    /*
+     Contador int -> int con direccionamiento abierto (sin boxing): nodo + 1 como clave para que 0 sea "vacío".
+     */
+    static final class VisitCounter {
+        private int[] keys;
+        private int[] counts;
+        private int size;
+
+        VisitCounter(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+            keys = new int[capacity];
+            counts = new int[capacity];
+        }
+
+        void increment(int node) {
+            add(node, 1);
+        }
+
+        void add(int node, int count) {
+            int key = node + 1;
+            int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == 0) {
+                keys[slot] = key;
+                if (++size * 2 > keys.length) {
+                    counts[slot] = count;
+                    grow();
+                    return;
+                }
+            }
+            counts[slot] += count;
+        }
+
+        void addAll(VisitCounter other) {
+            for (int i = 0; i < other.keys.length; i++) {
+                if (other.keys[i] != 0) {
+                    add(other.keys[i] - 1, other.counts[i]);
+                }
+            }
+        }
+
+        // Recorre los nodos visitados; devuelve el total de visitas
+        long forEach(NodeCountConsumer consumer) {
+            long total = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0) {
+                    consumer.accept(keys[i] - 1, counts[i]);
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldCounts = counts;
+            keys = new int[oldKeys.length << 1];
+            counts = new int[oldKeys.length << 1];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    add(oldKeys[i] - 1, oldCounts[i]);
+                }
+            }
+        }
+
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+
+    @FunctionalInterface
+    interface NodeCountConsumer {
+        void accept(int node, int count);
+    }
+}
@@ -0,0 +1,101 @@
+package com.our.socialseed.suggestion.infrastructure.pagerank;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.our.socialseed.shared.graph.snapshot.GraphSnapshot;
+import com.our.socialseed.shared.graph.snapshot.GraphSnapshotProvider;
+import com.our.socialseed.suggestion.domain.model.FollowRecommendation;
+import com.our.socialseed.suggestion.domain.repository.FollowRecommender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/*
+📌 "A quién seguir" con PageRank personalizado sobre el grafo "sigue a" del snapshot (FOLLOWED_BY invertido).
+   Se calcula bajo demanda con un presupuesto fijo de paseos (suggestion.who-to-follow.walks) repartidos en el pool
+   whoToFollowPool, y se cachea por usuario (suggestion.who-to-follow.cache-ttl) con las max-results mejores:
+   las peticiones siguientes solo recortan la lista.
+   Refleja el grafo de la última reconstrucción del snapshot; sin snapshot (o usuario fuera de él) no hay recomendaciones.
+   Métricas: cache.* con tag cache=suggestion.who-to-follow y suggestion.who-to-follow.compute.
+ */
+@Component
+public class SnapshotFollowRecommender implements FollowRecommender, MeterBinder {
+
+    public static final String CACHE_NAME = "suggestion.who-to-follow";
+
+    private final ObjectProvider<GraphSnapshotProvider> snapshotProvider;
+    private final ForkJoinPool pool;
+    private final int walks;
+    private final double restartProbability;
+    private final int maxResults;
+    private final Cache<UUID, List<FollowRecommendation>> cache;
+    private Timer computeTimer;
+
+    public SnapshotFollowRecommender(ObjectProvider<GraphSnapshotProvider> snapshotProvider,
+                                     @Qualifier("whoToFollowPool") ForkJoinPool pool,
+                                     @Value("${suggestion.who-to-follow.walks:20000}") int walks,
+                                     @Value("${suggestion.who-to-follow.restart-probability:0.15}") double restartProbability,
+                                     @Value("${suggestion.who-to-follow.max-results:50}") int maxResults,
+                                     @Value("${suggestion.who-to-follow.cache-ttl:10m}") Duration cacheTtl,
+                                     @Value("${suggestion.who-to-follow.cache-size:100000}") long cacheSize) {
+        this.snapshotProvider = snapshotProvider;
+        this.pool = pool;
+        this.walks = walks;
+        this.restartProbability = restartProbability;
+        this.maxResults = maxResults;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public List<FollowRecommendation> recommend(UUID userId, int limit) {
+        List<FollowRecommendation> recommendations = cache.getIfPresent(userId);
+        if (recommendations == null) {
+            Optional<GraphSnapshot> snapshot = Optional.ofNullable(snapshotProvider.getIfAvailable())
+                    .flatMap(GraphSnapshotProvider::current);
+            if (snapshot.isEmpty() || snapshot.get().indexOf(userId) < 0) {
+                return List.of(); // no se cachea: puede haber snapshot (o incluir al usuario) en la siguiente
+            }
+            recommendations = compute(snapshot.get(), userId);
+            cache.put(userId, recommendations);
+        }
+        return recommendations.subList(0, Math.min(limit, recommendations.size()));
+    }
+
+    private List<FollowRecommendation> compute(GraphSnapshot snapshot, UUID userId) {
+        long start = System.nanoTime();
+        List<FollowRecommendation> recommendations = PersonalizedPageRank.topK(
+                        snapshot.following(), snapshot.indexOf(userId), walks, restartProbability, maxResults,
+                        pool, pool.getParallelism(), userId.getLeastSignificantBits())
+                .stream()
+                .map(scored -> new FollowRecommendation(snapshot.idOf(scored.node()), scored.score()))
+                .toList();
+        if (computeTimer != null) {
+            computeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return recommendations;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        computeTimer = Timer.builder("suggestion.who-to-follow.compute")
+                .description("Duración del cálculo de PageRank personalizado (fallos de caché)")
+                .register(registry);
+    }
+}
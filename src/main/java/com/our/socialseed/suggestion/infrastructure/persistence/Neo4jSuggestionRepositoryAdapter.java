@@ -0,0 +1,190 @@
+package com.our.socialseed.suggestion.infrastructure.persistence;
+
+import com.our.socialseed.suggestion.domain.model.Suggestion;
+import com.our.socialseed.suggestion.domain.model.SuggestionRun;
+import com.our.socialseed.suggestion.domain.model.UserPartition;
+import com.our.socialseed.suggestion.domain.repository.SuggestionRepository;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+📌 Sugerencias precalculadas como relaciones (u)-[:SUGGESTED {mutualFriends, runId}]->(candidato):
+   como mucho top-K por usuario y un solo entero por relación.
+   El estado del batch vive en (:SuggestionRun {id, partitions, startedAt, completedAt})
+   y (:SuggestionPartition {runId, index, users}) por cada partición terminada.
+ */
+@Component
+public class Neo4jSuggestionRepositoryAdapter implements SuggestionRepository {
+
+    private static final String FIND_UNFINISHED_RUN_QUERY = """
+            MATCH (r:SuggestionRun)
+            WHERE r.completedAt IS NULL
+            WITH r ORDER BY r.startedAt DESC LIMIT 1
+            OPTIONAL MATCH (p:SuggestionPartition {runId: r.id})
+            RETURN r.id AS id, r.partitions AS partitions, collect(p.index) AS completed
+            """;
+
+    private static final String START_RUN_QUERY = """
+            OPTIONAL MATCH (old:SuggestionRun)
+            WHERE old.completedAt IS NULL
+            SET old.completedAt = datetime(), old.abandoned = true
+            WITH count(old) AS abandoned
+            CREATE (:SuggestionRun {id: $runId, partitions: $partitions, startedAt: datetime()})
+            """;
+
+    private static final String MARK_PARTITION_QUERY = """
+            MERGE (p:SuggestionPartition {runId: $runId, index: $index})
+            SET p.users = $users, p.completedAt = datetime()
+            """;
+
+    // Las particiones solo sirven para reanudar: al terminar la ejecución se borran
+    private static final String COMPLETE_RUN_QUERY = """
+            MATCH (r:SuggestionRun {id: $runId})
+            SET r.completedAt = datetime()
+            WITH r
+            OPTIONAL MATCH (p:SuggestionPartition {runId: r.id})
+            DELETE p
+            """;
+
+    private static final String FIND_USER_IDS_QUERY = """
+            MATCH (u:User)
+            WHERE u.id >= $from AND ($to IS NULL OR u.id < $to) AND ($after IS NULL OR u.id > $after)
+            RETURN u.id AS id
+            ORDER BY u.id
+            LIMIT $limit
+            """;
+
+    // Top-K de amigos de amigos por amigos en común; se excluyen amigos actuales y solicitudes pendientes.
+    // La escritura va en un subquery con agregado para que los usuarios sin candidatos también se cuenten
+    private static final String COMPUTE_QUERY = """
+            UNWIND $ids AS userId
+            MATCH (u:User {id: userId})
+            OPTIONAL MATCH (u)-[stale:SUGGESTED]->()
+            WITH u, collect(stale) AS stale
+            FOREACH (s IN stale | DELETE s)
+            WITH u
+            CALL {
+                WITH u
+                MATCH (u)-[:FRIEND_OF]-(friend:User)-[:FRIEND_OF]-(candidate:User)
+                WHERE candidate <> u
+                  AND NOT (u)-[:FRIEND_OF]-(candidate)
+                  AND NOT (u)-[:REQUEST_FRIEND]-(candidate)
+                WITH candidate, count(DISTINCT friend) AS mutual
+                ORDER BY mutual DESC, candidate.id
+                LIMIT $topK
+                RETURN collect({candidate: candidate, mutual: mutual}) AS candidates
+            }
+            CALL {
+                WITH u, candidates
+                UNWIND candidates AS c
+                WITH u, c.candidate AS candidate, c.mutual AS mutual
+                CREATE (u)-[:SUGGESTED {mutualFriends: mutual, runId: $runId}]->(candidate)
+                RETURN count(*) AS written
+            }
+            RETURN count(u) AS users
+            """;
+
+    private static final String FIND_SUGGESTIONS_QUERY = """
+            MATCH (u:User {id: $userId})-[s:SUGGESTED]->(c:User)
+            WHERE NOT (u)-[:FRIEND_OF]-(c)
+            RETURN c.id AS id, c.username AS username, c.fullName AS fullName, s.mutualFriends AS mutualFriends
+            ORDER BY mutualFriends DESC, id
+            LIMIT $limit
+            """;
+
+    private final Neo4jClient neo4jClient;
+
+    public Neo4jSuggestionRepositoryAdapter(Neo4jClient neo4jClient) {
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
+    public Optional<SuggestionRun> findUnfinishedRun() {
+        return neo4jClient.query(FIND_UNFINISHED_RUN_QUERY)
+                .fetchAs(SuggestionRun.class)
+                .mappedBy((typeSystem, record) -> new SuggestionRun(
+                        record.get("id").asString(),
+                        record.get("partitions").asInt(),
+                        new HashSet<>(record.get("completed").asList(value -> value.asInt()))))
+                .one();
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public void startRun(String runId, int partitions) {
+        neo4jClient.query(START_RUN_QUERY)
+                .bind(runId).to("runId")
+                .bind(partitions).to("partitions")
+                .run();
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public void markPartitionCompleted(String runId, int partition, long users) {
+        neo4jClient.query(MARK_PARTITION_QUERY)
+                .bind(runId).to("runId")
+                .bind(partition).to("index")
+                .bind(users).to("users")
+                .run();
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public void completeRun(String runId) {
+        neo4jClient.query(COMPLETE_RUN_QUERY)
+                .bind(runId).to("runId")
+                .run();
+    }
+
+    @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
+    public List<UUID> findUserIds(UserPartition partition, UUID afterId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("from", partition.fromInclusive());
+        params.put("to", partition.toExclusive());
+        params.put("after", afterId == null ? null : afterId.toString());
+        params.put("limit", limit);
+        return List.copyOf(neo4jClient.query(FIND_USER_IDS_QUERY)
+                .bindAll(params)
+                .fetchAs(UUID.class)
+                .mappedBy((typeSystem, record) -> UUID.fromString(record.get("id").asString()))
+                .all());
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public int computeSuggestions(String runId, List<UUID> userIds, int topK) {
+        return neo4jClient.query(COMPUTE_QUERY)
+                .bind(userIds.stream().map(UUID::toString).toList()).to("ids")
+                .bind(runId).to("runId")
+                .bind(topK).to("topK")
+                .fetchAs(Integer.class)
+                .mappedBy((typeSystem, record) -> record.get("users").asInt())
+                .one()
+                .orElse(0);
+    }
+
+    @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
+    public List<Suggestion> findSuggestions(UUID userId, int limit) {
+        return List.copyOf(neo4jClient.query(FIND_SUGGESTIONS_QUERY)
+                .bind(userId.toString()).to("userId")
+                .bind(limit).to("limit")
+                .fetchAs(Suggestion.class)
+                .mappedBy((typeSystem, record) -> new Suggestion(
+                        UUID.fromString(record.get("id").asString()),
+                        record.get("username").asString(null),
+                        record.get("fullName").asString(null),
+                        record.get("mutualFriends").asLong()))
+                .all());
+    }
+}
@@ -0,0 +1,39 @@
+package com.our.socialseed.suggestion.infrastructure.scheduling;
+
+import com.our.socialseed.suggestion.application.usecase.SuggestionUseCases;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+📌 Lanza el batch de sugerencias cada noche (suggestion.batch.cron). Si la ejecución anterior quedó a medias
+   se reanuda desde las particiones pendientes.
+ */
+@Component
+@ConditionalOnProperty(prefix = "suggestion.batch", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SuggestionBatchScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestionBatchScheduler.class);
+
+    private final SuggestionUseCases suggestionUseCases;
+
+    public SuggestionBatchScheduler(SuggestionUseCases suggestionUseCases) {
+        this.suggestionUseCases = suggestionUseCases;
+    }
+
+    @Scheduled(cron = "${suggestion.batch.cron:0 0 3 * * *}", zone = "${suggestion.batch.zone:UTC}")
+    public void run() {
+        suggestionUseCases.computeSuggestions().execute().ifPresentOrElse(report -> {
+            if (report.completed()) {
+                log.info("Batch de sugerencias {} terminado: {} usuarios, {} particiones calculadas, {} ya hechas, {} ms",
+                        report.runId(), report.users(), report.computedPartitions(), report.skippedPartitions(),
+                        report.elapsedMillis());
+            } else {
+                log.warn("Batch de sugerencias {} incompleto: particiones fallidas {}; se reanudará en la próxima ejecución",
+                        report.runId(), report.failedPartitions());
+            }
+        }, () -> log.warn("Batch de sugerencias ya en curso; se omite esta ejecución"));
+    }
+}
@@ -1,6 +1,8 @@
 package com.our.socialseed.user.application.usecase;
 
+import com.our.socialseed.user.domain.event.UserDeletedEvent;
 import com.our.socialseed.user.domain.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -8,12 +10,15 @@ import java.util.UUID;
 @Service
 public class DeleteUser {
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DeleteUser(UserRepository userRepository) {
+    public DeleteUser(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public void execute(UUID id) {
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserDeletedEvent(id));
     }
 }
@@ -0,0 +1,21 @@
+package com.our.socialseed.user.application.usecase;
+
+import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+@Service
+public class ExportUsers {
+    private final UserRepository userRepository;
+
+    public ExportUsers(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    // Emite los usuarios uno a uno al consumidor; nunca se cargan todos en memoria
+    public long execute(Consumer<User> consumer) {
+        return userRepository.streamAll(consumer);
+    }
+}
@@ -1,20 +1,42 @@
 package com.our.socialseed.user.application.usecase;
 
-import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.shared.pagination.CursorCodec;
+import com.our.socialseed.shared.pagination.CursorPage;
+import com.our.socialseed.user.domain.model.UserSummary;
 import com.our.socialseed.user.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.UUID;
 
 @Service
 public class GetAllUsers {
     private final UserRepository userRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
-    public GetAllUsers(UserRepository userRepository) {
+    public GetAllUsers(UserRepository userRepository,
+                       @Value("${user.pagination.default-size:20}") int defaultPageSize,
+                       @Value("${user.pagination.max-size:100}") int maxPageSize) {
         this.userRepository = userRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
-    public List<User> execute() {
-        return userRepository.findAll();
+    public CursorPage<UserSummary> execute(String cursor, Integer size) {
+        int limit = resolvePageSize(size);
+        UUID afterId = cursor == null || cursor.isBlank() ? null : CursorCodec.decodeUuid(cursor);
+
+        // se pide un elemento de más para saber si existe una página siguiente sin hacer un count
+        List<UserSummary> rows = userRepository.findPage(afterId, limit + 1);
+        return CursorPage.fromLookahead(rows, limit, user -> CursorCodec.encodeUuid(user.id()));
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        return Math.min(size, maxPageSize);
     }
 }
@@ -1,6 +1,6 @@
 package com.our.socialseed.user.application.usecase;
 
-import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserSummary;
 import com.our.socialseed.user.domain.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
@@ -15,7 +15,7 @@ public class GetUserById {
         this.userRepository = userRepository;
     }
 
-    public Optional<User> execute(UUID id) {
-        return userRepository.findById(id);
+    public Optional<UserSummary> execute(UUID id) {
+        return userRepository.findSummaryById(id);
     }
 }
@@ -0,0 +1,180 @@
+package com.our.socialseed.user.application.usecase;
+
+import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserImportReport;
+import com.our.socialseed.user.domain.model.UserImportRow;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.regex.Pattern;
+
+/*
+📌 Importación masiva de usuarios.
+   - Las filas se validan una a una; una fila inválida se reporta y no aborta la importación.
+   - Las contraseñas de cada lote se hashean en paralelo sobre un pool acotado (userImportHashExecutor).
+   - Cada lote se escribe con un único UNWIND ... MERGE. Si el lote falla (p. ej. un email duplicado que viola
+     la restricción única) se biseca: se importa el resto y solo se reportan las filas que fallan solas.
+ */
+@Service
+public class ImportUsers {
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService hashExecutor;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public ImportUsers(UserRepository userRepository,
+                       PasswordEncoder passwordEncoder,
+                       @Qualifier("userImportHashExecutor") ExecutorService hashExecutor,
+                       @Value("${user.import.batch-size:1000}") int batchSize,
+                       @Value("${user.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.hashExecutor = hashExecutor;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public UserImportReport execute(Iterator<UserImportRow> rows) {
+        Progress progress = new Progress();
+        List<UserImportRow> batch = new ArrayList<>(batchSize);
+
+        while (rows.hasNext()) {
+            UserImportRow row = rows.next();
+            progress.total++;
+
+            String error = row.error() != null ? row.error() : validate(row);
+            if (error != null) {
+                progress.fail(row.line(), error);
+                continue;
+            }
+
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                writeBatch(batch, progress);
+                batch.clear();
+            }
+        }
+        writeBatch(batch, progress);
+
+        return new UserImportReport(progress.total, progress.imported, progress.failed, progress.errors);
+    }
+
+    private void writeBatch(List<UserImportRow> batch, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // 1) hash en paralelo sobre el pool acotado
+        List<CompletableFuture<String>> hashes = new ArrayList<>(batch.size());
+        for (UserImportRow row : batch) {
+            hashes.add(row.passwordHash() != null
+                    ? CompletableFuture.completedFuture(row.passwordHash())
+                    : CompletableFuture.supplyAsync(() -> passwordEncoder.encode(row.password()), hashExecutor));
+        }
+
+        List<User> users = new ArrayList<>(batch.size());
+        List<UserImportRow> accepted = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            UserImportRow row = batch.get(i);
+            try {
+                String hash = hashes.get(i).join();
+                User user = new User(
+                        row.id() != null ? row.id() : UUID.randomUUID(),
+                        row.username().trim(),
+                        row.email().trim(),
+                        hash,
+                        row.fullName().trim()
+                );
+                users.add(user);
+                accepted.add(row);
+            } catch (CompletionException e) {
+                progress.fail(row.line(), "Password hashing failed");
+            }
+        }
+
+        // 2) un solo UNWIND por lote
+        write(users, accepted, progress);
+    }
+
+    // El lote se escribe en una única transacción: si falla no queda nada escrito y se reintenta por mitades
+    private void write(List<User> users, List<UserImportRow> rows, Progress progress) {
+        if (users.isEmpty()) {
+            return;
+        }
+        try {
+            userRepository.saveAll(users);
+            progress.imported += users.size();
+        } catch (RuntimeException e) {
+            if (users.size() == 1) {
+                progress.fail(rows.get(0).line(), "Write failed: " + e.getMessage());
+                return;
+            }
+            int half = users.size() / 2;
+            write(users.subList(0, half), rows.subList(0, half), progress);
+            write(users.subList(half, users.size()), rows.subList(half, rows.size()), progress);
+        }
+    }
+
+    private String validate(UserImportRow row) {
+        if (isBlank(row.username())) {
+            return "username is required";
+        }
+        if (row.username().trim().length() > 30) {
+            return "username must not exceed 30 characters";
+        }
+        if (isBlank(row.email())) {
+            return "email is required";
+        }
+        if (!EMAIL.matcher(row.email().trim()).matches()) {
+            return "email is invalid";
+        }
+        if (isBlank(row.fullName())) {
+            return "fullName is required";
+        }
+        if (row.fullName().trim().length() > 100) {
+            return "fullName must not exceed 100 characters";
+        }
+        if (row.passwordHash() != null) {
+            return BCRYPT_HASH.matcher(row.passwordHash()).matches() ? null : "passwordHash is not a BCrypt hash";
+        }
+        if (isBlank(row.password())) {
+            return "password is required";
+        }
+        if (row.password().length() < 6 || row.password().length() > 60) {
+            return "password must be between 6 and 60 characters";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private final class Progress {
+        private long total;
+        private long imported;
+        private long failed;
+        private final List<UserImportReport.RowError> errors = new ArrayList<>();
+
+        private void fail(long line, String reason) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new UserImportReport.RowError(line, reason));
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.our.socialseed.user.application.usecase;
+
+import com.our.socialseed.user.domain.model.UserPatch;
+import com.our.socialseed.user.domain.model.UserSummary;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class PatchUser {
+    private final UserRepository userRepository;
+
+    public PatchUser(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    // Un solo MATCH ... SET u += $changes: sin leer antes el nodo ni tocar password/roles
+    public Optional<UserSummary> execute(UUID id, UserPatch patch) {
+        return userRepository.patch(id, patch);
+    }
+}
@@ -1,25 +1,47 @@
 package com.our.socialseed.user.application.usecase;
 
 import com.our.socialseed.user.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.ExecutorService;
+
 @Service
 public class UserUseCases {
     private final CreateUser createUser;
     private final GetUserById getUserById;
     private final GetAllUsers getAllUsers;
     private final UpdateUser updateUser;
+    private final PatchUser patchUser;
     private final DeleteUser deleteUser;
     private final ChangeUserPassword changeUserPassword;
+    private final ExportUsers exportUsers;
+    private final ImportUsers importUsers;
 
-    public UserUseCases(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserUseCases(UserRepository userRepository,
+                        PasswordEncoder passwordEncoder,
+                        @Value("${user.pagination.default-size:20}") int defaultPageSize,
+                        @Value("${user.pagination.max-size:100}") int maxPageSize,
+                        @Qualifier("bcryptPasswordEncoder") PasswordEncoder importPasswordEncoder,
+                        @Qualifier("userImportHashExecutor") ExecutorService importHashExecutor,
+                        @Value("${user.import.batch-size:1000}") int importBatchSize,
+                        @Value("${user.import.max-reported-errors:1000}") int importMaxReportedErrors,
+                        ApplicationEventPublisher eventPublisher) {
         this.createUser = new CreateUser(userRepository, passwordEncoder);
         this.getUserById = new GetUserById(userRepository);
-        this.getAllUsers = new GetAllUsers(userRepository);
+        this.getAllUsers = new GetAllUsers(userRepository, defaultPageSize, maxPageSize);
         this.updateUser = new UpdateUser(userRepository);
-        this.deleteUser = new DeleteUser(userRepository);
+        this.patchUser = new PatchUser(userRepository);
+        this.deleteUser = new DeleteUser(userRepository, eventPublisher);
         this.changeUserPassword = new ChangeUserPassword(userRepository, passwordEncoder);
+        this.exportUsers = new ExportUsers(userRepository);
+        // la importación hashea en su propio pool (los procesadores que deja libres el de login, con back-pressure):
+        // usa BCrypt directo para no llenar de 503 la cola del login
+        this.importUsers = new ImportUsers(userRepository, importPasswordEncoder, importHashExecutor,
+                importBatchSize, importMaxReportedErrors);
     }
 
     public CreateUser createUser() {
@@ -38,6 +60,10 @@ public class UserUseCases {
         return updateUser;
     }
 
+    public PatchUser patchUser() {
+        return patchUser;
+    }
+
     public DeleteUser deleteUser() {
         return deleteUser;
     }
@@ -45,4 +71,12 @@ public class UserUseCases {
     public ChangeUserPassword changeUserPassword() {
         return changeUserPassword;
     }
+
+    public ExportUsers exportUsers() {
+        return exportUsers;
+    }
+
+    public ImportUsers importUsers() {
+        return importUsers;
+    }
 }
@@ -0,0 +1,35 @@
+package com.our.socialseed.user.application.usecase.reactive;
+
+import com.our.socialseed.user.domain.repository.ReactiveUserRepository;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.UUID;
+
+public class ReactiveChangeUserPassword {
+    private final ReactiveUserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler hashScheduler;
+
+    public ReactiveChangeUserPassword(ReactiveUserRepository userRepository, PasswordEncoder passwordEncoder, Scheduler hashScheduler) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.hashScheduler = hashScheduler;
+    }
+
+    public Mono<Void> execute(UUID userId, String currentPassword, String newPassword) {
+        return userRepository.findById(userId)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("User not found")))
+                // matches + encode son dos BCrypt seguidos: ambos en el scheduler de hashing
+                .publishOn(hashScheduler)
+                .flatMap(user -> {
+                    if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+                        return Mono.error(new RuntimeException("Current password is incorrect"));
+                    }
+                    user.setPassword(passwordEncoder.encode(newPassword));
+                    return userRepository.save(user);
+                })
+                .then();
+    }
+}
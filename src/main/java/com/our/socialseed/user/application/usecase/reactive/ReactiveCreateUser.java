@@ -0,0 +1,34 @@
+package com.our.socialseed.user.application.usecase.reactive;
+
+import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.repository.ReactiveUserRepository;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.UUID;
+
+public class ReactiveCreateUser {
+    private final ReactiveUserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler hashScheduler;
+
+    public ReactiveCreateUser(ReactiveUserRepository userRepository, PasswordEncoder passwordEncoder, Scheduler hashScheduler) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.hashScheduler = hashScheduler;
+    }
+
+    public Mono<User> execute(User user) {
+        if (user.getId() == null) {
+            user.setId(UUID.randomUUID());
+        }
+        // BCrypt es CPU puro y bloqueante: fuera de los hilos del driver
+        return Mono.fromCallable(() -> passwordEncoder.encode(user.getPassword()))
+                .subscribeOn(hashScheduler)
+                .flatMap(hash -> {
+                    user.setPassword(hash);
+                    return userRepository.save(user);
+                });
+    }
+}
@@ -0,0 +1,23 @@
+package com.our.socialseed.user.application.usecase.reactive;
+
+import com.our.socialseed.user.domain.event.UserDeletedEvent;
+import com.our.socialseed.user.domain.repository.ReactiveUserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public class ReactiveDeleteUser {
+    private final ReactiveUserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ReactiveDeleteUser(ReactiveUserRepository userRepository, ApplicationEventPublisher eventPublisher) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public Mono<Void> execute(UUID id) {
+        return userRepository.deleteById(id)
+                .then(Mono.fromRunnable(() -> eventPublisher.publishEvent(new UserDeletedEvent(id))));
+    }
+}
@@ -0,0 +1,42 @@
+package com.our.socialseed.user.application.usecase.reactive;
+
+import com.our.socialseed.shared.pagination.CursorCodec;
+import com.our.socialseed.shared.pagination.CursorPage;
+import com.our.socialseed.user.domain.model.UserSummary;
+import com.our.socialseed.user.domain.repository.ReactiveUserRepository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public class ReactiveGetAllUsers {
+    private final ReactiveUserRepository userRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public ReactiveGetAllUsers(ReactiveUserRepository userRepository, int defaultPageSize, int maxPageSize) {
+        this.userRepository = userRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public Mono<CursorPage<UserSummary>> execute(String cursor, Integer size) {
+        int limit = resolvePageSize(size);
+        UUID afterId;
+        try {
+            afterId = cursor == null || cursor.isBlank() ? null : CursorCodec.decodeUuid(cursor);
+        } catch (RuntimeException e) {
+            return Mono.error(e);
+        }
+
+        return userRepository.findPage(afterId, limit + 1)
+                .collectList()
+                .map(rows -> CursorPage.fromLookahead(rows, limit, user -> CursorCodec.encodeUuid(user.id())));
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        return Math.min(size, maxPageSize);
+    }
+}
@@ -0,0 +1,19 @@
+package com.our.socialseed.user.application.usecase.reactive;
+
+import com.our.socialseed.user.domain.model.UserSummary;
+import com.our.socialseed.user.domain.repository.ReactiveUserRepository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public class ReactiveGetUserById {
+    private final ReactiveUserRepository userRepository;
+
+    public ReactiveGetUserById(ReactiveUserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public Mono<UserSummary> execute(UUID id) {
+        return userRepository.findSummaryById(id);
+    }
+}
@@ -0,0 +1,20 @@
+package com.our.socialseed.user.application.usecase.reactive;
+
+import com.our.socialseed.user.domain.model.UserPatch;
+import com.our.socialseed.user.domain.model.UserSummary;
+import com.our.socialseed.user.domain.repository.ReactiveUserRepository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public class ReactivePatchUser {
+    private final ReactiveUserRepository userRepository;
+
+    public ReactivePatchUser(ReactiveUserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public Mono<UserSummary> execute(UUID id, UserPatch patch) {
+        return userRepository.patch(id, patch);
+    }
+}
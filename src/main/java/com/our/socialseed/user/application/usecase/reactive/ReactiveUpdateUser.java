@@ -0,0 +1,25 @@
+package com.our.socialseed.user.application.usecase.reactive;
+
+import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.repository.ReactiveUserRepository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public class ReactiveUpdateUser {
+    private final ReactiveUserRepository userRepository;
+
+    public ReactiveUpdateUser(ReactiveUserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public Mono<Void> execute(UUID id, User updatedUser) {
+        return userRepository.findById(id)
+                .flatMap(existing -> {
+                    updatedUser.setId(id);
+                    updatedUser.setPassword(existing.getPassword()); // keep original password
+                    return userRepository.save(updatedUser);
+                })
+                .then();
+    }
+}
@@ -0,0 +1,70 @@
+package com.our.socialseed.user.application.usecase.reactive;
+
+import com.our.socialseed.user.domain.repository.ReactiveUserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/*
+📌 Casos de uso de usuarios sobre el puerto reactivo (perfil "reactive").
+   El hashing de contraseñas se ejecuta en Schedulers.boundedElastic() para no bloquear
+   los hilos de I/O del driver de Neo4j.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveUserUseCases {
+    private final ReactiveCreateUser createUser;
+    private final ReactiveGetUserById getUserById;
+    private final ReactiveGetAllUsers getAllUsers;
+    private final ReactiveUpdateUser updateUser;
+    private final ReactivePatchUser patchUser;
+    private final ReactiveDeleteUser deleteUser;
+    private final ReactiveChangeUserPassword changeUserPassword;
+
+    public ReactiveUserUseCases(ReactiveUserRepository userRepository,
+                                PasswordEncoder passwordEncoder,
+                                @Value("${user.pagination.default-size:20}") int defaultPageSize,
+                                @Value("${user.pagination.max-size:100}") int maxPageSize,
+                                ApplicationEventPublisher eventPublisher) {
+        Scheduler hashScheduler = Schedulers.boundedElastic();
+        this.createUser = new ReactiveCreateUser(userRepository, passwordEncoder, hashScheduler);
+        this.getUserById = new ReactiveGetUserById(userRepository);
+        this.getAllUsers = new ReactiveGetAllUsers(userRepository, defaultPageSize, maxPageSize);
+        this.updateUser = new ReactiveUpdateUser(userRepository);
+        this.patchUser = new ReactivePatchUser(userRepository);
+        this.deleteUser = new ReactiveDeleteUser(userRepository, eventPublisher);
+        this.changeUserPassword = new ReactiveChangeUserPassword(userRepository, passwordEncoder, hashScheduler);
+    }
+
+    public ReactiveCreateUser createUser() {
+        return createUser;
+    }
+
+    public ReactiveGetUserById getUserById() {
+        return getUserById;
+    }
+
+    public ReactiveGetAllUsers getAllUsers() {
+        return getAllUsers;
+    }
+
+    public ReactiveUpdateUser updateUser() {
+        return updateUser;
+    }
+
+    public ReactivePatchUser patchUser() {
+        return patchUser;
+    }
+
+    public ReactiveDeleteUser deleteUser() {
+        return deleteUser;
+    }
+
+    public ReactiveChangeUserPassword changeUserPassword() {
+        return changeUserPassword;
+    }
+}
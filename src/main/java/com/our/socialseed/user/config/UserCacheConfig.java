@@ -0,0 +1,52 @@
+package com.our.socialseed.user.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.our.socialseed.user.domain.model.UserSummary;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import com.our.socialseed.user.infrastructure.cache.CachingUserRepository;
+import com.our.socialseed.user.infrastructure.persistence.Neo4jUserRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/*
+📌 Caché de perfiles de usuario (decorador de UserRepository).
+   Se puede desactivar por despliegue con user.cache.enabled=false; en ese caso se inyecta directamente
+   Neo4jUserRepositoryAdapter. Las estadísticas (hits, misses, evictions, size) se publican en Micrometer
+   como cache.* con tag cache=users.summary (/actuator/metrics/cache.gets, ...).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "user.cache", name = "enabled", havingValue = "true")
+public class UserCacheConfig {
+
+    public static final String CACHE_NAME = "users.summary";
+
+    @Bean
+    public Cache<UUID, UserSummary> userSummaryCache(@Value("${user.cache.max-size:100000}") long maxSize,
+                                                     @Value("${user.cache.ttl:5m}") Duration ttl,
+                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        Cache<UUID, UserSummary> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+        return cache;
+    }
+
+    @Bean
+    @Primary
+    public UserRepository cachingUserRepository(Neo4jUserRepositoryAdapter neo4jUserRepositoryAdapter,
+                                                Cache<UUID, UserSummary> userSummaryCache) {
+        return new CachingUserRepository(neo4jUserRepositoryAdapter, userSummaryCache);
+    }
+}
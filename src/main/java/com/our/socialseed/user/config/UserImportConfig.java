@@ -0,0 +1,50 @@
+package com.our.socialseed.user.config;
+
+import com.our.socialseed.shared.security.password.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class UserImportConfig {
+
+    // Pool acotado para hashear contraseñas durante la importación masiva, dentro del mismo presupuesto de CPU
+    // que el pool de login: como mucho los procesadores que este deja libres (0 = todos esos), y al menos uno.
+    // Con la cola llena el hilo de la importación espera a que haya hueco (back-pressure) sin hashear él mismo.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService userImportHashExecutor(BoundedPasswordEncoder passwordEncoder,
+                                                  @Value("${user.import.hash-threads:0}") int threads,
+                                                  @Value("${user.import.hash-queue-capacity:2000}") int queueCapacity) {
+        int leftover = Math.max(1, Runtime.getRuntime().availableProcessors() - passwordEncoder.threads());
+        int poolSize = threads > 0 ? Math.min(threads, leftover) : leftover;
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("userImportHashExecutor cerrado");
+                    }
+                    try {
+                        executor.getQueue().put(runnable);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrumpido esperando hueco en userImportHashExecutor", e);
+                    }
+                }
+        );
+    }
+}
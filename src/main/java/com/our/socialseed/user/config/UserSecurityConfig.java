@@ -1,16 +1,34 @@
 package com.our.socialseed.user.config;
 
+import com.our.socialseed.shared.security.password.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
 
 @Configuration
 public class UserSecurityConfig {
 
+    // BCrypt directo: solo para quien ya hashea en su propio pool acotado (importación masiva)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder bcryptPasswordEncoder(@Value("${password.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    // El PasswordEncoder que se inyecta por defecto: login, registro y cambios de contraseña hashean
+    // en un pool dedicado y acotado (0 hilos = la mitad de los procesadores)
+    @Bean(destroyMethod = "close")
+    @Primary
+    public BoundedPasswordEncoder passwordEncoder(BCryptPasswordEncoder bcryptPasswordEncoder,
+                                                  @Value("${password.hashing.threads:0}") int threads,
+                                                  @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                                                  @Value("${password.hashing.max-wait:2s}") Duration maxWait,
+                                                  @Value("${password.hashing.retry-after:1s}") Duration retryAfter) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(bcryptPasswordEncoder, poolSize, queueCapacity, maxWait, retryAfter);
     }
 
 }
@@ -0,0 +1,12 @@
+package com.our.socialseed.user.domain.event;
+
+import java.util.UUID;
+
+/*
+📌 Se publica cuando un usuario se borra del grafo (DETACH DELETE: se van también todas sus relaciones).
+   Lo consume el índice de amigos en común para sacarlo de los bitmaps de sus antiguos amigos.
+ */
+public record UserDeletedEvent(
+        UUID userId
+) {
+}
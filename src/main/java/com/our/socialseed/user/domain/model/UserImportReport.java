@@ -0,0 +1,17 @@
+package com.our.socialseed.user.domain.model;
+
+import java.util.List;
+
+/*
+📌 Resultado de una importación masiva: totales y detalle de las filas que fallaron
+   (el detalle se trunca a un máximo configurable para no crecer sin límite).
+ */
+public record UserImportReport(
+        long total,
+        long imported,
+        long failed,
+        List<RowError> errors
+) {
+    public record RowError(long line, String reason) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.our.socialseed.user.domain.model;
+
+import java.util.UUID;
+
+/*
+📌 Una fila de la importación masiva de usuarios.
+   - id es opcional: si viene se usa para el MERGE (re-importar es idempotente), si no se genera.
+   - passwordHash es opcional: permite migrar usuarios con un hash BCrypt ya calculado sin volver a hashear.
+   - error != null indica que la fila no se pudo leer (JSON/CSV mal formado) y se reporta tal cual.
+ */
+public record UserImportRow(
+        long line,
+        UUID id,
+        String username,
+        String email,
+        String password,
+        String passwordHash,
+        String fullName,
+        String error
+) {
+    public static UserImportRow invalid(long line, String error) {
+        return new UserImportRow(line, null, null, null, null, null, null, error);
+    }
+}
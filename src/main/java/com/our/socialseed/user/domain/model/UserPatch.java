@@ -0,0 +1,33 @@
+package com.our.socialseed.user.domain.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+📌 Actualización parcial de un usuario: solo los campos no nulos se modifican.
+   La contraseña y los roles quedan fuera a propósito (tienen sus propios casos de uso).
+ */
+public record UserPatch(
+        String username,
+        String email,
+        String fullName
+) {
+    // Propiedades del nodo que cambian, listas para un "SET u += $changes"
+    public Map<String, Object> changes() {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (username != null) {
+            changes.put("username", username.trim());
+        }
+        if (email != null) {
+            changes.put("email", email.trim());
+        }
+        if (fullName != null) {
+            changes.put("fullName", fullName.trim());
+        }
+        return changes;
+    }
+
+    public boolean isEmpty() {
+        return username == null && email == null && fullName == null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.our.socialseed.user.domain.model;
+
+import java.util.UUID;
+
+/*
+📌 Vista de solo lectura de un usuario con lo que necesitan los listados y perfiles.
+   No contiene password ni roles: las lecturas que devuelven UserSummary nunca los traen de Neo4j.
+   Es inmutable, por lo que se puede compartir (p. ej. desde una caché) sin copias defensivas.
+ */
+public record UserSummary(
+        UUID id,
+        String username,
+        String email,
+        String fullName
+) {
+}
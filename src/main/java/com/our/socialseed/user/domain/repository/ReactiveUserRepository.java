@@ -0,0 +1,29 @@
+package com.our.socialseed.user.domain.repository;
+
+import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserPatch;
+import com.our.socialseed.user.domain.model.UserSummary;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/*
+📌 Variante no bloqueante del puerto UserRepository (perfil "reactive").
+   Mono vacío equivale a Optional.empty() en el puerto bloqueante.
+ */
+public interface ReactiveUserRepository {
+    Mono<User> save(User user);
+
+    Mono<UserSummary> patch(UUID id, UserPatch patch);
+
+    Mono<User> findById(UUID id);
+
+    Mono<UserSummary> findSummaryById(UUID id);
+
+    Mono<User> findByEmail(String email);
+
+    Flux<UserSummary> findPage(UUID afterId, int limit);
+
+    Mono<Void> deleteById(UUID id);
+}
@@ -1,10 +1,13 @@
 package com.our.socialseed.user.domain.repository;
 
 import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserPatch;
+import com.our.socialseed.user.domain.model.UserSummary;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /*
 Este no es el repositorio de Spring Data, sino la interfaz que define lo que el dominio necesita
@@ -13,10 +16,27 @@ de cualquier sistema de persistencia. Luego la implementaremos con Neo4j en el a
 public interface UserRepository {
     User save(User user);
 
+    // Escritura por lotes (un solo UNWIND ... MERGE por lote); devuelve cuántos usuarios se escribieron
+    int saveAll(List<User> users);
+
+    // Actualización parcial en un solo round trip; devuelve el usuario resultante sin password
+    Optional<UserSummary> patch(UUID id, UserPatch patch);
+
+    // findById hidrata el usuario completo (incluido el hash): solo para casos de uso que lo necesitan
     Optional<User> findById(UUID id);
+    Optional<UserSummary> findSummaryById(UUID id);
     Optional<User> findByEmail(String email);
 
+    // Resuelve el usuario autenticado (el JWT lleva el username) con un index seek sobre :User(username)
+    Optional<UUID> findIdByUsername(String username);
+
     List<User> findAll();
 
+    // Paginación por cursor (keyset) ordenada por id: afterId == null devuelve la primera página
+    List<UserSummary> findPage(UUID afterId, int limit);
+
+    // Recorre todos los usuarios sin materializarlos en memoria (sin password); devuelve cuántos se emitieron
+    long streamAll(Consumer<User> consumer);
+
     void deleteById(UUID id);
 }
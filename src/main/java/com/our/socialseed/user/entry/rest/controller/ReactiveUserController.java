@@ -0,0 +1,91 @@
+package com.our.socialseed.user.entry.rest.controller;
+
+import com.our.socialseed.shared.pagination.CursorPage;
+import com.our.socialseed.user.application.usecase.reactive.ReactiveUserUseCases;
+import com.our.socialseed.user.entry.rest.dto.UserCreateRequestDTO;
+import com.our.socialseed.user.entry.rest.dto.UserPatchRequestDTO;
+import com.our.socialseed.user.entry.rest.dto.UserResponseDTO;
+import com.our.socialseed.user.entry.rest.dto.UserUpdateRequestDTO;
+import com.our.socialseed.user.entry.rest.mapper.UserRestMapper;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/*
+📌 Variante no bloqueante de /api/users (perfil "reactive").
+   Spring MVC adapta Mono como respuesta asíncrona: el hilo del servlet se libera mientras
+   la consulta a Neo4j está en curso y la respuesta se escribe cuando el driver reactivo emite.
+   Mismas rutas, códigos de estado y DTOs que UserController.
+ */
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/users")
+public class ReactiveUserController {
+    private final ReactiveUserUseCases userUseCases;
+
+    public ReactiveUserController(ReactiveUserUseCases userUseCases) {
+        this.userUseCases = userUseCases;
+    }
+
+    // CREATE
+    @PostMapping
+    public Mono<ResponseEntity<UserResponseDTO>> createUser(@Valid @RequestBody UserCreateRequestDTO dto) {
+        return userUseCases.createUser().execute(UserRestMapper.toDomain(dto))
+                .map(saved -> ResponseEntity.ok(UserRestMapper.toResponse(saved)));
+    }
+
+    // GET BY ID
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<UserResponseDTO>> getUserById(@PathVariable UUID id) {
+        return userUseCases.getUserById().execute(id)
+                .map(user -> ResponseEntity.ok(UserRestMapper.toResponse(user)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    // LIST (paginado por cursor)
+    @GetMapping
+    public Mono<ResponseEntity<CursorPage<UserResponseDTO>>> getAllUsers(@RequestParam(required = false) String cursor,
+                                                                         @RequestParam(required = false) Integer size) {
+        return userUseCases.getAllUsers().execute(cursor, size)
+                .map(page -> page.isEmpty()
+                        ? ResponseEntity.noContent().<CursorPage<UserResponseDTO>>build() // 204 No Content
+                        : ResponseEntity.ok(page.map(UserRestMapper::toResponse)));
+    }
+
+    // UPDATE
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Void>> updateUser(@PathVariable UUID id, @RequestBody @Valid UserUpdateRequestDTO request) {
+        return userUseCases.updateUser().execute(id, UserRestMapper.UpdatetoDomain(request))
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    // PATCH
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<UserResponseDTO>> patchUser(@PathVariable UUID id, @RequestBody @Valid UserPatchRequestDTO request) {
+        return userUseCases.patchUser().execute(id, UserRestMapper.toPatch(request))
+                .map(user -> ResponseEntity.ok(UserRestMapper.toResponse(user)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    // DELETE
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteUser(@PathVariable UUID id) {
+        return userUseCases.deleteUser().execute(id)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    // CHANGE PASSWORD
+    @PostMapping("/{id}/change-password")
+    public Mono<ResponseEntity<Void>> changePassword(@PathVariable UUID id,
+                                                     @RequestParam String currentPassword,
+                                                     @RequestParam String newPassword) {
+        return userUseCases.changeUserPassword().execute(id, currentPassword, newPassword)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
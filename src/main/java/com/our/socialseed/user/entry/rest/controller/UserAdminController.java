@@ -0,0 +1,77 @@
+package com.our.socialseed.user.entry.rest.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.our.socialseed.user.application.usecase.UserUseCases;
+import com.our.socialseed.user.domain.model.UserImportReport;
+import com.our.socialseed.user.domain.model.UserImportRow;
+import com.our.socialseed.user.entry.rest.mapper.UserImportReaders;
+import com.our.socialseed.user.entry.rest.mapper.UserNdjsonWriter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/*
+📌 Endpoints administrativos sobre usuarios (protegidos con ROLE_ADMIN en SecurityConfig).
+ */
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/admin/users")
+public class UserAdminController {
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String CSV = "text/csv";
+
+    private final UserUseCases userUseCases;
+    private final ObjectMapper objectMapper;
+    private final int flushEvery;
+
+    public UserAdminController(UserUseCases userUseCases,
+                               ObjectMapper objectMapper,
+                               @Value("${user.export.flush-every:500}") int flushEvery) {
+        this.userUseCases = userUseCases;
+        this.objectMapper = objectMapper;
+        this.flushEvery = flushEvery;
+    }
+
+    // EXPORT (NDJSON en streaming)
+    // Se escribe directamente sobre la respuesta: sin async timeout de MVC y sin acumular el resultado en memoria.
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void exportUsers(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.ndjson\"");
+
+        try (UserNdjsonWriter writer = new UserNdjsonWriter(objectMapper.getFactory(), response.getOutputStream(), flushEvery)) {
+            userUseCases.exportUsers().execute(writer::write);
+        }
+    }
+
+    // IMPORT (NDJSON, JSON array o CSV en streaming)
+    @PostMapping(value = "/import", consumes = {NDJSON, MediaType.APPLICATION_JSON_VALUE, CSV})
+    public ResponseEntity<UserImportReport> importUsers(HttpServletRequest request) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+
+        try (InputStream body = request.getInputStream()) {
+            Iterator<UserImportRow> rows;
+            if (contentType.isCompatibleWith(MediaType.parseMediaType(CSV))) {
+                rows = UserImportReaders.csv(body);
+            } else if (contentType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                rows = UserImportReaders.jsonArray(body, objectMapper);
+            } else {
+                rows = UserImportReaders.ndjson(body, objectMapper);
+            }
+            return ResponseEntity.ok(userUseCases.importUsers().execute(rows));
+        }
+    }
+}
@@ -1,21 +1,24 @@
 package com.our.socialseed.user.entry.rest.controller;
+import com.our.socialseed.shared.pagination.CursorPage;
 import com.our.socialseed.user.application.usecase.UserUseCases;
 import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserSummary;
+import com.our.socialseed.user.entry.rest.dto.UserPatchRequestDTO;
 import com.our.socialseed.user.entry.rest.dto.UserUpdateRequestDTO;
 import com.our.socialseed.user.entry.rest.mapper.UserRestMapper;
 import com.our.socialseed.user.entry.rest.dto.UserCreateRequestDTO;
 import com.our.socialseed.user.entry.rest.dto.UserResponseDTO;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @SecurityRequirement(name = "bearerAuth")
 @RestController
+@Profile("!reactive") // con el perfil "reactive" las mismas rutas las atiende ReactiveUserController
 @RequestMapping("/api/users")
 public class UserController {
     private final UserUseCases userUseCases;
@@ -40,19 +43,16 @@ public class UserController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    // LIST
+    // LIST (paginado por cursor)
     @GetMapping
-    public ResponseEntity<List<UserResponseDTO>> getAllUsers() {
-        List<User> users = userUseCases.getAllUsers().execute();
-        if (users == null || users.isEmpty()) {
+    public ResponseEntity<CursorPage<UserResponseDTO>> getAllUsers(@RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) Integer size) {
+        CursorPage<UserSummary> page = userUseCases.getAllUsers().execute(cursor, size);
+        if (page == null || page.isEmpty()) {
             return ResponseEntity.noContent().build(); // 204 No Content
         }
 
-        List<UserResponseDTO> dtos = users.stream()
-                .map(UserRestMapper::toResponse)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok(page.map(UserRestMapper::toResponse));
     }
 
     // UPDATE
@@ -63,6 +63,14 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
 
+    // PATCH (actualización parcial en un solo round trip)
+    @PatchMapping("/{id}")
+    public ResponseEntity<UserResponseDTO> patchUser(@PathVariable UUID id, @RequestBody @Valid UserPatchRequestDTO request) {
+        return userUseCases.patchUser().execute(id, UserRestMapper.toPatch(request))
+                .map(user -> ResponseEntity.ok(UserRestMapper.toResponse(user)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     // DELETE
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable UUID id) {
@@ -0,0 +1,14 @@
+package com.our.socialseed.user.entry.rest.dto;
+
+import java.util.UUID;
+
+// Una fila de POST /api/admin/users/import (NDJSON / JSON array). La validación se hace por fila en ImportUsers.
+public record UserImportRequestDTO(
+        UUID id,
+        String username,
+        String email,
+        String password,
+        String passwordHash,
+        String fullName
+) {
+}
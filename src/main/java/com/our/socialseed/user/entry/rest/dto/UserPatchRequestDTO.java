@@ -0,0 +1,21 @@
+package com.our.socialseed.user.entry.rest.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+// Todos los campos son opcionales: los que vengan a null no se modifican
+public record UserPatchRequestDTO(
+        @Pattern(regexp = ".*\\S.*", message = "{user.username.required}")
+        @Size(max = 30, message = "{user.username.size}")
+        String username,
+
+        @Pattern(regexp = ".*\\S.*", message = "{user.email.required}")
+        @Email(message = "{user.email.invalid}")
+        String email,
+
+        @Pattern(regexp = ".*\\S.*", message = "{user.fullname.required}")
+        @Size(max = 100, message = "{user.fullname.size}")
+        String fullName
+) {
+}
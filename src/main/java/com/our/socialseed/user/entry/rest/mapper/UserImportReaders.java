@@ -0,0 +1,214 @@
+package com.our.socialseed.user.entry.rest.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.our.socialseed.user.domain.model.UserImportRow;
+import com.our.socialseed.user.entry.rest.dto.UserImportRequestDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/*
+📌 Convierte el cuerpo de la importación (NDJSON, JSON array o CSV) en un Iterator<UserImportRow> perezoso:
+   las filas se leen del stream a medida que ImportUsers las consume, nunca se carga el fichero completo.
+   Una fila mal formada produce un UserImportRow.invalid(...) y la lectura continúa (salvo en JSON array,
+   donde tras un error de sintaxis no es posible resincronizar).
+ */
+public final class UserImportReaders {
+    private UserImportReaders() {}
+
+    public static Iterator<UserImportRow> ndjson(InputStream in, ObjectMapper objectMapper) {
+        ObjectReader reader = objectMapper.readerFor(UserImportRequestDTO.class);
+        BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return new LineIterator(lines) {
+            @Override
+            protected UserImportRow parse(long line, String text) {
+                try {
+                    return toRow(line, reader.readValue(text));
+                } catch (JsonProcessingException e) {
+                    return UserImportRow.invalid(line, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+        };
+    }
+
+    public static Iterator<UserImportRow> jsonArray(InputStream in, ObjectMapper objectMapper) {
+        final MappingIterator<UserImportRequestDTO> values;
+        try {
+            values = objectMapper.readerFor(UserImportRequestDTO.class).readValues(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Iterator<>() {
+            private long index;
+            private boolean broken;
+
+            @Override
+            public boolean hasNext() {
+                if (broken) {
+                    return false;
+                }
+                try {
+                    return values.hasNextValue();
+                } catch (IOException e) {
+                    broken = true;
+                    return true; // se entrega una última fila inválida con el error
+                }
+            }
+
+            @Override
+            public UserImportRow next() {
+                index++;
+                if (broken) {
+                    return UserImportRow.invalid(index, "Malformed JSON, import stopped at this element");
+                }
+                try {
+                    return toRow(index, values.nextValue());
+                } catch (IOException e) {
+                    broken = true;
+                    return UserImportRow.invalid(index, "Malformed JSON: " + e.getMessage());
+                }
+            }
+        };
+    }
+
+    // CSV con cabecera (id opcional): username,email,password,fullName[,passwordHash][,id]
+    public static Iterator<UserImportRow> csv(InputStream in) {
+        BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        final List<String> header;
+        try {
+            String first = lines.readLine();
+            header = first == null ? List.of() : splitCsvLine(first.replace("\uFEFF", ""));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new LineIterator(lines, 1) {
+            @Override
+            protected UserImportRow parse(long line, String text) {
+                List<String> cells = splitCsvLine(text);
+                if (cells == null || cells.size() != header.size()) {
+                    return UserImportRow.invalid(line, "Malformed CSV row: expected " + header.size() + " columns");
+                }
+                Map<String, String> values = new HashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    String cell = cells.get(i);
+                    values.put(header.get(i).trim(), cell.isEmpty() ? null : cell);
+                }
+                try {
+                    return toRow(line, new UserImportRequestDTO(
+                            values.get("id") != null ? UUID.fromString(values.get("id")) : null,
+                            values.get("username"),
+                            values.get("email"),
+                            values.get("password"),
+                            values.get("passwordHash"),
+                            values.get("fullName")
+                    ));
+                } catch (IllegalArgumentException e) {
+                    return UserImportRow.invalid(line, "Invalid id: " + values.get("id"));
+                }
+            }
+        };
+    }
+
+    private static UserImportRow toRow(long line, UserImportRequestDTO dto) {
+        if (dto == null) {
+            return UserImportRow.invalid(line, "Empty row");
+        }
+        return new UserImportRow(line, dto.id(), dto.username(), dto.email(), dto.password(),
+                dto.passwordHash(), dto.fullName(), null);
+    }
+
+    // Separa una línea CSV (RFC 4180 sin saltos de línea dentro de campos). Devuelve null si las comillas no cierran.
+    static List<String> splitCsvLine(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    // Iterador por líneas que salta las líneas vacías y numera las filas según su línea en el fichero
+    private abstract static class LineIterator implements Iterator<UserImportRow> {
+        private final BufferedReader reader;
+        private long lineNumber;
+        private String pending;
+
+        LineIterator(BufferedReader reader) {
+            this(reader, 0);
+        }
+
+        LineIterator(BufferedReader reader, long linesAlreadyRead) {
+            this.reader = reader;
+            this.lineNumber = linesAlreadyRead;
+        }
+
+        protected abstract UserImportRow parse(long line, String text);
+
+        @Override
+        public boolean hasNext() {
+            if (pending != null) {
+                return true;
+            }
+            try {
+                String text;
+                while ((text = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (!text.isBlank()) {
+                        pending = text;
+                        return true;
+                    }
+                }
+                return false;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public UserImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String text = pending;
+            pending = null;
+            return parse(lineNumber, text);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.our.socialseed.user.entry.rest.mapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.our.socialseed.user.domain.model.User;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/*
+📌 Escribe usuarios como NDJSON (un objeto JSON por línea) sobre un único JsonGenerator reutilizado.
+   Cada `flushEvery` registros se hace flush para que la respuesta salga por chunks y la memoria se mantenga plana.
+ */
+public class UserNdjsonWriter implements Closeable {
+    private final JsonGenerator generator;
+    private final int flushEvery;
+    private long written;
+
+    public UserNdjsonWriter(JsonFactory jsonFactory, OutputStream out, int flushEvery) throws IOException {
+        this.generator = jsonFactory.createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null); // el separador lo ponemos nosotros: '\n'
+        this.flushEvery = Math.max(1, flushEvery);
+    }
+
+    public void write(User user) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("id", user.getId() != null ? user.getId().toString() : null);
+            generator.writeStringField("username", user.getUsername());
+            generator.writeStringField("email", user.getEmail());
+            generator.writeStringField("fullName", user.getFullName());
+            generator.writeArrayFieldStart("roles");
+            for (String role : user.getRoles()) {
+                generator.writeString(role);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+
+            if (++written % flushEvery == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
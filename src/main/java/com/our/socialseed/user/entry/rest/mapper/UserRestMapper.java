@@ -1,7 +1,10 @@
 package com.our.socialseed.user.entry.rest.mapper;
 
 import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserPatch;
+import com.our.socialseed.user.domain.model.UserSummary;
 import com.our.socialseed.user.entry.rest.dto.UserCreateRequestDTO;
+import com.our.socialseed.user.entry.rest.dto.UserPatchRequestDTO;
 import com.our.socialseed.user.entry.rest.dto.UserResponseDTO;
 import com.our.socialseed.user.entry.rest.dto.UserUpdateRequestDTO;
 
@@ -18,6 +21,14 @@ public class UserRestMapper {
         );
     }
 
+    public static UserPatch toPatch(UserPatchRequestDTO req) {
+        return new UserPatch(
+                req.username(),
+                req.email(),
+                req.fullName()
+        );
+    }
+
     public static User toDomain(UserCreateRequestDTO req) {
         return new User(
                 null,                           // id se asignará en el servicio
@@ -36,4 +47,13 @@ public class UserRestMapper {
                 user.getFullName()
         );
     }
+
+    public static UserResponseDTO toResponse(UserSummary user) {
+        return new UserResponseDTO(
+                user.id(),
+                user.username(),
+                user.email(),
+                user.fullName()
+        );
+    }
 }
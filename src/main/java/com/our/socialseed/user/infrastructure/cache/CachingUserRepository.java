@@ -0,0 +1,110 @@
+package com.our.socialseed.user.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserPatch;
+import com.our.socialseed.user.domain.model.UserSummary;
+import com.our.socialseed.user.domain.repository.UserRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/*
+📌 Decorador del puerto UserRepository con una caché read-through para las lecturas de perfil (findSummaryById).
+   - Solo se cachean UserSummary (records inmutables): nunca se comparte un User mutable ni su password.
+   - Cualquier escritura (save, saveAll, patch, deleteById) invalida la entrada del usuario afectado.
+   - El resto de operaciones se delegan sin cambios.
+   Se activa con user.cache.enabled=true (ver UserCacheConfig).
+ */
+public class CachingUserRepository implements UserRepository {
+
+    private final UserRepository delegate;
+    private final Cache<UUID, UserSummary> summaries;
+
+    public CachingUserRepository(UserRepository delegate, Cache<UUID, UserSummary> summaries) {
+        this.delegate = delegate;
+        this.summaries = summaries;
+    }
+
+    @Override
+    public Optional<UserSummary> findSummaryById(UUID id) {
+        // Carga atómica: una invalidación concurrente espera a que termine la carga y la descarta,
+        // así una lectura iniciada antes de una escritura no deja el perfil viejo en caché.
+        // Los "no encontrado" (null) no se cachean: un usuario recién creado debe verse de inmediato
+        return Optional.ofNullable(summaries.get(id, key -> delegate.findSummaryById(key).orElse(null)));
+    }
+
+    @Override
+    public User save(User user) {
+        try {
+            return delegate.save(user);
+        } finally {
+            invalidate(user.getId());
+        }
+    }
+
+    @Override
+    public int saveAll(List<User> users) {
+        try {
+            return delegate.saveAll(users);
+        } finally {
+            users.forEach(user -> invalidate(user.getId()));
+        }
+    }
+
+    @Override
+    public Optional<UserSummary> patch(UUID id, UserPatch patch) {
+        try {
+            return delegate.patch(id, patch);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public Optional<UUID> findIdByUsername(String username) {
+        return delegate.findIdByUsername(username);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<UserSummary> findPage(UUID afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public long streamAll(Consumer<User> consumer) {
+        return delegate.streamAll(consumer);
+    }
+
+    private void invalidate(UUID id) {
+        if (id != null) {
+            summaries.invalidate(id);
+        }
+    }
+}
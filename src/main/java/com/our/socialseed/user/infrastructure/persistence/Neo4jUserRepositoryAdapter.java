@@ -2,24 +2,93 @@ package com.our.socialseed.user.infrastructure.persistence;
 
 import com.our.socialseed.user.infrastructure.persistence.mapper.UserNeo4jMapper;
 import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserPatch;
+import com.our.socialseed.user.domain.model.UserSummary;
 import com.our.socialseed.user.domain.repository.UserRepository;
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.neo4j.core.Neo4jClient;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+/*
+📌 Lecturas en transacciones readOnly (sesión READ: followers/read replicas con neo4j://),
+   escrituras en transacciones de escritura (líder). Ver TransactionManagersConfig.
+ */
 @Component
 public class Neo4jUserRepositoryAdapter implements UserRepository {
 
+    private static final String STREAM_ALL_QUERY = """
+            MATCH (u:User)
+            RETURN u.id AS id, u.username AS username, u.email AS email, u.fullName AS fullName, u.roles AS roles
+            """;
+
+    private static final String SAVE_ALL_QUERY = """
+            UNWIND $rows AS row
+            MERGE (u:User {id: row.id})
+            SET u.username = row.username,
+                u.email = row.email,
+                u.password = row.password,
+                u.fullName = row.fullName,
+                u.roles = row.roles
+            RETURN count(u) AS written
+            """;
+
+    private static final String PATCH_QUERY = """
+            MATCH (u:User {id: $id})
+            SET u += $changes
+            RETURN u.id AS id, u.username AS username, u.email AS email, u.fullName AS fullName
+            """;
+
+    private static final String ID_BY_USERNAME_QUERY = "MATCH (u:User {username: $username}) RETURN u.id AS id";
+
+    // Al borrar un usuario se descuentan sus relaciones de los contadores de los vecinos (ver módulo relationship)
+    private static final String DELETE_QUERY = """
+            MATCH (u:User {id: $id})
+            OPTIONAL MATCH (u)-[:FRIEND_OF]-(friend:User)
+            SET friend.friendCount = coalesce(friend.friendCount, 1) - 1
+            WITH DISTINCT u
+            OPTIONAL MATCH (followee:User)-[:FOLLOWED_BY]->(u)
+            SET followee.followersCount = coalesce(followee.followersCount, 1) - 1
+            WITH DISTINCT u
+            OPTIONAL MATCH (u)-[:FOLLOWED_BY]->(follower:User)
+            SET follower.followingCount = coalesce(follower.followingCount, 1) - 1
+            WITH DISTINCT u
+            DETACH DELETE u
+            """;
+
     private final SpringDataUserRepository springDataUserRepository;
+    private final Neo4jClient neo4jClient;
+    private final Driver driver;
+    private final long streamFetchSize;
 
-    public Neo4jUserRepositoryAdapter(SpringDataUserRepository springDataUserRepository) {
+    public Neo4jUserRepositoryAdapter(SpringDataUserRepository springDataUserRepository,
+                                      Neo4jClient neo4jClient,
+                                      Driver driver,
+                                      @Value("${user.export.fetch-size:1000}") long streamFetchSize) {
         this.springDataUserRepository = springDataUserRepository;
+        this.neo4jClient = neo4jClient;
+        this.driver = driver;
+        this.streamFetchSize = streamFetchSize;
     }
 
     @Override
+    @Transactional("neo4jTransactionManager")
     public User save(User user) {
         var node = UserNeo4jMapper.toNode(user);
         System.out.println("RolesInNode: "+node.getRoles());
@@ -27,18 +96,74 @@ public class Neo4jUserRepositoryAdapter implements UserRepository {
     }
 
     @Override
+    @Transactional("neo4jTransactionManager")
+    public int saveAll(List<User> users) {
+        if (users.isEmpty()) {
+            return 0;
+        }
+        List<Map<String, Object>> rows = new ArrayList<>(users.size());
+        for (User user : users) {
+            rows.add(Map.of(
+                    "id", user.getId().toString(),
+                    "username", user.getUsername(),
+                    "email", user.getEmail(),
+                    "password", user.getPassword(),
+                    "fullName", user.getFullName(),
+                    "roles", List.copyOf(user.getRoles())
+            ));
+        }
+        return neo4jClient.query(SAVE_ALL_QUERY)
+                .bind(rows).to("rows")
+                .fetchAs(Long.class)
+                .one()
+                .map(Long::intValue)
+                .orElse(0);
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
+    public Optional<UserSummary> patch(UUID id, UserPatch patch) {
+        return neo4jClient.query(PATCH_QUERY)
+                .bind(id.toString()).to("id")
+                .bind(patch.changes()).to("changes")
+                .fetchAs(UserSummary.class)
+                .mappedBy((typeSystem, record) -> toSummary(record))
+                .one();
+    }
+
+    @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
     public Optional<User> findById(UUID id) {
         return springDataUserRepository.findById(id)
                 .map(UserNeo4jMapper::toDomain);
     }
 
     @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
+    public Optional<UserSummary> findSummaryById(UUID id) {
+        return springDataUserRepository.findSummaryById(id)
+                .map(UserNeo4jMapper::toSummary);
+    }
+
+    @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
     public Optional<User> findByEmail(String email) {
         return springDataUserRepository.findByEmail(email)
                 .map(UserNeo4jMapper::toDomain);
     }
 
     @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
+    public Optional<UUID> findIdByUsername(String username) {
+        return neo4jClient.query(ID_BY_USERNAME_QUERY)
+                .bind(username).to("username")
+                .fetchAs(UUID.class)
+                .mappedBy((typeSystem, record) -> UUID.fromString(record.get("id").asString()))
+                .one();
+    }
+
+    @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
     public List<User> findAll() {
         return springDataUserRepository.findAll().stream()
                 .map(UserNeo4jMapper::toDomain)
@@ -46,7 +171,65 @@ public class Neo4jUserRepositoryAdapter implements UserRepository {
     }
 
     @Override
+    @Transactional(transactionManager = "neo4jTransactionManager", readOnly = true)
+    public List<UserSummary> findPage(UUID afterId, int limit) {
+        var rows = afterId == null
+                ? springDataUserRepository.findSummaryByIdNotNullOrderByIdAsc(Limit.of(limit))
+                : springDataUserRepository.findSummaryByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+        return rows.stream()
+                .map(UserNeo4jMapper::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long streamAll(Consumer<User> consumer) {
+        SessionConfig config = SessionConfig.builder()
+                .withDefaultAccessMode(AccessMode.READ)
+                .withFetchSize(streamFetchSize)
+                .build();
+
+        // Auto-commit en lugar de transaction function: un reintento automático duplicaría
+        // registros ya enviados al consumidor. El fetch size hace que el driver traiga los
+        // registros por lotes a medida que se consumen (back-pressure sobre Bolt).
+        try (Session session = driver.session(config)) {
+            Result result = session.run(STREAM_ALL_QUERY);
+            long count = 0;
+            while (result.hasNext()) {
+                consumer.accept(toDomain(result.next()));
+                count++;
+            }
+            return count;
+        }
+    }
+
+    @Override
+    @Transactional("neo4jTransactionManager")
     public void deleteById(UUID id) {
-        springDataUserRepository.deleteById(id);
+        neo4jClient.query(DELETE_QUERY)
+                .bind(id.toString()).to("id")
+                .run();
+    }
+
+    private static UserSummary toSummary(Record record) {
+        return new UserSummary(
+                UUID.fromString(record.get("id").asString()),
+                record.get("username").asString(null),
+                record.get("email").asString(null),
+                record.get("fullName").asString(null)
+        );
+    }
+
+    private static User toDomain(Record record) {
+        User user = new User(
+                UUID.fromString(record.get("id").asString()),
+                record.get("username").asString(null),
+                record.get("email").asString(null),
+                null,
+                record.get("fullName").asString(null)
+        );
+        if (!record.get("roles").isNull()) {
+            user.setRoles(new HashSet<>(record.get("roles").asList(value -> value.asString())));
+        }
+        return user;
     }
 }
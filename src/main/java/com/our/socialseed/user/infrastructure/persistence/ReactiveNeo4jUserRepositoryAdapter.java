@@ -0,0 +1,117 @@
+package com.our.socialseed.user.infrastructure.persistence;
+
+import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserPatch;
+import com.our.socialseed.user.domain.model.UserSummary;
+import com.our.socialseed.user.domain.repository.ReactiveUserRepository;
+import com.our.socialseed.user.infrastructure.persistence.mapper.UserNeo4jMapper;
+import org.neo4j.driver.Record;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.neo4j.core.ReactiveNeo4jClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Component
+@Profile("reactive")
+public class ReactiveNeo4jUserRepositoryAdapter implements ReactiveUserRepository {
+
+    private static final String PATCH_QUERY = """
+            MATCH (u:User {id: $id})
+            SET u += $changes
+            RETURN u.id AS id, u.username AS username, u.email AS email, u.fullName AS fullName
+            """;
+
+    private static final String DELETE_QUERY = """
+            MATCH (u:User {id: $id})
+            OPTIONAL MATCH (u)-[:FRIEND_OF]-(friend:User)
+            SET friend.friendCount = coalesce(friend.friendCount, 1) - 1
+            WITH DISTINCT u
+            OPTIONAL MATCH (followee:User)-[:FOLLOWED_BY]->(u)
+            SET followee.followersCount = coalesce(followee.followersCount, 1) - 1
+            WITH DISTINCT u
+            OPTIONAL MATCH (u)-[:FOLLOWED_BY]->(follower:User)
+            SET follower.followingCount = coalesce(follower.followingCount, 1) - 1
+            WITH DISTINCT u
+            DETACH DELETE u
+            """;
+
+    private final ReactiveSpringDataUserRepository springDataUserRepository;
+    private final ReactiveNeo4jClient neo4jClient;
+
+    public ReactiveNeo4jUserRepositoryAdapter(ReactiveSpringDataUserRepository springDataUserRepository,
+                                              ReactiveNeo4jClient neo4jClient) {
+        this.springDataUserRepository = springDataUserRepository;
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    @Transactional("reactiveTransactionManager")
+    public Mono<User> save(User user) {
+        return springDataUserRepository.save(UserNeo4jMapper.toNode(user))
+                .map(UserNeo4jMapper::toDomain);
+    }
+
+    @Override
+    @Transactional("reactiveTransactionManager")
+    public Mono<UserSummary> patch(UUID id, UserPatch patch) {
+        return neo4jClient.query(PATCH_QUERY)
+                .bind(id.toString()).to("id")
+                .bind(patch.changes()).to("changes")
+                .fetchAs(UserSummary.class)
+                .mappedBy((typeSystem, record) -> toSummary(record))
+                .one();
+    }
+
+    @Override
+    @Transactional(transactionManager = "reactiveTransactionManager", readOnly = true)
+    public Mono<User> findById(UUID id) {
+        return springDataUserRepository.findById(id)
+                .map(UserNeo4jMapper::toDomain);
+    }
+
+    @Override
+    @Transactional(transactionManager = "reactiveTransactionManager", readOnly = true)
+    public Mono<UserSummary> findSummaryById(UUID id) {
+        return springDataUserRepository.findSummaryById(id)
+                .map(UserNeo4jMapper::toSummary);
+    }
+
+    @Override
+    @Transactional(transactionManager = "reactiveTransactionManager", readOnly = true)
+    public Mono<User> findByEmail(String email) {
+        return springDataUserRepository.findByEmail(email)
+                .map(UserNeo4jMapper::toDomain);
+    }
+
+    @Override
+    @Transactional(transactionManager = "reactiveTransactionManager", readOnly = true)
+    public Flux<UserSummary> findPage(UUID afterId, int limit) {
+        var rows = afterId == null
+                ? springDataUserRepository.findSummaryByIdNotNullOrderByIdAsc(Limit.of(limit))
+                : springDataUserRepository.findSummaryByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+        return rows.map(UserNeo4jMapper::toSummary);
+    }
+
+    @Override
+    @Transactional("reactiveTransactionManager")
+    public Mono<Void> deleteById(UUID id) {
+        return neo4jClient.query(DELETE_QUERY)
+                .bind(id.toString()).to("id")
+                .run()
+                .then();
+    }
+
+    private static UserSummary toSummary(Record record) {
+        return new UserSummary(
+                UUID.fromString(record.get("id").asString()),
+                record.get("username").asString(null),
+                record.get("email").asString(null),
+                record.get("fullName").asString(null)
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.our.socialseed.user.infrastructure.persistence;
+
+import com.our.socialseed.user.infrastructure.persistence.entity.UserNeo4jEntity;
+import com.our.socialseed.user.infrastructure.persistence.projection.UserSummaryProjection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.neo4j.repository.ReactiveNeo4jRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+// Mismas consultas que SpringDataUserRepository, sobre el driver reactivo (sin hilo bloqueado por round trip)
+public interface ReactiveSpringDataUserRepository extends ReactiveNeo4jRepository<UserNeo4jEntity, UUID> {
+    Mono<UserNeo4jEntity> findByEmail(String email);
+
+    Mono<UserSummaryProjection> findSummaryById(UUID id);
+
+    Flux<UserSummaryProjection> findSummaryByIdNotNullOrderByIdAsc(Limit limit);
+
+    Flux<UserSummaryProjection> findSummaryByIdGreaterThanOrderByIdAsc(UUID afterId, Limit limit);
+}
@@ -1,12 +1,25 @@
 package com.our.socialseed.user.infrastructure.persistence;
 
 import com.our.socialseed.user.infrastructure.persistence.entity.UserNeo4jEntity;
+import com.our.socialseed.user.infrastructure.persistence.projection.UserSummaryProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.neo4j.repository.Neo4jRepository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface SpringDataUserRepository extends Neo4jRepository<UserNeo4jEntity, UUID> {
     Optional<UserNeo4jEntity> findByEmail(String email);
+
+    // Proyecciones: solo id, username, email y fullName (sin password ni roles)
+    Optional<UserSummaryProjection> findSummaryById(UUID id);
+
+    // Keyset pagination: un index seek sobre u.id + LIMIT, sin SKIP ni recorrer páginas anteriores
+    //   MATCH (u:User) WHERE u.id IS NOT NULL RETURN u{.id, .username, .email, .fullName} ORDER BY u.id ASC LIMIT $limit
+    List<UserSummaryProjection> findSummaryByIdNotNullOrderByIdAsc(Limit limit);
+
+    //   MATCH (u:User) WHERE u.id > $afterId RETURN u{.id, .username, .email, .fullName} ORDER BY u.id ASC LIMIT $limit
+    List<UserSummaryProjection> findSummaryByIdGreaterThanOrderByIdAsc(UUID afterId, Limit limit);
     // Puedes agregar métodos como findByEmail, etc. si quieres
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.our.socialseed.user.infrastructure.persistence.mapper;
 
 import com.our.socialseed.user.infrastructure.persistence.entity.UserNeo4jEntity;
 import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserSummary;
+import com.our.socialseed.user.infrastructure.persistence.projection.UserSummaryProjection;
 
 public class UserNeo4jMapper {
     private UserNeo4jMapper() {
@@ -28,4 +30,13 @@ public class UserNeo4jMapper {
                 node.getFullName()
         );
     }
+
+    public static UserSummary toSummary(UserSummaryProjection projection) {
+        return new UserSummary(
+                projection.getId(),
+                projection.getUsername(),
+                projection.getEmail(),
+                projection.getFullName()
+        );
+    }
 }
@@ -0,0 +1,18 @@
+package com.our.socialseed.user.infrastructure.persistence.projection;
+
+import java.util.UUID;
+
+/*
+📌 Interface projection de Spring Data Neo4j sobre UserNeo4jEntity.
+   En los finders derivados SDN solo pide a Neo4j estas propiedades (RETURN u{.id, .username, ...}),
+   así que password y roles no viajan por Bolt ni se hidratan en la entidad.
+ */
+public interface UserSummaryProjection {
+    UUID getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    String getFullName();
+}
@@ -0,0 +1,3 @@
+// Posts y hashtags (modelo de grafo en Neo4j/Graph Data Model)
+CREATE CONSTRAINT post_id IF NOT EXISTS FOR (p:Post) REQUIRE p.id IS UNIQUE;
+CREATE CONSTRAINT hashtag_id IF NOT EXISTS FOR (t:HashTag) REQUIRE t.id IS UNIQUE;
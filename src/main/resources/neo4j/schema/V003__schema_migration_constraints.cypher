@@ -0,0 +1,2 @@
+// Registro de versiones aplicadas por Neo4jSchemaBootstrapper
+CREATE CONSTRAINT schema_migration_version IF NOT EXISTS FOR (m:SchemaMigration) REQUIRE m.version IS UNIQUE;
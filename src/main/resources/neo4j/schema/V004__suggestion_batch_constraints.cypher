@@ -0,0 +1,3 @@
+// Seguimiento del batch de sugerencias (ejecuciones y particiones completadas, para poder reanudar)
+CREATE CONSTRAINT suggestion_run_id IF NOT EXISTS FOR (r:SuggestionRun) REQUIRE r.id IS UNIQUE;
+CREATE INDEX suggestion_partition_run IF NOT EXISTS FOR (p:SuggestionPartition) ON (p.runId);
@@ -0,0 +1,165 @@
+package com.our.socialseed.auth.infrastructure.service;
+
+import com.our.socialseed.auth.config.exception.InvalidRefreshTokenException;
+import com.our.socialseed.auth.domain.model.AuthUser;
+import com.our.socialseed.auth.domain.model.RefreshToken;
+import com.our.socialseed.auth.domain.repository.AuthUserRepository;
+import com.our.socialseed.auth.domain.repository.RefreshTokenRepository;
+import com.our.socialseed.auth.domain.repository.RevokedAccessTokenRepository;
+import com.our.socialseed.auth.entry.rest.dto.AuthResponseDTO;
+import com.our.socialseed.shared.security.jwt.JWTProvider;
+import com.our.socialseed.shared.security.jwt.JwtKeyRing;
+import com.our.socialseed.shared.security.jwt.JwtPrincipal;
+import com.our.socialseed.shared.security.jwt.TokenRevocationList;
+import com.our.socialseed.shared.security.jwt.TokenVersionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/*
+Explicación rápida:
+Login emite access token + refresh token opaco (en BD solo su hash). Refrescar rota el refresh token dentro
+de la misma familia sin tocar el PasswordEncoder; presentar uno ya rotado (o perder la carrera de la rotación)
+revoca la familia entera. Logout revoca la familia y el jti del access token en memoria y en BD.
+* */
+class AuthServiceImplRefreshTest {
+
+    private AuthUserRepository authUserRepository;
+    private RefreshTokenRepository refreshTokenRepository;
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private PasswordEncoder passwordEncoder;
+    private JWTProvider jwtProvider;
+    private TokenRevocationList revocations;
+    private AuthServiceImpl authService;
+    private AuthUser ana;
+
+    @BeforeEach
+    void setUp() {
+        authUserRepository = mock(AuthUserRepository.class);
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        revokedAccessTokenRepository = mock(RevokedAccessTokenRepository.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        JwtKeyRing keyRing = new JwtKeyRing("ES256", Duration.ofDays(7), Duration.ofMinutes(10), 900_000, "", false);
+        jwtProvider = new JWTProvider(keyRing, 900_000, false, 0);
+        revocations = new TokenRevocationList(1_000, 0.01);
+        authService = new AuthServiceImpl(authUserRepository, passwordEncoder, jwtProvider, new TokenVersionRegistry(),
+                keyRing, refreshTokenRepository, revokedAccessTokenRepository, revocations, Duration.ofDays(30));
+
+        ana = new AuthUser(UUID.randomUUID(), "ana", "ana@socialseed.dev", "$2a$hash");
+        when(authUserRepository.findByEmail("ana@socialseed.dev")).thenReturn(Optional.of(ana));
+        when(authUserRepository.findById(ana.getId())).thenReturn(Optional.of(ana));
+        when(passwordEncoder.matches("secreto", "$2a$hash")).thenReturn(true);
+        when(refreshTokenRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void loginStoresOnlyTheHashOfTheRefreshToken() {
+        // Act
+        AuthResponseDTO response = authService.login("ana@socialseed.dev", "secreto");
+
+        // Assert
+        RefreshToken stored = savedRefreshTokens().getValue();
+        assertNotNull(response.refreshToken);
+        assertNotEquals(response.refreshToken, stored.tokenHash());
+        assertEquals(64, stored.tokenHash().length());
+        assertEquals(ana.getId(), stored.userId());
+        assertEquals(900, response.expiresIn);
+        assertTrue(jwtProvider.verify(response.token).isPresent());
+    }
+
+    @Test
+    void refreshRotatesWithinTheFamilyWithoutCheckingThePassword() {
+        // Arrange
+        AuthResponseDTO login = authService.login("ana@socialseed.dev", "secreto");
+        RefreshToken first = savedRefreshTokens().getValue();
+        when(refreshTokenRepository.findByHash(first.tokenHash())).thenReturn(Optional.of(first));
+        when(refreshTokenRepository.rotate(eq(first.id()), any(), any())).thenReturn(true);
+        clearInvocations(passwordEncoder, refreshTokenRepository);
+
+        // Act
+        AuthResponseDTO refreshed = authService.refresh(login.refreshToken);
+
+        // Assert
+        RefreshToken second = savedRefreshTokens().getValue();
+        assertNotEquals(login.refreshToken, refreshed.refreshToken);
+        assertEquals(first.familyId(), second.familyId());
+        verify(refreshTokenRepository).rotate(eq(first.id()), eq(second.id()), any());
+        verifyNoInteractions(passwordEncoder);
+        assertEquals(ana.getId(), jwtProvider.verify(refreshed.token).orElseThrow().userId());
+    }
+
+    @Test
+    void reusingARotatedTokenRevokesTheWholeFamily() {
+        // Arrange: token ya sustituido (active = false)
+        AuthResponseDTO login = authService.login("ana@socialseed.dev", "secreto");
+        RefreshToken first = savedRefreshTokens().getValue();
+        RefreshToken rotated = new RefreshToken(first.id(), first.userId(), first.familyId(), first.tokenHash(),
+                first.tokenVersion(), first.createdAt(), first.expiresAt(), false);
+        when(refreshTokenRepository.findByHash(first.tokenHash())).thenReturn(Optional.of(rotated));
+
+        // Act + Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.refresh(login.refreshToken));
+        verify(refreshTokenRepository).revokeFamily(eq(first.familyId()), any());
+        verify(refreshTokenRepository, never()).rotate(any(), any(), any());
+    }
+
+    @Test
+    void losingTheRotationRaceAlsoRevokesTheFamily() {
+        // Arrange: la lectura lo ve activo pero otra petición lo rota antes
+        AuthResponseDTO login = authService.login("ana@socialseed.dev", "secreto");
+        RefreshToken first = savedRefreshTokens().getValue();
+        when(refreshTokenRepository.findByHash(first.tokenHash())).thenReturn(Optional.of(first));
+        when(refreshTokenRepository.rotate(eq(first.id()), any(), any())).thenReturn(false);
+
+        // Act + Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.refresh(login.refreshToken));
+        verify(refreshTokenRepository).revokeFamily(eq(first.familyId()), any());
+    }
+
+    @Test
+    void expiredOrUnknownRefreshTokensAreRejected() {
+        // Arrange
+        RefreshToken expired = new RefreshToken(UUID.randomUUID(), ana.getId(), UUID.randomUUID(), "h", 0,
+                Instant.now().minus(Duration.ofDays(31)), Instant.now().minusSeconds(1), true);
+        when(refreshTokenRepository.findByHash(anyString())).thenReturn(Optional.empty());
+
+        // Act + Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.refresh("desconocido"));
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.refresh(null));
+        when(refreshTokenRepository.findByHash(anyString())).thenReturn(Optional.of(expired));
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.refresh("caducado"));
+    }
+
+    @Test
+    void logoutRevokesTheFamilyAndTheAccessToken() {
+        // Arrange
+        AuthResponseDTO login = authService.login("ana@socialseed.dev", "secreto");
+        RefreshToken first = savedRefreshTokens().getValue();
+        when(refreshTokenRepository.findByHash(first.tokenHash())).thenReturn(Optional.of(first));
+        JwtPrincipal principal = jwtProvider.verify(login.token).orElseThrow();
+
+        // Act
+        authService.logout(login.refreshToken, login.token);
+
+        // Assert
+        verify(refreshTokenRepository).revokeFamily(eq(first.familyId()), any());
+        verify(revokedAccessTokenRepository).save(principal.tokenId(), principal.expiresAt());
+        assertTrue(revocations.isRevoked(principal.tokenId()));
+    }
+
+    private ArgumentCaptor<RefreshToken> savedRefreshTokens() {
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository, atLeastOnce()).save(captor.capture());
+        return captor;
+    }
+}
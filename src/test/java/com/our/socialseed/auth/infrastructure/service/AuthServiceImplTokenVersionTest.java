@@ -0,0 +1,140 @@
+package com.our.socialseed.auth.infrastructure.service;
+
+import com.our.socialseed.auth.domain.model.AuthUser;
+import com.our.socialseed.auth.domain.repository.AuthUserRepository;
+import com.our.socialseed.auth.domain.repository.RefreshTokenRepository;
+import com.our.socialseed.auth.domain.repository.RevokedAccessTokenRepository;
+import com.our.socialseed.shared.security.jwt.JWTProvider;
+import com.our.socialseed.shared.security.jwt.JwtAuthFilter;
+import com.our.socialseed.shared.security.jwt.JwtKeyRing;
+import com.our.socialseed.shared.security.jwt.TokenRevocationList;
+import com.our.socialseed.shared.security.jwt.TokenVersionRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/*
+Explicación rápida:
+Cambiar roles o revocar sesiones sube la versión de token de la cuenta: el filtro rechaza a partir de ese
+momento el access token emitido antes, aunque siga firmado y en la caché de JWTProvider.
+Dentro de una transacción el registro en memoria solo avanza tras el commit; si hay rollback el token sigue valiendo.
+* */
+class AuthServiceImplTokenVersionTest {
+
+    private AuthUserRepository authUserRepository;
+    private JWTProvider jwtProvider;
+    private JwtAuthFilter filter;
+    private AuthServiceImpl authService;
+    private AuthUser ana;
+
+    @BeforeEach
+    void setUp() {
+        authUserRepository = mock(AuthUserRepository.class);
+        RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        JwtKeyRing keyRing = new JwtKeyRing("ES256", Duration.ofDays(7), Duration.ofMinutes(10), 900_000, "", false);
+        jwtProvider = new JWTProvider(keyRing, 900_000, true, 100);
+        TokenVersionRegistry tokenVersions = new TokenVersionRegistry();
+        TokenRevocationList revocations = new TokenRevocationList(1_000, 0.01);
+        filter = new JwtAuthFilter(jwtProvider, tokenVersions, revocations);
+        authService = new AuthServiceImpl(authUserRepository, passwordEncoder, jwtProvider, tokenVersions, keyRing,
+                refreshTokenRepository, mock(RevokedAccessTokenRepository.class), revocations, Duration.ofDays(30));
+
+        ana = new AuthUser(UUID.randomUUID(), "ana", "ana@socialseed.dev", "$2a$hash");
+        ana.getRoles().add("ROLE_ADMIN");
+        when(authUserRepository.findByEmail("ana@socialseed.dev")).thenReturn(Optional.of(ana));
+        when(authUserRepository.findById(ana.getId())).thenReturn(Optional.of(ana));
+        when(passwordEncoder.matches("secreto", "$2a$hash")).thenReturn(true);
+        when(refreshTokenRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void tokenIssuedBeforeUpdateRolesIsRejectedAfterwards() throws Exception {
+        // Arrange
+        String token = authService.login("ana@socialseed.dev", "secreto").token;
+        assertNotNull(authenticate(token));
+
+        // Act: se le quita ROLE_ADMIN
+        authService.updateRoles(ana.getId(), Set.of("ROLE_USER"));
+
+        // Assert: el token viejo (con ROLE_ADMIN) ya no autentica; uno nuevo sí, con los roles actuales
+        assertNull(authenticate(token));
+        String fresh = authService.login("ana@socialseed.dev", "secreto").token;
+        assertEquals("[ROLE_USER]", authenticate(fresh).getAuthorities().toString());
+    }
+
+    @Test
+    void tokenIssuedBeforeRevokeTokensIsRejectedAfterwards() throws Exception {
+        // Arrange
+        String token = authService.login("ana@socialseed.dev", "secreto").token;
+
+        // Act
+        authService.revokeTokens(ana.getId());
+
+        // Assert
+        assertNull(authenticate(token));
+    }
+
+    @Test
+    void versionAdvancesOnlyAfterCommit() throws Exception {
+        // Arrange: transacción simulada
+        String token = authService.login("ana@socialseed.dev", "secreto").token;
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        authService.updateRoles(ana.getId(), Set.of("ROLE_USER"));
+
+        // Assert: sin commit el token sigue valiendo; tras el commit ya no
+        assertNotNull(authenticate(token));
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertNull(authenticate(token));
+    }
+
+    @Test
+    void rolledBackUpdateDoesNotRevokeTokens() throws Exception {
+        // Arrange: transacción simulada que termina en rollback
+        String token = authService.login("ana@socialseed.dev", "secreto").token;
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        authService.updateRoles(ana.getId(), Set.of("ROLE_USER"));
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        assertNotNull(authenticate(token));
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
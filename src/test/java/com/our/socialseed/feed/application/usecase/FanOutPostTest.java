@@ -0,0 +1,84 @@
+package com.our.socialseed.feed.application.usecase;
+
+import com.our.socialseed.feed.domain.model.FanOutResult;
+import com.our.socialseed.feed.domain.model.FeedEntry;
+import com.our.socialseed.feed.domain.repository.FeedStore;
+import com.our.socialseed.feed.domain.repository.FollowerSource;
+import com.our.socialseed.feed.domain.repository.RecentPostsStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/*
+Explicación rápida:
+Verificamos que un autor normal reparte el post a cada seguidor (push)
+y que un autor por encima del umbral solo lo deja en su timeline y en la caché de posts recientes (pull),
+sin recorrer sus seguidores.
+* */
+class FanOutPostTest {
+
+    private FollowerSource followerSource;
+    private FeedStore feedStore;
+    private RecentPostsStore recentPostsStore;
+    private FanOutPost fanOutPost;
+
+    @BeforeEach
+    void setUp() {
+        followerSource = mock(FollowerSource.class);
+        feedStore = mock(FeedStore.class);
+        recentPostsStore = mock(RecentPostsStore.class);
+        fanOutPost = new FanOutPost(followerSource, feedStore, recentPostsStore, 1000);
+    }
+
+    @Test
+    void shouldPushToEveryFollowerBelowThreshold() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+        UUID follower1 = UUID.randomUUID();
+        UUID follower2 = UUID.randomUUID();
+        FeedEntry entry = new FeedEntry(postId, 100);
+        when(followerSource.countFollowers(authorId)).thenReturn(2L);
+        when(followerSource.forEachFollower(eq(authorId), any())).thenAnswer(invocation -> {
+            Consumer<UUID> consumer = invocation.getArgument(1);
+            consumer.accept(follower1);
+            consumer.accept(follower2);
+            return 2L;
+        });
+
+        // Act
+        FanOutResult result = fanOutPost.execute(postId, authorId, 100);
+
+        // Assert
+        assertEquals(new FanOutResult(false, 2, 3), result);
+        verify(feedStore).push(authorId, entry);
+        verify(feedStore).push(follower1, entry);
+        verify(feedStore).push(follower2, entry);
+        verify(recentPostsStore).append(authorId, entry);
+    }
+
+    @Test
+    void shouldSkipFanOutForCelebrities() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+        FeedEntry entry = new FeedEntry(postId, 100);
+        when(followerSource.countFollowers(authorId)).thenReturn(500_000L);
+
+        // Act
+        FanOutResult result = fanOutPost.execute(postId, authorId, 100);
+
+        // Assert
+        assertEquals(new FanOutResult(true, 500_000, 1), result);
+        verify(feedStore, times(1)).push(authorId, entry);
+        verify(recentPostsStore).append(authorId, entry);
+        verify(followerSource, never()).forEachFollower(any(), any());
+    }
+}
@@ -0,0 +1,132 @@
+package com.our.socialseed.feed.application.usecase;
+
+import com.our.socialseed.feed.domain.model.FeedCursor;
+import com.our.socialseed.feed.domain.model.FeedEntry;
+import com.our.socialseed.feed.domain.repository.FeedStore;
+import com.our.socialseed.feed.domain.repository.FollowerSource;
+import com.our.socialseed.feed.domain.repository.RecentPostsStore;
+import com.our.socialseed.post.domain.model.Post;
+import com.our.socialseed.post.domain.repository.PostRepository;
+import com.our.socialseed.shared.pagination.CursorPage;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/*
+Explicación rápida:
+Verificamos que el timeline se lee del store materializado pidiendo una entrada de más (lookahead),
+que los posts de las celebridades seguidas se mezclan por fecha sin duplicados (modo pull),
+que los posts se hidratan en una sola llamada respetando el orden del timeline
+y que un usuario sin nodo en el grafo no llega a consultar el store.
+* */
+class GetFeedTest {
+
+    private FeedStore feedStore;
+    private RecentPostsStore recentPostsStore;
+    private FollowerSource followerSource;
+    private PostRepository postRepository;
+    private UserRepository userRepository;
+    private GetFeed getFeed;
+
+    @BeforeEach
+    void setUp() {
+        feedStore = mock(FeedStore.class);
+        recentPostsStore = mock(RecentPostsStore.class);
+        followerSource = mock(FollowerSource.class);
+        postRepository = mock(PostRepository.class);
+        userRepository = mock(UserRepository.class);
+        getFeed = new GetFeed(feedStore, recentPostsStore, followerSource, postRepository, userRepository, 1000, 2, 100);
+    }
+
+    @Test
+    void shouldReturnHydratedPageWithNextCursor() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        FeedEntry newest = new FeedEntry(UUID.randomUUID(), 300);
+        FeedEntry middle = new FeedEntry(UUID.randomUUID(), 200);
+        FeedEntry oldest = new FeedEntry(UUID.randomUUID(), 100);
+        when(userRepository.findIdByUsername("alice")).thenReturn(Optional.of(userId));
+        when(feedStore.read(userId, null, 3)).thenReturn(List.of(newest, middle, oldest));
+        // el repositorio no garantiza orden
+        when(postRepository.findByIds(List.of(newest.postId(), middle.postId())))
+                .thenReturn(List.of(post(middle), post(newest)));
+
+        // Act
+        CursorPage<Post> page = getFeed.execute("alice", null, null).orElseThrow();
+
+        // Assert
+        assertEquals(List.of(newest.postId(), middle.postId()), page.items().stream().map(Post::id).toList());
+        assertEquals(middle, FeedCursor.decode(page.next()));
+        verify(postRepository, times(1)).findByIds(anyList());
+    }
+
+    @Test
+    void shouldMergeCelebrityPostsByDate() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID celebrityId = UUID.randomUUID();
+        FeedEntry pushedNewest = new FeedEntry(UUID.randomUUID(), 400);
+        FeedEntry pushedOldest = new FeedEntry(UUID.randomUUID(), 100);
+        FeedEntry celebrityPost = new FeedEntry(UUID.randomUUID(), 300);
+        FeedEntry crossedThreshold = new FeedEntry(UUID.randomUUID(), 50); // repartido antes de ser celebridad
+        when(userRepository.findIdByUsername("alice")).thenReturn(Optional.of(userId));
+        when(followerSource.findFollowedAuthors(userId, 1000)).thenReturn(List.of(celebrityId));
+        when(feedStore.read(userId, null, 3)).thenReturn(List.of(pushedNewest, pushedOldest, crossedThreshold));
+        when(recentPostsStore.read(celebrityId, null, 3)).thenReturn(List.of(celebrityPost, crossedThreshold));
+        when(postRepository.findByIds(List.of(pushedNewest.postId(), celebrityPost.postId())))
+                .thenReturn(List.of(post(pushedNewest), post(celebrityPost)));
+
+        // Act
+        CursorPage<Post> page = getFeed.execute("alice", null, null).orElseThrow();
+
+        // Assert
+        assertEquals(List.of(pushedNewest.postId(), celebrityPost.postId()), page.items().stream().map(Post::id).toList());
+        assertEquals(celebrityPost, FeedCursor.decode(page.next()));
+    }
+
+    @Test
+    void shouldSkipPostsDeletedAfterFanOut() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        FeedEntry kept = new FeedEntry(UUID.randomUUID(), 200);
+        FeedEntry deleted = new FeedEntry(UUID.randomUUID(), 100);
+        when(userRepository.findIdByUsername("alice")).thenReturn(Optional.of(userId));
+        when(feedStore.read(userId, null, 3)).thenReturn(List.of(kept, deleted));
+        when(postRepository.findByIds(anyList())).thenReturn(List.of(post(kept)));
+
+        // Act
+        CursorPage<Post> page = getFeed.execute("alice", null, null).orElseThrow();
+
+        // Assert
+        assertEquals(List.of(kept.postId()), page.items().stream().map(Post::id).toList());
+        assertNull(page.next());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenUserIsUnknown() {
+        // Arrange
+        when(userRepository.findIdByUsername("ghost")).thenReturn(Optional.empty());
+
+        // Act
+        Optional<CursorPage<Post>> result = getFeed.execute("ghost", null, null);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(feedStore, never()).read(any(), any(), anyInt());
+    }
+
+    private static Post post(FeedEntry entry) {
+        return new Post(entry.postId(), UUID.randomUUID(), "hola", null, Instant.ofEpochMilli(entry.createdAt()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.our.socialseed.feed.infrastructure.store;
+
+import com.our.socialseed.feed.domain.model.FeedEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+Verificamos que el buffer circular mantiene el orden cronológico aunque el fan-out entregue fuera de orden,
+que con el buffer lleno se descarta la entrada más antigua, que los reintentos no duplican entradas
+y que la lectura por cursor devuelve solo las entradas estrictamente anteriores.
+* */
+class RingFeedTest {
+
+    @Test
+    void shouldReadNewestFirstEvenWhenPushedOutOfOrder() {
+        // Arrange
+        RingFeed feed = new RingFeed(10);
+        FeedEntry first = entry(100);
+        FeedEntry second = entry(200);
+        FeedEntry third = entry(300);
+
+        // Act
+        feed.push(second);
+        feed.push(third);
+        feed.push(first);
+
+        // Assert
+        assertEquals(List.of(third, second, first), feed.read(null, 10));
+    }
+
+    @Test
+    void shouldEvictOldestWhenFull() {
+        // Arrange
+        RingFeed feed = new RingFeed(3);
+        FeedEntry e1 = entry(1);
+        FeedEntry e2 = entry(2);
+        FeedEntry e3 = entry(3);
+        FeedEntry e4 = entry(4);
+        FeedEntry e5 = entry(5);
+
+        // Act
+        for (FeedEntry e : List.of(e1, e2, e3, e4, e5)) {
+            feed.push(e);
+        }
+        feed.push(entry(0)); // más antigua que todo lo que cabe: se ignora
+
+        // Assert
+        assertEquals(3, feed.size());
+        assertEquals(List.of(e5, e4, e3), feed.read(null, 10));
+    }
+
+    @Test
+    void shouldIgnoreDuplicatedEntries() {
+        // Arrange
+        RingFeed feed = new RingFeed(5);
+        FeedEntry e = entry(42);
+
+        // Act
+        feed.push(e);
+        feed.push(e);
+
+        // Assert
+        assertEquals(1, feed.size());
+    }
+
+    @Test
+    void shouldPaginateStrictlyBeforeCursor() {
+        // Arrange
+        RingFeed feed = new RingFeed(10);
+        FeedEntry e1 = entry(10);
+        FeedEntry e2 = entry(20);
+        FeedEntry e3 = entry(30);
+        FeedEntry e4 = entry(40);
+        List.of(e1, e2, e3, e4).forEach(feed::push);
+
+        // Act
+        List<FeedEntry> firstPage = feed.read(null, 2);
+        List<FeedEntry> secondPage = feed.read(firstPage.get(1), 2);
+
+        // Assert
+        assertEquals(List.of(e4, e3), firstPage);
+        assertEquals(List.of(e2, e1), secondPage);
+        assertTrue(feed.read(e1, 2).isEmpty());
+    }
+
+    private static FeedEntry entry(long createdAt) {
+        return new FeedEntry(UUID.randomUUID(), createdAt);
+    }
+}
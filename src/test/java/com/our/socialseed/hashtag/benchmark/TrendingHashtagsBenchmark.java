@@ -0,0 +1,100 @@
+package com.our.socialseed.hashtag.benchmark;
+
+import com.our.socialseed.hashtag.domain.model.TrendingHashtags;
+import com.our.socialseed.hashtag.infrastructure.trending.WindowedTrendingCounter;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+📌 Microbenchmark (JMH) del motor de tendencias con la configuración por defecto de application.properties.
+   No forma parte de la build: mvn test -Dtest=TrendingHashtagsBenchmark [-Dbenchmark.threads=4] [-Dbenchmark.forks=0]
+   - record: eventos de hashtag por segundo con varios hilos publicando a la vez (distribución tipo Zipf
+     sobre 50k hashtags). El test falla por debajo de 100k eventos/s sostenidos.
+   - top: latencia de GET /api/hashtags/trending?window=1h sin la memoización de resultados.
+   Con forks=0 JMH corre dentro del proceso de surefire; para cifras publicables usar forks >= 1.
+ */
+@State(Scope.Benchmark)
+public class TrendingHashtagsBenchmark {
+
+    private static final int TAGS = 50_000;
+    private static final double REQUIRED_EVENTS_PER_SECOND = 100_000;
+
+    private WindowedTrendingCounter counter;
+    private String[] tags;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        counter = new WindowedTrendingCounter(Duration.ofMinutes(1), 60, Duration.ofHours(1), 24,
+                5, 4096, 200, 50, Duration.ZERO);
+        Random random = new Random(7);
+        tags = new String[1 << 16];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = "tag" + (int) Math.floor(Math.pow(TAGS, random.nextDouble()));
+        }
+        for (String tag : tags) {
+            counter.record(tag, System.currentTimeMillis());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next = new Random().nextInt();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void record(Cursor cursor) {
+        counter.record(tags[cursor.next++ & (tags.length - 1)], System.currentTimeMillis());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public TrendingHashtags top() {
+        return counter.top(Duration.ofHours(1), 10);
+    }
+
+    @Test
+    void sustainsRequiredThroughput() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(TrendingHashtagsBenchmark.class.getName() + "\\.")
+                .forks(Integer.getInteger("benchmark.forks", 0))
+                .threads(Integer.getInteger("benchmark.threads", 4))
+                .warmupIterations(2)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(3)
+                .measurementTime(TimeValue.seconds(3))
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        RunResult record = results.stream()
+                .filter(result -> result.getParams().getBenchmark().endsWith(".record"))
+                .findFirst()
+                .orElseThrow();
+        double eventsPerSecond = record.getPrimaryResult().getScore();
+        assertTrue(eventsPerSecond >= REQUIRED_EVENTS_PER_SECOND,
+                "Throughput de record: " + eventsPerSecond + " eventos/s");
+    }
+}
@@ -0,0 +1,21 @@
+package com.our.socialseed.hashtag.config;
+
+import com.our.socialseed.hashtag.application.usecase.GetTrendingHashtags;
+import com.our.socialseed.hashtag.application.usecase.HashtagUseCases;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class MockHashtagUseCasesConfig {
+
+    @Bean
+    public HashtagUseCases hashtagUseCases() {
+        return Mockito.mock(HashtagUseCases.class);
+    }
+
+    @Bean
+    public GetTrendingHashtags getTrendingHashtags() {
+        return Mockito.mock(GetTrendingHashtags.class);
+    }
+}
@@ -0,0 +1,82 @@
+package com.our.socialseed.hashtag.entry.rest.controller;
+
+import com.our.socialseed.hashtag.application.usecase.GetTrendingHashtags;
+import com.our.socialseed.hashtag.application.usecase.HashtagUseCases;
+import com.our.socialseed.hashtag.config.MockHashtagUseCasesConfig;
+import com.our.socialseed.hashtag.config.exception.InvalidTrendingWindowException;
+import com.our.socialseed.hashtag.domain.model.TrendingHashtag;
+import com.our.socialseed.hashtag.domain.model.TrendingHashtags;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests para HashtagController:
+ * ✅ 1. Trending con ventana explícita – 200 OK con cuentas y cota de error
+ * ✅ 2. Sin ventana – se usa 1h por defecto
+ * ✅ 3. Ventana inválida – 400 Bad Request
+ */
+@WebMvcTest(HashtagController.class)
+@Import(MockHashtagUseCasesConfig.class)
+class HashtagControllerTest {
+    // <editor-fold desc="Dependencias e inicialización">
+    @Autowired private MockMvc mockMvc;
+    @Autowired private HashtagUseCases hashtagUseCases;
+    @Autowired private GetTrendingHashtags getTrendingHashtags;
+
+    @BeforeEach
+    void setUp() {
+        reset(getTrendingHashtags);
+        when(hashtagUseCases.getTrendingHashtags()).thenReturn(getTrendingHashtags);
+    }
+    // </editor-fold>
+
+    @Test
+    @WithMockUser
+    void shouldReturnTrendingHashtags() throws Exception {
+        when(getTrendingHashtags.execute("15m", 5)).thenReturn(new TrendingHashtags(Duration.ofMinutes(15), 1200, 1,
+                List.of(new TrendingHashtag("java", 300), new TrendingHashtag("neo4j", 120))));
+
+        mockMvc.perform(get("/api/hashtags/trending").param("window", "15m").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.window").value("PT15M"))
+                .andExpect(jsonPath("$.totalEvents").value(1200))
+                .andExpect(jsonPath("$.maxOverestimate").value(1))
+                .andExpect(jsonPath("$.hashtags[0].tag").value("java"))
+                .andExpect(jsonPath("$.hashtags[0].count").value(300));
+    }
+
+    @Test
+    @WithMockUser
+    void shouldUseOneHourWindowByDefault() throws Exception {
+        when(getTrendingHashtags.execute("1h", null))
+                .thenReturn(new TrendingHashtags(Duration.ofHours(1), 0, 0, List.of()));
+
+        mockMvc.perform(get("/api/hashtags/trending"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hashtags").isEmpty());
+
+        verify(getTrendingHashtags, times(1)).execute("1h", null);
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReturnBadRequest_whenWindowIsInvalid() throws Exception {
+        when(getTrendingHashtags.execute("7d", null))
+                .thenThrow(new InvalidTrendingWindowException("7d", Duration.ofHours(24)));
+
+        mockMvc.perform(get("/api/hashtags/trending").param("window", "7d"))
+                .andExpect(status().isBadRequest());
+    }
+}
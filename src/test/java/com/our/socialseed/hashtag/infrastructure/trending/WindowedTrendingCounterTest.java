@@ -0,0 +1,161 @@
+package com.our.socialseed.hashtag.infrastructure.trending;
+
+import com.our.socialseed.hashtag.domain.model.TrendingHashtag;
+import com.our.socialseed.hashtag.domain.model.TrendingHashtags;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+Verificamos que el ranking sale ordenado por uso dentro de la ventana, que los buckets que salen
+de la ventana dejan de contar, que las ventanas largas usan el nivel de buckets de 1h
+y que, con una distribución sesgada, las cuentas nunca bajan de la real ni la superan en más de la cota.
+El memo de rankings no crece con cada ventana distinta que pidan los clientes.
+* */
+class WindowedTrendingCounterTest {
+
+    private MutableClock clock;
+    private WindowedTrendingCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T12:00:30Z"));
+        counter = new WindowedTrendingCounter(List.of(
+                new SlidingWindowSketch(Duration.ofMinutes(1).toMillis(), 60, 5, 1024, 50),
+                new SlidingWindowSketch(Duration.ofHours(1).toMillis(), 24, 5, 1024, 50)),
+                10, Duration.ZERO, clock);
+    }
+
+    @Test
+    void shouldRankByUsageWithinWindow() {
+        // Arrange
+        record("java", 5);
+        record("spring", 3);
+        record("neo4j", 1);
+
+        // Act
+        TrendingHashtags trending = counter.top(Duration.ofMinutes(5), 2);
+
+        // Assert
+        assertEquals(9, trending.totalEvents());
+        assertEquals(List.of(new TrendingHashtag("java", 5), new TrendingHashtag("spring", 3)), trending.hashtags());
+    }
+
+    @Test
+    void shouldForgetBucketsOutsideWindow() {
+        // Arrange
+        record("old", 10);
+        clock.advance(Duration.ofMinutes(10));
+        record("new", 2);
+
+        // Act
+        TrendingHashtags lastFiveMinutes = counter.top(Duration.ofMinutes(5), 10);
+        TrendingHashtags lastHour = counter.top(Duration.ofHours(1), 10);
+
+        // Assert
+        assertEquals(List.of(new TrendingHashtag("new", 2)), lastFiveMinutes.hashtags());
+        assertEquals("old", lastHour.hashtags().get(0).tag());
+        assertEquals(12, lastHour.totalEvents());
+    }
+
+    @Test
+    void shouldUseHourlyBucketsForLongWindows() {
+        // Arrange
+        record("yesterday", 4);
+        clock.advance(Duration.ofHours(3));
+        record("today", 1);
+
+        // Act
+        TrendingHashtags lastDay = counter.top(Duration.ofHours(24), 10);
+
+        // Assert
+        assertEquals(Duration.ofHours(24), counter.maxWindow());
+        assertEquals(List.of(new TrendingHashtag("yesterday", 4), new TrendingHashtag("today", 1)), lastDay.hashtags());
+    }
+
+    @Test
+    void shouldStayWithinErrorBoundOnSkewedStream() {
+        // Arrange: 50k eventos sobre 5k hashtags con distribución tipo Zipf
+        Random random = new Random(42);
+        Map<String, Long> exact = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            String tag = "tag" + (int) Math.floor(Math.pow(5_000, random.nextDouble()));
+            exact.merge(tag, 1L, Long::sum);
+            counter.record(tag, clock.millis());
+        }
+
+        // Act
+        TrendingHashtags trending = counter.top(Duration.ofMinutes(1), 10);
+
+        // Assert
+        assertEquals(50_000, trending.totalEvents());
+        assertEquals("tag1", trending.hashtags().get(0).tag());
+        for (TrendingHashtag hashtag : trending.hashtags()) {
+            long real = exact.get(hashtag.tag());
+            assertTrue(hashtag.count() >= real, hashtag.tag());
+            assertTrue(hashtag.count() <= real + trending.maxOverestimate(), hashtag.tag());
+        }
+    }
+
+    @Test
+    void shouldBoundMemoizedRankingsWhateverWindowsClientsAskFor() {
+        // Arrange
+        record("java", 1);
+
+        // Act: ventanas distintas al milisegundo, todas dentro del máximo (24h)
+        for (long millis = 1; millis <= Duration.ofHours(24).toMillis(); millis += 997 * 61) {
+            counter.top(Duration.ofMillis(millis), 1);
+        }
+        TrendingHashtags oddWindow = counter.top(Duration.ofMillis(90_001), 1);
+
+        // Assert: una entrada por (nivel, nº de buckets), 60 + 24 como mucho
+        assertTrue(counter.memoizedRankings() <= 84, "rankings memorizados: " + counter.memoizedRankings());
+        assertEquals(Duration.ofMillis(90_001), oddWindow.window());
+        assertEquals(1, oddWindow.totalEvents());
+    }
+
+    private void record(String tag, int times) {
+        for (int i = 0; i < times; i++) {
+            counter.record(tag, clock.millis());
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.our.socialseed.post.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+Verificamos que los hashtags se extraen en minúsculas, sin repetir y en orden de aparición,
+y que no se confunden con anclas de URL ni con "##".
+* */
+class PostTest {
+
+    @Test
+    void shouldExtractNormalizedHashtags() {
+        // Arrange
+        Post post = post("Probando #Java y #Neo4j con #java, #año_nuevo y https://example.com/page#section ##doble");
+
+        // Act
+        List<String> hashtags = post.hashtags();
+
+        // Assert
+        assertEquals(List.of("java", "neo4j", "año_nuevo"), hashtags);
+    }
+
+    @Test
+    void shouldReturnEmptyWithoutHashtags() {
+        // Act & Assert
+        assertTrue(post("Sin etiquetas").hashtags().isEmpty());
+        assertTrue(post(null).hashtags().isEmpty());
+    }
+
+    private static Post post(String content) {
+        return new Post(UUID.randomUUID(), UUID.randomUUID(), content, null, Instant.now());
+    }
+}
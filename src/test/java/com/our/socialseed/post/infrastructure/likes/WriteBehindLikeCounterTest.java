@@ -0,0 +1,183 @@
+package com.our.socialseed.post.infrastructure.likes;
+
+import com.our.socialseed.post.domain.repository.PostLikeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+Con un repositorio en memoria comprobamos que los deltas acumulados llegan exactos al contador persistido
+aunque se sumen mientras se vuelca, que un volcado fallido no pierde nada
+y que la lectura (persistido + pendiente) no cambia por el hecho de volcar.
+* */
+class WriteBehindLikeCounterTest {
+
+    private InMemoryPostLikeRepository repository;
+    private WriteBehindLikeCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryPostLikeRepository();
+        counter = new WriteBehindLikeCounter(repository, 2);
+    }
+
+    @Test
+    void countsCombinePersistedAndPendingDeltas() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        repository.likeCounts.put(postId, 10L);
+
+        // Act
+        counter.add(postId, 1);
+        counter.add(postId, 1);
+        long beforeFlush = counter.count(postId);
+        counter.flush();
+
+        // Assert
+        assertEquals(12, beforeFlush);
+        assertEquals(12, counter.count(postId));
+        assertEquals(12L, repository.likeCounts.get(postId));
+    }
+
+    @Test
+    void flushWritesDeltasInBatches() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            UUID postId = UUID.randomUUID();
+            repository.likeCounts.put(postId, 0L);
+            counter.add(postId, 1);
+        }
+
+        // Act
+        counter.flush();
+
+        // Assert: batch size 2 -> 3 UNWIND
+        assertEquals(3, repository.batches);
+        assertEquals(5, repository.likeCounts.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    void failedFlushKeepsDeltasForTheNextCycle() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        repository.likeCounts.put(postId, 0L);
+        counter.add(postId, 3);
+        repository.failing = true;
+
+        // Act
+        counter.flush();
+        long afterFailure = counter.count(postId);
+        counter.add(postId, 1);
+        repository.failing = false;
+        counter.flush();
+        counter.flush();
+
+        // Assert
+        assertEquals(3, afterFailure);
+        assertEquals(4L, repository.likeCounts.get(postId));
+        assertEquals(4, counter.count(postId));
+    }
+
+    @Test
+    void concurrentAddsDuringFlushesAreNeitherLostNorDuplicated() throws Exception {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        repository.likeCounts.put(postId, 0L);
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean backwards = new AtomicBoolean();
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    counter.add(postId, 1);
+                }
+                done.countDown();
+            });
+        }
+        long last = 0;
+        while (done.getCount() > 0) {
+            counter.flush();
+            long current = counter.count(postId);
+            if (current < last) {
+                backwards.set(true);
+            }
+            last = current;
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        counter.flushOnShutdown();
+
+        // Assert
+        assertFalse(backwards.get());
+        assertEquals((long) threads * perThread, repository.likeCounts.get(postId));
+        assertEquals((long) threads * perThread, counter.count(postId));
+    }
+
+    @Test
+    void unknownPostsAreAbsentFromCounts() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+
+        // Act
+        Map<UUID, Long> counts = counter.counts(List.of(postId));
+
+        // Assert
+        assertFalse(counts.containsKey(postId));
+    }
+
+    private static class InMemoryPostLikeRepository implements PostLikeRepository {
+        private final Map<UUID, Long> likeCounts = new ConcurrentHashMap<>();
+        private volatile boolean failing;
+        private int batches;
+
+        @Override
+        public Optional<Boolean> like(UUID postId, UUID userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Boolean> unlike(UUID postId, UUID userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void applyLikeDeltas(Map<UUID, Long> deltas) {
+            if (failing) {
+                throw new IllegalStateException("Neo4j no disponible");
+            }
+            batches++;
+            deltas.forEach((postId, delta) -> likeCounts.computeIfPresent(postId, (id, count) -> count + delta));
+        }
+
+        @Override
+        public Map<UUID, Long> findLikeCounts(Collection<UUID> postIds) {
+            Map<UUID, Long> counts = new HashMap<>();
+            postIds.forEach(postId -> {
+                Long count = likeCounts.get(postId);
+                if (count != null) {
+                    counts.put(postId, count);
+                }
+            });
+            return counts;
+        }
+    }
+}
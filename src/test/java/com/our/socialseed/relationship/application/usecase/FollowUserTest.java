@@ -0,0 +1,60 @@
+package com.our.socialseed.relationship.application.usecase;
+
+import com.our.socialseed.relationship.config.exception.SelfRelationshipException;
+import com.our.socialseed.relationship.domain.model.RelationshipCounters;
+import com.our.socialseed.relationship.domain.model.RelationshipUpdate;
+import com.our.socialseed.relationship.domain.repository.RelationshipRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/*
+Explicación rápida:
+Verificamos que seguir a otro usuario se delega en una única llamada al repositorio
+(la sentencia Cypher crea la relación y actualiza los contadores a la vez)
+y que seguirse a uno mismo se rechaza sin tocar el grafo.
+* */
+class FollowUserTest {
+
+    private RelationshipRepository relationshipRepository;
+    private FollowUser followUser;
+
+    @BeforeEach
+    void setUp() {
+        relationshipRepository = mock(RelationshipRepository.class);
+        followUser = new FollowUser(relationshipRepository);
+    }
+
+    @Test
+    void shouldFollowInSingleStatement() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        RelationshipUpdate update = new RelationshipUpdate(true,
+                new RelationshipCounters(userId, 0, 0, 1),
+                new RelationshipCounters(targetId, 0, 1, 0));
+        when(relationshipRepository.follow(userId, targetId)).thenReturn(Optional.of(update));
+
+        // Act
+        Optional<RelationshipUpdate> result = followUser.execute(userId, targetId);
+
+        // Assert
+        assertEquals(Optional.of(update), result);
+        verify(relationshipRepository, times(1)).follow(userId, targetId);
+    }
+
+    @Test
+    void shouldRejectFollowingOneself() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        // Act & Assert
+        assertThrows(SelfRelationshipException.class, () -> followUser.execute(userId, userId));
+        verifyNoInteractions(relationshipRepository);
+    }
+}
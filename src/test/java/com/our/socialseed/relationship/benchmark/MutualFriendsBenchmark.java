@@ -0,0 +1,217 @@
+package com.our.socialseed.relationship.benchmark;
+
+import com.our.socialseed.relationship.domain.model.MutualFriends;
+import com.our.socialseed.relationship.infrastructure.mutual.RoaringMutualFriendsIndex;
+import com.our.socialseed.shared.graph.snapshot.CsrGraph;
+import com.our.socialseed.shared.graph.snapshot.GraphSnapshot;
+import com.our.socialseed.shared.graph.snapshot.GraphSnapshotRefreshedEvent;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+📌 Microbenchmark (JMH) de "amigos en común" entre dos usuarios con 30k amigos cada uno (10k compartidos).
+   No forma parte de la build: mvn test -Dtest=MutualFriendsBenchmark [-Dbenchmark.forks=0]
+   - roaringCount / roaringPage: RoaringMutualFriendsIndex (andCardinality y AND + primera página de 20 ids).
+   - sortedMerge: intersección de las dos filas ordenadas del CSR, la alternativa en memoria sin bitmaps.
+   - cypher: la misma consulta que RelationshipRepository.findMutualFriends contra un Neo4j real. Solo se ejecuta con
+     -Dbenchmark.neo4j-uri=bolt://localhost:7687 [-Dbenchmark.neo4j-user=neo4j -Dbenchmark.neo4j-password=...];
+     crea los usuarios con benchmark = true y los borra al terminar.
+   El test falla si roaringCount supera los 50 µs de media.
+ */
+@State(Scope.Benchmark)
+public class MutualFriendsBenchmark {
+
+    private static final int FRIENDS_PER_USER = 30_000;
+    private static final int SHARED = 10_000;
+    private static final int BACKGROUND_USERS = 200_000;
+    private static final double MAX_ROARING_MICROS = 50;
+
+    private static final String CYPHER_QUERY = """
+            MATCH (u:User {id: $userId}), (t:User {id: $targetId})
+            OPTIONAL MATCH (u)-[:FRIEND_OF]-(m:User)-[:FRIEND_OF]-(t)
+            WITH u, t, m.id AS mutualId
+            ORDER BY mutualId
+            WITH u, t, collect(DISTINCT mutualId) AS mutualIds
+            RETURN u.id AS userId, t.id AS targetId, size(mutualIds) AS count, mutualIds[0..$limit] AS mutualIds
+            """;
+
+    private RoaringMutualFriendsIndex index;
+    private CsrGraph friends;
+    private UUID userA;
+    private UUID userB;
+    private int nodeA;
+    private int nodeB;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<UUID> users = new ArrayList<>(BACKGROUND_USERS + 2);
+        for (int i = 0; i < BACKGROUND_USERS + 2; i++) {
+            users.add(UUID.randomUUID());
+        }
+        userA = users.get(0);
+        userB = users.get(1);
+
+        // amigos al azar entre los 200k usuarios: A los 30k primeros de la permutación, B los 30k siguientes
+        // solapando 10k con A (ids densos dispersos, como en un grafo real)
+        GraphSnapshot.Builder builder = GraphSnapshot.builder(users.size());
+        users.forEach(builder::addUser);
+        List<UUID> shuffled = new ArrayList<>(users.subList(2, users.size()));
+        Collections.shuffle(shuffled, new Random(7));
+        for (int i = 0; i < FRIENDS_PER_USER; i++) {
+            builder.addFriendship(userA, shuffled.get(i));
+            builder.addFriendship(userB, shuffled.get(i + FRIENDS_PER_USER - SHARED));
+        }
+        GraphSnapshot snapshot = builder.build();
+        friends = snapshot.friends();
+        nodeA = snapshot.indexOf(userA);
+        nodeB = snapshot.indexOf(userB);
+
+        index = new RoaringMutualFriendsIndex();
+        index.onSnapshotRefreshed(new GraphSnapshotRefreshedEvent(snapshot, Instant.now()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long roaringCount() {
+        return index.find(userA, userB, 0).orElseThrow().count();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public MutualFriends roaringPage() {
+        return index.find(userA, userB, 20).orElseThrow();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long sortedMerge() {
+        int[] targets = friends.targets();
+        int i = friends.start(nodeA);
+        int endA = friends.end(nodeA);
+        int j = friends.start(nodeB);
+        int endB = friends.end(nodeB);
+        long count = 0;
+        while (i < endA && j < endB) {
+            int a = targets[i];
+            int b = targets[j];
+            if (a == b) {
+                count++;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return count;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Neo4jGraph {
+        Driver driver;
+        String userA = UUID.randomUUID().toString();
+        String userB = UUID.randomUUID().toString();
+
+        @Setup(Level.Trial)
+        public void seed() {
+            driver = GraphDatabase.driver(System.getProperty("benchmark.neo4j-uri"), AuthTokens.basic(
+                    System.getProperty("benchmark.neo4j-user", "neo4j"),
+                    System.getProperty("benchmark.neo4j-password", "neo4j")));
+            try (Session session = driver.session()) {
+                session.run("CREATE (:User {id: $a, benchmark: true}), (:User {id: $b, benchmark: true})",
+                        Map.of("a", userA, "b", userB)).consume();
+                int total = 2 * FRIENDS_PER_USER - SHARED;
+                for (int from = 0; from < total; from += 5_000) {
+                    List<Map<String, Object>> rows = new ArrayList<>();
+                    for (int i = from; i < Math.min(total, from + 5_000); i++) {
+                        rows.add(Map.of("id", UUID.randomUUID().toString(),
+                                "a", i < FRIENDS_PER_USER, "b", i >= FRIENDS_PER_USER - SHARED));
+                    }
+                    session.run("""
+                            MATCH (a:User {id: $a}), (b:User {id: $b})
+                            UNWIND $rows AS row
+                            CREATE (f:User {id: row.id, benchmark: true})
+                            FOREACH (_ IN CASE WHEN row.a THEN [1] ELSE [] END | CREATE (a)-[:FRIEND_OF]->(f))
+                            FOREACH (_ IN CASE WHEN row.b THEN [1] ELSE [] END | CREATE (f)-[:FRIEND_OF]->(b))
+                            """, Map.of("a", userA, "b", userB, "rows", rows)).consume();
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void cleanUp() {
+            try (Session session = driver.session()) {
+                session.run("MATCH (u:User {benchmark: true}) CALL { WITH u DETACH DELETE u } IN TRANSACTIONS OF 5000 ROWS")
+                        .consume();
+            }
+            driver.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long cypher(Neo4jGraph graph) {
+        try (Session session = graph.driver.session()) {
+            return session.run(CYPHER_QUERY, Map.of("userId", graph.userA, "targetId", graph.userB, "limit", 20))
+                    .single().get("count").asLong();
+        }
+    }
+
+    @Test
+    void intersectsInMicroseconds() throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(MutualFriendsBenchmark.class.getName() + "\\.")
+                .forks(Integer.getInteger("benchmark.forks", 0))
+                .warmupIterations(2)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(3)
+                .measurementTime(TimeValue.seconds(3));
+        if (System.getProperty("benchmark.neo4j-uri") == null) {
+            options.exclude(MutualFriendsBenchmark.class.getName() + "\\.cypher$");
+        }
+
+        Collection<RunResult> results = new Runner(options.build()).run();
+
+        RunResult roaring = results.stream()
+                .filter(result -> result.getParams().getBenchmark().endsWith(".roaringCount"))
+                .findFirst()
+                .orElseThrow();
+        double micros = roaring.getPrimaryResult().getScore();
+        assertTrue(micros <= MAX_ROARING_MICROS, "roaringCount: " + micros + " µs");
+    }
+}
@@ -0,0 +1,45 @@
+package com.our.socialseed.relationship.config;
+
+import com.our.socialseed.relationship.application.usecase.*;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class MockRelationshipUseCasesConfig {
+
+    @Bean
+    public RelationshipUseCases relationshipUseCases() {
+        return Mockito.mock(RelationshipUseCases.class);
+    }
+
+    @Bean
+    public FollowUser followUser() {
+        return Mockito.mock(FollowUser.class);
+    }
+
+    @Bean
+    public RejectFriendRequest rejectFriendRequest() {
+        return Mockito.mock(RejectFriendRequest.class);
+    }
+
+    @Bean
+    public GetRelationshipCounters getRelationshipCounters() {
+        return Mockito.mock(GetRelationshipCounters.class);
+    }
+
+    @Bean
+    public GetMutualFriends getMutualFriends() {
+        return Mockito.mock(GetMutualFriends.class);
+    }
+
+    @Bean
+    public GetSeparation getSeparation() {
+        return Mockito.mock(GetSeparation.class);
+    }
+
+    @Bean
+    public ResolveActingUser resolveActingUser() {
+        return Mockito.mock(ResolveActingUser.class);
+    }
+}
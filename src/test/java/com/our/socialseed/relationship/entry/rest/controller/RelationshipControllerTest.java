@@ -0,0 +1,216 @@
+package com.our.socialseed.relationship.entry.rest.controller;
+
+import com.our.socialseed.relationship.application.usecase.FollowUser;
+import com.our.socialseed.relationship.application.usecase.GetMutualFriends;
+import com.our.socialseed.relationship.application.usecase.GetRelationshipCounters;
+import com.our.socialseed.relationship.application.usecase.GetSeparation;
+import com.our.socialseed.relationship.application.usecase.RejectFriendRequest;
+import com.our.socialseed.relationship.application.usecase.RelationshipUseCases;
+import com.our.socialseed.relationship.application.usecase.ResolveActingUser;
+import com.our.socialseed.relationship.config.MockRelationshipUseCasesConfig;
+import com.our.socialseed.relationship.config.exception.SelfRelationshipException;
+import com.our.socialseed.relationship.domain.model.MutualFriends;
+import com.our.socialseed.relationship.domain.model.RelationshipCounters;
+import com.our.socialseed.relationship.domain.model.RelationshipUpdate;
+import com.our.socialseed.relationship.domain.model.Separation;
+import com.our.socialseed.shared.security.jwt.AuthenticatedUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests para RelationshipController:
+ * ✅ 1. Follow – 200 con los contadores de ambos usuarios
+ * ✅ 2. Follow a uno mismo – 400 Bad Request
+ * ✅ 3. Follow a un usuario inexistente – 404 Not Found
+ * ✅ 4. Rechazar solicitud inexistente – 404 Not Found
+ * ✅ 5. Contadores – 200 OK
+ * ✅ 6. Amigos en común – 200 con el total y la primera página
+ * ✅ 7. Amigos en común con un usuario inexistente – 404 Not Found
+ * ✅ 8. Grados de separación – 200 con el grado
+ * ✅ 9. Grados de separación fuera de presupuesto – 200 con status UNKNOWN
+ * ✅ 10. Escritura con {id} distinto del usuario autenticado – 403 Forbidden
+ * ✅ 11. El {id} se compara con el nodo :User del autenticado, no con el uid del JWT
+ */
+@WebMvcTest(RelationshipController.class)
+@Import(MockRelationshipUseCasesConfig.class)
+class RelationshipControllerTest {
+    // <editor-fold desc="Dependencias e inicialización">
+    @Autowired private MockMvc mockMvc;
+    @Autowired private RelationshipUseCases relationshipUseCases;
+    @Autowired private FollowUser followUser;
+    @Autowired private RejectFriendRequest rejectFriendRequest;
+    @Autowired private GetRelationshipCounters getRelationshipCounters;
+    @Autowired private GetMutualFriends getMutualFriends;
+    @Autowired private GetSeparation getSeparation;
+    @Autowired private ResolveActingUser resolveActingUser;
+
+    private UUID userId;
+    private UUID targetId;
+    private AuthenticatedUser actor;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        targetId = UUID.randomUUID();
+        // el uid del JWT es el id de AuthUser (Postgres), distinto del id del nodo :User que va en la ruta
+        actor = new AuthenticatedUser(UUID.randomUUID(), "ana", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        reset(followUser, rejectFriendRequest, getRelationshipCounters, getMutualFriends, getSeparation, resolveActingUser);
+        when(relationshipUseCases.resolveActingUser()).thenReturn(resolveActingUser);
+        when(resolveActingUser.execute("ana")).thenReturn(Optional.of(userId));
+        when(resolveActingUser.execute("eve")).thenReturn(Optional.of(UUID.randomUUID()));
+        when(relationshipUseCases.followUser()).thenReturn(followUser);
+        when(relationshipUseCases.rejectFriendRequest()).thenReturn(rejectFriendRequest);
+        when(relationshipUseCases.getRelationshipCounters()).thenReturn(getRelationshipCounters);
+        when(relationshipUseCases.getMutualFriends()).thenReturn(getMutualFriends);
+        when(relationshipUseCases.getSeparation()).thenReturn(getSeparation);
+    }
+    // </editor-fold>
+
+    @Test
+    void shouldReturnCounters_whenFollowSucceeds() throws Exception {
+        RelationshipUpdate update = new RelationshipUpdate(true,
+                new RelationshipCounters(userId, 0, 0, 1),
+                new RelationshipCounters(targetId, 0, 1, 0));
+        when(followUser.execute(userId, targetId)).thenReturn(Optional.of(update));
+
+        mockMvc.perform(put("/api/users/{id}/following/{targetId}", userId, targetId)
+                        .with(user(actor)).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(true))
+                .andExpect(jsonPath("$.user.followingCount").value(1))
+                .andExpect(jsonPath("$.target.followersCount").value(1));
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenFollowingOneself() throws Exception {
+        when(followUser.execute(userId, userId)).thenThrow(new SelfRelationshipException());
+
+        mockMvc.perform(put("/api/users/{id}/following/{targetId}", userId, userId)
+                        .with(user(actor)).with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnNotFound_whenUserDoesNotExist() throws Exception {
+        when(followUser.execute(userId, targetId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(put("/api/users/{id}/following/{targetId}", userId, targetId)
+                        .with(user(actor)).with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldReturnNotFound_whenThereIsNoRequestToReject() throws Exception {
+        when(rejectFriendRequest.execute(userId, targetId)).thenReturn(false);
+
+        mockMvc.perform(post("/api/users/{id}/friend-requests/{requesterId}/reject", userId, targetId)
+                        .with(user(actor)).with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldAuthorizeByGraphId_whenTokenUidDiffersFromGraphId() throws Exception {
+        RelationshipUpdate update = new RelationshipUpdate(true,
+                new RelationshipCounters(userId, 0, 0, 1),
+                new RelationshipCounters(targetId, 0, 1, 0));
+        when(followUser.execute(userId, targetId)).thenReturn(Optional.of(update));
+
+        mockMvc.perform(put("/api/users/{id}/following/{targetId}", userId, targetId)
+                        .with(user(actor)).with(csrf()))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/users/{id}/following/{targetId}", actor.getId(), targetId)
+                        .with(user(actor)).with(csrf()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldReturnForbidden_whenActingOnBehalfOfAnotherUser() throws Exception {
+        AuthenticatedUser intruder = new AuthenticatedUser(UUID.randomUUID(), "eve",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        mockMvc.perform(put("/api/users/{id}/following/{targetId}", userId, targetId)
+                        .with(user(intruder)).with(csrf()))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/users/{id}/friend-requests/{requesterId}/accept", userId, targetId)
+                        .with(user(intruder)).with(csrf()))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(followUser);
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReturnCounters() throws Exception {
+        when(getRelationshipCounters.execute(userId))
+                .thenReturn(Optional.of(new RelationshipCounters(userId, 3, 1200, 40)));
+
+        mockMvc.perform(get("/api/users/{id}/relationships", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.friendCount").value(3))
+                .andExpect(jsonPath("$.followersCount").value(1200))
+                .andExpect(jsonPath("$.followingCount").value(40));
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReturnMutualFriends() throws Exception {
+        UUID mutualId = UUID.randomUUID();
+        when(getMutualFriends.execute(userId, targetId, 1))
+                .thenReturn(Optional.of(new MutualFriends(userId, targetId, 37, List.of(mutualId))));
+
+        mockMvc.perform(get("/api/users/{id}/mutual-friends/{otherId}", userId, targetId)
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(37))
+                .andExpect(jsonPath("$.friendIds[0]").value(mutualId.toString()));
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReturnNotFound_whenMutualFriendsUserDoesNotExist() throws Exception {
+        when(getMutualFriends.execute(userId, targetId, null)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/users/{id}/mutual-friends/{otherId}", userId, targetId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReturnSeparationDegree() throws Exception {
+        when(getSeparation.execute(userId, targetId)).thenReturn(Separation.connected(userId, targetId, 2));
+
+        mockMvc.perform(get("/api/users/{id}/separation/{otherId}", userId, targetId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CONNECTED"))
+                .andExpect(jsonPath("$.degree").value(2));
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReturnUnknownSeparation_whenBudgetIsExceeded() throws Exception {
+        when(getSeparation.execute(userId, targetId)).thenReturn(Separation.unknown(userId, targetId));
+
+        mockMvc.perform(get("/api/users/{id}/separation/{otherId}", userId, targetId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UNKNOWN"))
+                .andExpect(jsonPath("$.degree").doesNotExist());
+    }
+}
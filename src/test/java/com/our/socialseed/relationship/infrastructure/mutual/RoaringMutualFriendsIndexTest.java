@@ -0,0 +1,151 @@
+package com.our.socialseed.relationship.infrastructure.mutual;
+
+import com.our.socialseed.relationship.domain.event.FriendshipChangedEvent;
+import com.our.socialseed.relationship.domain.model.MutualFriends;
+import com.our.socialseed.shared.graph.snapshot.GraphSnapshot;
+import com.our.socialseed.shared.graph.snapshot.GraphSnapshotRefreshedEvent;
+import com.our.socialseed.user.domain.event.UserDeletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+Construimos un snapshot pequeño (ana y bea comparten a carla y dani) y verificamos que el índice
+cuenta y pagina los amigos en común, que se actualiza con las altas/bajas de amistad entre snapshots
+(también con usuarios que no estaban en la foto), que un usuario borrado desaparece de los amigos en común
+y que esos cambios sobreviven a la reconstrucción.
+* */
+class RoaringMutualFriendsIndexTest {
+
+    private final UUID ana = UUID.randomUUID();
+    private final UUID bea = UUID.randomUUID();
+    private final UUID carla = UUID.randomUUID();
+    private final UUID dani = UUID.randomUUID();
+    private final UUID eva = UUID.randomUUID();
+
+    private RoaringMutualFriendsIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RoaringMutualFriendsIndex();
+    }
+
+    @Test
+    void cannotAnswerBeforeTheFirstSnapshot() {
+        // Act
+        Optional<MutualFriends> result = index.find(ana, bea, 10);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void countsAndPagesMutualFriends() {
+        // Arrange
+        index.onSnapshotRefreshed(new GraphSnapshotRefreshedEvent(snapshot(), Instant.now()));
+
+        // Act
+        MutualFriends all = index.find(ana, bea, 10).orElseThrow();
+        MutualFriends firstPage = index.find(ana, bea, 1).orElseThrow();
+        MutualFriends none = index.find(bea, eva, 10).orElseThrow();
+
+        // Assert
+        assertEquals(2, all.count());
+        assertEquals(Set.of(carla, dani), new HashSet<>(all.friendIds()));
+        assertEquals(2, firstPage.count());
+        assertEquals(1, firstPage.friendIds().size());
+        assertEquals(0, none.count());
+    }
+
+    @Test
+    void unknownUsersAreLeftToTheDatabase() {
+        // Arrange
+        index.onSnapshotRefreshed(new GraphSnapshotRefreshedEvent(snapshot(), Instant.now()));
+
+        // Act
+        Optional<MutualFriends> result = index.find(ana, UUID.randomUUID(), 10);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void appliesFriendshipChangesBetweenSnapshots() {
+        // Arrange
+        UUID newcomer = UUID.randomUUID();
+        index.onSnapshotRefreshed(new GraphSnapshotRefreshedEvent(snapshot(), Instant.now()));
+
+        // Act
+        index.onFriendshipChanged(new FriendshipChangedEvent(ana, dani, false));
+        index.onFriendshipChanged(new FriendshipChangedEvent(newcomer, ana, true));
+        index.onFriendshipChanged(new FriendshipChangedEvent(newcomer, bea, true));
+
+        // Assert
+        MutualFriends result = index.find(ana, bea, 10).orElseThrow();
+        assertEquals(2, result.count());
+        assertEquals(Set.of(carla, newcomer), new HashSet<>(result.friendIds()));
+    }
+
+    @Test
+    void deletedUserLeavesTheBitmapsOfFormerFriends() {
+        // Arrange
+        index.onSnapshotRefreshed(new GraphSnapshotRefreshedEvent(snapshot(), Instant.now()));
+
+        // Act: carla se borra (DETACH DELETE, sin un FriendshipChangedEvent por amistad)
+        index.onUserDeleted(new UserDeletedEvent(carla));
+
+        // Assert
+        MutualFriends result = index.find(ana, bea, 10).orElseThrow();
+        assertEquals(List.of(dani), result.friendIds());
+        assertEquals(0, index.find(carla, ana, 10).orElseThrow().count());
+    }
+
+    @Test
+    void replaysDeletionsMadeWhileTheSnapshotWasLoading() {
+        // Arrange: la foto se empezó a leer antes del borrado y aún tiene a carla
+        Instant loadStartedAt = Instant.now().minusSeconds(1);
+        index.onSnapshotRefreshed(new GraphSnapshotRefreshedEvent(snapshot(), Instant.now().minusSeconds(60)));
+        index.onUserDeleted(new UserDeletedEvent(carla));
+
+        // Act
+        index.onSnapshotRefreshed(new GraphSnapshotRefreshedEvent(snapshot(), loadStartedAt));
+
+        // Assert
+        assertEquals(List.of(dani), index.find(ana, bea, 10).orElseThrow().friendIds());
+    }
+
+    @Test
+    void replaysChangesMadeWhileTheSnapshotWasLoading() {
+        // Arrange: la foto se empezó a leer antes del unfriend y no lo incluye
+        Instant loadStartedAt = Instant.now().minusSeconds(1);
+        index.onSnapshotRefreshed(new GraphSnapshotRefreshedEvent(snapshot(), Instant.now().minusSeconds(60)));
+        index.onFriendshipChanged(new FriendshipChangedEvent(bea, carla, false));
+
+        // Act
+        index.onSnapshotRefreshed(new GraphSnapshotRefreshedEvent(snapshot(), loadStartedAt));
+
+        // Assert
+        MutualFriends result = index.find(ana, bea, 10).orElseThrow();
+        assertEquals(List.of(dani), result.friendIds());
+    }
+
+    private GraphSnapshot snapshot() {
+        return GraphSnapshot.builder(5)
+                .addUser(ana).addUser(bea).addUser(carla).addUser(dani).addUser(eva)
+                .addFriendship(ana, carla)
+                .addFriendship(ana, dani)
+                .addFriendship(bea, carla)
+                .addFriendship(dani, bea)
+                .addFriendship(eva, ana)
+                .build();
+    }
+}
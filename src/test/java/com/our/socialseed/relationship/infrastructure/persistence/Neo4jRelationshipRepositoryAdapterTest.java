@@ -0,0 +1,67 @@
+package com.our.socialseed.relationship.infrastructure.persistence;
+
+import com.our.socialseed.relationship.domain.model.FriendRequestResult;
+import com.our.socialseed.relationship.domain.model.RelationshipUpdate;
+import com.our.socialseed.shared.neo4j.embedded.EmbeddedNeo4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+Ejecutamos las sentencias de amistad contra un Neo4j real: aceptar borra las solicitudes en ambos sentidos,
+crea FRIEND_OF y suma los contadores una sola vez; sin solicitud pendiente no hay fila (404).
+* */
+class Neo4jRelationshipRepositoryAdapterTest {
+
+    private static final UUID ANA = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID BEA = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    private Neo4jRelationshipRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        EmbeddedNeo4j.clear();
+        adapter = new Neo4jRelationshipRepositoryAdapter(EmbeddedNeo4j.client());
+        EmbeddedNeo4j.client().query("UNWIND $ids AS id CREATE (:User {id: id})")
+                .bind(List.of(ANA.toString(), BEA.toString())).to("ids")
+                .run();
+    }
+
+    @Test
+    void acceptCreatesFriendshipAndClearsRequestsInBothDirections() {
+        // Arrange: solicitudes cruzadas
+        assertEquals(FriendRequestResult.REQUESTED, adapter.sendFriendRequest(BEA, ANA).orElseThrow());
+        assertEquals(FriendRequestResult.REQUESTED, adapter.sendFriendRequest(ANA, BEA).orElseThrow());
+
+        // Act
+        RelationshipUpdate update = adapter.acceptFriendRequest(ANA, BEA).orElseThrow();
+
+        // Assert
+        assertTrue(update.changed());
+        assertEquals(1, update.user().friendCount());
+        assertEquals(1, update.target().friendCount());
+        assertEquals(0, countRelationships("REQUEST_FRIEND"));
+        assertEquals(1, countRelationships("FRIEND_OF"));
+        assertEquals(FriendRequestResult.ALREADY_FRIENDS, adapter.sendFriendRequest(BEA, ANA).orElseThrow());
+    }
+
+    @Test
+    void acceptWithoutPendingRequestReturnsEmpty() {
+        // Act + Assert
+        assertTrue(adapter.acceptFriendRequest(ANA, BEA).isEmpty());
+        assertEquals(0, countRelationships("FRIEND_OF"));
+    }
+
+    private long countRelationships(String type) {
+        return EmbeddedNeo4j.client().query("MATCH ()-[r:" + type + "]->() RETURN count(r) AS total")
+                .fetchAs(Long.class)
+                .mappedBy((typeSystem, record) -> record.get("total").asLong())
+                .one()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,133 @@
+package com.our.socialseed.shared.graph.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+Verificamos que el índice UUID -> int asigna ids densos estables (también al crecer y rehashear),
+que FRIEND_OF queda en los dos sentidos y sin duplicados, que FOLLOWED_BY se guarda como
+seguidos y seguidores, y que las aristas hacia usuarios desconocidos se descartan.
+* */
+class GraphSnapshotTest {
+
+    @Test
+    void shouldAssignDenseIdsAndSurviveRehash() {
+        // Arrange
+        UuidIndex index = new UuidIndex(1);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        // Act
+        ids.forEach(index::add);
+
+        // Assert
+        assertEquals(10_000, index.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(i, index.indexOf(ids.get(i)));
+            assertEquals(ids.get(i), index.idOf(i));
+        }
+        assertEquals(42, index.add(ids.get(42)));
+        assertEquals(-1, index.indexOf(UUID.randomUUID()));
+    }
+
+    @Test
+    void shouldStoreFriendshipsInBothDirectionsWithoutDuplicates() {
+        // Arrange
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        UUID carol = UUID.randomUUID();
+
+        // Act
+        GraphSnapshot snapshot = GraphSnapshot.builder(3)
+                .addUser(alice).addUser(bob).addUser(carol)
+                .addFriendship(alice, bob)
+                .addFriendship(bob, alice) // la misma amistad creada en el otro sentido
+                .addFriendship(carol, alice)
+                .build();
+
+        // Assert
+        int a = snapshot.indexOf(alice);
+        int b = snapshot.indexOf(bob);
+        int c = snapshot.indexOf(carol);
+        assertArrayEquals(new int[]{b, c}, snapshot.friends().neighbors(a));
+        assertArrayEquals(new int[]{a}, snapshot.friends().neighbors(b));
+        assertTrue(snapshot.friends().hasEdge(c, a));
+        assertFalse(snapshot.friends().hasEdge(b, c));
+        assertEquals(4, snapshot.friends().edgeCount());
+    }
+
+    @Test
+    void shouldStoreFollowsAsFollowingAndFollowers() {
+        // Arrange
+        UUID fan = UUID.randomUUID();
+        UUID star = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+
+        // Act
+        GraphSnapshot snapshot = GraphSnapshot.builder(3)
+                .addUser(fan).addUser(star).addUser(other)
+                .addFollow(fan, star)
+                .addFollow(other, star)
+                .build();
+
+        // Assert
+        int f = snapshot.indexOf(fan);
+        int s = snapshot.indexOf(star);
+        int o = snapshot.indexOf(other);
+        assertArrayEquals(new int[]{s}, snapshot.following().neighbors(f));
+        assertArrayEquals(new int[]{f, o}, snapshot.followers().neighbors(s));
+        assertEquals(0, snapshot.following().degree(s));
+    }
+
+    @Test
+    void shouldSkipEdgesToUnknownUsers() {
+        // Arrange
+        UUID alice = UUID.randomUUID();
+        GraphSnapshot.Builder builder = GraphSnapshot.builder(1).addUser(alice);
+
+        // Act
+        GraphSnapshot snapshot = builder
+                .addFriendship(alice, UUID.randomUUID())
+                .addFollow(UUID.randomUUID(), alice)
+                .build();
+
+        // Assert
+        assertEquals(2, builder.skippedEdges());
+        assertEquals(0, snapshot.edgeCount());
+        assertEquals(0, snapshot.friends().degree(snapshot.indexOf(alice)));
+    }
+
+    @Test
+    void shouldKeepAdjacencyCompact() {
+        // Arrange: 100k usuarios y 1M seguimientos
+        int users = 100_000;
+        UUID[] ids = new UUID[users];
+        GraphSnapshot.Builder builder = GraphSnapshot.builder(users);
+        for (int i = 0; i < users; i++) {
+            ids[i] = UUID.randomUUID();
+            builder.addUser(ids[i]);
+        }
+        for (int i = 0; i < 1_000_000; i++) {
+            int source = i % users;
+            int round = i / users; // 10 seguidos distintos por usuario
+            builder.addFollow(ids[source], ids[(source + 1 + round * 9973) % users]);
+        }
+
+        // Act
+        GraphSnapshot snapshot = builder.build();
+
+        // Assert: 4 bytes por arista almacenada (en los dos sentidos) y, por usuario, 16 del UUID,
+        // hasta 16 de tabla hash y 12 de offsets
+        assertEquals(2_000_000, snapshot.edgeCount());
+        assertTrue(snapshot.estimatedBytes() <= 2_000_000L * 4 + users * 44L,
+                "Memoria estimada: " + snapshot.estimatedBytes());
+    }
+}
@@ -0,0 +1,122 @@
+package com.our.socialseed.shared.graph.traversal;
+
+import com.our.socialseed.shared.graph.snapshot.CsrGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+Sobre una cadena comprobamos distancias exactas, el corte por profundidad máxima y el presupuesto agotado.
+Sobre un grafo aleatorio comparamos con un BFS simple desde el origen: mismas distancias
+en muchas búsquedas seguidas (reutilizando el mismo Workspace) y con una sola instancia.
+* */
+class BidirectionalBfsTest {
+
+    @Test
+    void findsExactDistancesOnAChain() {
+        // Arrange: 0 - 1 - 2 - ... - 9
+        CsrGraph chain = undirected(10, chainEdges(10));
+        BidirectionalBfs bfs = new BidirectionalBfs(1);
+        long deadline = System.nanoTime() + 1_000_000_000L;
+
+        // Act + Assert
+        assertEquals(0, bfs.distance(chain, 4, 4, 3, deadline));
+        assertEquals(1, bfs.distance(chain, 4, 5, 3, deadline));
+        assertEquals(3, bfs.distance(chain, 0, 3, 3, deadline));
+        assertEquals(BidirectionalBfs.NOT_WITHIN_DEPTH, bfs.distance(chain, 0, 4, 3, deadline));
+        assertEquals(7, bfs.distance(chain, 0, 7, 7, deadline));
+    }
+
+    @Test
+    void disconnectedNodesAreNotWithinDepth() {
+        // Arrange: dos componentes {0,1} y {2,3}
+        CsrGraph graph = undirected(4, new int[][]{{0, 1}, {2, 3}});
+
+        // Act
+        int distance = new BidirectionalBfs(1).distance(graph, 0, 3, 6, System.nanoTime() + 1_000_000_000L);
+
+        // Assert
+        assertEquals(BidirectionalBfs.NOT_WITHIN_DEPTH, distance);
+    }
+
+    @Test
+    void expiredBudgetReturnsBudgetExceeded() {
+        // Arrange
+        CsrGraph chain = undirected(10, chainEdges(10));
+
+        // Act
+        int distance = new BidirectionalBfs(1).distance(chain, 0, 5, 6, System.nanoTime() - 1);
+
+        // Assert
+        assertEquals(BidirectionalBfs.BUDGET_EXCEEDED, distance);
+    }
+
+    @Test
+    void matchesPlainBfsOnARandomGraph() {
+        // Arrange
+        int nodes = 2_000;
+        Random random = new Random(11);
+        int[][] edges = new int[3_000][];
+        for (int i = 0; i < edges.length; i++) {
+            edges[i] = new int[]{random.nextInt(nodes), random.nextInt(nodes)};
+        }
+        CsrGraph graph = undirected(nodes, edges);
+        BidirectionalBfs bfs = new BidirectionalBfs(1);
+
+        for (int query = 0; query < 300; query++) {
+            int source = random.nextInt(nodes);
+            int target = random.nextInt(nodes);
+            int expected = plainBfs(graph, source, target);
+
+            // Act
+            int actual = bfs.distance(graph, source, target, 6, System.nanoTime() + 1_000_000_000L);
+
+            // Assert
+            assertEquals(expected <= 6 ? expected : BidirectionalBfs.NOT_WITHIN_DEPTH, actual,
+                    "distancia " + source + " -> " + target);
+        }
+    }
+
+    private static int plainBfs(CsrGraph graph, int source, int target) {
+        int[] distance = new int[graph.nodeCount()];
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        distance[source] = 0;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int neighbor : graph.neighbors(node)) {
+                if (distance[neighbor] == Integer.MAX_VALUE) {
+                    distance[neighbor] = distance[node] + 1;
+                    queue.add(neighbor);
+                }
+            }
+        }
+        return distance[target];
+    }
+
+    private static int[][] chainEdges(int nodes) {
+        int[][] edges = new int[nodes - 1][];
+        for (int i = 0; i < nodes - 1; i++) {
+            edges[i] = new int[]{i, i + 1};
+        }
+        return edges;
+    }
+
+    private static CsrGraph undirected(int nodes, int[][] edges) {
+        int[] sources = new int[edges.length * 2];
+        int[] targets = new int[edges.length * 2];
+        for (int i = 0; i < edges.length; i++) {
+            sources[2 * i] = edges[i][0];
+            targets[2 * i] = edges[i][1];
+            sources[2 * i + 1] = edges[i][1];
+            targets[2 * i + 1] = edges[i][0];
+        }
+        return CsrGraph.fromEdges(nodes, sources, targets, sources.length);
+    }
+}
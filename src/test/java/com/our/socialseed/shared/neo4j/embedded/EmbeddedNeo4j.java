@@ -0,0 +1,44 @@
+package com.our.socialseed.shared.neo4j.embedded;
+
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.springframework.data.neo4j.core.Neo4jClient;
+
+/*
+📌 Neo4j embebido (neo4j-harness, misma versión que docker-compose) para ejecutar de verdad las consultas
+   Cypher de los adaptadores: los tests con mocks no detectan errores de sintaxis ni de semántica.
+   Se arranca una sola vez por JVM y cada test limpia el grafo con clear().
+ */
+public final class EmbeddedNeo4j {
+
+    private static Neo4j server;
+    private static Driver driver;
+
+    private EmbeddedNeo4j() {
+    }
+
+    public static synchronized Driver driver() {
+        if (server == null) {
+            server = Neo4jBuilders.newInProcessBuilder().withDisabledServer().build();
+            driver = GraphDatabase.driver(server.boltURI(), AuthTokens.none());
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                driver.close();
+                server.close();
+            }, "embedded-neo4j-shutdown"));
+        }
+        return driver;
+    }
+
+    public static Neo4jClient client() {
+        return Neo4jClient.create(driver());
+    }
+
+    public static void clear() {
+        try (var session = driver().session()) {
+            session.run("MATCH (n) DETACH DELETE n").consume();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.our.socialseed.shared.neo4j.pool;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/*
+Explicación rápida:
+Verificamos que el indicador evalúa la espera media por conexión entre dos comprobaciones
+(no desde el arranque): una ráfaga lenta lo marca DEGRADED y vuelve a UP cuando las esperas bajan.
+También que cualquier timeout de adquisición lo degrada.
+* */
+class Neo4jPoolHealthIndicatorTest {
+
+    private Neo4jPoolHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        indicator = new Neo4jPoolHealthIndicator(mock(Driver.class), Duration.ofMillis(100));
+    }
+
+    @Test
+    void shouldDegradeWhenAverageWaitCrossesThreshold() {
+        // Act: 10 adquisiciones con 5 s de espera total (500 ms de media)
+        Health health = indicator.evaluate(stats(10, 5_000, 0));
+
+        // Assert
+        assertEquals(Neo4jPoolHealthIndicator.DEGRADED, health.getStatus());
+        assertEquals(500.0, health.getDetails().get("averageAcquisitionWaitMs"));
+    }
+
+    @Test
+    void shouldRecoverWhenWaitsDropSinceLastCheck() {
+        // Arrange
+        indicator.evaluate(stats(10, 5_000, 0));
+
+        // Act: 1000 adquisiciones más con solo 1 s de espera adicional
+        Health health = indicator.evaluate(stats(1_010, 6_000, 0));
+
+        // Assert
+        assertEquals(Status.UP, health.getStatus());
+    }
+
+    @Test
+    void shouldDegradeOnAcquisitionTimeouts() {
+        // Act
+        Health health = indicator.evaluate(stats(100, 100, 1));
+
+        // Assert
+        assertEquals(Neo4jPoolHealthIndicator.DEGRADED, health.getStatus());
+    }
+
+    @Test
+    void shouldReportUnknownWhenDriverMetricsAreDisabled() {
+        assertEquals(Status.UNKNOWN, indicator.health().getStatus());
+    }
+
+    private Neo4jPoolStats stats(long acquired, long totalAcquisitionMs, long timeouts) {
+        return new Neo4jPoolStats(5, 5, 0, 0, 10, 0, 0, acquired, timeouts, totalAcquisitionMs, 0, 0, 0);
+    }
+}
@@ -0,0 +1,85 @@
+package com.our.socialseed.shared.neo4j.schema;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.summary.Plan;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/*
+Explicación rápida:
+Verificamos que un script versionado se separa en sentencias (ignorando comentarios),
+que se extraen los pares label.propiedad respaldados por índice
+y que un plan con NodeByLabelScan (aunque venga con sufijo @neo4j) se detecta como scan.
+* */
+class SchemaScriptTest {
+
+    private static final String CONTENT = """
+            // Usuarios
+            CREATE CONSTRAINT user_id IF NOT EXISTS FOR (u:User) REQUIRE u.id IS UNIQUE;
+            CREATE CONSTRAINT user_email IF NOT EXISTS
+              FOR (u:User) REQUIRE u.email IS UNIQUE;
+            CREATE INDEX post_created IF NOT EXISTS FOR (p:Post) ON (p.createdAt);
+            """;
+
+    @Test
+    void shouldParseVersionAndStatements() {
+        // Act
+        SchemaScript script = SchemaScript.parse("V001__user_constraints.cypher", CONTENT);
+
+        // Assert
+        assertEquals(1, script.version());
+        assertEquals("user constraints", script.description());
+        assertEquals(3, script.statements().size());
+        assertEquals("CREATE CONSTRAINT user_email IF NOT EXISTS FOR (u:User) REQUIRE u.email IS UNIQUE",
+                script.statements().get(1));
+    }
+
+    @Test
+    void shouldExtractIndexBackedLookups() {
+        // Act
+        SchemaScript script = SchemaScript.parse("V001__user_constraints.cypher", CONTENT);
+
+        // Assert
+        assertEquals(List.of(
+                new SchemaScript.Lookup("User", "id"),
+                new SchemaScript.Lookup("User", "email"),
+                new SchemaScript.Lookup("Post", "createdAt")), script.lookups());
+    }
+
+    @Test
+    void shouldChangeChecksumWhenContentChanges() {
+        // Act
+        SchemaScript original = SchemaScript.parse("V001__a.cypher", CONTENT);
+        SchemaScript changed = SchemaScript.parse("V001__a.cypher", CONTENT + "// cambio\n");
+
+        // Assert
+        assertNotEquals(original.checksum(), changed.checksum());
+    }
+
+    @Test
+    void shouldRejectInvalidFileName() {
+        assertThrows(IllegalArgumentException.class, () -> SchemaScript.parse("constraints.cypher", CONTENT));
+    }
+
+    @Test
+    void shouldDetectLabelScanInPlan() {
+        // Arrange
+        Plan scan = plan("NodeByLabelScan@neo4j");
+        Plan seek = plan("NodeUniqueIndexSeek@neo4j");
+        Plan filterOverScan = plan("Filter@neo4j", scan);
+
+        // Act & Assert
+        assertEquals("NodeByLabelScan", Neo4jSchemaBootstrapper.findScan(filterOverScan));
+        assertNull(Neo4jSchemaBootstrapper.findScan(plan("ProduceResults@neo4j", seek)));
+    }
+
+    private Plan plan(String operator, Plan... children) {
+        Plan plan = mock(Plan.class);
+        when(plan.operatorType()).thenReturn(operator);
+        doReturn(List.of(children)).when(plan).children();
+        return plan;
+    }
+}
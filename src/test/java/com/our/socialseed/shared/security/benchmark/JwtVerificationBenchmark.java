@@ -0,0 +1,153 @@
+package com.our.socialseed.shared.security.benchmark;
+
+import com.our.socialseed.shared.security.jwt.JWTProvider;
+import com.our.socialseed.shared.security.jwt.JwtKeyRing;
+import com.our.socialseed.shared.security.jwt.JwtPrincipal;
+import com.our.socialseed.shared.security.jwt.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+📌 Microbenchmark (JMH) del coste de autenticar una petición con JWT.
+   No forma parte de la build: mvn test -Dtest=JwtVerificationBenchmark [-Dbenchmark.forks=0]
+   - legacy: lo que hacía el filtro antes, validateToken + getUsernameFromToken con un parser nuevo en cada llamada
+     (dos construcciones de parser y dos verificaciones de firma HS256 por petición).
+   - singleParse: JWTProvider.verify sin caché (parser construido al arrancar, un solo parseo, firma RS256).
+   - cached: JWTProvider.verify con la caché por hash del token (SHA-256 + lookup).
+   - notRevoked: TokenRevocationList.isRevoked de un jti no revocado con 100k revocados (lo que se paga en cada petición).
+   El test falla si cached no es al menos el doble de rápido que legacy.
+ */
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "miClaveSecretaSuperSegura1234567890";
+
+    private Key secretKey;
+    private JWTProvider uncached;
+    private JWTProvider cached;
+    private String token;
+    private String legacyToken;
+    private TokenRevocationList revocations;
+    private UUID activeTokenId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        JwtKeyRing keyRing = new JwtKeyRing("RS256", Duration.ofDays(7), Duration.ofMinutes(10), 3_600_000, "", false);
+        uncached = new JWTProvider(keyRing, 3_600_000, false, 0);
+        cached = new JWTProvider(keyRing, 3_600_000, true, 10_000);
+        token = uncached.generateToken(UUID.randomUUID(), "benchmark-user", Set.of("ROLE_USER"), 0);
+        legacyToken = Jwts.builder()
+                .setSubject("benchmark-user")
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .compact();
+
+        revocations = new TokenRevocationList(100_000, 0.01);
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+        for (int i = 0; i < 100_000; i++) {
+            revocations.revoke(UUID.randomUUID(), expiresAt);
+        }
+        activeTokenId = UUID.randomUUID();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String legacy() {
+        if (!legacyValidate(legacyToken)) {
+            return null;
+        }
+        return legacyClaims(legacyToken).getSubject();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public JwtPrincipal singleParse() {
+        return uncached.verify(token).orElseThrow();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public JwtPrincipal cached() {
+        return cached.verify(token).orElseThrow();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean notRevoked() {
+        return revocations.isRevoked(activeTokenId);
+    }
+
+    private boolean legacyValidate(String jwt) {
+        try {
+            legacyClaims(jwt);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private Claims legacyClaims(String jwt) {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+    }
+
+    @Test
+    void cachedVerificationBeatsDoubleParse() throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getName() + "\\.")
+                .forks(Integer.getInteger("benchmark.forks", 0))
+                .warmupIterations(2)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(3)
+                .measurementTime(TimeValue.seconds(3))
+                .build()).run();
+
+        double legacy = score(results, ".legacy");
+        double cachedScore = score(results, ".cached");
+        assertTrue(cachedScore * 2 <= legacy, "legacy: " + legacy + " µs, cached: " + cachedScore + " µs");
+    }
+
+    private static double score(Collection<RunResult> results, String suffix) {
+        return results.stream()
+                .filter(result -> result.getParams().getBenchmark().endsWith(suffix))
+                .findFirst()
+                .orElseThrow()
+                .getPrimaryResult()
+                .getScore();
+    }
+}
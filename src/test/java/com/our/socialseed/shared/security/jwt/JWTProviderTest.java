@@ -0,0 +1,135 @@
+package com.our.socialseed.shared.security.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+verify() acepta un token válido y devuelve sus claims (uid, roles, versión); rechaza tokens manipulados,
+firmados por otro anillo de claves, con el alg cambiado a HS256, expirados, vacíos o sin las claims obligatorias.
+Con la caché activa, la segunda verificación del mismo token es un hit y un token expirado nunca se devuelve desde la caché.
+* */
+class JWTProviderTest {
+
+    private static final JwtKeyRing KEY_RING = keyRing();
+    private static final UUID ANA_ID = UUID.randomUUID();
+
+    @Test
+    void verifiesAValidTokenAndReadsItsClaims() {
+        // Arrange
+        JWTProvider provider = new JWTProvider(KEY_RING, 60_000, false, 0);
+        String token = token(provider);
+
+        // Act
+        Optional<JwtPrincipal> principal = provider.verify(token);
+
+        // Assert
+        assertTrue(principal.isPresent());
+        assertEquals("ana", principal.get().username());
+        assertEquals(ANA_ID, principal.get().userId());
+        assertEquals(List.of("ROLE_USER"), principal.get().roles());
+        assertEquals(3, principal.get().tokenVersion());
+        assertTrue(principal.get().expiresAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    void rejectsTamperedForeignExpiredAndBlankTokens() {
+        // Arrange
+        JWTProvider provider = new JWTProvider(KEY_RING, 60_000, true, 100);
+        String token = token(provider);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String foreign = token(new JWTProvider(keyRing(), 60_000, false, 0));
+        // confusión de algoritmo: HS256 con la clave pública como secreto y el kid bueno
+        String hmacWithPublicKey = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, KEY_RING.signingKey().kid())
+                .setSubject("ana")
+                .claim("uid", ANA_ID.toString())
+                .claim("roles", List.of("ROLE_ADMIN"))
+                .claim("ver", 3)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(KEY_RING.signingKey().publicKey().getEncoded()), SignatureAlgorithm.HS256)
+                .compact();
+        String expired = token(new JWTProvider(KEY_RING, -1_000, false, 0));
+
+        // Act + Assert
+        assertTrue(provider.verify(tampered).isEmpty());
+        assertTrue(provider.verify(foreign).isEmpty());
+        assertTrue(provider.verify(hmacWithPublicKey).isEmpty());
+        assertTrue(provider.verify(expired).isEmpty());
+        assertTrue(provider.verify("no-es-un-jwt").isEmpty());
+        assertTrue(provider.verify("").isEmpty());
+        assertTrue(provider.verify(null).isEmpty());
+    }
+
+    @Test
+    void rejectsTokensWithoutUserIdRolesOrVersion() {
+        // Arrange: token firmado con la clave correcta pero con solo el subject (formato anterior)
+        JWTProvider provider = new JWTProvider(KEY_RING, 60_000, false, 0);
+        JwtSigningKey signingKey = KEY_RING.signingKey();
+        String subjectOnly = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                .setSubject("ana")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(signingKey.privateKey(), signingKey.algorithm())
+                .compact();
+
+        // Act + Assert
+        assertTrue(provider.verify(subjectOnly).isEmpty());
+    }
+
+    @Test
+    void secondVerificationIsACacheHit() {
+        // Arrange
+        JWTProvider provider = new JWTProvider(KEY_RING, 60_000, true, 100);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        provider.bindTo(registry);
+        String token = token(provider);
+
+        // Act
+        JwtPrincipal first = provider.verify(token).orElseThrow();
+        JwtPrincipal second = provider.verify(token).orElseThrow();
+
+        // Assert
+        assertEquals(first, second);
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", JWTProvider.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void cachedTokenIsRejectedOnceItExpires() throws InterruptedException {
+        // Arrange: token de 1 s (el exp del JWT tiene resolución de segundos)
+        JWTProvider provider = new JWTProvider(KEY_RING, 1_000, true, 100);
+        String token = token(provider);
+        assertTrue(provider.verify(token).isPresent());
+
+        // Act
+        Thread.sleep(1_100);
+
+        // Assert
+        assertTrue(provider.verify(token).isEmpty());
+    }
+
+    static JwtKeyRing keyRing() {
+        return new JwtKeyRing(SignatureAlgorithm.RS256, Duration.ofDays(7), Duration.ofMinutes(10), Duration.ofHours(1),
+                null, Clock.systemUTC());
+    }
+
+    private static String token(JWTProvider provider) {
+        return provider.generateToken(ANA_ID, "ana", Set.of("ROLE_USER"), 3);
+    }
+}
@@ -0,0 +1,122 @@
+package com.our.socialseed.shared.security.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+El filtro autentica con las authorities que vienen en el token (sin repositorios de por medio)
+y deja de aceptar los tokens de un usuario en cuanto su versión avanza en TokenVersionRegistry,
+o un token concreto en cuanto su jti entra en TokenRevocationList (aunque siga en la caché de JWTProvider).
+* */
+class JwtAuthFilterTest {
+
+    private final JWTProvider jwtProvider = new JWTProvider(JWTProviderTest.keyRing(), 60_000, true, 100);
+    private final TokenVersionRegistry tokenVersions = new TokenVersionRegistry();
+    private final TokenRevocationList revocations = new TokenRevocationList(1_000, 0.01);
+    private final JwtAuthFilter filter = new JwtAuthFilter(jwtProvider, tokenVersions, revocations);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authoritiesComeFromTheTokenClaims() throws Exception {
+        // Arrange
+        UUID anaId = UUID.randomUUID();
+        String token = jwtProvider.generateToken(anaId, "ana", Set.of("ROLE_USER", "ROLE_ADMIN"), 0);
+
+        // Act
+        Authentication authentication = authenticate(token);
+
+        // Assert
+        assertNotNull(authentication);
+        assertEquals("ana", authentication.getName());
+        assertEquals(anaId, ((AuthenticatedUser) authentication.getPrincipal()).getId());
+        assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"), authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void tokensBelowTheRegisteredVersionAreRejected() throws Exception {
+        // Arrange: token con versión 1 y otro emitido tras subir la versión a 2
+        UUID anaId = UUID.randomUUID();
+        String oldToken = jwtProvider.generateToken(anaId, "ana", Set.of("ROLE_ADMIN"), 1);
+        String newToken = jwtProvider.generateToken(anaId, "ana", Set.of("ROLE_USER"), 2);
+        assertNotNull(authenticate(oldToken));
+
+        // Act
+        tokenVersions.advance(anaId, 2);
+
+        // Assert: el viejo sigue en la caché de JWTProvider pero el filtro lo descarta
+        assertNull(authenticate(oldToken));
+        assertNotNull(authenticate(newToken));
+    }
+
+    @Test
+    void revokedTokenIsRejectedWhileOthersKeepWorking() throws Exception {
+        // Arrange: dos sesiones del mismo usuario
+        UUID anaId = UUID.randomUUID();
+        String phone = jwtProvider.generateToken(anaId, "ana", Set.of("ROLE_USER"), 0);
+        String laptop = jwtProvider.generateToken(anaId, "ana", Set.of("ROLE_USER"), 0);
+        JwtPrincipal phonePrincipal = jwtProvider.verify(phone).orElseThrow();
+
+        // Act: logout en el móvil
+        revocations.revoke(phonePrincipal.tokenId(), phonePrincipal.expiresAt());
+
+        // Assert
+        assertNull(authenticate(phone));
+        assertNotNull(authenticate(laptop));
+    }
+
+    @Test
+    void registryNeverMovesBackwards() {
+        // Arrange
+        UUID anaId = UUID.randomUUID();
+
+        // Act
+        tokenVersions.advance(anaId, 3);
+        tokenVersions.advance(anaId, 2);
+
+        // Assert
+        assertFalse(tokenVersions.isCurrent(anaId, 2));
+        assertTrue(tokenVersions.isCurrent(anaId, 3));
+        assertTrue(tokenVersions.isCurrent(UUID.randomUUID(), 0));
+    }
+
+    @Test
+    void healthProbesAreNotFiltered() {
+        // las sondas de k8s llegan sin token: el filtro ni siquiera se ejecuta
+        assertTrue(filter.shouldNotFilter(servletRequest("/actuator/health/readiness")));
+        assertTrue(filter.shouldNotFilter(servletRequest("/actuator/health")));
+        assertFalse(filter.shouldNotFilter(servletRequest("/actuator/metrics")));
+    }
+
+    private static MockHttpServletRequest servletRequest(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
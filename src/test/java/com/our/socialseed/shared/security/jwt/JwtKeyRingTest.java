@@ -0,0 +1,154 @@
+package com.our.socialseed.shared.security.jwt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+Con un reloj controlado recorremos el ciclo de una clave: se publica antes de firmar (publish-ahead),
+pasa a ser la activa, la anterior sigue verificando mientras haya tokens suyos vivos y luego se retira.
+También comprobamos el formato del JWKS (RSA y EC), que las claves persisten en jwt.keys.directory
+entre reinicios, que un token firmado por una réplica que comparte el directorio se verifica en otra
+y que con jwt.keys.require-directory=true no se arranca sin directorio.
+* */
+class JwtKeyRingTest {
+
+    private static final Duration ROTATION = Duration.ofDays(7);
+    private static final Duration PUBLISH_AHEAD = Duration.ofMinutes(10);
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void newKeyIsPublishedBeforeSigningAndOldKeyOutlivesItsTokens() {
+        // Arrange
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        JwtKeyRing ring = new JwtKeyRing(SignatureAlgorithm.RS256, ROTATION, PUBLISH_AHEAD, TOKEN_LIFETIME, null, clock);
+        JwtSigningKey first = ring.signingKey();
+
+        // Act: justo cuando toca preparar la siguiente
+        clock.advance(ROTATION.minus(PUBLISH_AHEAD));
+        ring.rotate();
+
+        // Assert: publicada pero todavía no firma
+        JwtSigningKey second = ring.verificationKey(kids(ring)[1]).orElseThrow();
+        assertEquals(first, ring.signingKey());
+        assertNotEquals(first.kid(), second.kid());
+
+        // Act + Assert: pasa el publish-ahead y firma la nueva; la vieja sigue verificando
+        clock.advance(PUBLISH_AHEAD);
+        ring.rotate();
+        assertEquals(second, ring.signingKey());
+        assertTrue(ring.verificationKey(first.kid()).isPresent());
+
+        // Act + Assert: cuando ya no quedan tokens firmados con la vieja, se retira
+        clock.advance(TOKEN_LIFETIME.plusMinutes(2));
+        ring.rotate();
+        assertTrue(ring.verificationKey(first.kid()).isEmpty());
+        assertEquals(1, kids(ring).length);
+    }
+
+    @Test
+    void jwksContainsPublicKeyParametersOnly() throws Exception {
+        // Arrange
+        JwtKeyRing rsa = new JwtKeyRing(SignatureAlgorithm.RS256, ROTATION, PUBLISH_AHEAD, TOKEN_LIFETIME, null,
+                Clock.systemUTC());
+        JwtKeyRing ec = new JwtKeyRing(SignatureAlgorithm.ES256, ROTATION, PUBLISH_AHEAD, TOKEN_LIFETIME, null,
+                Clock.systemUTC());
+
+        // Act
+        JsonNode rsaKey = objectMapper.readTree(rsa.jwks().json()).get("keys").get(0);
+        JsonNode ecKey = objectMapper.readTree(ec.jwks().json()).get("keys").get(0);
+
+        // Assert
+        assertEquals("RSA", rsaKey.get("kty").asText());
+        assertEquals("RS256", rsaKey.get("alg").asText());
+        assertEquals("AQAB", rsaKey.get("e").asText());
+        assertEquals(rsa.signingKey().kid(), rsaKey.get("kid").asText());
+        assertFalse(rsaKey.has("d"));
+        assertEquals("EC", ecKey.get("kty").asText());
+        assertEquals("P-256", ecKey.get("crv").asText());
+        assertEquals(43, ecKey.get("x").asText().length()); // 32 bytes en base64url sin relleno
+        assertEquals(43, ecKey.get("y").asText().length());
+        assertEquals(PUBLISH_AHEAD.dividedBy(2), rsa.jwks().maxAge());
+    }
+
+    @Test
+    void keysInTheDirectorySurviveRestartsAndAreSharedBetweenReplicas(@TempDir Path directory) {
+        // Arrange: dos réplicas sobre el mismo directorio
+        JwtKeyRing first = new JwtKeyRing(SignatureAlgorithm.ES256, ROTATION, PUBLISH_AHEAD, TOKEN_LIFETIME, directory,
+                Clock.systemUTC());
+        JwtKeyRing second = new JwtKeyRing(SignatureAlgorithm.ES256, ROTATION, PUBLISH_AHEAD, TOKEN_LIFETIME, directory,
+                Clock.systemUTC());
+        JWTProvider signer = new JWTProvider(first, 60_000, false, 0);
+        JWTProvider verifier = new JWTProvider(second, 60_000, false, 0);
+
+        // Act
+        String token = signer.generateToken(UUID.randomUUID(), "ana", Set.of("ROLE_USER"), 0);
+
+        // Assert
+        assertEquals(first.signingKey().kid(), second.signingKey().kid());
+        assertTrue(verifier.verify(token).isPresent());
+    }
+
+    private static String[] kids(JwtKeyRing ring) {
+        try {
+            JsonNode keys = new ObjectMapper().readTree(ring.jwks().json()).get("keys");
+            String[] kids = new String[keys.size()];
+            for (int i = 0; i < kids.length; i++) {
+                kids[i] = keys.get(i).get("kid").asText();
+            }
+            return kids;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void refusesToStartWithoutDirectoryWhenItIsRequired() {
+        // Act + Assert: en prod las claves solo en memoria romperían los tokens en cada reinicio y entre réplicas
+        assertThrows(IllegalStateException.class,
+                () -> new JwtKeyRing("ES256", ROTATION, PUBLISH_AHEAD, TOKEN_LIFETIME.toMillis(), " ", true));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.our.socialseed.shared.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+El filtro de Bloom nunca da falsos negativos y, con la capacidad prevista, sus falsos positivos rondan la tasa
+configurada; aun así isRevoked es exacto porque los positivos se confirman en el conjunto.
+rebuild() olvida los tokens ya expirados (el JWT se rechaza solo) y conserva los vigentes.
+* */
+class TokenRevocationListTest {
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndBoundedFalsePositives() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        List<UUID> inserted = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = UUID.randomUUID();
+            inserted.add(id);
+            filter.put(id);
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertTrue(inserted.stream().allMatch(filter::mightContain));
+        assertTrue(falsePositives < 2_000, "falsos positivos: " + falsePositives); // ~1 % esperado, margen x2
+    }
+
+    @Test
+    void isRevokedIsExactAndRebuildForgetsExpiredTokens() {
+        // Arrange
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        TokenRevocationList revocations = new TokenRevocationList(1_000, 0.01, clock);
+        UUID shortLived = UUID.randomUUID();
+        UUID longLived = UUID.randomUUID();
+        revocations.revoke(shortLived, clock.instant().plus(Duration.ofMinutes(5)));
+        revocations.revoke(longLived, clock.instant().plus(Duration.ofMinutes(15)));
+        revocations.revoke(UUID.randomUUID(), clock.instant().minusSeconds(1)); // ya expirado: se ignora
+
+        // Act
+        clock.advance(Duration.ofMinutes(10));
+        revocations.rebuild();
+
+        // Assert
+        assertFalse(revocations.isRevoked(shortLived));
+        assertTrue(revocations.isRevoked(longLived));
+        assertFalse(revocations.isRevoked(UUID.randomUUID()));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.our.socialseed.shared.security.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+Con 1 hilo y cola de 1, una tercera petición simultánea se rechaza al instante (no espera ni hashea en el hilo
+llamante); si la cola tiene hueco pero el hash no llega antes de max-wait, también se rechaza.
+* */
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void encodesAndMatchesThroughThePool() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 4,
+                Duration.ofSeconds(5), Duration.ofSeconds(1))) {
+            encoder.bindTo(registry);
+
+            // Act
+            String hash = encoder.encode("secret");
+
+            // Assert
+            assertTrue(encoder.matches("secret", hash));
+            assertFalse(encoder.matches("other", hash));
+            assertEquals(1, registry.get("password.hashing").tag("operation", "encode").timer().count());
+            assertEquals(2, registry.get("password.hashing").tag("operation", "matches").timer().count());
+            assertEquals(0.0, registry.get("password.hashing.rejected").functionCounter().count());
+        }
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        // Arrange
+        BlockingEncoder delegate = new BlockingEncoder();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, 1,
+                Duration.ofSeconds(5), Duration.ofSeconds(3))) {
+            encoder.bindTo(registry);
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+            assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+            while (registry.get("password.hashing.queue").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            // Act
+            PasswordHashingSaturatedException ex = assertThrows(PasswordHashingSaturatedException.class,
+                    () -> encoder.encode("c"));
+
+            // Assert
+            assertEquals(Duration.ofSeconds(3), ex.getRetryAfter());
+            assertEquals(1.0, registry.get("password.hashing.rejected").functionCounter().count());
+            assertEquals(1.0, registry.get("password.hashing.active").gauge().value());
+
+            delegate.release.countDown();
+            assertEquals("hash:a", running.get(5, TimeUnit.SECONDS));
+            assertEquals("hash:b", queued.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void rejectsWhenHashDoesNotFinishWithinMaxWait() throws Exception {
+        // Arrange
+        BlockingEncoder delegate = new BlockingEncoder();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, 4,
+                Duration.ofMillis(50), Duration.ofSeconds(1))) {
+            encoder.bindTo(registry);
+
+            // Act + Assert: el primero se ejecuta pero no termina a tiempo; el segundo ni siquiera empieza
+            assertThrows(PasswordHashingSaturatedException.class, () -> encoder.encode("a"));
+            assertThrows(PasswordHashingSaturatedException.class, () -> encoder.matches("b", "hash:b"));
+            assertEquals(2.0, registry.get("password.hashing.rejected").functionCounter().count());
+
+            // el cancelado sale de la cola y no llega a hashear
+            delegate.release.countDown();
+            assertEquals("hash:c", encoder.encode("c"));
+            assertEquals(2, delegate.calls.get());
+        }
+    }
+
+    // Simula un hash lento: el primero se bloquea hasta que el test lo libera
+    private static class BlockingEncoder implements PasswordEncoder {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.our.socialseed.suggestion.application.usecase;
+
+import com.our.socialseed.suggestion.domain.model.SuggestionBatchReport;
+import com.our.socialseed.suggestion.domain.model.SuggestionRun;
+import com.our.socialseed.suggestion.domain.model.UserPartition;
+import com.our.socialseed.suggestion.domain.repository.SuggestionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/*
+Explicación rápida:
+Verificamos que el batch recorre cada partición por lotes (keyset) y la marca como completada,
+que una ejecución a medias se reanuda saltando las particiones ya hechas
+y que si una partición falla la ejecución queda abierta para la próxima vez.
+* */
+class ComputeSuggestionsTest {
+
+    private SuggestionRepository suggestionRepository;
+    private ForkJoinPool pool;
+    private ComputeSuggestions computeSuggestions;
+
+    @BeforeEach
+    void setUp() {
+        suggestionRepository = mock(SuggestionRepository.class);
+        pool = new ForkJoinPool(2);
+        computeSuggestions = new ComputeSuggestions(suggestionRepository, pool, 4, 20, 2);
+        when(suggestionRepository.findUserIds(any(), any(), anyInt())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void shouldComputeEveryPartitionInBatches() {
+        // Arrange
+        UUID u1 = UUID.randomUUID();
+        UUID u2 = UUID.randomUUID();
+        UUID u3 = UUID.randomUUID();
+        UserPartition first = UserPartition.split(4).get(0);
+        when(suggestionRepository.findUnfinishedRun()).thenReturn(Optional.empty());
+        when(suggestionRepository.findUserIds(first, null, 2)).thenReturn(List.of(u1, u2));
+        when(suggestionRepository.findUserIds(first, u2, 2)).thenReturn(List.of(u3));
+        when(suggestionRepository.computeSuggestions(anyString(), anyList(), eq(20)))
+                .thenAnswer(invocation -> invocation.<List<UUID>>getArgument(1).size());
+
+        // Act
+        SuggestionBatchReport report = computeSuggestions.execute().orElseThrow();
+
+        // Assert
+        assertTrue(report.completed());
+        assertFalse(report.resumed());
+        assertEquals(4, report.computedPartitions());
+        assertEquals(3, report.users());
+        verify(suggestionRepository).startRun(report.runId(), 4);
+        verify(suggestionRepository).markPartitionCompleted(report.runId(), 0, 3);
+        verify(suggestionRepository, times(4)).markPartitionCompleted(eq(report.runId()), anyInt(), anyLong());
+        verify(suggestionRepository).completeRun(report.runId());
+    }
+
+    @Test
+    void shouldResumeUnfinishedRunSkippingCompletedPartitions() {
+        // Arrange
+        when(suggestionRepository.findUnfinishedRun())
+                .thenReturn(Optional.of(new SuggestionRun("run-1", 4, Set.of(0, 2))));
+
+        // Act
+        SuggestionBatchReport report = computeSuggestions.execute().orElseThrow();
+
+        // Assert
+        assertTrue(report.resumed());
+        assertEquals("run-1", report.runId());
+        assertEquals(2, report.skippedPartitions());
+        assertEquals(2, report.computedPartitions());
+        verify(suggestionRepository, never()).startRun(anyString(), anyInt());
+        verify(suggestionRepository).markPartitionCompleted("run-1", 1, 0);
+        verify(suggestionRepository).markPartitionCompleted("run-1", 3, 0);
+        verify(suggestionRepository, never()).markPartitionCompleted("run-1", 0, 0);
+        verify(suggestionRepository).completeRun("run-1");
+    }
+
+    @Test
+    void shouldLeaveRunOpenWhenAPartitionFails() {
+        // Arrange
+        UserPartition broken = UserPartition.split(4).get(3);
+        when(suggestionRepository.findUnfinishedRun()).thenReturn(Optional.empty());
+        when(suggestionRepository.findUserIds(broken, null, 2)).thenThrow(new IllegalStateException("Neo4j no disponible"));
+
+        // Act
+        SuggestionBatchReport report = computeSuggestions.execute().orElseThrow();
+
+        // Assert
+        assertFalse(report.completed());
+        assertEquals(List.of(3), report.failedPartitions());
+        verify(suggestionRepository, never()).completeRun(anyString());
+    }
+
+    @Test
+    void shouldSplitIdSpaceIntoContiguousRanges() {
+        // Act
+        List<UserPartition> partitions = UserPartition.split(4);
+
+        // Assert
+        assertEquals(new UserPartition(0, "", "40"), partitions.get(0));
+        assertEquals(new UserPartition(1, "40", "80"), partitions.get(1));
+        assertEquals(new UserPartition(3, "c0", null), partitions.get(3));
+    }
+}
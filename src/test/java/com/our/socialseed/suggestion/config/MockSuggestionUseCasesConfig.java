@@ -0,0 +1,27 @@
+package com.our.socialseed.suggestion.config;
+
+import com.our.socialseed.suggestion.application.usecase.GetSuggestions;
+import com.our.socialseed.suggestion.application.usecase.GetWhoToFollow;
+import com.our.socialseed.suggestion.application.usecase.SuggestionUseCases;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class MockSuggestionUseCasesConfig {
+
+    @Bean
+    public SuggestionUseCases suggestionUseCases() {
+        return Mockito.mock(SuggestionUseCases.class);
+    }
+
+    @Bean
+    public GetSuggestions getSuggestions() {
+        return Mockito.mock(GetSuggestions.class);
+    }
+
+    @Bean
+    public GetWhoToFollow getWhoToFollow() {
+        return Mockito.mock(GetWhoToFollow.class);
+    }
+}
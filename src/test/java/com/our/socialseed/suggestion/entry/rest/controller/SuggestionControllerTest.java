@@ -0,0 +1,107 @@
+package com.our.socialseed.suggestion.entry.rest.controller;
+
+import com.our.socialseed.suggestion.application.usecase.GetSuggestions;
+import com.our.socialseed.suggestion.application.usecase.GetWhoToFollow;
+import com.our.socialseed.suggestion.application.usecase.SuggestionUseCases;
+import com.our.socialseed.suggestion.config.MockSuggestionUseCasesConfig;
+import com.our.socialseed.suggestion.domain.model.FollowRecommendation;
+import com.our.socialseed.suggestion.domain.model.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests para SuggestionController:
+ * ✅ 1. Sugerencias precalculadas – 200 OK ordenadas por amigos en común
+ * ✅ 2. Sin sugerencias – 204 No Content
+ * ✅ 3. Límite pedido por el cliente – se pasa al caso de uso
+ * ✅ 4. A quién seguir – 200 OK con la puntuación de cada cuenta
+ * ✅ 5. A quién seguir sin recomendaciones – 204 No Content
+ */
+@WebMvcTest(SuggestionController.class)
+@Import(MockSuggestionUseCasesConfig.class)
+class SuggestionControllerTest {
+    // <editor-fold desc="Dependencias e inicialización">
+    @Autowired private MockMvc mockMvc;
+    @Autowired private SuggestionUseCases suggestionUseCases;
+    @Autowired private GetSuggestions getSuggestions;
+    @Autowired private GetWhoToFollow getWhoToFollow;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        reset(getSuggestions, getWhoToFollow);
+        when(suggestionUseCases.getSuggestions()).thenReturn(getSuggestions);
+        when(suggestionUseCases.getWhoToFollow()).thenReturn(getWhoToFollow);
+    }
+    // </editor-fold>
+
+    @Test
+    @WithMockUser
+    void shouldReturnSuggestions() throws Exception {
+        UUID candidateId = UUID.randomUUID();
+        when(getSuggestions.execute(userId, null))
+                .thenReturn(List.of(new Suggestion(candidateId, "bob", "Bob Smith", 7)));
+
+        mockMvc.perform(get("/api/users/{id}/suggestions", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(candidateId.toString()))
+                .andExpect(jsonPath("$[0].username").value("bob"))
+                .andExpect(jsonPath("$[0].mutualFriends").value(7));
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReturnNoContent_whenThereAreNoSuggestions() throws Exception {
+        when(getSuggestions.execute(userId, null)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/users/{id}/suggestions", userId))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @WithMockUser
+    void shouldPassRequestedLimit() throws Exception {
+        when(getSuggestions.execute(userId, 5)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/users/{id}/suggestions", userId).param("limit", "5"))
+                .andExpect(status().isNoContent());
+
+        verify(getSuggestions, times(1)).execute(userId, 5);
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReturnWhoToFollow() throws Exception {
+        UUID accountId = UUID.randomUUID();
+        when(getWhoToFollow.execute(userId, 10))
+                .thenReturn(List.of(new FollowRecommendation(accountId, 0.125)));
+
+        mockMvc.perform(get("/api/users/{id}/who-to-follow", userId).param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(accountId.toString()))
+                .andExpect(jsonPath("$[0].score").value(0.125));
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReturnNoContent_whenThereAreNoFollowRecommendations() throws Exception {
+        when(getWhoToFollow.execute(userId, null)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/users/{id}/who-to-follow", userId))
+                .andExpect(status().isNoContent());
+    }
+}
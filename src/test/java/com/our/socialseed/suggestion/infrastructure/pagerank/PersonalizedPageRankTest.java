@@ -0,0 +1,89 @@
+package com.our.socialseed.suggestion.infrastructure.pagerank;
+
+import com.our.socialseed.shared.graph.snapshot.CsrGraph;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+En un grafo pequeño de "sigue a" comprobamos que la cuenta más alcanzable desde el usuario sale primera,
+que nunca se recomienda al propio usuario ni a quien ya sigue, y que las cuentas inalcanzables no aparecen.
+Además, que repartir los paseos en varias tareas da las mismas puntuaciones (aprox.) que una sola
+y que el contador de visitas no pierde cuentas al crecer.
+* */
+class PersonalizedPageRankTest {
+
+    // 0 sigue a 1 y 2; 1 y 2 siguen a 3; 3 sigue a 4; 5 sigue a 6 (inalcanzables desde 0)
+    private static final int[][] FOLLOWS = {{0, 1}, {0, 2}, {1, 3}, {2, 3}, {3, 4}, {5, 6}};
+
+    private ForkJoinPool pool;
+    private CsrGraph following;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        int[] sources = new int[FOLLOWS.length];
+        int[] targets = new int[FOLLOWS.length];
+        for (int i = 0; i < FOLLOWS.length; i++) {
+            sources[i] = FOLLOWS[i][0];
+            targets[i] = FOLLOWS[i][1];
+        }
+        following = CsrGraph.fromEdges(7, sources, targets, FOLLOWS.length);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void recommendsReachableAccountsTheUserDoesNotFollow() {
+        // Act
+        List<PersonalizedPageRank.Scored> top = PersonalizedPageRank.topK(following, 0, 20_000, 0.15, 10, pool, 4, 42);
+
+        // Assert
+        assertEquals(List.of(3, 4), top.stream().map(PersonalizedPageRank.Scored::node).toList());
+        assertTrue(top.get(0).score() > top.get(1).score());
+    }
+
+    @Test
+    void splittingWalksAcrossTasksKeepsTheScores() {
+        // Act
+        List<PersonalizedPageRank.Scored> single = PersonalizedPageRank.topK(following, 0, 50_000, 0.15, 2, pool, 1, 1);
+        List<PersonalizedPageRank.Scored> parallel = PersonalizedPageRank.topK(following, 0, 50_000, 0.15, 2, pool, 4, 2);
+
+        // Assert
+        for (int i = 0; i < 2; i++) {
+            assertEquals(single.get(i).node(), parallel.get(i).node());
+            assertEquals(single.get(i).score(), parallel.get(i).score(), 0.02);
+        }
+    }
+
+    @Test
+    void visitCounterKeepsCountsWhenGrowing() {
+        // Arrange
+        PersonalizedPageRank.VisitCounter counter = new PersonalizedPageRank.VisitCounter(1);
+        SplittableRandom random = new SplittableRandom(3);
+        long[] expected = new long[5_000];
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            int node = random.nextInt(expected.length);
+            counter.increment(node);
+            expected[node]++;
+        }
+        long[] actual = new long[expected.length];
+        long total = counter.forEach((node, count) -> actual[node] = count);
+
+        // Assert
+        assertEquals(100_000, total);
+        assertArrayEquals(expected, actual);
+    }
+}
@@ -0,0 +1,97 @@
+package com.our.socialseed.suggestion.infrastructure.persistence;
+
+import com.our.socialseed.shared.neo4j.embedded.EmbeddedNeo4j;
+import com.our.socialseed.suggestion.domain.model.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+Ejecutamos COMPUTE_QUERY contra un Neo4j real: escribe el top-K de amigos de amigos por amigos en común,
+excluye amigos y solicitudes pendientes, reemplaza las sugerencias anteriores y cuenta también
+a los usuarios que se quedan sin candidatos.
+* */
+class Neo4jSuggestionRepositoryAdapterTest {
+
+    private static final UUID ANA = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID BEA = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID CARLOS = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID DANI = UUID.fromString("00000000-0000-0000-0000-000000000004");
+    private static final UUID ELENA = UUID.fromString("00000000-0000-0000-0000-000000000005");
+    private static final UUID FER = UUID.fromString("00000000-0000-0000-0000-000000000006");
+    private static final UUID SOLO = UUID.fromString("00000000-0000-0000-0000-000000000007");
+
+    private Neo4jSuggestionRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        EmbeddedNeo4j.clear();
+        adapter = new Neo4jSuggestionRepositoryAdapter(EmbeddedNeo4j.client());
+
+        // Ana es amiga de Bea y Carlos; Dani es amigo de ambos, Elena solo de Bea; Fer tiene solicitud pendiente de Ana
+        EmbeddedNeo4j.client().query("""
+                        UNWIND $ids AS id CREATE (:User {id: id, username: id, fullName: id})
+                        """)
+                .bind(List.of(ANA, BEA, CARLOS, DANI, ELENA, FER, SOLO).stream().map(UUID::toString).toList()).to("ids")
+                .run();
+        EmbeddedNeo4j.client().query("""
+                        UNWIND $pairs AS pair
+                        MATCH (a:User {id: pair[0]}), (b:User {id: pair[1]})
+                        CREATE (a)-[:FRIEND_OF]->(b)
+                        """)
+                .bind(List.of(
+                        List.of(ANA.toString(), BEA.toString()),
+                        List.of(ANA.toString(), CARLOS.toString()),
+                        List.of(DANI.toString(), BEA.toString()),
+                        List.of(DANI.toString(), CARLOS.toString()),
+                        List.of(ELENA.toString(), BEA.toString()),
+                        List.of(FER.toString(), CARLOS.toString()))).to("pairs")
+                .run();
+        EmbeddedNeo4j.client().query("""
+                        MATCH (a:User {id: $from}), (b:User {id: $to}) CREATE (a)-[:REQUEST_FRIEND]->(b)
+                        """)
+                .bindAll(Map.of("from", ANA.toString(), "to", FER.toString()))
+                .run();
+    }
+
+    @Test
+    void computesTopKByMutualFriendsAndCountsUsersWithoutCandidates() {
+        // Act
+        int users = adapter.computeSuggestions("run-1", List.of(ANA, SOLO), 10);
+
+        // Assert
+        assertEquals(2, users);
+        List<Suggestion> suggestions = adapter.findSuggestions(ANA, 10);
+        assertEquals(List.of(DANI, ELENA), suggestions.stream().map(Suggestion::userId).toList());
+        assertEquals(2, suggestions.get(0).mutualFriends());
+        assertEquals(1, suggestions.get(1).mutualFriends());
+        assertTrue(adapter.findSuggestions(SOLO, 10).isEmpty());
+    }
+
+    @Test
+    void replacesPreviousSuggestionsAndRespectsTopK() {
+        // Arrange
+        adapter.computeSuggestions("run-1", List.of(ANA), 10);
+
+        // Act
+        int users = adapter.computeSuggestions("run-2", List.of(ANA), 1);
+
+        // Assert
+        assertEquals(1, users);
+        List<Suggestion> suggestions = adapter.findSuggestions(ANA, 10);
+        assertEquals(List.of(DANI), suggestions.stream().map(Suggestion::userId).toList());
+        long edges = EmbeddedNeo4j.client().query("""
+                        MATCH (:User {id: $id})-[s:SUGGESTED {runId: 'run-2'}]->() RETURN count(s) AS edges
+                        """)
+                .bind(ANA.toString()).to("id")
+                .fetchAs(Long.class).mappedBy((typeSystem, record) -> record.get("edges").asLong())
+                .one().orElseThrow();
+        assertEquals(1, edges);
+    }
+}
@@ -1,8 +1,10 @@
 package com.our.socialseed.user.application.usecase;
 
+import com.our.socialseed.user.domain.event.UserDeletedEvent;
 import com.our.socialseed.user.domain.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.UUID;
 
@@ -12,17 +14,20 @@ import static org.mockito.Mockito.*;
 Explicación rápida:
 Mockeamos el repositorio.
 Llamamos a execute con un UUID.
-Verificamos que el repositorio recibió la llamada a deleteById exactamente una vez con ese UUID.
+Verificamos que el repositorio recibió la llamada a deleteById exactamente una vez con ese UUID
+y que se publica UserDeletedEvent (el índice de amigos en común lo saca de los bitmaps de sus amigos).
 * */
 class DeleteUserTest {
 
     private UserRepository userRepository;
+    private ApplicationEventPublisher eventPublisher;
     private DeleteUser deleteUser;
 
     @BeforeEach
     void setUp() {
         userRepository = mock(UserRepository.class);
-        deleteUser = new DeleteUser(userRepository);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        deleteUser = new DeleteUser(userRepository, eventPublisher);
     }
 
     @Test
@@ -35,5 +40,6 @@ class DeleteUserTest {
 
         // Assert
         verify(userRepository, times(1)).deleteById(userId);
+        verify(eventPublisher).publishEvent(new UserDeletedEvent(userId));
     }
 }
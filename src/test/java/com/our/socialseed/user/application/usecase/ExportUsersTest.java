@@ -0,0 +1,55 @@
+package com.our.socialseed.user.application.usecase;
+
+import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/*
+Explicación rápida:
+Simulamos que el repositorio emite dos usuarios por streaming y verificamos que
+el caso de uso los entrega al consumidor en orden y devuelve el total emitido.
+* */
+class ExportUsersTest {
+
+    private UserRepository userRepository;
+    private ExportUsers exportUsers;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        exportUsers = new ExportUsers(userRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStreamUsersToConsumer() {
+        // Arrange
+        User user1 = new User(UUID.randomUUID(), "user1", "user1@mail.com", null, "User One");
+        User user2 = new User(UUID.randomUUID(), "user2", "user2@mail.com", null, "User Two");
+        when(userRepository.streamAll(any())).thenAnswer(invocation -> {
+            Consumer<User> consumer = invocation.getArgument(0);
+            consumer.accept(user1);
+            consumer.accept(user2);
+            return 2L;
+        });
+        List<User> received = new ArrayList<>();
+
+        // Act
+        long count = exportUsers.execute(received::add);
+
+        // Assert
+        assertEquals(2L, count);
+        assertEquals(List.of(user1, user2), received);
+        verify(userRepository, never()).findAll();
+    }
+}
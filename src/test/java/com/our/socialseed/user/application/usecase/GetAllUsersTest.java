@@ -1,6 +1,9 @@
 package com.our.socialseed.user.application.usecase;
 
-import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.shared.pagination.CursorCodec;
+import com.our.socialseed.shared.pagination.CursorPage;
+import com.our.socialseed.shared.pagination.InvalidCursorException;
+import com.our.socialseed.user.domain.model.UserSummary;
 import com.our.socialseed.user.domain.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,9 +16,9 @@ import static org.mockito.Mockito.*;
 
 /*
 Explicación rápida:
-Mockeamos UserRepository y simulamos que devuelve una lista con dos usuarios.
-Verificamos que el método execute() retorna esa lista correctamente.
-Verificamos que se llamó findAll() exactamente una vez.
+Mockeamos UserRepository y simulamos páginas de usuarios ordenadas por id.
+Verificamos que se pida un elemento de más para detectar la página siguiente,
+que el cursor "next" apunte al último id devuelto y que el tamaño de página se limite al máximo configurado.
 * */
 class GetAllUsersTest {
 
@@ -25,27 +28,55 @@ class GetAllUsersTest {
     @BeforeEach
     void setUp() {
         userRepository = mock(UserRepository.class);
-        getAllUsers = new GetAllUsers(userRepository);
+        getAllUsers = new GetAllUsers(userRepository, 2, 5);
     }
 
     @Test
-    void shouldReturnListOfUsers() {
+    void shouldReturnFirstPageWithNextCursor() {
         // Arrange
-        User user1 = new User(UUID.randomUUID(), "user1", "user1@mail.com", "pwd1", "User One");
-        User user2 = new User(UUID.randomUUID(), "user2", "user2@mail.com", "pwd2", "User Two");
-        List<User> mockUsers = List.of(user1, user2);
+        UserSummary user1 = new UserSummary(UUID.randomUUID(), "user1", "user1@mail.com", "User One");
+        UserSummary user2 = new UserSummary(UUID.randomUUID(), "user2", "user2@mail.com", "User Two");
+        UserSummary user3 = new UserSummary(UUID.randomUUID(), "user3", "user3@mail.com", "User Three");
 
-        when(userRepository.findAll()).thenReturn(mockUsers);
+        when(userRepository.findPage(null, 3)).thenReturn(List.of(user1, user2, user3));
 
         // Act
-        List<User> users = getAllUsers.execute();
+        CursorPage<UserSummary> page = getAllUsers.execute(null, null);
 
         // Assert
-        assertNotNull(users);
-        assertEquals(2, users.size());
-        assertTrue(users.contains(user1));
-        assertTrue(users.contains(user2));
+        assertEquals(List.of(user1, user2), page.items());
+        assertEquals(user2.id(), CursorCodec.decodeUuid(page.next()));
+        verify(userRepository, times(1)).findPage(null, 3);
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutNextCursor() {
+        // Arrange
+        UUID afterId = UUID.randomUUID();
+        UserSummary user = new UserSummary(UUID.randomUUID(), "user1", "user1@mail.com", "User One");
+
+        when(userRepository.findPage(afterId, 3)).thenReturn(List.of(user));
+
+        // Act
+        CursorPage<UserSummary> page = getAllUsers.execute(CursorCodec.encodeUuid(afterId), null);
+
+        // Assert
+        assertEquals(List.of(user), page.items());
+        assertNull(page.next());
+    }
+
+    @Test
+    void shouldCapPageSizeToConfiguredMaximum() {
+        when(userRepository.findPage(null, 6)).thenReturn(List.of());
 
-        verify(userRepository, times(1)).findAll();
+        getAllUsers.execute(null, 1000);
+
+        verify(userRepository, times(1)).findPage(null, 6);
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThrows(InvalidCursorException.class, () -> getAllUsers.execute("%%%not-a-cursor", null));
+        verifyNoInteractions(userRepository);
     }
 }
@@ -1,6 +1,6 @@
 package com.our.socialseed.user.application.usecase;
 
-import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserSummary;
 import com.our.socialseed.user.domain.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,7 +15,7 @@ import static org.mockito.Mockito.*;
 Explicación rápida:
 Se prueba que cuando el usuario existe, se retorna correctamente.
 Se prueba que cuando no existe, retorna Optional.empty.
-Se verifica que el repositorio se llame correctamente.
+Se verifica que se use la proyección (findSummaryById) y nunca se hidrate el usuario completo con su password.
 * */
 class GetUserByIdTest {
 
@@ -32,29 +32,30 @@ class GetUserByIdTest {
     void shouldReturnUserWhenFound() {
         // Arrange
         UUID userId = UUID.randomUUID();
-        User user = new User(userId, "jose", "jose@mail.com", "pwd", "Jose Ramirez");
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        UserSummary user = new UserSummary(userId, "jose", "jose@mail.com", "Jose Ramirez");
+        when(userRepository.findSummaryById(userId)).thenReturn(Optional.of(user));
 
         // Act
-        Optional<User> result = getUserById.execute(userId);
+        Optional<UserSummary> result = getUserById.execute(userId);
 
         // Assert
         assertTrue(result.isPresent());
         assertEquals(user, result.get());
-        verify(userRepository, times(1)).findById(userId);
+        verify(userRepository, times(1)).findSummaryById(userId);
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
     void shouldReturnEmptyWhenUserNotFound() {
         // Arrange
         UUID userId = UUID.randomUUID();
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.findSummaryById(userId)).thenReturn(Optional.empty());
 
         // Act
-        Optional<User> result = getUserById.execute(userId);
+        Optional<UserSummary> result = getUserById.execute(userId);
 
         // Assert
         assertFalse(result.isPresent());
-        verify(userRepository, times(1)).findById(userId);
+        verify(userRepository, times(1)).findSummaryById(userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.our.socialseed.user.application.usecase;
+
+import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserImportReport;
+import com.our.socialseed.user.domain.model.UserImportRow;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/*
+Explicación rápida:
+Importamos filas válidas e inválidas con lotes de 2 y verificamos que:
+Las filas inválidas se reportan con su número de línea sin abortar la importación.
+Los usuarios válidos se escriben por lotes con las contraseñas hasheadas.
+Un passwordHash BCrypt se usa tal cual, sin volver a hashear.
+Si la escritura de un lote falla por una fila (email duplicado), el lote se biseca: solo esa fila se reporta
+y las demás del lote se importan.
+* */
+class ImportUsersTest {
+
+    private static final String BCRYPT = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
+    private UserRepository userRepository;
+    private PasswordEncoder passwordEncoder;
+    private ExecutorService executor;
+    private ImportUsers importUsers;
+    private List<List<User>> writtenBatches;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        executor = Executors.newFixedThreadPool(2);
+        importUsers = new ImportUsers(userRepository, passwordEncoder, executor, 2, 10);
+        writtenBatches = new ArrayList<>();
+
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hashed-" + invocation.getArgument(0));
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> batch = new ArrayList<>(invocation.getArgument(0));
+            writtenBatches.add(batch);
+            return batch.size();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldImportValidRowsInBatchesAndReportInvalidOnes() {
+        // Arrange
+        List<UserImportRow> rows = List.of(
+                row(1, "ana", "ana@mail.com", "secret1", null),
+                row(2, "", "bob@mail.com", "secret2", null),
+                row(3, "carl", "carl@mail.com", "secret3", null),
+                UserImportRow.invalid(4, "Malformed JSON"),
+                row(5, "dora", "dora@mail.com", null, BCRYPT)
+        );
+
+        // Act
+        UserImportReport report = importUsers.execute(rows.iterator());
+
+        // Assert
+        assertEquals(5, report.total());
+        assertEquals(3, report.imported());
+        assertEquals(2, report.failed());
+        assertEquals(List.of(2L, 4L), report.errors().stream().map(UserImportReport.RowError::line).toList());
+
+        assertEquals(2, writtenBatches.size());
+        assertEquals("hashed-secret1", writtenBatches.get(0).get(0).getPassword());
+        assertEquals(BCRYPT, writtenBatches.get(1).get(0).getPassword());
+        verify(passwordEncoder, never()).encode(null);
+    }
+
+    @Test
+    void shouldReportOnlyTheRowThatViolatesAConstraint() {
+        // Arrange: la restricción única de email rechaza cualquier lote que contenga a bob
+        importUsers = new ImportUsers(userRepository, passwordEncoder, executor, 4, 10);
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> batch = new ArrayList<>(invocation.getArgument(0));
+            if (batch.stream().anyMatch(user -> user.getEmail().equals("bob@mail.com"))) {
+                throw new RuntimeException("Node already exists with email 'bob@mail.com'");
+            }
+            writtenBatches.add(batch);
+            return batch.size();
+        });
+        List<UserImportRow> rows = List.of(
+                row(1, "ana", "ana@mail.com", "secret1", null),
+                row(2, "bob", "bob@mail.com", "secret2", null),
+                row(3, "carl", "carl@mail.com", "secret3", null),
+                row(4, "dora", "dora@mail.com", "secret4", null),
+                row(5, "eva", "eva@mail.com", "secret5", null)
+        );
+
+        // Act
+        UserImportReport report = importUsers.execute(rows.iterator());
+
+        // Assert
+        assertEquals(4, report.imported());
+        assertEquals(1, report.failed());
+        assertEquals(List.of(2L), report.errors().stream().map(UserImportReport.RowError::line).toList());
+        assertEquals(List.of("ana", "carl", "dora", "eva"), writtenBatches.stream()
+                .flatMap(List::stream)
+                .map(User::getUsername)
+                .sorted()
+                .toList());
+    }
+
+    private static UserImportRow row(long line, String username, String email, String password, String hash) {
+        return new UserImportRow(line, UUID.randomUUID(), username, email, password, hash, "Full " + username, null);
+    }
+}
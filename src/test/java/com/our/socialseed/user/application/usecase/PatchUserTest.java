@@ -0,0 +1,60 @@
+package com.our.socialseed.user.application.usecase;
+
+import com.our.socialseed.user.domain.model.UserPatch;
+import com.our.socialseed.user.domain.model.UserSummary;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/*
+Explicación rápida:
+Verificamos que el PATCH se delega en un único patch() del repositorio,
+sin leer antes el usuario (findById) ni guardar la entidad completa (save).
+Verificamos también que solo los campos no nulos forman parte de los cambios.
+* */
+class PatchUserTest {
+
+    private UserRepository userRepository;
+    private PatchUser patchUser;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        patchUser = new PatchUser(userRepository);
+    }
+
+    @Test
+    void shouldPatchInSingleRoundTrip() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UserPatch patch = new UserPatch(null, null, " New Name ");
+        UserSummary patched = new UserSummary(userId, "jose", "jose@mail.com", "New Name");
+        when(userRepository.patch(userId, patch)).thenReturn(Optional.of(patched));
+
+        // Act
+        Optional<UserSummary> result = patchUser.execute(userId, patch);
+
+        // Assert
+        assertEquals(Optional.of(patched), result);
+        assertEquals(Map.of("fullName", "New Name"), patch.changes());
+        verify(userRepository, times(1)).patch(userId, patch);
+        verify(userRepository, never()).findById(any());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenUserDoesNotExist() {
+        UUID userId = UUID.randomUUID();
+        UserPatch patch = new UserPatch("nuevo", null, null);
+        when(userRepository.patch(userId, patch)).thenReturn(Optional.empty());
+
+        assertTrue(patchUser.execute(userId, patch).isEmpty());
+    }
+}
@@ -0,0 +1,88 @@
+package com.our.socialseed.user.application.usecase.reactive;
+
+import com.our.socialseed.shared.pagination.CursorCodec;
+import com.our.socialseed.shared.pagination.CursorPage;
+import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserSummary;
+import com.our.socialseed.user.domain.repository.ReactiveUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/*
+Explicación rápida:
+Verificamos que los casos de uso reactivos mantienen el mismo contrato que los bloqueantes:
+la paginación pide limit + 1 filas y calcula el cursor, el hashing ocurre fuera del hilo que suscribe
+y un usuario inexistente termina como Mono vacío (404 en el controlador).
+* */
+class ReactiveUserUseCasesTest {
+
+    private ReactiveUserRepository userRepository;
+    private PasswordEncoder passwordEncoder;
+    private ReactiveUserUseCases useCases;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(ReactiveUserRepository.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        useCases = new ReactiveUserUseCases(userRepository, passwordEncoder, 2, 100, mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void shouldBuildCursorPageFromLookaheadRow() {
+        // Arrange
+        UserSummary a = new UserSummary(UUID.randomUUID(), "a", "a@mail.com", "A");
+        UserSummary b = new UserSummary(UUID.randomUUID(), "b", "b@mail.com", "B");
+        UserSummary c = new UserSummary(UUID.randomUUID(), "c", "c@mail.com", "C");
+        when(userRepository.findPage(null, 3)).thenReturn(Flux.just(a, b, c));
+
+        // Act
+        CursorPage<UserSummary> page = useCases.getAllUsers().execute(null, null).block();
+
+        // Assert
+        assertNotNull(page);
+        assertEquals(2, page.items().size());
+        assertEquals(CursorCodec.encodeUuid(b.id()), page.next());
+    }
+
+    @Test
+    void shouldHashPasswordOffTheSubscribingThread() {
+        // Arrange
+        Thread caller = Thread.currentThread();
+        Thread[] hashingThread = new Thread[1];
+        when(passwordEncoder.encode("secret")).thenAnswer(invocation -> {
+            hashingThread[0] = Thread.currentThread();
+            return "hash";
+        });
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        User user = new User(null, "jose", "jose@mail.com", "secret", "Jose");
+
+        // Act
+        User saved = useCases.createUser().execute(user).block();
+
+        // Assert
+        assertNotNull(saved);
+        assertNotNull(saved.getId());
+        assertEquals("hash", saved.getPassword());
+        assertNotSame(caller, hashingThread[0]);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenUserDoesNotExist() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(userRepository.findSummaryById(id)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        assertNull(useCases.getUserById().execute(id).block());
+    }
+}
@@ -0,0 +1,102 @@
+package com.our.socialseed.user.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+📌 Benchmark de carga comparativo: mismo tráfico contra una instancia bloqueante y otra con el perfil "reactive".
+   No forma parte de la build: solo se ejecuta si se indican las URLs de ambas instancias.
+
+   java -jar app.jar --server.port=8081
+   java -jar app.jar --server.port=8082 --spring.profiles.active=reactive
+   mvn test -Dtest=UserEndpointsLoadBenchmark \
+       -Dbenchmark.blocking-url=http://localhost:8081 -Dbenchmark.reactive-url=http://localhost:8082 \
+       -Dbenchmark.token=<jwt> [-Dbenchmark.path=/api/users?size=20] [-Dbenchmark.concurrency=2000] [-Dbenchmark.requests=50000]
+
+   Con Tomcat por defecto (200 hilos) la instancia bloqueante encola a partir de 200 consultas lentas en curso;
+   la reactiva debería sostener la concurrencia configurada con latencias cercanas a las de Neo4j.
+ */
+@EnabledIfSystemProperty(named = "benchmark.blocking-url", matches = ".+")
+@EnabledIfSystemProperty(named = "benchmark.reactive-url", matches = ".+")
+class UserEndpointsLoadBenchmark {
+
+    private final String path = System.getProperty("benchmark.path", "/api/users?size=20");
+    private final String token = System.getProperty("benchmark.token", "");
+    private final int concurrency = Integer.getInteger("benchmark.concurrency", 2000);
+    private final int requests = Integer.getInteger("benchmark.requests", 50_000);
+    private final int warmup = Integer.getInteger("benchmark.warmup", 5_000);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @Test
+    void compareBlockingAndReactive() throws InterruptedException {
+        Result blocking = run("blocking", System.getProperty("benchmark.blocking-url"));
+        Result reactive = run("reactive", System.getProperty("benchmark.reactive-url"));
+
+        System.out.printf("%n%-10s %10s %10s %10s %10s %8s%n", "mode", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (Result result : new Result[]{blocking, reactive}) {
+            System.out.printf("%-10s %10.0f %10.1f %10.1f %10.1f %8d%n", result.mode(), result.throughput(),
+                    result.percentile(0.50), result.percentile(0.99), result.percentile(1.0), result.errors());
+        }
+    }
+
+    private Result run(String mode, String baseUrl) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+
+        fire(request, warmup, new long[warmup], new AtomicInteger());
+
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        long start = System.nanoTime();
+        fire(request, requests, latencies, errors);
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(mode, requests / (elapsed / 1e9), latencies, errors.get());
+    }
+
+    // Mantiene "concurrency" peticiones en vuelo hasta completar "total"
+    private void fire(HttpRequest request, int total, long[] latencies, AtomicInteger errors) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(total);
+        for (int i = 0; i < total; i++) {
+            int slot = i;
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        latencies[slot] = System.nanoTime() - sent;
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                        inFlight.release();
+                        done.countDown();
+                    });
+        }
+        done.await();
+    }
+
+    private record Result(String mode, double throughput, long[] latencies, int errors) {
+        double percentile(double p) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
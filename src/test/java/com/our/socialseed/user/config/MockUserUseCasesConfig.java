@@ -33,6 +33,11 @@ public class MockUserUseCasesConfig {
         return Mockito.mock(UpdateUser.class);
     }
 
+    @Bean
+    public PatchUser patchUser() {
+        return Mockito.mock(PatchUser.class);
+    }
+
     @Bean
     public DeleteUser deleteUser() {
         return Mockito.mock(DeleteUser.class);
@@ -42,4 +47,14 @@ public class MockUserUseCasesConfig {
     public ChangeUserPassword changeUserPassword() {
         return Mockito.mock(ChangeUserPassword.class);
     }
+
+    @Bean
+    public ExportUsers exportUsers() {
+        return Mockito.mock(ExportUsers.class);
+    }
+
+    @Bean
+    public ImportUsers importUsers() {
+        return Mockito.mock(ImportUsers.class);
+    }
 }
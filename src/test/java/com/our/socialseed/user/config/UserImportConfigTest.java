@@ -0,0 +1,71 @@
+package com.our.socialseed.user.config;
+
+import com.our.socialseed.shared.security.password.BoundedPasswordEncoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+Explicación rápida:
+El pool de hash de la importación solo usa los procesadores que deja libres el pool de login
+y, con la cola llena, el hilo que envía espera en vez de hashear él mismo (nada de CallerRunsPolicy).
+* */
+class UserImportConfigTest {
+
+    private final UserImportConfig config = new UserImportConfig();
+
+    @Test
+    void poolIsCappedToTheProcessorsLeftByTheLoginPool() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        try (BoundedPasswordEncoder loginPool = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), cores, 1,
+                Duration.ofSeconds(1), Duration.ofSeconds(1))) {
+            // Act
+            ThreadPoolExecutor importPool = (ThreadPoolExecutor) config.userImportHashExecutor(loginPool, 64, 10);
+
+            // Assert: el login ya ocupa todos los procesadores, la importación se queda con el mínimo
+            assertEquals(1, importPool.getMaximumPoolSize());
+            importPool.shutdown();
+        }
+    }
+
+    @Test
+    void callerWaitsForRoomInsteadOfHashingItself() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        try (BoundedPasswordEncoder loginPool = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), cores, 1,
+                Duration.ofSeconds(1), Duration.ofSeconds(1))) {
+            ExecutorService importPool = config.userImportHashExecutor(loginPool, 1, 1);
+            CountDownLatch release = new CountDownLatch(1);
+            importPool.execute(() -> await(release));   // ocupa el único hilo
+            importPool.execute(() -> await(release));   // llena la cola
+
+            // Act: el tercero no cabe; quien lo envía debe quedarse esperando
+            CompletableFuture<String> ranOn = new CompletableFuture<>();
+            CompletableFuture<Void> submit = CompletableFuture.runAsync(() ->
+                    importPool.execute(() -> ranOn.complete(Thread.currentThread().getName())));
+
+            // Assert
+            assertThrows(TimeoutException.class, () -> submit.get(200, TimeUnit.MILLISECONDS));
+            release.countDown();
+            submit.get(5, TimeUnit.SECONDS);
+            assertTrue(ranOn.get(5, TimeUnit.SECONDS).startsWith("user-import-hash-"));
+            importPool.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.our.socialseed.user.entry.rest.controller;
 
+import com.our.socialseed.shared.pagination.CursorPage;
+import com.our.socialseed.shared.pagination.InvalidCursorException;
 import com.our.socialseed.user.application.usecase.GetAllUsers;
 import com.our.socialseed.user.application.usecase.UserUseCases;
 import com.our.socialseed.user.config.MockUserUseCasesConfig;
-import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,29 +42,50 @@ class UserControllerGetAllUsersTest {
     @WithMockUser
     void shouldReturnUserList_whenUsersExist() throws Exception {
         UUID userId = UUID.randomUUID();
-        User user = new User(
+        UserSummary user = new UserSummary(
                 userId,
                 "testuser",
                 "test@example.com",
-                "encodedPassword",
                 "Test User"
         );
 
-        when(getAllUsers.execute()).thenReturn(List.of(user));
+        when(getAllUsers.execute(null, null)).thenReturn(new CursorPage<>(List.of(user), "bmV4dA"));
 
         mockMvc.perform(get("/api/users")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(userId.toString()))
-                .andExpect(jsonPath("$[0].username").value("testuser"))
-                .andExpect(jsonPath("$[0].email").value("test@example.com"))
-                .andExpect(jsonPath("$[0].fullName").value("Test User"));
+                .andExpect(jsonPath("$.items[0].id").value(userId.toString()))
+                .andExpect(jsonPath("$.items[0].username").value("testuser"))
+                .andExpect(jsonPath("$.items[0].email").value("test@example.com"))
+                .andExpect(jsonPath("$.items[0].fullName").value("Test User"))
+                .andExpect(jsonPath("$.items[0].password").doesNotExist())
+                .andExpect(jsonPath("$.next").value("bmV4dA"));
+    }
+
+    @Test
+    @WithMockUser
+    void shouldPassCursorAndSize_toUseCase() throws Exception {
+        when(getAllUsers.execute("bmV4dA", 10)).thenReturn(new CursorPage<>(List.of(), null));
+
+        mockMvc.perform(get("/api/users").param("cursor", "bmV4dA").param("size", "10"))
+                .andExpect(status().isNoContent());
+
+        verify(getAllUsers).execute("bmV4dA", 10);
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReturnBadRequest_whenCursorIsInvalid() throws Exception {
+        when(getAllUsers.execute("broken", null)).thenThrow(new InvalidCursorException("broken"));
+
+        mockMvc.perform(get("/api/users").param("cursor", "broken"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
     @WithMockUser
     void shouldReturnNoContent_whenNoUsersExist() throws Exception {
-        when(getAllUsers.execute()).thenReturn(List.of());
+        when(getAllUsers.execute(null, null)).thenReturn(new CursorPage<>(List.of(), null));
 
         mockMvc.perform(get("/api/users"))
                 .andExpect(status().isNoContent());
@@ -71,7 +94,7 @@ class UserControllerGetAllUsersTest {
     @Test
     @WithMockUser
     void shouldReturnInternalServerError_whenUseCaseThrowsException() throws Exception {
-        when(getAllUsers.execute()).thenThrow(new RuntimeException("Unexpected error"));
+        when(getAllUsers.execute(null, null)).thenThrow(new RuntimeException("Unexpected error"));
 
         mockMvc.perform(get("/api/users"))
                 .andExpect(status().isInternalServerError());
@@ -3,7 +3,7 @@ package com.our.socialseed.user.entry.rest.controller;
 import com.our.socialseed.user.application.usecase.GetUserById;
 import com.our.socialseed.user.application.usecase.UserUseCases;
 import com.our.socialseed.user.config.MockUserUseCasesConfig;
-import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserSummary;
 import com.our.socialseed.user.entry.rest.dto.UserResponseDTO;
 import com.our.socialseed.user.entry.rest.mapper.UserRestMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,12 +37,12 @@ class UserControllerGetUserByIdTest {
     @Autowired private GetUserById getUserById;
 
     private UUID validUserId;
-    private User user;
+    private UserSummary user;
 
     @BeforeEach
     void setUp() {
         validUserId = UUID.randomUUID();
-        user = new User(validUserId, "username", "email@example.com", "hashedPassword", "Full Name");
+        user = new UserSummary(validUserId, "username", "email@example.com", "Full Name");
         when(userUseCases.getUserById()).thenReturn(getUserById);
     }
 
@@ -0,0 +1,82 @@
+package com.our.socialseed.user.entry.rest.controller;
+
+import com.our.socialseed.user.application.usecase.PatchUser;
+import com.our.socialseed.user.application.usecase.UserUseCases;
+import com.our.socialseed.user.config.MockUserUseCasesConfig;
+import com.our.socialseed.user.domain.model.UserPatch;
+import com.our.socialseed.user.domain.model.UserSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(UserController.class)
+@Import(MockUserUseCasesConfig.class)
+class UserControllerPatchUserTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserUseCases userUseCases;
+    @Autowired private PatchUser patchUser;
+
+    @BeforeEach
+    void setUp() {
+        reset(userUseCases, patchUser);
+        when(userUseCases.patchUser()).thenReturn(patchUser);
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReturnPatchedUser_whenOnlySomeFieldsAreSent() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UserSummary patched = new UserSummary(userId, "jose", "jose@mail.com", "Nuevo Nombre");
+        when(patchUser.execute(userId, new UserPatch(null, null, "Nuevo Nombre"))).thenReturn(Optional.of(patched));
+
+        mockMvc.perform(patch("/api/users/{id}", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .content("{\"fullName\":\"Nuevo Nombre\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(userId.toString()))
+                .andExpect(jsonPath("$.fullName").value("Nuevo Nombre"))
+                .andExpect(jsonPath("$.password").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReturnNotFound_whenUserDoesNotExist() throws Exception {
+        UUID userId = UUID.randomUUID();
+        when(patchUser.execute(eq(userId), any(UserPatch.class))).thenReturn(Optional.empty());
+
+        mockMvc.perform(patch("/api/users/{id}", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .content("{\"username\":\"nuevo\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void shouldReturnBadRequest_whenFieldIsBlankOrInvalid() throws Exception {
+        UUID userId = UUID.randomUUID();
+
+        mockMvc.perform(patch("/api/users/{id}", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .content("{\"username\":\"   \",\"email\":\"not-an-email\"}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(patchUser);
+    }
+}
@@ -0,0 +1,141 @@
+package com.our.socialseed.user.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.domain.model.UserPatch;
+import com.our.socialseed.user.domain.model.UserSummary;
+import com.our.socialseed.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/*
+Explicación rápida:
+Verificamos que la segunda lectura de un perfil sale de la caché (una sola llamada al repositorio),
+que los "no encontrado" no se cachean y que cada escritura invalida la entrada del usuario,
+también cuando llega mientras otra petición está cargando el perfil anterior.
+* */
+class CachingUserRepositoryTest {
+
+    private UserRepository delegate;
+    private Cache<UUID, UserSummary> cache;
+    private CachingUserRepository repository;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UserSummary summary = new UserSummary(userId, "jose", "jose@mail.com", "Jose");
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(UserRepository.class);
+        cache = Caffeine.newBuilder().maximumSize(100).recordStats().build();
+        repository = new CachingUserRepository(delegate, cache);
+    }
+
+    @Test
+    void shouldServeSecondReadFromCache() {
+        // Arrange
+        when(delegate.findSummaryById(userId)).thenReturn(Optional.of(summary));
+
+        // Act
+        repository.findSummaryById(userId);
+        Optional<UserSummary> result = repository.findSummaryById(userId);
+
+        // Assert
+        assertEquals(Optional.of(summary), result);
+        verify(delegate, times(1)).findSummaryById(userId);
+        assertEquals(1, cache.stats().hitCount());
+    }
+
+    @Test
+    void shouldNotCacheMissingUsers() {
+        // Arrange
+        when(delegate.findSummaryById(userId)).thenReturn(Optional.empty());
+
+        // Act
+        repository.findSummaryById(userId);
+        repository.findSummaryById(userId);
+
+        // Assert
+        verify(delegate, times(2)).findSummaryById(userId);
+    }
+
+    @Test
+    void shouldInvalidateOnPatch() {
+        // Arrange
+        when(delegate.findSummaryById(userId)).thenReturn(Optional.of(summary));
+        repository.findSummaryById(userId);
+
+        // Act
+        repository.patch(userId, new UserPatch(null, null, "New"));
+
+        // Assert
+        assertNull(cache.getIfPresent(userId));
+    }
+
+    @Test
+    void shouldInvalidateOnSaveAndDelete() {
+        // Arrange
+        User user = new User(userId, "jose", "jose@mail.com", "hash", "Jose");
+        cache.put(userId, summary);
+
+        // Act
+        repository.save(user);
+
+        // Assert
+        assertNull(cache.getIfPresent(userId));
+
+        cache.put(userId, summary);
+        repository.deleteById(userId);
+        assertNull(cache.getIfPresent(userId));
+    }
+
+    @Test
+    void shouldNotKeepStaleLoadThatRacesWithAWrite() throws Exception {
+        // Arrange: la primera lectura se queda a mitad de carga con el perfil viejo
+        UserSummary renamed = new UserSummary(userId, "jose", "jose@mail.com", "New");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch patched = new CountDownLatch(1);
+        when(delegate.findSummaryById(userId))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return Optional.of(summary);
+                })
+                .thenReturn(Optional.of(renamed));
+        when(delegate.patch(eq(userId), any())).thenAnswer(invocation -> {
+            patched.countDown();
+            return Optional.of(renamed);
+        });
+
+        // Act: la escritura llega durante la carga y la lectura vieja termina después
+        CompletableFuture<Optional<UserSummary>> staleRead =
+                CompletableFuture.supplyAsync(() -> repository.findSummaryById(userId));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Optional<UserSummary>> write =
+                CompletableFuture.supplyAsync(() -> repository.patch(userId, new UserPatch(null, null, "New")));
+        assertTrue(patched.await(5, TimeUnit.SECONDS));
+        try {
+            // con carga atómica la invalidación espera a la carga en curso; sin ella la escritura ya habría terminado
+            write.get(200, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException expected) {
+            // la escritura sigue esperando a la carga
+        }
+        release.countDown();
+        staleRead.get(5, TimeUnit.SECONDS);
+        write.get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(Optional.of(renamed), repository.findSummaryById(userId));
+    }
+}
@@ -0,0 +1,151 @@
+package com.our.socialseed.user.infrastructure.persistence;
+
+import com.our.socialseed.user.domain.model.User;
+import com.our.socialseed.user.infrastructure.persistence.entity.UserNeo4jEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.TransactionConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.neo4j.core.DatabaseSelectionProvider;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/*
+Explicación rápida:
+Simulamos un clúster de Neo4j con un driver de enrutamiento de pega: las sesiones READ van al "follower"
+y las WRITE al "leader", como hace neo4j:// en un clúster real.
+Verificamos que, pasando por el proxy transaccional real (neo4jTransactionManager), las lecturas de usuarios
+abren sesiones READ y las escrituras sesiones WRITE.
+* */
+@SpringJUnitConfig(Neo4jUserRepositoryRoutingTest.Config.class)
+class Neo4jUserRepositoryRoutingTest {
+
+    @Autowired
+    private Neo4jUserRepositoryAdapter adapter;
+
+    @Autowired
+    private RoutingDriverStandIn cluster;
+
+    @Autowired
+    private SpringDataUserRepository springDataUserRepository;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        cluster.reset();
+        reset(springDataUserRepository);
+    }
+
+    @Test
+    void shouldRouteReadsToFollowers() {
+        // Arrange
+        when(springDataUserRepository.findSummaryById(userId)).thenReturn(Optional.empty());
+        when(springDataUserRepository.findByEmail("jose@mail.com")).thenReturn(Optional.empty());
+        when(springDataUserRepository.findSummaryByIdNotNullOrderByIdAsc(any(Limit.class))).thenReturn(List.of());
+
+        // Act
+        adapter.findSummaryById(userId);
+        adapter.findByEmail("jose@mail.com");
+        adapter.findPage(null, 20);
+
+        // Assert
+        assertEquals(List.of("follower", "follower", "follower"), cluster.servedBy());
+    }
+
+    @Test
+    void shouldRouteWritesToLeader() {
+        // Arrange
+        User user = new User(userId, "jose", "jose@mail.com", "hash", "Jose");
+        when(springDataUserRepository.save(any(UserNeo4jEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        adapter.save(user);
+        adapter.deleteById(userId);
+
+        // Assert
+        assertEquals(List.of("leader", "leader"), cluster.servedBy());
+    }
+
+    @Configuration
+    @EnableTransactionManagement(proxyTargetClass = true) // como Spring Boot: proxies CGLIB
+    static class Config {
+
+        @Bean
+        RoutingDriverStandIn cluster() {
+            return new RoutingDriverStandIn();
+        }
+
+        @Bean
+        Neo4jTransactionManager neo4jTransactionManager(RoutingDriverStandIn cluster) {
+            return new Neo4jTransactionManager(cluster.driver(), DatabaseSelectionProvider.getDefaultSelectionProvider());
+        }
+
+        @Bean
+        SpringDataUserRepository springDataUserRepository() {
+            return mock(SpringDataUserRepository.class);
+        }
+
+        @Bean
+        Neo4jUserRepositoryAdapter neo4jUserRepositoryAdapter(SpringDataUserRepository repository, RoutingDriverStandIn cluster) {
+            return new Neo4jUserRepositoryAdapter(repository, mock(Neo4jClient.class, RETURNS_DEEP_STUBS), cluster.driver(), 1000);
+        }
+    }
+
+    // Driver de pega con dos "instancias": registra qué instancia atiende cada sesión según su modo de acceso
+    static class RoutingDriverStandIn {
+        private final List<String> servedBy = new ArrayList<>();
+        private final Driver driver = mock(Driver.class);
+
+        RoutingDriverStandIn() {
+            when(driver.session(any(SessionConfig.class))).thenAnswer(invocation -> {
+                SessionConfig config = invocation.getArgument(0);
+                AccessMode mode = config.defaultAccessMode();
+                servedBy.add(mode == AccessMode.READ ? "follower" : "leader");
+                return session();
+            });
+        }
+
+        private Session session() {
+            Session session = mock(Session.class);
+            Transaction transaction = mock(Transaction.class);
+            when(transaction.isOpen()).thenReturn(true);
+            when(session.isOpen()).thenReturn(true);
+            when(session.beginTransaction(any(TransactionConfig.class))).thenReturn(transaction);
+            when(session.lastBookmarks()).thenReturn(Set.of());
+            return session;
+        }
+
+        Driver driver() {
+            return driver;
+        }
+
+        List<String> servedBy() {
+            return List.copyOf(servedBy);
+        }
+
+        void reset() {
+            servedBy.clear();
+        }
+    }
+}